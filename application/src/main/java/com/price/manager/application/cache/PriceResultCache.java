@@ -0,0 +1,331 @@
+package com.price.manager.application.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.index.PackedKey;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.quote.PriceQuote;
+
+/**
+ * Caché de resultados que guarda el precio ganador junto al intervalo en el que sigue ganando.
+ *
+ * <p>Un precio resuelto para un producto no cambia hasta el siguiente límite
+ * ({@code startDate} o {@code endDate}) entre las filas de ese producto. Cada entrada guarda
+ * el ganador y ese intervalo {@code [from, to)}; cualquier consulta cuya fecha caiga dentro
+ * se sirve desde la caché, de modo que el tráfico de "precio actual" es prácticamente todo
+ * aciertos y nunca se devuelve un precio fuera de su vigencia.</p>
+ *
+ * <h3>Caducidad:</h3>
+ * <p>No hay TTL fijo: cada entrada se programa en una {@link TimerWheel} para caducar
+ * exactamente en su límite {@code to}. La rueda se avanza en cada escritura y con
+ * {@link #expire()}; al sustituir o invalidar una entrada se cancela su caducidad. El
+ * instante actual se obtiene como {@code LocalDateTime.now(clock)} para compararlo en la
+ * misma escala que las fechas de consulta ({@link EpochMillis}).
+ * Los intervalos que ya terminaron (consultas históricas) no se guardan.</p>
+ *
+ * <h3>Tamaño:</h3>
+ * <p>Como máximo {@code maximumSize} productos. Al admitir uno nuevo con la caché llena se
+ * expulsa otro con el algoritmo CLOCK (segunda oportunidad, una aproximación a LRU): las
+ * entradas forman una cola en orden de inserción y cada acierto marca la suya; la expulsión
+ * recorre la cola desmarcando y reencolando las marcadas hasta dar con una sin marcar. Así
+ * las tarifas base que terminan muy lejos (por ejemplo en 9999) no ocupan la caché para
+ * siempre si nadie las consulta.</p>
+ *
+ * <p><strong>Concurrencia:</strong> las lecturas no bloquean ({@link ConcurrentHashMap}) y
+ * solo escriben la marca de uso, sin barrera: perder una marca por una carrera solo adelanta
+ * una expulsión. Las escrituras, invalidaciones, expulsiones y caducidades se serializan con
+ * un cerrojo que protege también la rueda y la cola.</p>
+ *
+ * <p>Cada invalidación incrementa una generación. Quien carga un ganador la lee con
+ * {@link #generation()} antes de consultar el repositorio y la pasa a {@link #put}; si entre
+ * medias hubo una invalidación (por ejemplo, un lote de carga masiva confirmado), el ganador
+ * cargado puede estar obsoleto y no se guarda.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see TimerWheel
+ * @see com.price.manager.application.services.PriceServiceUseCase
+ */
+public final class PriceResultCache {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final int maximumSize;
+
+    private final Clock clock;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final ReentrantLock wheelLock = new ReentrantLock();
+
+    private final TimerWheel<Long> wheel;
+
+    /**
+     * Cola de expulsión CLOCK, en orden de inserción. Puede contener entradas ya sustituidas,
+     * invalidadas o caducadas, que se descartan al recorrerla o al purgarla.
+     */
+    private final ArrayDeque<Entry> clockQueue = new ArrayDeque<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Se incrementa en cada invalidación, con el cerrojo; una carga iniciada antes no se guarda.
+     */
+    private volatile long generation;
+
+    /**
+     * Crea la caché.
+     *
+     * @param maximumSize número máximo de productos en caché; debe ser positivo
+     * @param tick        resolución de la rueda de caducidad; debe ser positiva
+     * @param clock       reloj cuya zona horaria interpreta las fechas de consulta
+     * @throws IllegalArgumentException si el tamaño o la resolución no son positivos
+     */
+    public PriceResultCache(int maximumSize, Duration tick, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Result cache maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.wheel = new TimerWheel<>(tick.toMillis(), WHEEL_SIZE, this.now());
+    }
+
+    /**
+     * Devuelve el ganador en caché si la fecha cae dentro de su intervalo.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param epochMillis instante de consulta ({@link EpochMillis})
+     * @return precio ganador o {@code null} si no hay entrada válida para ese instante
+     */
+    public Price get(long brandId, long productId, long epochMillis) {
+        final Entry entry = this.entries.get(PackedKey.pack(brandId, productId));
+        if (entry != null && entry.from <= epochMillis && epochMillis < entry.to) {
+            entry.touch();
+            this.hits.increment();
+            return entry.winner;
+        }
+        this.misses.increment();
+        return null;
+    }
+
+    /**
+     * Como {@link #get(long, long, long)}, pero devuelve también el fin del intervalo.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param epochMillis instante de consulta ({@link EpochMillis})
+     * @return ganador y fin de su intervalo, o {@code null} si no hay entrada válida para ese instante
+     */
+    public PriceQuote getQuote(long brandId, long productId, long epochMillis) {
+        final Entry entry = this.entries.get(PackedKey.pack(brandId, productId));
+        if (entry != null && entry.from <= epochMillis && epochMillis < entry.to) {
+            entry.touch();
+            this.hits.increment();
+            return new PriceQuote(entry.winner, EpochMillis.toLocalDateTime(entry.to));
+        }
+        this.misses.increment();
+        return null;
+    }
+
+    /**
+     * Generación actual; se lee antes de cargar un ganador para pasarla a {@link #put}.
+     *
+     * @return número de invalidaciones hasta ahora
+     */
+    public long generation() {
+        return this.generation;
+    }
+
+    /**
+     * Guarda el ganador de un producto y el intervalo en el que sigue ganando.
+     *
+     * <p>Sustituye la entrada anterior del producto, si la hay, y cancela su caducidad. Si el
+     * producto es nuevo y la caché está llena, expulsa antes otra entrada. No guarda nada si la
+     * caché se invalidó después de leer {@code generation}.</p>
+     *
+     * @param brandId    identificador de la marca
+     * @param productId  identificador del producto
+     * @param from       inicio del intervalo (inclusive), en {@link EpochMillis}
+     * @param to         fin del intervalo (exclusive), en {@link EpochMillis}
+     * @param winner     precio ganador durante el intervalo
+     * @param generation {@link #generation()} leída antes de cargar el ganador
+     */
+    public void put(long brandId, long productId, long from, long to, Price winner, long generation) {
+        final long key = PackedKey.pack(brandId, productId);
+        final long now = this.now();
+        this.wheelLock.lock();
+        try {
+            this.advance(now);
+            if (key == PackedKey.INVALID || to <= now || generation != this.generation) {
+                return;
+            }
+            final Entry previous = this.entries.get(key);
+            if (previous != null) {
+                this.wheel.cancel(previous.timeout);
+            } else if (this.entries.size() >= this.maximumSize) {
+                this.evict();
+            }
+            final Entry entry = new Entry(key, from, to, winner, this.wheel.schedule(key, to));
+            this.entries.put(key, entry);
+            this.enqueue(entry);
+        } finally {
+            this.wheelLock.unlock();
+        }
+    }
+
+    /**
+     * Procesa las caducidades vencidas. Puede invocarse periódicamente desde un planificador.
+     */
+    public void expire() {
+        final long now = this.now();
+        this.wheelLock.lock();
+        try {
+            this.advance(now);
+        } finally {
+            this.wheelLock.unlock();
+        }
+    }
+
+    /**
+     * Descarta la entrada de un producto.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     */
+    public void invalidate(long brandId, long productId) {
+        this.wheelLock.lock();
+        try {
+            final Entry removed = this.entries.remove(PackedKey.pack(brandId, productId));
+            if (removed != null) {
+                this.wheel.cancel(removed.timeout);
+            }
+            this.generation++;
+        } finally {
+            this.wheelLock.unlock();
+        }
+    }
+
+    /**
+     * Descarta todas las entradas.
+     */
+    public void invalidateAll() {
+        this.wheelLock.lock();
+        try {
+            this.entries.values().forEach(entry -> this.wheel.cancel(entry.timeout));
+            this.entries.clear();
+            this.clockQueue.clear();
+            this.generation++;
+        } finally {
+            this.wheelLock.unlock();
+        }
+    }
+
+    /**
+     * Instantánea de los contadores de la caché.
+     *
+     * @return aciertos, fallos, caducidades, expulsiones y tamaño actual
+     */
+    public Stats stats() {
+        return new Stats(this.hits.sum(), this.misses.sum(), this.expirations.sum(), this.evictions.sum(),
+                this.entries.size());
+    }
+
+    private void evict() {
+        Entry candidate;
+        while ((candidate = this.clockQueue.poll()) != null) {
+            if (this.entries.get(candidate.key) != candidate) {
+                continue;
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                this.clockQueue.add(candidate);
+                continue;
+            }
+            this.entries.remove(candidate.key);
+            this.wheel.cancel(candidate.timeout);
+            this.evictions.increment();
+            return;
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        this.clockQueue.add(entry);
+        if (this.clockQueue.size() > 2 * this.maximumSize) {
+            // Cada purga descarta al menos maximumSize entradas obsoletas: coste amortizado O(1)
+            this.clockQueue.removeIf(queued -> this.entries.get(queued.key) != queued);
+        }
+    }
+
+    private void advance(long now) {
+        // Cada entrada tiene exactamente una caducidad viva: al vencer, la entrada es la suya
+        this.wheel.advance(now, timeout -> {
+            this.entries.remove(timeout.key());
+            this.expirations.increment();
+        });
+    }
+
+    private long now() {
+        return EpochMillis.of(LocalDateTime.now(this.clock));
+    }
+
+    /**
+     * Entrada de la caché: intervalo {@code [from, to)}, ganador, caducidad programada en la
+     * rueda y marca de uso reciente para CLOCK.
+     */
+    private static final class Entry {
+
+        private final long key;
+
+        private final long from;
+
+        private final long to;
+
+        private final Price winner;
+
+        private final TimerWheel.Timeout<Long> timeout;
+
+        private boolean referenced;
+
+        private Entry(long key, long from, long to, Price winner, TimerWheel.Timeout<Long> timeout) {
+            this.key = key;
+            this.from = from;
+            this.to = to;
+            this.winner = winner;
+            this.timeout = timeout;
+        }
+
+        private void touch() {
+            // Solo se escribe si cambia, para no ensuciar la línea de caché en cada acierto
+            if (!this.referenced) {
+                this.referenced = true;
+            }
+        }
+    }
+
+    /**
+     * Contadores de la caché.
+     *
+     * @param hits        consultas servidas desde la caché
+     * @param misses      consultas sin entrada válida
+     * @param expirations entradas caducadas al llegar a su límite
+     * @param evictions   entradas expulsadas para admitir otras con la caché llena
+     * @param size        productos en caché
+     */
+    public record Stats(long hits, long misses, long expirations, long evictions, int size) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.price.manager.application.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Rueda de temporización (<em>hashed timing wheel</em>) para caducar claves en un instante exacto.
+ *
+ * <p>El tiempo se divide en ticks de {@code tickMillis}; cada tick se asocia a una de
+ * {@code wheelSize} ranuras de forma circular. Cada ranura es una lista doblemente enlazada,
+ * así que programar y cancelar son {@code O(1)}, y avanzar la rueda solo recorre las ranuras
+ * de los ticks transcurridos. Las caducidades más lejanas que una vuelta completa permanecen
+ * en su ranura y se revisan en cada vuelta hasta que vencen.</p>
+ *
+ * <p>No usa hilos propios: el propietario llama a {@link #advance(long, Consumer)} con el
+ * instante actual. No es thread-safe; el propietario debe serializar el acceso.</p>
+ *
+ * @param <K> tipo de la clave programada
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceResultCache
+ */
+final class TimerWheel<K> {
+
+    private final long tickMillis;
+
+    private final int mask;
+
+    private final Timeout<K>[] heads;
+
+    private long currentTick;
+
+    private int size;
+
+    /**
+     * Crea una rueda vacía.
+     *
+     * @param tickMillis  resolución en milisegundos; debe ser positiva
+     * @param wheelSize   número de ranuras; se redondea a potencia de dos
+     * @param startMillis instante inicial
+     * @throws IllegalArgumentException si la resolución o el tamaño no son positivos
+     */
+    @SuppressWarnings("unchecked")
+    TimerWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Timer wheel tick and size must be positive: " + tickMillis + "/" + wheelSize);
+        }
+        final int slotCount = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = slotCount - 1;
+        this.heads = new Timeout[slotCount];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Programa la caducidad de una clave.
+     *
+     * <p>Si el instante ya ha pasado, la clave caduca en el siguiente avance.</p>
+     *
+     * @param key      clave a caducar
+     * @param deadline instante de caducidad en milisegundos
+     * @return caducidad programada, utilizable con {@link #cancel(Timeout)}
+     */
+    Timeout<K> schedule(K key, long deadline) {
+        final long tick = Math.max(Math.floorDiv(deadline, this.tickMillis), this.currentTick);
+        final int slot = (int) (tick & this.mask);
+        final Timeout<K> timeout = new Timeout<>(key, deadline, slot);
+        timeout.next = this.heads[slot];
+        if (timeout.next != null) {
+            timeout.next.previous = timeout;
+        }
+        this.heads[slot] = timeout;
+        this.size++;
+        return timeout;
+    }
+
+    /**
+     * Cancela una caducidad pendiente. No hace nada si ya venció o se canceló.
+     *
+     * @param timeout caducidad devuelta por {@link #schedule(Object, long)}
+     */
+    void cancel(Timeout<K> timeout) {
+        if (timeout.slot < 0) {
+            return;
+        }
+        if (timeout.previous == null) {
+            this.heads[timeout.slot] = timeout.next;
+        } else {
+            timeout.previous.next = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.slot = -1;
+        this.size--;
+    }
+
+    /**
+     * Avanza la rueda hasta el instante indicado y entrega las caducidades vencidas.
+     *
+     * @param nowMillis instante actual en milisegundos
+     * @param expired   receptor de cada caducidad vencida, ya retirada de la rueda
+     */
+    void advance(long nowMillis, Consumer<Timeout<K>> expired) {
+        final long targetTick = Math.floorDiv(nowMillis, this.tickMillis);
+        if (targetTick < this.currentTick) {
+            return;
+        }
+        // Con más ticks que ranuras basta con una vuelta completa
+        final long ticks = Math.min(targetTick - this.currentTick + 1, this.heads.length);
+        for (long i = 0; i < ticks; i++) {
+            Timeout<K> timeout = this.heads[(int) ((targetTick - i) & this.mask)];
+            while (timeout != null) {
+                final Timeout<K> next = timeout.next;
+                if (timeout.deadline <= nowMillis) {
+                    this.cancel(timeout);
+                    expired.accept(timeout);
+                }
+                timeout = next;
+            }
+        }
+        this.currentTick = targetTick;
+    }
+
+    /**
+     * Número de caducidades pendientes.
+     *
+     * @return caducidades programadas que aún no han vencido ni se han cancelado
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Caducidad programada: nodo de la lista de su ranura.
+     *
+     * @param <K> tipo de la clave
+     */
+    static final class Timeout<K> {
+
+        private final K key;
+
+        private final long deadline;
+
+        private int slot;
+
+        private Timeout<K> previous;
+
+        private Timeout<K> next;
+
+        private Timeout(K key, long deadline, int slot) {
+            this.key = key;
+            this.deadline = deadline;
+            this.slot = slot;
+        }
+
+        /**
+         * Clave programada.
+         *
+         * @return clave
+         */
+        K key() {
+            return this.key;
+        }
+
+        /**
+         * Instante de caducidad.
+         *
+         * @return milisegundos
+         */
+        long deadline() {
+            return this.deadline;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.price.manager.application.decorators;
+
+/**
+ * La petición no obtuvo acceso a la base de datos dentro del tiempo de espera del bulkhead.
+ *
+ * <p>No captura la pila: se lanza justo cuando el servicio está saturado y el motivo ya está
+ * en el mensaje.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceRepositoryBulkheadDecorator
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,19 @@
+package com.price.manager.application.decorators;
+
+/**
+ * La búsqueda no obtuvo el resultado de su lote dentro de {@code price-manager.micro-batch.max-wait}.
+ *
+ * <p>Se distingue de {@link BulkheadFullException}: no indica que el repositorio esté saturado,
+ * sino que el lote tardó demasiado en resolverse o que se interrumpió la espera. Tampoco
+ * captura la pila.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceMicroBatchingDecorator
+ */
+public class MicroBatchTimeoutException extends RuntimeException {
+
+    public MicroBatchTimeoutException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,138 @@
+package com.price.manager.application.decorators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.price.manager.application.index.PriceKeyBloomFilter;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+/**
+ * Decorador de {@link PriceCandidatesPort} que descarta sin consultar el repositorio las
+ * búsquedas de pares (brandId, productId) sin ninguna fila.
+ *
+ * <p>Antes de cada llamada se consulta el {@link PriceKeyBloomFilter}: si el par no está, la
+ * respuesta es vacía y el repositorio decorado no llega a ejecutarse. Los pares presentes (y
+ * los falsos positivos) pasan sin cambios. En los lotes ({@link #findBestPrices(List)}) solo
+ * se envían al repositorio los criterios que pasan el filtro, y el resultado conserva el orden
+ * de la petición. Los criterios con valores {@code null} pasan siempre.</p>
+ *
+ * <p>Cuenta las búsquedas rechazadas, las que pasan y los falsos positivos comprobados: los de
+ * {@link #findAllByBrandAndProduct(Long, Long)} que vuelven sin filas. En las demás búsquedas
+ * un resultado vacío no distingue un par ausente de un par sin precio vigente en esa fecha.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceKeyBloomFilter
+ */
+public class PriceBloomFilterDecorator implements PriceCandidatesPort {
+
+    private final PriceCandidatesPort delegate;
+
+    private final PriceKeyBloomFilter filter;
+
+    private final LongAdder rejected = new LongAdder();
+
+    private final LongAdder passed = new LongAdder();
+
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Crea el decorador.
+     *
+     * @param delegate repositorio decorado
+     * @param filter   filtro con los pares existentes
+     */
+    public PriceBloomFilterDecorator(PriceCandidatesPort delegate, PriceKeyBloomFilter filter) {
+        this.delegate = delegate;
+        this.filter = filter;
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria criteria) {
+        if (!this.admits(criteria.brandId(), criteria.productId())) {
+            return Optional.empty();
+        }
+        return this.delegate.findBestPrice(criteria);
+    }
+
+    @Override
+    public List<Optional<Price>> findBestPrices(List<PriceSearchCriteria> criteria) {
+        final boolean[] admitted = new boolean[criteria.size()];
+        final List<PriceSearchCriteria> forwarded = new ArrayList<>(criteria.size());
+        for (int i = 0; i < admitted.length; i++) {
+            final PriceSearchCriteria item = criteria.get(i);
+            admitted[i] = this.admits(item.brandId(), item.productId());
+            if (admitted[i]) {
+                forwarded.add(item);
+            }
+        }
+        if (forwarded.size() == criteria.size()) {
+            return this.delegate.findBestPrices(criteria);
+        }
+        final Optional<Price>[] results = newResults(criteria.size());
+        if (!forwarded.isEmpty()) {
+            final List<Optional<Price>> found = this.delegate.findBestPrices(forwarded);
+            for (int i = 0, next = 0; i < admitted.length; i++) {
+                if (admitted[i]) {
+                    results[i] = found.get(next++);
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    @Override
+    public List<Price> findAllByBrandAndProduct(Long brandId, Long productId) {
+        if (!this.admits(brandId, productId)) {
+            return List.of();
+        }
+        final List<Price> candidates = this.delegate.findAllByBrandAndProduct(brandId, productId);
+        if (candidates.isEmpty() && brandId != null && productId != null) {
+            this.falsePositives.increment();
+        }
+        return candidates;
+    }
+
+    /**
+     * Instantánea de los contadores.
+     *
+     * @return búsquedas rechazadas, búsquedas que pasaron y falsos positivos comprobados
+     */
+    public Stats stats() {
+        return new Stats(this.rejected.sum(), this.passed.sum(), this.falsePositives.sum());
+    }
+
+    private boolean admits(Long brandId, Long productId) {
+        if (brandId == null || productId == null) {
+            return true;
+        }
+        if (this.filter.mightContain(brandId, productId)) {
+            this.passed.increment();
+            return true;
+        }
+        this.rejected.increment();
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<Price>[] newResults(int size) {
+        final Optional<Price>[] results = new Optional[size];
+        Arrays.fill(results, Optional.empty());
+        return results;
+    }
+
+    /**
+     * Contadores del filtro.
+     *
+     * @param rejected       búsquedas resueltas como vacías sin consultar el repositorio
+     * @param passed         búsquedas enviadas al repositorio
+     * @param falsePositives búsquedas de candidatos que pasaron el filtro y no encontraron filas
+     */
+    public record Stats(long rejected, long passed, long falsePositives) {
+    }
+}
@@ -0,0 +1,229 @@
+package com.price.manager.application.decorators;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.index.PackedKey;
+import com.price.manager.application.index.PriceTimeline;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.application.ports.driven.PricePrimitiveLookupPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+/**
+ * Decorador de {@link PriceRepositoryPort} que cachea el conjunto de candidatos de cada producto.
+ *
+ * <p>La clave es el par (brandId, productId), no el criterio completo: las fechas de consulta
+ * casi nunca se repiten, así que se guardan todas las filas del producto ya resueltas en una
+ * {@link PriceTimeline} y la fecha se resuelve en memoria con una búsqueda binaria. Las
+ * consultas repetidas sobre productos calientes no llegan a la base de datos. Los productos
+ * sin filas también se cachean (línea temporal vacía).</p>
+ *
+ * <h3>Políticas:</h3>
+ * <ul>
+ *   <li><strong>Tamaño:</strong> como máximo {@code maximumSize} productos; se expulsa el
+ *       menos usado recientemente (LRU)</li>
+ *   <li><strong>TTL:</strong> cada entrada caduca {@code ttl} después de cargarse</li>
+ *   <li><strong>Invalidación:</strong> {@link #invalidate(long, long)} y {@link #invalidateAll()}</li>
+ *   <li><strong>Métricas:</strong> aciertos, fallos y expulsiones en {@link #stats()}</li>
+ * </ul>
+ *
+ * <p><strong>Concurrencia:</strong> el mapa se protege con un monitor que solo se mantiene
+ * durante la consulta y la inserción; la carga desde el repositorio se hace fuera del
+ * bloqueo, por lo que dos fallos simultáneos sobre el mismo producto pueden cargarlo dos veces
+ * (una sola si el repositorio decorado es un {@link PriceSingleFlightDecorator}).
+ * Una carga que coincide con una invalidación se devuelve pero no se guarda.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceCandidatesPort
+ * @see PriceTimeline
+ */
+public class PriceCandidateCacheDecorator implements PriceCandidatesPort, PricePrimitiveLookupPort {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final PriceCandidatesPort delegate;
+
+    private final Duration ttl;
+
+    private final Clock clock;
+
+    private final LinkedHashMap<Long, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Se incrementa en cada invalidación; una carga iniciada antes no se guarda.
+     */
+    private long generation;
+
+    /**
+     * Crea el decorador con el reloj del sistema.
+     *
+     * @param delegate    repositorio decorado
+     * @param maximumSize número máximo de productos en caché; debe ser positivo
+     * @param ttl         tiempo de vida de cada entrada; debe ser positivo
+     */
+    public PriceCandidateCacheDecorator(PriceCandidatesPort delegate, int maximumSize, Duration ttl) {
+        this(delegate, maximumSize, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Crea el decorador con un reloj concreto.
+     *
+     * @param delegate    repositorio decorado
+     * @param maximumSize número máximo de productos en caché; debe ser positivo
+     * @param ttl         tiempo de vida de cada entrada; debe ser positivo
+     * @param clock       reloj usado para la caducidad
+     * @throws IllegalArgumentException si el tamaño o el TTL no son positivos
+     */
+    public PriceCandidateCacheDecorator(PriceCandidatesPort delegate, int maximumSize, Duration ttl, Clock clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Cache maximum size must be positive: " + maximumSize);
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache TTL must be positive: " + ttl);
+        }
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                final boolean evict = this.size() > maximumSize;
+                if (evict) {
+                    PriceCandidateCacheDecorator.this.evictions.increment();
+                }
+                return evict;
+            }
+        };
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria criteria) {
+        if (criteria.brandId() == null || criteria.productId() == null || criteria.queryDate() == null) {
+            return this.delegate.findBestPrice(criteria);
+        }
+        return Optional.ofNullable(this.findBestPrice(criteria.brandId(), criteria.productId(),
+                EpochMillis.of(criteria.queryDate())));
+    }
+
+    @Override
+    public Price findBestPrice(long brandId, long productId, long epochMillis) {
+        final long key = PackedKey.pack(brandId, productId);
+        if (key == PackedKey.INVALID) {
+            // Identificadores fuera de rango: no se cachean
+            this.misses.increment();
+            return PriceTimeline.of(this.delegate.findAllByBrandAndProduct(brandId, productId)).priceAt(epochMillis);
+        }
+        return this.timeline(key, brandId, productId).priceAt(epochMillis);
+    }
+
+    /**
+     * Devuelve las filas del producto directamente del repositorio decorado, sin caché.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @return filas del producto
+     */
+    @Override
+    public List<Price> findAllByBrandAndProduct(Long brandId, Long productId) {
+        return this.delegate.findAllByBrandAndProduct(brandId, productId);
+    }
+
+    /**
+     * Descarta la entrada de un producto, por ejemplo tras modificar sus precios.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     */
+    public void invalidate(long brandId, long productId) {
+        final long key = PackedKey.pack(brandId, productId);
+        synchronized (this.entries) {
+            this.entries.remove(key);
+            this.generation++;
+        }
+    }
+
+    /**
+     * Descarta todas las entradas.
+     */
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+            this.generation++;
+        }
+    }
+
+    /**
+     * Instantánea de los contadores de la caché.
+     *
+     * @return aciertos, fallos, expulsiones y tamaño actual
+     */
+    public Stats stats() {
+        final int size;
+        synchronized (this.entries) {
+            size = this.entries.size();
+        }
+        return new Stats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), size);
+    }
+
+    private PriceTimeline timeline(long key, long brandId, long productId) {
+        final long now = this.clock.millis();
+        final long loadGeneration;
+        synchronized (this.entries) {
+            final Entry cached = this.entries.get(key);
+            if (cached != null && cached.expiresAt() > now) {
+                this.hits.increment();
+                return cached.timeline();
+            }
+            if (cached != null) {
+                this.entries.remove(key);
+                this.evictions.increment();
+            }
+            loadGeneration = this.generation;
+        }
+        this.misses.increment();
+        final PriceTimeline loaded = PriceTimeline.of(this.delegate.findAllByBrandAndProduct(brandId, productId));
+        synchronized (this.entries) {
+            if (loadGeneration == this.generation) {
+                this.entries.put(key, new Entry(loaded, now + this.ttl.toMillis()));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Entrada de la caché: línea temporal del producto y su caducidad.
+     *
+     * @param timeline  candidatos resueltos
+     * @param expiresAt instante de caducidad en milisegundos
+     */
+    private record Entry(PriceTimeline timeline, long expiresAt) {
+    }
+
+    /**
+     * Contadores de la caché.
+     *
+     * @param hits      consultas resueltas sin acceder al repositorio
+     * @param misses    consultas que cargaron el producto desde el repositorio
+     * @param evictions entradas expulsadas por tamaño o caducidad
+     * @param size      productos en caché
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+}
@@ -0,0 +1,260 @@
+package com.price.manager.application.decorators;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decorador de {@link PriceCandidatesPort} que agrupa búsquedas individuales en lotes
+ * (<em>micro-batching</em>, al estilo de un DataLoader).
+ *
+ * <p>Cada {@link #findBestPrice(PriceSearchCriteria)} se encola con su {@link CompletableFuture} y
+ * el hilo que llama espera el resultado. Un hilo despachador toma la primera búsqueda pendiente y
+ * sigue recogiendo hasta reunir {@code maxBatchSize} o hasta que pasan {@code maxDelay} desde que
+ * la tomó; el lote se resuelve con una sola {@link PriceCandidatesPort#findBestPrices(List)} (la
+ * consulta por conjuntos de los adaptadores de base de datos) en un pool de
+ * {@code maxConcurrentBatches} hilos, y cada futuro se completa con su posición del resultado.</p>
+ *
+ * <p>El compromiso se ajusta con dos valores: con poco tráfico cada búsqueda paga hasta
+ * {@code maxDelay} de latencia extra; con mucho, los lotes se llenan antes y el número de
+ * consultas baja en proporción a su tamaño. El {@link BatchObserver} recibe el tamaño y la
+ * espera de cada lote para publicarlos como histogramas.</p>
+ *
+ * <p>Las búsquedas por lotes, las de candidatos y los criterios con valores {@code null} pasan
+ * directamente al repositorio decorado. Si la consulta de un lote falla, la excepción se
+ * propaga a todas sus búsquedas. Quien llama espera como mucho {@code maxWait}; si el lote no
+ * se ha resuelto para entonces, o si se interrumpe la espera, recibe
+ * {@link MicroBatchTimeoutException}.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceCandidatesPort#findBestPrices(List)
+ */
+@Slf4j
+public class PriceMicroBatchingDecorator implements PriceCandidatesPort, AutoCloseable {
+
+    private final PriceCandidatesPort delegate;
+
+    private final int maxBatchSize;
+
+    private final long maxDelayNanos;
+
+    private final long maxWaitNanos;
+
+    private final BatchObserver observer;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+
+    private final ExecutorService batches;
+
+    private final Thread dispatcher;
+
+    private volatile boolean running = true;
+
+    /**
+     * Crea el decorador y arranca el hilo despachador.
+     *
+     * @param delegate             repositorio decorado
+     * @param maxBatchSize         búsquedas máximas por lote; debe ser positivo
+     * @param maxDelay             espera máxima desde la primera búsqueda del lote; no puede ser negativa
+     * @param maxConcurrentBatches lotes resolviéndose a la vez; debe ser positivo
+     * @param maxWait              espera máxima de quien llama por el resultado; no puede ser negativa
+     * @param observer             receptor de las estadísticas de cada lote
+     * @throws IllegalArgumentException si algún límite no es válido
+     */
+    public PriceMicroBatchingDecorator(PriceCandidatesPort delegate, int maxBatchSize, Duration maxDelay,
+                                       int maxConcurrentBatches, Duration maxWait, BatchObserver observer) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Micro-batch max size must be positive: " + maxBatchSize);
+        }
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Micro-batch max delay must not be negative: " + maxDelay);
+        }
+        if (maxConcurrentBatches <= 0) {
+            throw new IllegalArgumentException("Micro-batch concurrency must be positive: " + maxConcurrentBatches);
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("Micro-batch max wait must not be negative: " + maxWait);
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+        this.observer = observer;
+        final AtomicInteger workers = new AtomicInteger();
+        this.batches = Executors.newFixedThreadPool(maxConcurrentBatches, runnable -> {
+            final Thread thread = new Thread(runnable, "price-batch-" + workers.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = new Thread(this::dispatch, "price-batch-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria criteria) {
+        if (criteria.brandId() == null || criteria.productId() == null || criteria.queryDate() == null
+                || !this.running) {
+            return this.delegate.findBestPrice(criteria);
+        }
+        final Pending pending = new Pending(criteria, new CompletableFuture<>(), System.nanoTime());
+        this.queue.add(pending);
+        if (!this.running && this.queue.remove(pending)) {
+            // Encolada después de close(): nadie la despachará
+            return this.delegate.findBestPrice(criteria);
+        }
+        try {
+            return pending.result().get(this.maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            this.queue.remove(pending);
+            throw new MicroBatchTimeoutException("No price lookup batch result within " + Duration.ofNanos(this.maxWaitNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.queue.remove(pending);
+            throw new MicroBatchTimeoutException("Interrupted while waiting for a price lookup batch");
+        }
+    }
+
+    @Override
+    public List<Optional<Price>> findBestPrices(List<PriceSearchCriteria> criteria) {
+        return this.delegate.findBestPrices(criteria);
+    }
+
+    @Override
+    public List<Price> findAllByBrandAndProduct(Long brandId, Long productId) {
+        return this.delegate.findAllByBrandAndProduct(brandId, productId);
+    }
+
+    /**
+     * Detiene el despachador; el lote que estaba reuniendo se resuelve y las búsquedas que
+     * quedan en la cola se resuelven una a una.
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        this.dispatcher.interrupt();
+        this.batches.shutdown();
+        final List<Pending> orphans = new ArrayList<>();
+        this.queue.drainTo(orphans);
+        orphans.forEach(pending -> this.complete(List.of(pending)));
+    }
+
+    private void dispatch() {
+        while (this.running && !Thread.currentThread().isInterrupted()) {
+            final List<Pending> batch = this.collect();
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                this.batches.execute(() -> this.complete(batch));
+            } catch (RejectedExecutionException e) {
+                // Pool cerrado por close(): se resuelve en este hilo
+                this.complete(batch);
+            }
+        }
+    }
+
+    /**
+     * Espera la primera búsqueda y añade las que lleguen hasta llenar el lote o agotar el plazo.
+     *
+     * <p>Si {@link #close()} interrumpe la espera, devuelve lo ya reunido (quizá nada) con la
+     * marca de interrupción puesta, para que esas búsquedas no se pierdan.</p>
+     */
+    private List<Pending> collect() {
+        final List<Pending> batch = new ArrayList<>(this.maxBatchSize);
+        try {
+            batch.add(this.queue.take());
+            final long deadline = System.nanoTime() + this.maxDelayNanos;
+            while (batch.size() < this.maxBatchSize) {
+                final long remaining = deadline - System.nanoTime();
+                final Pending next = remaining > 0 ? this.queue.poll(remaining, TimeUnit.NANOSECONDS) : this.queue.poll();
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return batch;
+    }
+
+    /**
+     * Resuelve el lote; cualquier fallo, incluido el del observador, completa sus futuros para
+     * que ningún hilo quede esperando.
+     */
+    private void complete(List<Pending> batch) {
+        try {
+            this.observer.onBatch(batch.size(), System.nanoTime() - batch.get(0).enqueuedAt());
+            final List<Optional<Price>> results = this.delegate.findBestPrices(
+                    batch.stream().map(Pending::criteria).toList());
+            if (results.size() != batch.size()) {
+                throw new IllegalStateException("Repository returned " + results.size() + " results for "
+                        + batch.size() + " lookups");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(results.get(i));
+            }
+        } catch (Throwable e) {
+            log.debug("Price lookup batch of {} failed", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Recibe las estadísticas de cada lote antes de resolverlo.
+     */
+    @FunctionalInterface
+    public interface BatchObserver {
+
+        /**
+         * Sin estadísticas.
+         */
+        BatchObserver NONE = (size, waitNanos) -> { };
+
+        /**
+         * Se invoca una vez por lote.
+         *
+         * @param size      búsquedas del lote
+         * @param waitNanos espera de la búsqueda más antigua del lote hasta que empieza su consulta
+         */
+        void onBatch(int size, long waitNanos);
+    }
+
+    /**
+     * Búsqueda encolada.
+     *
+     * @param criteria   criterio de la búsqueda
+     * @param result     futuro que espera el hilo que llama
+     * @param enqueuedAt instante de encolado ({@link System#nanoTime()})
+     */
+    private record Pending(PriceSearchCriteria criteria, CompletableFuture<Optional<Price>> result, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.price.manager.application.decorators;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+/**
+ * Decorador de {@link PriceCandidatesPort} que limita las llamadas simultáneas al repositorio.
+ *
+ * <p>Cada llamada toma un permiso de un {@link Semaphore} justo de {@code maxConcurrentCalls}
+ * permisos, dimensionado como el pool de conexiones. Las que no lo obtienen esperan en una cola
+ * FIFO en lugar de competir por una conexión: con hilos virtuales esperar solo aparca el hilo,
+ * así que decenas de miles de peticiones simultáneas esperan sin agotar el pool ni memoria. Si
+ * el permiso no llega en {@code maxWait} se lanza {@link BulkheadFullException}.</p>
+ *
+ * <p>Solo decora los adaptadores con acceso a base de datos por petición (los que implementan
+ * {@link PriceCandidatesPort}); si además hay caché de candidatos, esta queda por fuera y sus
+ * aciertos no consumen permisos.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceCandidatesPort
+ */
+public class PriceRepositoryBulkheadDecorator implements PriceCandidatesPort {
+
+    private final PriceCandidatesPort delegate;
+
+    private final Semaphore semaphore;
+
+    private final int maxConcurrentCalls;
+
+    private final long maxWaitNanos;
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Crea el decorador.
+     *
+     * @param delegate           repositorio decorado
+     * @param maxConcurrentCalls llamadas simultáneas permitidas; debe ser positivo
+     * @param maxWait            espera máxima por un permiso; no puede ser negativa
+     * @throws IllegalArgumentException si los límites no son válidos
+     */
+    public PriceRepositoryBulkheadDecorator(PriceCandidatesPort delegate, int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("Bulkhead max concurrent calls must be positive: " + maxConcurrentCalls);
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("Bulkhead max wait must not be negative: " + maxWait);
+        }
+        this.delegate = delegate;
+        this.semaphore = new Semaphore(maxConcurrentCalls, true);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria criteria) {
+        return this.call(() -> this.delegate.findBestPrice(criteria));
+    }
+
+    @Override
+    public List<Optional<Price>> findBestPrices(List<PriceSearchCriteria> criteria) {
+        return this.call(() -> this.delegate.findBestPrices(criteria));
+    }
+
+    @Override
+    public List<Price> findAllByBrandAndProduct(Long brandId, Long productId) {
+        return this.call(() -> this.delegate.findAllByBrandAndProduct(brandId, productId));
+    }
+
+    /**
+     * Instantánea de los contadores del bulkhead.
+     *
+     * @return permisos libres, llamadas en espera y llamadas rechazadas
+     */
+    public Stats stats() {
+        return new Stats(this.maxConcurrentCalls, this.semaphore.availablePermits(), this.semaphore.getQueueLength(),
+                this.rejected.sum());
+    }
+
+    private <T> T call(Supplier<T> call) {
+        try {
+            if (!this.semaphore.tryAcquire(this.maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                this.rejected.increment();
+                throw new BulkheadFullException("Price repository is saturated, no permit within "
+                        + Duration.ofNanos(this.maxWaitNanos));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.rejected.increment();
+            throw new BulkheadFullException("Interrupted while waiting for a price repository permit");
+        }
+        try {
+            return call.get();
+        } finally {
+            this.semaphore.release();
+        }
+    }
+
+    /**
+     * Contadores del bulkhead.
+     *
+     * @param maxConcurrentCalls permisos totales
+     * @param available          permisos libres
+     * @param waiting            llamadas esperando un permiso (estimación)
+     * @param rejected           llamadas rechazadas por superar la espera máxima
+     */
+    public record Stats(int maxConcurrentCalls, int available, int waiting, long rejected) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.price.manager.application.decorators;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.index.PackedKey;
+import com.price.manager.application.index.PriceTimeline;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+/**
+ * Decorador de {@link PriceCandidatesPort} que agrupa las búsquedas simultáneas de un mismo
+ * producto en una sola llamada al repositorio (<em>single-flight</em>).
+ *
+ * <p>La clave es el par (brandId, productId). La primera llamada de un producto sin carga en
+ * curso (la líder) publica un {@link CompletableFuture} y carga el conjunto de candidatos con
+ * {@link PriceCandidatesPort#findAllByBrandAndProduct(Long, Long)}; las que llegan mientras tanto
+ * esperan a ese mismo futuro en lugar de lanzar su propia consulta. Cada una resuelve después
+ * su fecha de consulta en memoria con {@link PriceTimeline}, así que fechas distintas del mismo
+ * producto también se agrupan.</p>
+ *
+ * <p>No guarda nada: en cuanto la carga termina el futuro se retira y la siguiente llamada vuelve
+ * a la base de datos. Un error de la carga se propaga a la líder y a todas las que esperaban.
+ * Los lotes ({@link #findBestPrices(List)}) y los criterios con valores {@code null} pasan
+ * directamente al repositorio decorado.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceCandidatesPort
+ * @see PriceCandidateCacheDecorator
+ */
+public class PriceSingleFlightDecorator implements PriceCandidatesPort {
+
+    private final PriceCandidatesPort delegate;
+
+    private final ConcurrentHashMap<Long, CompletableFuture<List<Price>>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Crea el decorador.
+     *
+     * @param delegate repositorio decorado
+     */
+    public PriceSingleFlightDecorator(PriceCandidatesPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria criteria) {
+        if (criteria.brandId() == null || criteria.productId() == null || criteria.queryDate() == null) {
+            return this.delegate.findBestPrice(criteria);
+        }
+        final List<Price> candidates = this.findAllByBrandAndProduct(criteria.brandId(), criteria.productId());
+        return Optional.ofNullable(PriceTimeline.of(candidates).priceAt(EpochMillis.of(criteria.queryDate())));
+    }
+
+    @Override
+    public List<Optional<Price>> findBestPrices(List<PriceSearchCriteria> criteria) {
+        return this.delegate.findBestPrices(criteria);
+    }
+
+    /**
+     * Devuelve las filas del producto, compartiendo la carga con las llamadas simultáneas.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @return filas del producto (inmutable)
+     */
+    @Override
+    public List<Price> findAllByBrandAndProduct(Long brandId, Long productId) {
+        final long key = brandId == null || productId == null ? PackedKey.INVALID : PackedKey.pack(brandId, productId);
+        if (key == PackedKey.INVALID) {
+            return this.delegate.findAllByBrandAndProduct(brandId, productId);
+        }
+        final CompletableFuture<List<Price>> flight = new CompletableFuture<>();
+        final CompletableFuture<List<Price>> existing = this.inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            this.coalesced.increment();
+            return await(existing);
+        }
+        this.leaders.increment();
+        try {
+            final List<Price> candidates = List.copyOf(this.delegate.findAllByBrandAndProduct(brandId, productId));
+            flight.complete(candidates);
+            return candidates;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Instantánea de los contadores.
+     *
+     * @return llamadas que consultaron el repositorio, llamadas agrupadas y cargas en curso
+     */
+    public Stats stats() {
+        return new Stats(this.leaders.sum(), this.coalesced.sum(), this.inFlight.size());
+    }
+
+    private static List<Price> await(CompletableFuture<List<Price>> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Se relanza la excepción original de la líder
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Contadores del single-flight.
+     *
+     * @param leaders   llamadas que lanzaron la consulta al repositorio
+     * @param coalesced llamadas que esperaron la consulta de otra
+     * @param inFlight  productos con una carga en curso
+     */
+    public record Stats(long leaders, long coalesced, int inFlight) {
+    }
+}
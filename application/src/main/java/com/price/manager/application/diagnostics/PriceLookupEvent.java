@@ -0,0 +1,88 @@
+package com.price.manager.application.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timestamp;
+
+/**
+ * Evento JFR de una búsqueda del precio aplicable en el caso de uso.
+ *
+ * <p>Desactivado por defecto: mientras una grabación no lo active (por ejemplo con
+ * {@code jfr/price-manager.jfc} del módulo boot), {@link #isTypeEnabled()} devuelve {@code false}
+ * y el caso de uso no llega a crear el evento, así que la búsqueda no reserva memoria por él.
+ * Su duración abarca toda la búsqueda, incluidas la caché de resultados y las consultas de
+ * {@link PriceQueryEvent} que lance.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name(PriceLookupEvent.NAME)
+@Label("Price Lookup")
+@Category({"Price Manager", "Lookup"})
+@Description("Resolution of the applicable price for a brand, product and date")
+@Enabled(false)
+@StackTrace(false)
+public class PriceLookupEvent extends Event {
+
+    /**
+     * Nombre del evento en las grabaciones y en los ficheros {@code .jfc}.
+     */
+    public static final String NAME = "com.price.manager.PriceLookup";
+
+    /**
+     * Sin caché de resultados (o sin un repositorio que la admita).
+     */
+    public static final String CACHE_NONE = "none";
+
+    /**
+     * Resuelta por la caché de resultados.
+     */
+    public static final String CACHE_HIT = "hit";
+
+    /**
+     * Buscada en la caché de resultados sin éxito y resuelta con el repositorio.
+     */
+    public static final String CACHE_MISS = "miss";
+
+    private static final EventType TYPE = FlightRecorder.isAvailable()
+            ? EventType.getEventType(PriceLookupEvent.class)
+            : null;
+
+    @Label("Brand Id")
+    public long brandId;
+
+    @Label("Product Id")
+    public long productId;
+
+    @Label("Query Date")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    public long queryDate;
+
+    @Label("Found")
+    @Description("Whether an applicable price exists")
+    public boolean found;
+
+    @Label("Result Cache")
+    @Description("hit, miss or none when the result cache is not used")
+    public String cache = CACHE_NONE;
+
+    @Label("Candidates")
+    @Description("Rows of the product read to resolve the winning segment; -1 when the lookup did not load them")
+    public int candidates = -1;
+
+    /**
+     * Indica si alguna grabación en curso tiene activo el evento, sin crear ninguno.
+     *
+     * @return {@code true} si merece la pena crear y grabar el evento
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE != null && TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,53 @@
+package com.price.manager.application.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de un viaje a la base de datos de un adaptador de repositorio.
+ *
+ * <p>Cubre la consulta y la lectura de sus filas. Desactivado por defecto, como
+ * {@link PriceLookupEvent}; en una grabación ambos se pueden cruzar por hilo e instante con
+ * las pausas de GC y la contención de monitores.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name(PriceQueryEvent.NAME)
+@Label("Price Query")
+@Category({"Price Manager", "Database"})
+@Description("Database round trip issued by a price repository adapter")
+@Enabled(false)
+@StackTrace(false)
+public class PriceQueryEvent extends Event {
+
+    /**
+     * Nombre del evento en las grabaciones y en los ficheros {@code .jfc}.
+     */
+    public static final String NAME = "com.price.manager.PriceQuery";
+
+    @Label("Statement")
+    @Description("Repository query that was executed")
+    public String statement;
+
+    @Label("Brand Id")
+    @Description("Brand of a single-product query; 0 for multi-key queries")
+    public long brandId;
+
+    @Label("Product Id")
+    @Description("Product of a single-product query; 0 for multi-key queries")
+    public long productId;
+
+    @Label("Keys")
+    @Description("Lookups resolved by the query")
+    public int keys;
+
+    @Label("Rows")
+    @Description("Rows returned by the database")
+    public int rows;
+}
@@ -0,0 +1,241 @@
+package com.price.manager.application.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * Registra cuánto tarda cada etapa de una petición en el hilo que la atiende.
+ *
+ * <p>El filtro HTTP abre la grabación con {@link #begin()} y la cierra con {@link #finish()};
+ * entre medias, el controlador y el adaptador del repositorio acotan sus etapas con
+ * {@link #start()} y {@link #stop(Stage, long)}. Cada hilo reutiliza su grabador: las duraciones
+ * se acumulan en un {@code long[]} y los valores de la consulta SQL se guardan por referencia,
+ * así que medir no crea objetos (con hilos virtuales, uno por hilo).</p>
+ *
+ * <p>No hay interruptor global: solo se graba entre {@link #begin()} y {@link #finish()}, y solo
+ * los llama el filtro de la aplicación que tenga activa la captura de peticiones lentas. Fuera
+ * de una petición abierta, {@link #start()} devuelve {@code 0} y el resto de llamadas no hacen
+ * nada; el hilo tampoco recibe grabador. Las etapas se anidan: {@link Stage#SERVICE} incluye
+ * {@link Stage#SQL} y {@link Stage#ENTITY_MAPPING}.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class RequestStageRecorder {
+
+    /**
+     * Etapas medidas de una petición.
+     */
+    public enum Stage {
+
+        /**
+         * Desde el filtro hasta entrar en el controlador: despacho y conversión de parámetros,
+         * incluida la fecha ISO-8601.
+         */
+        PARSING,
+
+        /**
+         * Llamada al puerto de servicio, con todo lo que hay por debajo.
+         */
+        SERVICE,
+
+        /**
+         * Ejecución de la consulta SQL y lectura de sus filas.
+         */
+        SQL,
+
+        /**
+         * Conversión de filas o entidades al dominio.
+         */
+        ENTITY_MAPPING,
+
+        /**
+         * Conversión del dominio al DTO de respuesta.
+         */
+        DTO_MAPPING,
+
+        /**
+         * Desde la salida del controlador hasta el final del filtro: serialización y escritura
+         * de la respuesta.
+         */
+        SERIALIZATION
+    }
+
+    /**
+     * Valores de la consulta SQL que se conservan por petición.
+     */
+    public static final int MAX_BINDS = 3;
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private static final ThreadLocal<RequestStageRecorder> CURRENT = new ThreadLocal<>();
+
+    private final long[] nanos = new long[STAGES.length];
+
+    private final Object[] binds = new Object[MAX_BINDS];
+
+    private int bindCount;
+
+    private String statement;
+
+    private long startedAt;
+
+    private long handlerExitedAt;
+
+    private boolean active;
+
+    private RequestStageRecorder() {
+    }
+
+    /**
+     * Abre la grabación de una petición en el hilo actual, descartando la anterior.
+     *
+     * @return grabador del hilo, creado la primera vez
+     */
+    public static RequestStageRecorder begin() {
+        RequestStageRecorder recorder = CURRENT.get();
+        if (recorder == null) {
+            recorder = new RequestStageRecorder();
+            CURRENT.set(recorder);
+        }
+        recorder.clear();
+        recorder.active = true;
+        recorder.startedAt = System.nanoTime();
+        return recorder;
+    }
+
+    /**
+     * Marca la entrada al controlador y cierra {@link Stage#PARSING}.
+     */
+    public static void enterHandler() {
+        final RequestStageRecorder recorder = current();
+        if (recorder != null) {
+            recorder.nanos[Stage.PARSING.ordinal()] = System.nanoTime() - recorder.startedAt;
+        }
+    }
+
+    /**
+     * Marca la salida del controlador; lo que queda hasta {@link #finish()} es {@link Stage#SERIALIZATION}.
+     */
+    public static void exitHandler() {
+        final RequestStageRecorder recorder = current();
+        if (recorder != null) {
+            recorder.handlerExitedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Empieza a medir una etapa.
+     *
+     * @return instante de inicio, o {@code 0} si no hay petición grabándose
+     */
+    public static long start() {
+        return current() == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Suma a una etapa el tiempo transcurrido desde {@code started}.
+     *
+     * @param stage   etapa medida
+     * @param started valor devuelto por {@link #start()}
+     */
+    public static void stop(Stage stage, long started) {
+        if (started == 0L) {
+            return;
+        }
+        final RequestStageRecorder recorder = current();
+        if (recorder != null) {
+            recorder.nanos[stage.ordinal()] += System.nanoTime() - started;
+        }
+    }
+
+    /**
+     * Guarda la consulta SQL de la petición y sus valores, sustituyendo los anteriores.
+     *
+     * @param statement nombre de la consulta
+     * @param first     primer valor
+     * @param second    segundo valor
+     * @param third     tercer valor
+     */
+    public static void bind(String statement, Object first, Object second, Object third) {
+        final RequestStageRecorder recorder = current();
+        if (recorder != null) {
+            recorder.statement = statement;
+            recorder.binds[0] = first;
+            recorder.binds[1] = second;
+            recorder.binds[2] = third;
+            recorder.bindCount = 3;
+        }
+    }
+
+    private static RequestStageRecorder current() {
+        final RequestStageRecorder recorder = CURRENT.get();
+        return recorder != null && recorder.active ? recorder : null;
+    }
+
+    /**
+     * Cierra la grabación: calcula {@link Stage#SERIALIZATION} y deja de aceptar etapas.
+     *
+     * @return duración total de la petición en nanosegundos
+     */
+    public long finish() {
+        final long now = System.nanoTime();
+        if (this.handlerExitedAt != 0L) {
+            this.nanos[Stage.SERIALIZATION.ordinal()] = now - this.handlerExitedAt;
+        }
+        this.active = false;
+        return now - this.startedAt;
+    }
+
+    /**
+     * Olvida las etapas y los valores guardados, para no retener objetos de la petición.
+     */
+    public void clear() {
+        Arrays.fill(this.nanos, 0L);
+        Arrays.fill(this.binds, null);
+        this.bindCount = 0;
+        this.statement = null;
+        this.handlerExitedAt = 0L;
+        this.active = false;
+    }
+
+    /**
+     * Tiempo acumulado en una etapa.
+     *
+     * @param stage etapa
+     * @return nanosegundos
+     */
+    public long nanos(Stage stage) {
+        return this.nanos[stage.ordinal()];
+    }
+
+    /**
+     * Nombre de la última consulta SQL guardada.
+     *
+     * @return nombre, o {@code null} si la petición no llegó a la base de datos
+     */
+    public String statement() {
+        return this.statement;
+    }
+
+    /**
+     * Número de valores guardados de la consulta.
+     *
+     * @return entre 0 y {@value #MAX_BINDS}
+     */
+    public int bindCount() {
+        return this.bindCount;
+    }
+
+    /**
+     * Valor guardado de la consulta.
+     *
+     * @param index posición, menor que {@link #bindCount()}
+     * @return valor tal como se pasó a la consulta
+     */
+    public Object bindAt(int index) {
+        if (index < 0 || index >= this.bindCount) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return this.binds[index];
+    }
+}
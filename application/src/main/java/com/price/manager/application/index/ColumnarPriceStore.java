@@ -0,0 +1,545 @@
+package com.price.manager.application.index;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Almacén columnar (struct-of-arrays) de las filas de PRICES.
+ *
+ * <p>En lugar de un grafo de objetos {@link Price} por fila (campos envueltos, un
+ * {@link BigDecimal} y dos {@code LocalDateTime}), cada atributo se guarda en un array
+ * primitivo paralelo. Las filas se ordenan por producto, de modo que las de un mismo
+ * (brandId, productId) quedan contiguas en memoria.</p>
+ *
+ * <h3>Columnas por fila:</h3>
+ * <ul>
+ *   <li>{@code long[] starts} / {@code long[] ends}: vigencia en milisegundos desde epoch (UTC), ambos inclusive</li>
+ *   <li>{@code int[] priorities} y {@code long[] priceLists}: criterios de desempate</li>
+ *   <li>{@code long[] unscaledPrices} + {@code byte[] scales}: importe sin {@link BigDecimal}</li>
+ *   <li>{@code byte[] currencies}: índice en el diccionario de códigos de moneda</li>
+ * </ul>
+ *
+ * <p>Sobre las filas se precalculan los segmentos sin solapamiento de cada producto
+ * ({@link IntervalSweep}), que apuntan a la fila ganadora. {@link #find(long, long, long)}
+ * devuelve esa fila sin crear objetos; {@link #materialize(int)} construye el {@link Price}
+ * solo cuando hay que entregarlo fuera del almacén.</p>
+ *
+ * <p>{@link #bytesPerRow()} informa de la huella real de los arrays por fila.
+ * La instancia es inmutable; se construye con {@link #builder(int)} o {@link #of(Collection)}.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PrimitivePriceIndex
+ */
+public final class ColumnarPriceStore {
+
+    /**
+     * Valor devuelto por {@link #find(long, long, long)} cuando no hay precio vigente.
+     */
+    public static final int NOT_FOUND = -1;
+
+    private static final int MAX_CURRENCIES = 256;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private final LongIntHashMap products;
+
+    private final long[] productKeys;
+
+    private final int[] rowOffsets;
+
+    private final int[] segmentOffsets;
+
+    private final long[] segmentStarts;
+
+    private final long[] segmentEnds;
+
+    private final int[] segmentRows;
+
+    private final long[] starts;
+
+    private final long[] ends;
+
+    private final int[] priorities;
+
+    private final long[] priceLists;
+
+    private final long[] unscaledPrices;
+
+    private final byte[] scales;
+
+    private final byte[] currencies;
+
+    private final String[] currencyCodes;
+
+    private ColumnarPriceStore(Builder builder, LongIntHashMap products, long[] productKeys, int[] rowOffsets, int[] order,
+                               int[] segmentOffsets, SegmentBuffer segments) {
+        this.products = products;
+        this.productKeys = productKeys;
+        this.rowOffsets = rowOffsets;
+        this.segmentOffsets = segmentOffsets;
+        this.segmentStarts = Arrays.copyOf(segments.starts, segments.size);
+        this.segmentEnds = Arrays.copyOf(segments.ends, segments.size);
+        this.segmentRows = Arrays.copyOf(segments.rows, segments.size);
+        this.starts = permute(builder.starts, order);
+        this.ends = permute(builder.ends, order);
+        this.priorities = permute(builder.priorities, order);
+        this.priceLists = permute(builder.priceLists, order);
+        this.unscaledPrices = permute(builder.unscaledPrices, order);
+        this.scales = permute(builder.scales, order);
+        this.currencies = permute(builder.currencies, order);
+        this.currencyCodes = builder.currencyCodes.toArray(new String[0]);
+    }
+
+    /**
+     * Crea un constructor incremental.
+     *
+     * @param expectedRows número aproximado de filas, para dimensionar las columnas
+     * @return constructor vacío
+     */
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    /**
+     * Construye el almacén a partir de precios de dominio.
+     *
+     * @param prices filas a almacenar. Las filas incompletas se ignoran.
+     * @return almacén inmutable
+     */
+    public static ColumnarPriceStore of(Collection<Price> prices) {
+        final Builder builder = builder(prices.size());
+        prices.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Localiza la fila ganadora sin crear objetos.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param epochMillis instante de consulta en milisegundos desde epoch (UTC)
+     * @return fila ganadora o {@link #NOT_FOUND}
+     */
+    public int find(long brandId, long productId, long epochMillis) {
+        final int product = this.products.get(PackedKey.pack(brandId, productId));
+        if (product == LongIntHashMap.MISSING) {
+            return NOT_FOUND;
+        }
+        int low = this.segmentOffsets[product];
+        int high = this.segmentOffsets[product + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (this.segmentStarts[mid] > epochMillis) {
+                high = mid - 1;
+            } else if (this.segmentEnds[mid] <= epochMillis) {
+                low = mid + 1;
+            } else {
+                return this.segmentRows[mid];
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Construye el {@link Price} de una fila. Es el único punto que crea objetos.
+     *
+     * @param row fila devuelta por {@link #find(long, long, long)}
+     * @return precio de dominio equivalente a la fila
+     */
+    public Price materialize(int row) {
+        final long key = this.productKeys[this.productOf(row)];
+        return Price.builder()
+                .brandId(PackedKey.brandId(key))
+                .productId(PackedKey.productId(key))
+                .priceList(this.priceLists[row])
+                .priority(this.priorities[row])
+                .startDate(EpochMillis.toLocalDateTime(this.starts[row]))
+                .endDate(EpochMillis.toLocalDateTime(this.ends[row]))
+                .price(BigDecimal.valueOf(this.unscaledPrices[row], this.scales[row]))
+                .curr(this.currency(row))
+                .build();
+    }
+
+    /**
+     * Lista de precios de una fila.
+     *
+     * @param row fila
+     * @return valor de PRICE_LIST
+     */
+    public long priceList(int row) {
+        return this.priceLists[row];
+    }
+
+    /**
+     * Prioridad de una fila.
+     *
+     * @param row fila
+     * @return valor de PRIORITY
+     */
+    public int priority(int row) {
+        return this.priorities[row];
+    }
+
+    /**
+     * Importe sin escala de una fila; el importe real es {@code unscaled × 10^-scale}.
+     *
+     * @param row fila
+     * @return importe sin escala
+     */
+    public long unscaledPrice(int row) {
+        return this.unscaledPrices[row];
+    }
+
+    /**
+     * Escala decimal del importe de una fila.
+     *
+     * @param row fila
+     * @return número de decimales
+     */
+    public int scale(int row) {
+        return this.scales[row];
+    }
+
+    /**
+     * Código de moneda de una fila.
+     *
+     * @param row fila
+     * @return código ISO (instancia compartida del diccionario)
+     */
+    public String currency(int row) {
+        return this.currencyCodes[this.currencies[row] & BYTE_MASK];
+    }
+
+    /**
+     * Número de filas almacenadas.
+     *
+     * @return filas
+     */
+    public int rowCount() {
+        return this.starts.length;
+    }
+
+    /**
+     * Número de productos distintos.
+     *
+     * @return productos
+     */
+    public int productCount() {
+        return this.productKeys.length;
+    }
+
+    /**
+     * Número de segmentos resueltos.
+     *
+     * @return segmentos
+     */
+    public int segmentCount() {
+        return this.segmentRows.length;
+    }
+
+    /**
+     * Bytes ocupados por los arrays del almacén (sin cabeceras de objeto).
+     *
+     * @return huella aproximada en bytes
+     */
+    public long footprintBytes() {
+        final long rowBytes = (long) this.rowCount() * (Long.BYTES * 4 + Integer.BYTES + Byte.BYTES * 2);
+        final long segmentBytes = (long) this.segmentCount() * (Long.BYTES * 2 + Integer.BYTES);
+        final long productBytes = (long) this.productCount() * (Long.BYTES + Integer.BYTES * 2)
+                + this.products.footprintBytes();
+        return rowBytes + segmentBytes + productBytes;
+    }
+
+    /**
+     * Huella media por fila, incluyendo segmentos e índice de productos.
+     *
+     * @return bytes por fila, o 0 si el almacén está vacío
+     */
+    public double bytesPerRow() {
+        return this.rowCount() == 0 ? 0 : (double) this.footprintBytes() / this.rowCount();
+    }
+
+    private int productOf(int row) {
+        int low = 0;
+        int high = this.productKeys.length - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (this.rowOffsets[mid] <= row) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static long[] permute(long[] column, int[] order) {
+        final long[] sorted = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = column[order[i]];
+        }
+        return sorted;
+    }
+
+    private static int[] permute(int[] column, int[] order) {
+        final int[] sorted = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = column[order[i]];
+        }
+        return sorted;
+    }
+
+    private static byte[] permute(byte[] column, int[] order) {
+        final byte[] sorted = new byte[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = column[order[i]];
+        }
+        return sorted;
+    }
+
+    /**
+     * Constructor incremental de {@link ColumnarPriceStore}.
+     *
+     * <p>Acumula filas en columnas primitivas que crecen por duplicación; no retiene
+     * objetos {@link Price}, de modo que puede alimentarse directamente desde un cursor
+     * de base de datos. No es thread-safe.</p>
+     */
+    public static final class Builder {
+
+        private final List<String> currencyCodes = new ArrayList<>();
+
+        private final Map<String, Integer> currencyIndex = new HashMap<>();
+
+        private long[] keys;
+
+        private long[] starts;
+
+        private long[] ends;
+
+        private int[] priorities;
+
+        private long[] priceLists;
+
+        private long[] unscaledPrices;
+
+        private byte[] scales;
+
+        private byte[] currencies;
+
+        private int size;
+
+        private Builder(int expectedRows) {
+            final int capacity = Math.max(1, expectedRows);
+            this.keys = new long[capacity];
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+            this.priorities = new int[capacity];
+            this.priceLists = new long[capacity];
+            this.unscaledPrices = new long[capacity];
+            this.scales = new byte[capacity];
+            this.currencies = new byte[capacity];
+        }
+
+        /**
+         * Añade un precio de dominio. Las filas sin identificadores, fechas, prioridad,
+         * lista, importe o moneda, o con {@code startDate > endDate}, se ignoran.
+         *
+         * @param price fila a añadir
+         * @return este constructor
+         */
+        public Builder add(Price price) {
+            if (price.getBrandId() == null || price.getProductId() == null || price.getPriceList() == null
+                    || price.getPriority() == null || price.getPrice() == null || price.getCurr() == null
+                    || price.getStartDate() == null || price.getEndDate() == null
+                    || price.getStartDate().isAfter(price.getEndDate())) {
+                return this;
+            }
+            return this.add(price.getBrandId(), price.getProductId(), price.getPriceList(), price.getPriority(),
+                    EpochMillis.of(price.getStartDate()), EpochMillis.of(price.getEndDate()), price.getPrice(), price.getCurr());
+        }
+
+        /**
+         * Añade una fila a partir de sus valores primitivos.
+         *
+         * @param brandId     identificador de la marca
+         * @param productId   identificador del producto
+         * @param priceList   lista de precios
+         * @param priority    prioridad
+         * @param startMillis inicio de vigencia (inclusive) en milisegundos desde epoch
+         * @param endMillis   fin de vigencia (inclusive) en milisegundos desde epoch
+         * @param price       importe; debe ser representable como {@code long} sin escala
+         * @param currency    código de moneda
+         * @return este constructor
+         * @throws IllegalArgumentException si el intervalo está invertido o algún valor no es
+         *                                  representable en las columnas
+         */
+        public Builder add(long brandId, long productId, long priceList, int priority,
+                           long startMillis, long endMillis, BigDecimal price, String currency) {
+            final long key = PackedKey.pack(brandId, productId);
+            if (startMillis > endMillis) {
+                throw new IllegalArgumentException("Start date after end date for price list " + priceList);
+            }
+            if (key == PackedKey.INVALID) {
+                throw new IllegalArgumentException("Brand/product out of packable range: " + brandId + "/" + productId);
+            }
+            if (price.scale() < Byte.MIN_VALUE || price.scale() > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Price scale out of range: " + price);
+            }
+            final long unscaled;
+            try {
+                unscaled = price.unscaledValue().longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Price does not fit in a long: " + price, e);
+            }
+            if (this.size == this.keys.length) {
+                this.grow();
+            }
+            final int row = this.size++;
+            this.keys[row] = key;
+            this.starts[row] = startMillis;
+            this.ends[row] = endMillis;
+            this.priorities[row] = priority;
+            this.priceLists[row] = priceList;
+            this.unscaledPrices[row] = unscaled;
+            this.scales[row] = (byte) price.scale();
+            this.currencies[row] = this.currencyIndexOf(currency);
+            return this;
+        }
+
+        /**
+         * Ordena las filas por producto, resuelve los segmentos y publica el almacén.
+         *
+         * @return almacén inmutable
+         */
+        public ColumnarPriceStore build() {
+            // Ordinal de producto por fila y ordenación por conteo (estable) para agrupar filas
+            final LongIntHashMap ordinals = new LongIntHashMap(this.size);
+            final long[] firstSeen = new long[this.size];
+            final int[] rowProduct = new int[this.size];
+            for (int row = 0; row < this.size; row++) {
+                int ordinal = ordinals.get(this.keys[row]);
+                if (ordinal == LongIntHashMap.MISSING) {
+                    ordinal = ordinals.size();
+                    ordinals.put(this.keys[row], ordinal);
+                    firstSeen[ordinal] = this.keys[row];
+                }
+                rowProduct[row] = ordinal;
+            }
+            final int productCount = ordinals.size();
+            final long[] productKeys = Arrays.copyOf(firstSeen, productCount);
+            // Mapa definitivo dimensionado por productos, no por filas
+            final LongIntHashMap products = new LongIntHashMap(productCount);
+            for (int p = 0; p < productCount; p++) {
+                products.put(productKeys[p], p);
+            }
+
+            final int[] rowOffsets = new int[productCount + 1];
+            for (int row = 0; row < this.size; row++) {
+                rowOffsets[rowProduct[row] + 1]++;
+            }
+            for (int p = 0; p < productCount; p++) {
+                rowOffsets[p + 1] += rowOffsets[p];
+            }
+            final int[] cursor = Arrays.copyOf(rowOffsets, productCount);
+            final int[] order = new int[this.size];
+            for (int row = 0; row < this.size; row++) {
+                order[cursor[rowProduct[row]]++] = row;
+            }
+
+            return this.resolve(products, productKeys, rowOffsets, order);
+        }
+
+        private ColumnarPriceStore resolve(LongIntHashMap products, long[] productKeys, int[] rowOffsets, int[] order) {
+            // Las columnas se ordenan en el constructor; aquí se trabaja sobre las filas originales
+            final long[] endsExclusive = new long[this.size];
+            for (int row = 0; row < this.size; row++) {
+                endsExclusive[row] = this.ends[row] + 1;
+            }
+            final int[] position = new int[this.size];
+            for (int i = 0; i < order.length; i++) {
+                position[order[i]] = i;
+            }
+
+            final int productCount = productKeys.length;
+            final int[] segmentOffsets = new int[productCount + 1];
+            final SegmentBuffer segments = new SegmentBuffer(productCount);
+            for (int p = 0; p < productCount; p++) {
+                IntervalSweep.sweep(this.starts, endsExclusive, Arrays.copyOfRange(order, rowOffsets[p], rowOffsets[p + 1]),
+                        this::winnerFirst,
+                        (from, to, row) -> segments.add(from, to, position[row]));
+                segmentOffsets[p + 1] = segments.size;
+            }
+            return new ColumnarPriceStore(this, products, productKeys, rowOffsets, order, segmentOffsets, segments);
+        }
+
+        private int winnerFirst(int a, int b) {
+            // Mismas reglas que Price#hasHigherPriorityThan: prioridad y, en empate, priceList
+            final int byPriority = Integer.compare(this.priorities[b], this.priorities[a]);
+            return byPriority != 0 ? byPriority : Long.compare(this.priceLists[b], this.priceLists[a]);
+        }
+
+        private byte currencyIndexOf(String currency) {
+            final Integer index = this.currencyIndex.computeIfAbsent(currency, c -> {
+                if (this.currencyCodes.size() == MAX_CURRENCIES) {
+                    throw new IllegalArgumentException("Too many distinct currencies: " + MAX_CURRENCIES);
+                }
+                this.currencyCodes.add(c);
+                return this.currencyCodes.size() - 1;
+            });
+            return (byte) index.intValue();
+        }
+
+        private void grow() {
+            final int capacity = this.keys.length * 2;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.starts = Arrays.copyOf(this.starts, capacity);
+            this.ends = Arrays.copyOf(this.ends, capacity);
+            this.priorities = Arrays.copyOf(this.priorities, capacity);
+            this.priceLists = Arrays.copyOf(this.priceLists, capacity);
+            this.unscaledPrices = Arrays.copyOf(this.unscaledPrices, capacity);
+            this.scales = Arrays.copyOf(this.scales, capacity);
+            this.currencies = Arrays.copyOf(this.currencies, capacity);
+        }
+    }
+
+    /**
+     * Columnas de segmentos en construcción.
+     */
+    private static final class SegmentBuffer {
+
+        private long[] starts;
+
+        private long[] ends;
+
+        private int[] rows;
+
+        private int size;
+
+        SegmentBuffer(int expected) {
+            final int capacity = Math.max(1, expected);
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+            this.rows = new int[capacity];
+        }
+
+        void add(long from, long to, int row) {
+            if (this.size == this.rows.length) {
+                this.starts = Arrays.copyOf(this.starts, this.size * 2);
+                this.ends = Arrays.copyOf(this.ends, this.size * 2);
+                this.rows = Arrays.copyOf(this.rows, this.size * 2);
+            }
+            this.starts[this.size] = from;
+            this.ends[this.size] = to;
+            this.rows[this.size] = row;
+            this.size++;
+        }
+    }
+}
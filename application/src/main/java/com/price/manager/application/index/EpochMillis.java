@@ -0,0 +1,46 @@
+package com.price.manager.application.index;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión entre {@link LocalDateTime} y milisegundos desde epoch usados por los índices.
+ *
+ * <p>Las fechas de PRICES no tienen zona horaria; se interpretan en UTC igual que hace
+ * {@code PriceMapper} al construir la respuesta de la API. La precisión es de milisegundo:
+ * la parte sub-milisegundo de una fecha se trunca.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class EpochMillis {
+
+    private EpochMillis() {
+    }
+
+    /**
+     * Convierte una fecha local (UTC) a milisegundos desde epoch.
+     *
+     * <p>No reserva memoria: evita el {@link Instant} intermedio para que pueda usarse
+     * en la ruta de consulta sin asignaciones.</p>
+     *
+     * @param dateTime fecha a convertir. No puede ser {@code null}.
+     * @return milisegundos desde 1970-01-01T00:00:00Z
+     */
+    public static long of(LocalDateTime dateTime) {
+        return TimeUnit.SECONDS.toMillis(dateTime.toEpochSecond(ZoneOffset.UTC))
+                + TimeUnit.NANOSECONDS.toMillis(dateTime.getNano());
+    }
+
+    /**
+     * Convierte milisegundos desde epoch a fecha local (UTC).
+     *
+     * @param epochMillis milisegundos desde 1970-01-01T00:00:00Z
+     * @return fecha local equivalente
+     */
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,97 @@
+package com.price.manager.application.index;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Barrido de intervalos que resuelve el ganador de cada tramo sin solapamiento.
+ *
+ * <p>Trabaja sobre índices de fila para poder usarse tanto con objetos {@code Price}
+ * ({@link PriceTimeline}) como con columnas primitivas ({@link ColumnarPriceStore}).
+ * Se recorren los límites de todos los intervalos en orden manteniendo las filas activas
+ * en una cola de prioridad; los tramos consecutivos con el mismo ganador se fusionan y
+ * los huecos sin filas activas no generan tramo. Coste {@code O(n log n)}.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class IntervalSweep {
+
+    private IntervalSweep() {
+    }
+
+    /**
+     * Recorre las filas indicadas y emite los tramos resueltos en orden cronológico.
+     *
+     * @param starts        inicio (inclusive) de cada fila, en milisegundos
+     * @param endsExclusive fin (exclusive) de cada fila, en milisegundos
+     * @param rows          filas a considerar; deben cumplir {@code start < endExclusive}
+     * @param winnerFirst   orden de preferencia entre filas: negativo si la primera gana
+     * @param sink          receptor de los tramos {@code [from, to)} y su fila ganadora
+     */
+    static void sweep(long[] starts, long[] endsExclusive, int[] rows, Comparator<Integer> winnerFirst, SegmentSink sink) {
+        final Integer[] byStart = Arrays.stream(rows).boxed()
+                .sorted(Comparator.comparingLong(row -> starts[row]))
+                .toArray(Integer[]::new);
+
+        final long[] boundaries = new long[rows.length * 2];
+        for (int i = 0; i < rows.length; i++) {
+            boundaries[2 * i] = starts[rows[i]];
+            boundaries[2 * i + 1] = endsExclusive[rows[i]];
+        }
+        Arrays.sort(boundaries);
+
+        final PriorityQueue<Integer> active = new PriorityQueue<>(winnerFirst);
+        int next = 0;
+        long pendingFrom = 0;
+        long pendingTo = 0;
+        int pendingRow = -1;
+        for (int i = 0; i < boundaries.length - 1; i++) {
+            final long from = boundaries[i];
+            final long to = boundaries[i + 1];
+            if (from == to) {
+                continue;
+            }
+            while (next < byStart.length && starts[byStart[next]] <= from) {
+                active.add(byStart[next++]);
+            }
+            while (!active.isEmpty() && endsExclusive[active.peek()] <= from) {
+                active.poll();
+            }
+            if (active.isEmpty()) {
+                continue;
+            }
+            final int winner = active.peek();
+            if (winner == pendingRow && pendingTo == from) {
+                pendingTo = to;
+            } else {
+                if (pendingRow >= 0) {
+                    sink.accept(pendingFrom, pendingTo, pendingRow);
+                }
+                pendingFrom = from;
+                pendingTo = to;
+                pendingRow = winner;
+            }
+        }
+        if (pendingRow >= 0) {
+            sink.accept(pendingFrom, pendingTo, pendingRow);
+        }
+    }
+
+    /**
+     * Receptor de tramos resueltos.
+     */
+    @FunctionalInterface
+    interface SegmentSink {
+
+        /**
+         * Recibe un tramo resuelto.
+         *
+         * @param from inicio (inclusive) en milisegundos
+         * @param to   fin (exclusive) en milisegundos
+         * @param row  fila ganadora
+         */
+        void accept(long from, long to, int row);
+    }
+}
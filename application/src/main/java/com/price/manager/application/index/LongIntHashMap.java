@@ -0,0 +1,132 @@
+package com.price.manager.application.index;
+
+import java.util.Arrays;
+
+/**
+ * Mapa {@code long → int} de direccionamiento abierto sin objetos envoltorio.
+ *
+ * <p>Claves y valores se guardan en dos arrays paralelos con sondeo lineal, de modo que
+ * una búsqueda no crea {@code Long} ni entradas y recorre memoria contigua. Pensado para
+ * claves de {@link PackedKey}, que nunca son negativas: {@code -1} se reserva como marca
+ * de hueco libre.</p>
+ *
+ * <h3>Características:</h3>
+ * <ul>
+ *   <li>Capacidad potencia de dos con factor de carga máximo de 0,5</li>
+ *   <li>Sin borrado: los índices se reconstruyen completos, no se editan</li>
+ *   <li>No es thread-safe durante la carga; una vez publicado solo se lee</li>
+ * </ul>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LongIntHashMap {
+
+    /**
+     * Valor devuelto por {@link #get(long)} cuando la clave no existe.
+     */
+    public static final int MISSING = -1;
+
+    private static final long FREE = -1L;
+
+    private static final long GOLDEN_RATIO = 0x9E37_79B9_7F4A_7C15L;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final long[] keys;
+
+    private final int[] values;
+
+    private final int mask;
+
+    private final int shift;
+
+    private int size;
+
+    /**
+     * Crea un mapa dimensionado para el número de claves indicado.
+     *
+     * @param expectedSize número de claves que se van a insertar
+     */
+    public LongIntHashMap(int expectedSize) {
+        final int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.shift = Long.numberOfLeadingZeros(this.mask);
+        Arrays.fill(this.keys, FREE);
+    }
+
+    /**
+     * Inserta o sustituye el valor asociado a una clave.
+     *
+     * @param key   clave no negativa
+     * @param value valor a asociar
+     * @throws IllegalArgumentException si la clave es negativa
+     * @throws IllegalStateException    si se supera la capacidad reservada
+     */
+    public void put(long key, int value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Key must not be negative: " + key);
+        }
+        int slot = this.slot(key);
+        while (this.keys[slot] != FREE) {
+            if (this.keys[slot] == key) {
+                this.values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        if ((this.size + 1) * 2 > this.keys.length) {
+            throw new IllegalStateException("LongIntHashMap capacity exceeded: " + this.keys.length);
+        }
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.size++;
+    }
+
+    /**
+     * Devuelve el valor asociado a una clave.
+     *
+     * @param key clave a buscar
+     * @return valor asociado o {@link #MISSING}
+     */
+    public int get(long key) {
+        if (key < 0) {
+            return MISSING;
+        }
+        int slot = this.slot(key);
+        long current = this.keys[slot];
+        while (current != FREE) {
+            if (current == key) {
+                return this.values[slot];
+            }
+            slot = (slot + 1) & this.mask;
+            current = this.keys[slot];
+        }
+        return MISSING;
+    }
+
+    /**
+     * Número de claves almacenadas.
+     *
+     * @return claves del mapa
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Bytes ocupados por los arrays de claves y valores.
+     *
+     * @return huella aproximada en bytes
+     */
+    public long footprintBytes() {
+        return (long) this.keys.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    private int slot(long key) {
+        // Hash multiplicativo de Fibonacci: los bits altos del producto quedan bien repartidos
+        return (int) ((key * GOLDEN_RATIO) >>> this.shift) & this.mask;
+    }
+}
@@ -0,0 +1,66 @@
+package com.price.manager.application.index;
+
+/**
+ * Empaquetado de un par (brandId, productId) en un único {@code long}.
+ *
+ * <p>La marca ocupa los 32 bits altos y el producto los 32 bajos, lo que permite usar el par
+ * como clave de un mapa primitivo sin crear objetos. Rangos admitidos:</p>
+ * <ul>
+ *   <li><strong>brandId:</strong> {@code [0, 2^31)}, de modo que la clave nunca es negativa</li>
+ *   <li><strong>productId:</strong> {@code [0, 2^32)}</li>
+ * </ul>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see LongIntHashMap
+ */
+public final class PackedKey {
+
+    /**
+     * Valor devuelto cuando el par no es representable.
+     */
+    public static final long INVALID = -1L;
+
+    private static final long MAX_BRAND_ID = Integer.MAX_VALUE;
+
+    private static final long MAX_PRODUCT_ID = 0xFFFF_FFFFL;
+
+    private static final int BRAND_SHIFT = 32;
+
+    private PackedKey() {
+    }
+
+    /**
+     * Empaqueta el par indicado.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @return clave empaquetada o {@link #INVALID} si algún identificador está fuera de rango
+     */
+    public static long pack(long brandId, long productId) {
+        if (brandId < 0 || brandId > MAX_BRAND_ID || productId < 0 || productId > MAX_PRODUCT_ID) {
+            return INVALID;
+        }
+        return brandId << BRAND_SHIFT | productId;
+    }
+
+    /**
+     * Extrae la marca de una clave empaquetada.
+     *
+     * @param key clave válida
+     * @return identificador de la marca
+     */
+    public static long brandId(long key) {
+        return key >>> BRAND_SHIFT;
+    }
+
+    /**
+     * Extrae el producto de una clave empaquetada.
+     *
+     * @param key clave válida
+     * @return identificador del producto
+     */
+    public static long productId(long key) {
+        return key & MAX_PRODUCT_ID;
+    }
+}
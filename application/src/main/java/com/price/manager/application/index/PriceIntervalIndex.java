@@ -0,0 +1,180 @@
+package com.price.manager.application.index;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+/**
+ * Índice en memoria de intervalos de vigencia agrupados por marca y producto.
+ *
+ * <p>Cada par (brandId, productId) mantiene sus precios ordenados por {@code startDate}
+ * junto con el máximo acumulado de {@code endDate}. Una consulta localiza mediante
+ * búsqueda binaria el último precio que empieza antes de la fecha consultada y recorre
+ * hacia atrás únicamente mientras algún intervalo anterior pueda seguir vigente.</p>
+ *
+ * <p><strong>Reglas de Negocio:</strong> el ganador se elige con
+ * {@link Price#hasHigherPriorityThan(Price)}, por lo que el resultado coincide con
+ * {@code ORDER BY priority DESC, priceList DESC LIMIT 1} de la consulta JPA.</p>
+ *
+ * <p><strong>Concurrencia:</strong> la instancia es inmutable una vez construida y puede
+ * compartirse entre hilos sin sincronización. Para recargar datos se construye un índice
+ * nuevo y se sustituye la referencia.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see Price#isValidAt(LocalDateTime)
+ * @see Price#hasHigherPriorityThan(Price)
+ */
+public final class PriceIntervalIndex {
+
+    private static final PriceIntervalIndex EMPTY = new PriceIntervalIndex(Map.of(), 0);
+
+    private final Map<Key, Bucket> buckets;
+
+    private final int size;
+
+    private PriceIntervalIndex(Map<Key, Bucket> buckets, int size) {
+        this.buckets = buckets;
+        this.size = size;
+    }
+
+    /**
+     * Índice sin precios, útil como estado inicial antes de la primera carga.
+     *
+     * @return índice vacío compartido
+     */
+    public static PriceIntervalIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye el índice a partir de una colección de precios de dominio.
+     *
+     * <p>Los precios sin marca, producto o fechas se descartan porque nunca podrían
+     * resultar vigentes.</p>
+     *
+     * @param prices precios a indexar. No puede ser {@code null}.
+     * @return nuevo índice inmutable
+     */
+    public static PriceIntervalIndex of(Collection<Price> prices) {
+        final Map<Key, List<Price>> grouped = new HashMap<>();
+        int indexed = 0;
+        for (final Price price : prices) {
+            if (price.getBrandId() == null || price.getProductId() == null
+                    || price.getStartDate() == null || price.getEndDate() == null) {
+                continue;
+            }
+            grouped.computeIfAbsent(new Key(price.getBrandId(), price.getProductId()), k -> new ArrayList<>())
+                    .add(price);
+            indexed++;
+        }
+
+        final Map<Key, Bucket> buckets = new HashMap<>(grouped.size() * 4 / 3 + 1);
+        grouped.forEach((key, rows) -> buckets.put(key, Bucket.of(rows)));
+        return new PriceIntervalIndex(buckets, indexed);
+    }
+
+    /**
+     * Busca el precio aplicable según los criterios indicados.
+     *
+     * @param criteria criterios de búsqueda. No puede ser {@code null}.
+     * @return el precio ganador o {@link Optional#empty()} si no hay ninguno vigente
+     */
+    public Optional<Price> findBestPrice(PriceSearchCriteria criteria) {
+        if (criteria.queryDate() == null) {
+            return Optional.empty();
+        }
+        final Bucket bucket = this.buckets.get(new Key(criteria.brandId(), criteria.productId()));
+        return bucket == null ? Optional.empty() : Optional.ofNullable(bucket.find(criteria.queryDate()));
+    }
+
+    /**
+     * Número de precios indexados.
+     *
+     * @return filas indexadas
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Número de combinaciones (brandId, productId) distintas.
+     *
+     * @return productos indexados
+     */
+    public int productCount() {
+        return this.buckets.size();
+    }
+
+    private record Key(Long brandId, Long productId) {
+    }
+
+    /**
+     * Precios de un producto ordenados por inicio, con el fin máximo acumulado.
+     */
+    private static final class Bucket {
+
+        private final Price[] byStart;
+
+        private final LocalDateTime[] maxEndUpTo;
+
+        private Bucket(Price[] byStart, LocalDateTime[] maxEndUpTo) {
+            this.byStart = byStart;
+            this.maxEndUpTo = maxEndUpTo;
+        }
+
+        static Bucket of(List<Price> rows) {
+            final Price[] sorted = rows.toArray(new Price[0]);
+            Arrays.sort(sorted, Comparator.comparing(Price::getStartDate));
+
+            final LocalDateTime[] maxEnd = new LocalDateTime[sorted.length];
+            LocalDateTime running = null;
+            for (int i = 0; i < sorted.length; i++) {
+                final LocalDateTime end = sorted[i].getEndDate();
+                running = running == null || end.isAfter(running) ? end : running;
+                maxEnd[i] = running;
+            }
+            return new Bucket(sorted, maxEnd);
+        }
+
+        Price find(LocalDateTime queryDate) {
+            Price best = null;
+            for (int i = this.lastStartingAtOrBefore(queryDate); i >= 0; i--) {
+                // Ningún intervalo anterior termina después de la fecha: no quedan candidatos
+                if (this.maxEndUpTo[i].isBefore(queryDate)) {
+                    break;
+                }
+                final Price candidate = this.byStart[i];
+                if (!candidate.getEndDate().isBefore(queryDate) && candidate.hasHigherPriorityThan(best)) {
+                    best = candidate;
+                }
+            }
+            return best;
+        }
+
+        private int lastStartingAtOrBefore(LocalDateTime queryDate) {
+            int low = 0;
+            int high = this.byStart.length - 1;
+            int result = -1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (this.byStart[mid].getStartDate().isAfter(queryDate)) {
+                    high = mid - 1;
+                } else {
+                    result = mid;
+                    low = mid + 1;
+                }
+            }
+            return result;
+        }
+    }
+}
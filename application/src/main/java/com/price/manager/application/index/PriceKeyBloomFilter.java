@@ -0,0 +1,213 @@
+package com.price.manager.application.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom sobre los pares (brandId, productId) que tienen al menos una fila.
+ *
+ * <p>{@link #mightContain(long, long)} responde {@code false} solo si el par no se añadió
+ * nunca, así que una búsqueda rechazada por el filtro no necesita ir a la base de datos. Un
+ * {@code true} puede ser un falso positivo con probabilidad aproximada
+ * {@link #estimatedFalsePositiveRate()}.</p>
+ *
+ * <p>El tamaño se calcula al crearlo a partir del número de claves esperado y la tasa de falsos
+ * positivos objetivo ({@code m = -n·ln p / ln²2} bits y {@code k = m/n·ln 2} funciones hash),
+ * con un máximo de memoria: si el tamaño óptimo no cabe, se usa el máximo y la tasa real sube.
+ * Las posiciones se obtienen por doble hash de {@link PackedKey}, sin crear objetos.</p>
+ *
+ * <p>Admite lecturas y escrituras concurrentes: los bits se activan con {@code compareAndSet}
+ * sobre un {@link AtomicLongArray} y nunca se desactivan. Un par no representable como
+ * {@link PackedKey} no se guarda y siempre se da por presente.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PackedKey
+ */
+public final class PriceKeyBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * Tamaño máximo por el índice {@code int} del array de palabras.
+     */
+    private static final long MAX_BITS = (long) Integer.MAX_VALUE << WORD_SHIFT;
+
+    /**
+     * Constante de la segunda función hash (parte fraccionaria de la razón áurea).
+     */
+    private static final long SECOND_HASH_SEED = 0x9E37_79B9_7F4A_7C15L;
+
+    /**
+     * Desplazamiento y multiplicadores del mezclador final de MurmurHash3 ({@code fmix64}).
+     */
+    private static final int MIX_SHIFT = 33;
+
+    private static final long MIX_MULTIPLIER_1 = 0xFF51_AFD7_ED55_8CCDL;
+
+    private static final long MIX_MULTIPLIER_2 = 0xC4CE_B9FE_1A85_EC53L;
+
+    private final AtomicLongArray words;
+
+    private final long bitSize;
+
+    private final int hashFunctions;
+
+    private final LongAdder bitsSet = new LongAdder();
+
+    private final LongAdder keys = new LongAdder();
+
+    private PriceKeyBloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray((int) (bitSize >>> WORD_SHIFT));
+        this.bitSize = bitSize;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Crea un filtro vacío dimensionado para {@code expectedKeys} claves.
+     *
+     * @param expectedKeys      número de pares que se espera añadir; debe ser positivo
+     * @param falsePositiveRate tasa de falsos positivos objetivo, en {@code (0, 1)}
+     * @param maxBytes          memoria máxima del array de bits; debe ser al menos 8
+     * @return filtro vacío
+     * @throws IllegalArgumentException si algún parámetro está fuera de rango
+     */
+    public static PriceKeyBloomFilter create(long expectedKeys, double falsePositiveRate, long maxBytes) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("Expected keys must be positive: " + expectedKeys);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False-positive rate must be in (0, 1): " + falsePositiveRate);
+        }
+        if (maxBytes < Long.BYTES) {
+            throw new IllegalArgumentException("Bloom filter needs at least " + Long.BYTES + " bytes: " + maxBytes);
+        }
+        final double optimalBits = -expectedKeys * Math.log(falsePositiveRate) / (LN2 * LN2);
+        final long maxBits = (maxBytes > MAX_BITS / Byte.SIZE ? MAX_BITS : maxBytes * Byte.SIZE) & -Long.SIZE;
+        // Redondeado a palabras completas de 64 bits
+        final long wanted = (long) Math.min(Math.ceil(optimalBits), maxBits);
+        final long bitSize = Math.max(Long.SIZE, Math.min((wanted + Long.SIZE - 1) & -Long.SIZE, maxBits));
+        final int hashFunctions = (int) Math.max(1, Math.round((double) bitSize / expectedKeys * LN2));
+        return new PriceKeyBloomFilter(bitSize, hashFunctions);
+    }
+
+    /**
+     * Añade un par.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     */
+    public void put(long brandId, long productId) {
+        final long key = PackedKey.pack(brandId, productId);
+        if (key == PackedKey.INVALID) {
+            return;
+        }
+        final long h1 = mix(key);
+        final long h2 = mix(key ^ SECOND_HASH_SEED) | 1L;
+        boolean changed = false;
+        for (int i = 0; i < this.hashFunctions; i++) {
+            changed |= this.setBit(Long.remainderUnsigned(h1 + i * h2, this.bitSize));
+        }
+        if (changed) {
+            this.keys.increment();
+        }
+    }
+
+    /**
+     * Indica si el par puede tener filas.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @return {@code false} si el par no se añadió nunca; {@code true} si se añadió o es un
+     *         falso positivo
+     */
+    public boolean mightContain(long brandId, long productId) {
+        final long key = PackedKey.pack(brandId, productId);
+        if (key == PackedKey.INVALID) {
+            return true;
+        }
+        final long h1 = mix(key);
+        final long h2 = mix(key ^ SECOND_HASH_SEED) | 1L;
+        for (int i = 0; i < this.hashFunctions; i++) {
+            final long bit = Long.remainderUnsigned(h1 + i * h2, this.bitSize);
+            if ((this.words.get((int) (bit >>> WORD_SHIFT)) & 1L << bit) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tasa de falsos positivos con la ocupación actual: {@code (bits activos / m)^k}.
+     *
+     * @return probabilidad estimada de que un par ausente pase el filtro
+     */
+    public double estimatedFalsePositiveRate() {
+        return Math.pow((double) this.bitsSet.sum() / this.bitSize, this.hashFunctions);
+    }
+
+    /**
+     * Número aproximado de pares distintos añadidos (no cuenta los que ya parecían presentes).
+     *
+     * @return pares añadidos
+     */
+    public long approximateKeys() {
+        return this.keys.sum();
+    }
+
+    /**
+     * Tamaño del array de bits.
+     *
+     * @return bits del filtro
+     */
+    public long bitSize() {
+        return this.bitSize;
+    }
+
+    /**
+     * Memoria ocupada por el array de bits.
+     *
+     * @return bytes del filtro
+     */
+    public long sizeInBytes() {
+        return this.bitSize / Byte.SIZE;
+    }
+
+    /**
+     * Número de funciones hash por clave.
+     *
+     * @return funciones hash
+     */
+    public int hashFunctions() {
+        return this.hashFunctions;
+    }
+
+    private boolean setBit(long bit) {
+        final int word = (int) (bit >>> WORD_SHIFT);
+        final long mask = 1L << bit;
+        long current = this.words.get(word);
+        while ((current & mask) == 0) {
+            if (this.words.compareAndSet(word, current, current | mask)) {
+                this.bitsSet.increment();
+                return true;
+            }
+            current = this.words.get(word);
+        }
+        return false;
+    }
+
+    /**
+     * Mezclador final de MurmurHash3 de 64 bits.
+     */
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> MIX_SHIFT;
+        h *= MIX_MULTIPLIER_1;
+        h ^= h >>> MIX_SHIFT;
+        h *= MIX_MULTIPLIER_2;
+        h ^= h >>> MIX_SHIFT;
+        return h;
+    }
+}
@@ -0,0 +1,409 @@
+package com.price.manager.application.index;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Instantánea binaria del catálogo de precios servida mediante {@link FileChannel#map}.
+ *
+ * <p>El fichero se escribe una vez con {@link #write(Path, Collection)} y se abre con
+ * {@link #open(Path)} sin leer ni deserializar su contenido: las consultas leen directamente
+ * de la página mapeada, por lo que el arranque no depende del número de filas y varias JVM
+ * del mismo host comparten la caché de páginas del sistema operativo.</p>
+ *
+ * <h3>Formato (big-endian, registros de ancho fijo):</h3>
+ * <pre>
+ * cabecera   64 B   magic "PRCSNAP1", versión, nº de registros, productos, segmentos y monedas
+ * productos  24 B   clave empaquetada, primer registro, nº registros, primer segmento, nº segmentos
+ * registros  56 B   brandId, productId, start, end (inclusive), priceList, importe sin escala,
+ *                   prioridad, escala, moneda; ordenados por brand/product/start
+ * segmentos  24 B   inicio, fin (exclusive), registro ganador
+ * monedas     8 B   código ASCII rellenado con ceros
+ * </pre>
+ *
+ * <p>Los productos están ordenados por clave ({@link PackedKey}), así que una consulta son
+ * dos búsquedas binarias: producto y segmento. El tamaño máximo es el de un único
+ * {@link MappedByteBuffer} (2 GiB, unos 30 millones de registros).</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see IntervalSweep
+ */
+public final class PriceSnapshot {
+
+    /**
+     * Valor devuelto por {@link #find(long, long, long)} cuando no hay precio vigente.
+     */
+    public static final int NOT_FOUND = -1;
+
+    /**
+     * Tamaño de un registro de precio en bytes.
+     */
+    public static final int RECORD_SIZE = 56;
+
+    private static final long MAGIC = 0x5052_4353_4E41_5031L;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+
+    private static final int PRODUCT_SIZE = 24;
+
+    private static final int SEGMENT_SIZE = 24;
+
+    private static final int CURRENCY_SIZE = 8;
+
+    private static final int MAX_CURRENCIES = 256;
+
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final int RECORD_PRICE_LIST = 32;
+
+    private static final int RECORD_UNSCALED = 40;
+
+    private static final int RECORD_PRIORITY = 48;
+
+    private static final int RECORD_SCALE = 52;
+
+    private static final int RECORD_CURRENCY = 53;
+
+    private static final int HEADER_RECORDS = 12;
+
+    private static final int HEADER_PRODUCTS = 16;
+
+    private static final int HEADER_SEGMENTS = 20;
+
+    private static final int HEADER_CURRENCIES = 24;
+
+    private static final int PRODUCT_FIRST_SEGMENT = 16;
+
+    private static final int PRODUCT_SEGMENT_COUNT = 20;
+
+    private static final int SEGMENT_ROW = 16;
+
+    private final ByteBuffer buffer;
+
+    private final int productCount;
+
+    private final int recordCount;
+
+    private final int segmentCount;
+
+    private final int productsOffset;
+
+    private final int recordsOffset;
+
+    private final int segmentsOffset;
+
+    private final String[] currencyCodes;
+
+    private PriceSnapshot(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getLong(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a price snapshot");
+        }
+        if (buffer.getInt(Long.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported price snapshot version: " + buffer.getInt(Long.BYTES));
+        }
+        this.buffer = buffer;
+        this.recordCount = buffer.getInt(HEADER_RECORDS);
+        this.productCount = buffer.getInt(HEADER_PRODUCTS);
+        this.segmentCount = buffer.getInt(HEADER_SEGMENTS);
+        final int currencyCount = buffer.getInt(HEADER_CURRENCIES);
+        this.productsOffset = HEADER_SIZE;
+        this.recordsOffset = this.productsOffset + this.productCount * PRODUCT_SIZE;
+        this.segmentsOffset = this.recordsOffset + this.recordCount * RECORD_SIZE;
+        final int currenciesOffset = this.segmentsOffset + this.segmentCount * SEGMENT_SIZE;
+        if (buffer.capacity() != currenciesOffset + currencyCount * CURRENCY_SIZE) {
+            throw new IllegalArgumentException("Truncated or corrupt price snapshot");
+        }
+        this.currencyCodes = new String[currencyCount];
+        for (int i = 0; i < currencyCount; i++) {
+            final byte[] code = new byte[CURRENCY_SIZE];
+            buffer.get(currenciesOffset + i * CURRENCY_SIZE, code);
+            this.currencyCodes[i] = new String(code, StandardCharsets.US_ASCII).trim();
+        }
+    }
+
+    /**
+     * Abre una instantánea mapeándola en memoria en modo solo lectura.
+     *
+     * @param path fichero escrito con {@link #write(Path, Collection)}
+     * @return instantánea lista para consultar
+     * @throws UncheckedIOException     si el fichero no puede abrirse o mapearse
+     * @throws IllegalArgumentException si el fichero no es una instantánea válida
+     */
+    public static PriceSnapshot open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Price snapshot larger than 2 GiB: " + path);
+            }
+            // El mapeo sigue siendo válido después de cerrar el canal
+            return new PriceSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map price snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Construye una instantánea en memoria (sin fichero), con el mismo formato.
+     *
+     * @param prices filas a incluir
+     * @return instantánea respaldada por un buffer en heap
+     */
+    public static PriceSnapshot of(Collection<Price> prices) {
+        return new PriceSnapshot(encode(prices));
+    }
+
+    /**
+     * Escribe una instantánea de forma atómica (fichero temporal y renombrado).
+     *
+     * @param path   destino
+     * @param prices filas a incluir; las incompletas o con fechas invertidas se ignoran
+     * @return número de registros escritos
+     * @throws UncheckedIOException si el fichero no puede escribirse
+     */
+    public static int write(Path path, Collection<Price> prices) {
+        final ByteBuffer encoded = encode(prices);
+        final Path absolute = path.toAbsolutePath();
+        try {
+            Files.createDirectories(absolute.getParent());
+            final Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (encoded.hasRemaining()) {
+                    channel.write(encoded);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write price snapshot " + path, e);
+        }
+        return encoded.getInt(HEADER_RECORDS);
+    }
+
+    /**
+     * Localiza el registro ganador sin crear objetos.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param epochMillis instante de consulta en milisegundos desde epoch (UTC)
+     * @return índice del registro ganador o {@link #NOT_FOUND}
+     */
+    public int find(long brandId, long productId, long epochMillis) {
+        final int product = this.product(PackedKey.pack(brandId, productId));
+        if (product < 0) {
+            return NOT_FOUND;
+        }
+        final int entry = this.productsOffset + product * PRODUCT_SIZE;
+        int low = this.buffer.getInt(entry + PRODUCT_FIRST_SEGMENT);
+        int high = low + this.buffer.getInt(entry + PRODUCT_SEGMENT_COUNT) - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int segment = this.segmentsOffset + mid * SEGMENT_SIZE;
+            if (this.buffer.getLong(segment) > epochMillis) {
+                high = mid - 1;
+            } else if (this.buffer.getLong(segment + Long.BYTES) <= epochMillis) {
+                low = mid + 1;
+            } else {
+                return this.buffer.getInt(segment + SEGMENT_ROW);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Busca el precio vigente y lo materializa.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param epochMillis instante de consulta en milisegundos desde epoch (UTC)
+     * @return precio ganador o {@code null} si no hay ninguno vigente
+     */
+    public Price findBestPrice(long brandId, long productId, long epochMillis) {
+        final int record = this.find(brandId, productId, epochMillis);
+        return record == NOT_FOUND ? null : this.materialize(record);
+    }
+
+    /**
+     * Construye el {@link Price} de un registro.
+     *
+     * @param record índice del registro
+     * @return precio de dominio
+     */
+    public Price materialize(int record) {
+        final int at = this.recordsOffset + record * RECORD_SIZE;
+        return Price.builder()
+                .brandId(this.buffer.getLong(at))
+                .productId(this.buffer.getLong(at + Long.BYTES))
+                .startDate(EpochMillis.toLocalDateTime(this.buffer.getLong(at + Long.BYTES * 2)))
+                .endDate(EpochMillis.toLocalDateTime(this.buffer.getLong(at + Long.BYTES * 3)))
+                .priceList(this.buffer.getLong(at + RECORD_PRICE_LIST))
+                .price(BigDecimal.valueOf(this.buffer.getLong(at + RECORD_UNSCALED), this.buffer.get(at + RECORD_SCALE)))
+                .priority(this.buffer.getInt(at + RECORD_PRIORITY))
+                .curr(this.currencyCodes[this.buffer.get(at + RECORD_CURRENCY) & BYTE_MASK])
+                .build();
+    }
+
+    /**
+     * Número de registros de la instantánea.
+     *
+     * @return registros
+     */
+    public int recordCount() {
+        return this.recordCount;
+    }
+
+    /**
+     * Número de productos distintos.
+     *
+     * @return productos
+     */
+    public int productCount() {
+        return this.productCount;
+    }
+
+    /**
+     * Número de segmentos resueltos.
+     *
+     * @return segmentos
+     */
+    public int segmentCount() {
+        return this.segmentCount;
+    }
+
+    /**
+     * Tamaño total de la instantánea.
+     *
+     * @return bytes
+     */
+    public int sizeBytes() {
+        return this.buffer.capacity();
+    }
+
+    private int product(long key) {
+        if (key == PackedKey.INVALID) {
+            return NOT_FOUND;
+        }
+        int low = 0;
+        int high = this.productCount - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final long current = this.buffer.getLong(this.productsOffset + mid * PRODUCT_SIZE);
+            if (current < key) {
+                low = mid + 1;
+            } else if (current > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private static ByteBuffer encode(Collection<Price> prices) {
+        final List<Price> rows = prices.stream()
+                .filter(PriceSnapshot::isEncodable)
+                .sorted(Comparator.<Price>comparingLong(p -> PackedKey.pack(p.getBrandId(), p.getProductId()))
+                        .thenComparing(Price::getStartDate))
+                .toList();
+        final Map<String, Integer> currencies = new LinkedHashMap<>();
+        rows.forEach(p -> currencies.putIfAbsent(p.getCurr(), currencies.size()));
+        if (currencies.size() > MAX_CURRENCIES) {
+            throw new IllegalArgumentException("Too many distinct currencies: " + currencies.size());
+        }
+
+        final long[] starts = new long[rows.size()];
+        final long[] endsExclusive = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            starts[i] = EpochMillis.of(rows.get(i).getStartDate());
+            endsExclusive[i] = EpochMillis.of(rows.get(i).getEndDate()) + 1;
+        }
+        final List<int[]> products = new ArrayList<>();
+        final List<long[]> segments = new ArrayList<>();
+        int first = 0;
+        while (first < rows.size()) {
+            final long key = PackedKey.pack(rows.get(first).getBrandId(), rows.get(first).getProductId());
+            int last = first;
+            while (last < rows.size() && PackedKey.pack(rows.get(last).getBrandId(), rows.get(last).getProductId()) == key) {
+                last++;
+            }
+            final int firstSegment = segments.size();
+            IntervalSweep.sweep(starts, endsExclusive, IntStream.range(first, last).toArray(),
+                    (a, b) -> PriceTimeline.WINNER_FIRST.compare(rows.get(a), rows.get(b)),
+                    (from, to, row) -> segments.add(new long[] {from, to, row}));
+            products.add(new int[] {first, last - first, firstSegment, segments.size() - firstSegment});
+            first = last;
+        }
+
+        final long size = HEADER_SIZE + (long) products.size() * PRODUCT_SIZE + (long) rows.size() * RECORD_SIZE
+                + (long) segments.size() * SEGMENT_SIZE + (long) currencies.size() * CURRENCY_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Price snapshot would exceed 2 GiB: " + size + " bytes");
+        }
+        final ByteBuffer out = ByteBuffer.allocate((int) size);
+        out.putLong(MAGIC).putInt(VERSION).putInt(rows.size()).putInt(products.size())
+                .putInt(segments.size()).putInt(currencies.size());
+        out.position(HEADER_SIZE);
+        for (final int[] product : products) {
+            final Price row = rows.get(product[0]);
+            out.putLong(PackedKey.pack(row.getBrandId(), row.getProductId()))
+                    .putInt(product[0]).putInt(product[1]).putInt(product[2]).putInt(product[3]);
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            final Price row = rows.get(i);
+            out.putLong(row.getBrandId()).putLong(row.getProductId())
+                    .putLong(starts[i]).putLong(endsExclusive[i] - 1)
+                    .putLong(row.getPriceList()).putLong(row.getPrice().unscaledValue().longValueExact())
+                    .putInt(row.getPriority()).put((byte) row.getPrice().scale()).put(currencies.get(row.getCurr()).byteValue())
+                    .putShort((short) 0);
+        }
+        for (final long[] segment : segments) {
+            out.putLong(segment[0]).putLong(segment[1]).putInt((int) segment[2]).putInt(0);
+        }
+        currencies.keySet().forEach(code -> out.put(paddedAscii(code)));
+        return out.flip();
+    }
+
+    private static boolean isEncodable(Price price) {
+        if (price.getBrandId() == null || price.getProductId() == null || price.getPriceList() == null
+                || price.getPriority() == null || price.getPrice() == null || price.getCurr() == null
+                || price.getStartDate() == null || price.getEndDate() == null
+                || price.getStartDate().isAfter(price.getEndDate())) {
+            return false;
+        }
+        if (PackedKey.pack(price.getBrandId(), price.getProductId()) == PackedKey.INVALID
+                || price.getPrice().scale() < Byte.MIN_VALUE || price.getPrice().scale() > Byte.MAX_VALUE
+                || price.getPrice().unscaledValue().bitLength() >= Long.SIZE) {
+            throw new IllegalArgumentException("Price not representable in snapshot: priceList " + price.getPriceList());
+        }
+        return true;
+    }
+
+    private static byte[] paddedAscii(String code) {
+        final byte[] ascii = code.getBytes(StandardCharsets.US_ASCII);
+        if (ascii.length > CURRENCY_SIZE) {
+            throw new IllegalArgumentException("Currency code too long: " + code);
+        }
+        final byte[] padded = new byte[CURRENCY_SIZE];
+        System.arraycopy(ascii, 0, padded, 0, ascii.length);
+        return padded;
+    }
+}
@@ -0,0 +1,171 @@
+package com.price.manager.application.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Línea temporal de precio efectivo de un único producto.
+ *
+ * <p>Aplana las filas de PRICES de un par (brandId, productId), posiblemente solapadas y con
+ * distintas prioridades, en una secuencia ordenada de segmentos sin solapamiento. Cada segmento
+ * {@code [start, end)} (milisegundos desde epoch, UTC) ya tiene resuelto su precio ganador según
+ * {@link Price#hasHigherPriorityThan(Price)}, de modo que una consulta se reduce a una
+ * búsqueda binaria sobre la fecha.</p>
+ *
+ * <h3>Ejemplo (datos de ejemplo):</h3>
+ * <pre>
+ * 2020-06-14 00:00 ─ 15:00           → priceList 1 (35.50)
+ * 2020-06-14 15:00 ─ 18:30:00.001    → priceList 2 (25.45)
+ * 2020-06-14 18:30:00.001 ─ 06-15    → priceList 1 (35.50)
+ * ...
+ * </pre>
+ *
+ * <p>Los huecos sin precio vigente no generan segmento. La instancia es inmutable.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceTimelineEngine
+ */
+public final class PriceTimeline {
+
+    /**
+     * Orden de preferencia: primero el precio que gana según las reglas de negocio.
+     */
+    static final Comparator<Price> WINNER_FIRST = (a, b) -> {
+        if (a.hasHigherPriorityThan(b)) {
+            return -1;
+        }
+        return b.hasHigherPriorityThan(a) ? 1 : 0;
+    };
+
+    private final long[] starts;
+
+    private final long[] ends;
+
+    private final Price[] winners;
+
+    private PriceTimeline(long[] starts, long[] ends, Price[] winners) {
+        this.starts = starts;
+        this.ends = ends;
+        this.winners = winners;
+    }
+
+    /**
+     * Construye la línea temporal a partir de las filas de un mismo producto.
+     *
+     * <p>Algoritmo de barrido ({@link IntervalSweep}): se recorren los límites de todos los
+     * intervalos en orden, manteniendo en una cola de prioridad los precios activos.
+     * Coste {@code O(n log n)}.</p>
+     *
+     * @param prices filas de un único par (brandId, productId). Las filas sin fechas se ignoran.
+     * @return línea temporal resuelta
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        final Price[] rows = prices.stream()
+                .filter(p -> p.getStartDate() != null && p.getEndDate() != null)
+                .filter(p -> !p.getStartDate().isAfter(p.getEndDate()))
+                .toArray(Price[]::new);
+        final long[] rowStarts = new long[rows.length];
+        final long[] rowEnds = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            rowStarts[i] = EpochMillis.of(rows[i].getStartDate());
+            // endDate es inclusive: el precio sigue vigente durante su último milisegundo
+            rowEnds[i] = EpochMillis.of(rows[i].getEndDate()) + 1;
+        }
+
+        final List<long[]> bounds = new ArrayList<>();
+        final List<Price> resolved = new ArrayList<>();
+        IntervalSweep.sweep(rowStarts, rowEnds, IntStream.range(0, rows.length).toArray(),
+                (a, b) -> WINNER_FIRST.compare(rows[a], rows[b]),
+                (from, to, row) -> {
+                    bounds.add(new long[] {from, to});
+                    resolved.add(rows[row]);
+                });
+
+        final int size = resolved.size();
+        final long[] starts = new long[size];
+        final long[] ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = bounds.get(i)[0];
+            ends[i] = bounds.get(i)[1];
+        }
+        return new PriceTimeline(starts, ends, resolved.toArray(new Price[0]));
+    }
+
+    /**
+     * Devuelve el índice del segmento que contiene el instante indicado.
+     *
+     * @param epochMillis instante de consulta en milisegundos desde epoch (UTC)
+     * @return índice del segmento o {@code -1} si no hay precio vigente
+     */
+    public int segmentAt(long epochMillis) {
+        int low = 0;
+        int high = this.starts.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (this.starts[mid] > epochMillis) {
+                high = mid - 1;
+            } else if (this.ends[mid] <= epochMillis) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Devuelve el precio vigente en el instante indicado.
+     *
+     * @param epochMillis instante de consulta en milisegundos desde epoch (UTC)
+     * @return precio ganador o {@code null} si no hay ninguno vigente
+     */
+    public Price priceAt(long epochMillis) {
+        final int segment = this.segmentAt(epochMillis);
+        return segment < 0 ? null : this.winners[segment];
+    }
+
+    /**
+     * Número de segmentos resueltos.
+     *
+     * @return segmentos de la línea temporal
+     */
+    public int size() {
+        return this.starts.length;
+    }
+
+    /**
+     * Inicio (inclusive) del segmento indicado.
+     *
+     * @param segment índice del segmento
+     * @return milisegundos desde epoch
+     */
+    public long start(int segment) {
+        return this.starts[segment];
+    }
+
+    /**
+     * Fin (exclusive) del segmento indicado.
+     *
+     * @param segment índice del segmento
+     * @return milisegundos desde epoch
+     */
+    public long end(int segment) {
+        return this.ends[segment];
+    }
+
+    /**
+     * Precio ganador del segmento indicado.
+     *
+     * @param segment índice del segmento
+     * @return precio ganador
+     */
+    public Price winner(int segment) {
+        return this.winners[segment];
+    }
+}
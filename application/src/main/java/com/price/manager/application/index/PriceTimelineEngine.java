@@ -0,0 +1,117 @@
+package com.price.manager.application.index;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+/**
+ * Motor de consulta basado en líneas temporales precalculadas por producto.
+ *
+ * <p>Mantiene una {@link PriceTimeline} por cada par (brandId, productId). Las consultas
+ * no ordenan ni comparan candidatos: localizan el segmento vigente con una búsqueda binaria
+ * y devuelven su ganador, resuelto de antemano con {@link Price#hasHigherPriorityThan(Price)}.</p>
+ *
+ * <h3>Actualizaciones:</h3>
+ * <ul>
+ *   <li>{@link #load(Collection)}: sustituye el catálogo completo</li>
+ *   <li>{@link #rebuild(Long, Long, Collection)}: recalcula un único producto cuando
+ *       cambian sus filas, sin tocar el resto</li>
+ * </ul>
+ *
+ * <p><strong>Concurrencia:</strong> las líneas temporales son inmutables y se publican a
+ * través de un {@link ConcurrentHashMap}; una consulta concurrente con un
+ * {@code rebuild} ve la versión anterior o la nueva, nunca un estado intermedio.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceTimeline
+ */
+public final class PriceTimelineEngine {
+
+    private volatile Map<Key, PriceTimeline> timelines = new ConcurrentHashMap<>();
+
+    /**
+     * Sustituye el catálogo completo por las filas indicadas.
+     *
+     * @param prices todas las filas de PRICES. No puede ser {@code null}.
+     */
+    public void load(Collection<Price> prices) {
+        final Map<Key, List<Price>> grouped = prices.stream()
+                .filter(p -> p.getBrandId() != null && p.getProductId() != null)
+                .collect(Collectors.groupingBy(p -> new Key(p.getBrandId(), p.getProductId())));
+
+        final Map<Key, PriceTimeline> rebuilt = new ConcurrentHashMap<>(grouped.size() * 4 / 3 + 1);
+        grouped.forEach((key, rows) -> rebuilt.put(key, PriceTimeline.of(rows)));
+        this.timelines = rebuilt;
+    }
+
+    /**
+     * Recalcula la línea temporal de un único producto.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @param prices    filas actuales del producto; si está vacía el producto se elimina
+     */
+    public void rebuild(Long brandId, Long productId, Collection<Price> prices) {
+        final Key key = new Key(brandId, productId);
+        if (prices.isEmpty()) {
+            this.timelines.remove(key);
+        } else {
+            this.timelines.put(key, PriceTimeline.of(prices));
+        }
+    }
+
+    /**
+     * Busca el precio aplicable según los criterios indicados.
+     *
+     * @param criteria criterios de búsqueda. No puede ser {@code null}.
+     * @return el precio ganador o {@link Optional#empty()} si no hay ninguno vigente
+     */
+    public Optional<Price> findBestPrice(PriceSearchCriteria criteria) {
+        if (criteria.queryDate() == null) {
+            return Optional.empty();
+        }
+        final PriceTimeline timeline = this.timelines.get(new Key(criteria.brandId(), criteria.productId()));
+        return timeline == null
+                ? Optional.empty()
+                : Optional.ofNullable(timeline.priceAt(EpochMillis.of(criteria.queryDate())));
+    }
+
+    /**
+     * Devuelve la línea temporal de un producto.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @return línea temporal o {@link Optional#empty()} si el producto no tiene precios
+     */
+    public Optional<PriceTimeline> timeline(Long brandId, Long productId) {
+        return Optional.ofNullable(this.timelines.get(new Key(brandId, productId)));
+    }
+
+    /**
+     * Número de productos con línea temporal.
+     *
+     * @return productos cargados
+     */
+    public int productCount() {
+        return this.timelines.size();
+    }
+
+    /**
+     * Número total de segmentos de todas las líneas temporales.
+     *
+     * @return segmentos cargados
+     */
+    public long segmentCount() {
+        return this.timelines.values().stream().mapToLong(PriceTimeline::size).sum();
+    }
+
+    private record Key(Long brandId, Long productId) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.price.manager.application.index;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Índice de precios con ruta de consulta primitiva y sin asignaciones.
+ *
+ * <p>Recibe {@code (long brandId, long productId, long epochMillis)} y no crea ningún objeto
+ * por consulta: el par se empaqueta en un {@code long} ({@link PackedKey}), se localiza el
+ * producto en un {@link LongIntHashMap} y se hace una búsqueda binaria sobre los segmentos
+ * ya resueltos de su {@link PriceTimeline}. El resultado es la posición del segmento ganador
+ * o, con {@link #findBestPrice(long, long, long)}, la instancia de {@link Price} creada
+ * durante la carga.</p>
+ *
+ * <h3>Disposición en memoria:</h3>
+ * <ul>
+ *   <li>{@code starts}/{@code ends}: límites de todos los segmentos, producto a producto</li>
+ *   <li>{@code offsets}: primer segmento de cada producto (ordinal del mapa)</li>
+ *   <li>{@code winners}: precio ganador de cada segmento</li>
+ * </ul>
+ *
+ * <p>La instancia es inmutable; para actualizarla se construye una nueva y se publica.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceTimeline
+ * @see PackedKey
+ */
+public final class PrimitivePriceIndex {
+
+    /**
+     * Valor devuelto por {@link #find(long, long, long)} cuando no hay precio vigente.
+     */
+    public static final int NOT_FOUND = -1;
+
+    private static final PrimitivePriceIndex EMPTY = of(List.of());
+
+    private final LongIntHashMap products;
+
+    private final int[] offsets;
+
+    private final long[] starts;
+
+    private final long[] ends;
+
+    private final Price[] winners;
+
+    private PrimitivePriceIndex(LongIntHashMap products, int[] offsets, long[] starts, long[] ends, Price[] winners) {
+        this.products = products;
+        this.offsets = offsets;
+        this.starts = starts;
+        this.ends = ends;
+        this.winners = winners;
+    }
+
+    /**
+     * Índice vacío.
+     *
+     * @return índice sin precios
+     */
+    public static PrimitivePriceIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye el índice a partir de todas las filas de PRICES.
+     *
+     * @param prices filas a indexar. No puede ser {@code null}.
+     * @return índice inmutable
+     * @throws IllegalArgumentException si algún identificador no es representable con {@link PackedKey}
+     */
+    public static PrimitivePriceIndex of(Collection<Price> prices) {
+        final Map<Long, List<Price>> grouped = prices.stream()
+                .filter(p -> p.getBrandId() != null && p.getProductId() != null)
+                .collect(Collectors.groupingBy(p -> packOrFail(p.getBrandId(), p.getProductId())));
+
+        final LongIntHashMap products = new LongIntHashMap(grouped.size());
+        final PriceTimeline[] timelines = new PriceTimeline[grouped.size()];
+        final int[] offsets = new int[grouped.size() + 1];
+        int ordinal = 0;
+        for (final Map.Entry<Long, List<Price>> entry : grouped.entrySet()) {
+            timelines[ordinal] = PriceTimeline.of(entry.getValue());
+            offsets[ordinal + 1] = offsets[ordinal] + timelines[ordinal].size();
+            products.put(entry.getKey(), ordinal);
+            ordinal++;
+        }
+
+        final int segments = offsets[ordinal];
+        final long[] starts = new long[segments];
+        final long[] ends = new long[segments];
+        final Price[] winners = new Price[segments];
+        for (int p = 0; p < timelines.length; p++) {
+            for (int s = 0; s < timelines[p].size(); s++) {
+                final int at = offsets[p] + s;
+                starts[at] = timelines[p].start(s);
+                ends[at] = timelines[p].end(s);
+                winners[at] = timelines[p].winner(s);
+            }
+        }
+        return new PrimitivePriceIndex(products, offsets, starts, ends, winners);
+    }
+
+    /**
+     * Localiza el segmento ganador sin crear objetos.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param epochMillis instante de consulta en milisegundos desde epoch (UTC)
+     * @return posición del segmento, utilizable con {@link #winner(int)}, o {@link #NOT_FOUND}
+     */
+    public int find(long brandId, long productId, long epochMillis) {
+        final int product = this.products.get(PackedKey.pack(brandId, productId));
+        if (product == LongIntHashMap.MISSING) {
+            return NOT_FOUND;
+        }
+        int low = this.offsets[product];
+        int high = this.offsets[product + 1] - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (this.starts[mid] > epochMillis) {
+                high = mid - 1;
+            } else if (this.ends[mid] <= epochMillis) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Devuelve el precio vigente sin crear objetos.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param epochMillis instante de consulta en milisegundos desde epoch (UTC)
+     * @return precio ganador (instancia compartida creada en la carga) o {@code null}
+     */
+    public Price findBestPrice(long brandId, long productId, long epochMillis) {
+        final int segment = this.find(brandId, productId, epochMillis);
+        return segment == NOT_FOUND ? null : this.winners[segment];
+    }
+
+    /**
+     * Precio ganador de un segmento devuelto por {@link #find(long, long, long)}.
+     *
+     * @param segment posición del segmento
+     * @return precio ganador
+     */
+    public Price winner(int segment) {
+        return this.winners[segment];
+    }
+
+    /**
+     * Número de productos indexados.
+     *
+     * @return productos distintos
+     */
+    public int productCount() {
+        return this.products.size();
+    }
+
+    /**
+     * Número total de segmentos resueltos.
+     *
+     * @return segmentos del índice
+     */
+    public int segmentCount() {
+        return this.starts.length;
+    }
+
+    private static long packOrFail(long brandId, long productId) {
+        final long key = PackedKey.pack(brandId, productId);
+        if (key == PackedKey.INVALID) {
+            throw new IllegalArgumentException("Brand/product out of packable range: " + brandId + "/" + productId);
+        }
+        return key;
+    }
+}
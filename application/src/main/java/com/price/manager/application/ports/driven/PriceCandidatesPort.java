@@ -0,0 +1,29 @@
+package com.price.manager.application.ports.driven;
+
+import java.util.List;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Capacidad opcional de un {@link PriceRepositoryPort}: devolver todas las filas candidatas
+ * de un producto, sin filtrar por fecha.
+ *
+ * <p>Permite a los decoradores de caché guardar el conjunto completo de un par
+ * (brandId, productId) y resolver la fecha en memoria, ya que las fechas de consulta casi
+ * nunca se repiten y no sirven como clave de caché.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.price.manager.application.decorators.PriceCandidateCacheDecorator
+ */
+public interface PriceCandidatesPort extends PriceRepositoryPort {
+
+    /**
+     * Devuelve todas las filas de precio de un producto.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @return filas del producto, en cualquier orden; vacía si no hay ninguna
+     */
+    List<Price> findAllByBrandAndProduct(Long brandId, Long productId);
+}
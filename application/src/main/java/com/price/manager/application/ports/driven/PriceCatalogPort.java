@@ -0,0 +1,32 @@
+package com.price.manager.application.ports.driven;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Puerto de salida para recorrer el catálogo de precios de una marca sin cargarlo en memoria.
+ *
+ * <p>Los adaptadores entregan las filas de una en una (por ejemplo con un cursor JDBC), de modo
+ * que el consumo de memoria no depende del tamaño del catálogo.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.price.manager.application.services.PriceCatalogUseCase
+ */
+public interface PriceCatalogPort {
+
+    /**
+     * Recorre las filas de precio de una marca vigentes en un instante.
+     *
+     * <p>Las filas de un mismo producto se entregan consecutivas; dentro de cada producto, en
+     * orden de prioridad descendente y lista de precios descendente.</p>
+     *
+     * @param brandId  identificador de la marca
+     * @param at       instante de vigencia
+     * @param consumer receptor de cada fila; no debe retenerlas si quiere memoria constante
+     * @return número de filas entregadas
+     */
+    long forEachValidAt(Long brandId, LocalDateTime at, Consumer<Price> consumer);
+}
@@ -0,0 +1,25 @@
+package com.price.manager.application.ports.driven;
+
+import java.util.List;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Puerto de salida para escribir precios nuevos de forma masiva.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.price.manager.application.services.PriceIngestUseCase
+ */
+public interface PriceIngestPort {
+
+    /**
+     * Inserta un bloque de precios en una única transacción.
+     *
+     * <p>Los precios ya están validados. El identificador ({@code priceList}) lo asigna el
+     * adaptador, así que el valor recibido se ignora.</p>
+     *
+     * @param prices bloque de precios a insertar
+     */
+    void saveAll(List<Price> prices);
+}
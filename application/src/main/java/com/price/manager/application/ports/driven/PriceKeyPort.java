@@ -0,0 +1,53 @@
+package com.price.manager.application.ports.driven;
+
+/**
+ * Puerto de salida para recorrer los pares (brandId, productId) que tienen algún precio.
+ *
+ * <p>Con él se construye al arrancar el filtro de búsquedas negativas
+ * ({@link com.price.manager.application.index.PriceKeyBloomFilter}). Los pares se entregan
+ * como {@code long}, sin crear objetos por fila.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface PriceKeyPort {
+
+    /**
+     * Cuenta los pares distintos.
+     *
+     * @return número de pares (brandId, productId) con al menos una fila
+     */
+    long countKeys();
+
+    /**
+     * Recorre los pares distintos, cada uno una sola vez y en cualquier orden.
+     *
+     * @param consumer receptor de cada par
+     * @return número de pares entregados
+     */
+    long forEachKey(KeyConsumer consumer);
+
+    /**
+     * Recorre como mucho {@code limit} pares distintos, en cualquier orden.
+     *
+     * @param limit    número máximo de pares
+     * @param consumer receptor de cada par
+     * @return número de pares entregados
+     */
+    long forEachKey(long limit, KeyConsumer consumer);
+
+    /**
+     * Receptor de un par (brandId, productId).
+     */
+    @FunctionalInterface
+    interface KeyConsumer {
+
+        /**
+         * Recibe un par.
+         *
+         * @param brandId   identificador de la marca
+         * @param productId identificador del producto
+         */
+        void accept(long brandId, long productId);
+    }
+}
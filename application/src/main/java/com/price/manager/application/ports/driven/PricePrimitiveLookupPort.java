@@ -0,0 +1,28 @@
+package com.price.manager.application.ports.driven;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Capacidad opcional de un {@link PriceRepositoryPort}: búsqueda con tipos primitivos.
+ *
+ * <p>Los adaptadores que la implementan resuelven la consulta sin crear
+ * {@code PriceSearchCriteria}, {@code Optional} ni objetos envoltorio, devolviendo una
+ * instancia de {@link Price} ya existente. {@code PriceServiceUseCase} la usa cuando el
+ * repositorio configurado la ofrece y recurre a {@link PriceRepositoryPort#findBestPrice}
+ * en caso contrario.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface PricePrimitiveLookupPort {
+
+    /**
+     * Busca el precio aplicable sin asignaciones en memoria.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param epochMillis instante de consulta en milisegundos desde epoch (UTC)
+     * @return precio ganador o {@code null} si no hay ninguno vigente
+     */
+    Price findBestPrice(long brandId, long productId, long epochMillis);
+}
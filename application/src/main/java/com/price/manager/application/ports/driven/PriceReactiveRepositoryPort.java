@@ -0,0 +1,28 @@
+package com.price.manager.application.ports.driven;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante no bloqueante de {@link PriceRepositoryPort}.
+ *
+ * <p>La búsqueda no ocupa un hilo mientras espera a la base de datos: el resultado se emite
+ * en el {@link Mono} cuando llega. Las reglas de selección son las mismas que las del puerto
+ * bloqueante (vigencia, mayor prioridad y, a igualdad, mayor {@code priceList}).</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceRepositoryPort
+ */
+public interface PriceReactiveRepositoryPort {
+
+    /**
+     * Busca el mejor precio aplicable.
+     *
+     * @param criteria criterios de búsqueda
+     * @return precio aplicable, o un {@link Mono} vacío si no hay ninguno
+     */
+    Mono<Price> findBestPrice(PriceSearchCriteria criteria);
+}
@@ -1,5 +1,6 @@
 package com.price.manager.application.ports.driven;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.price.manager.domain.Price;
@@ -8,4 +9,17 @@ import com.price.manager.domain.criteria.PriceSearchCriteria;
 public interface PriceRepositoryPort {
 
     Optional<Price> findBestPrice(PriceSearchCriteria criteria);
+
+    /**
+     * Resuelve varias búsquedas a la vez.
+     *
+     * <p>La implementación por defecto consulta cada criterio por separado; los adaptadores
+     * con acceso a base de datos la sobrescriben con una única consulta por conjuntos.</p>
+     *
+     * @param criteria búsquedas a resolver
+     * @return un resultado por criterio, en el mismo orden; vacío si no hay precio aplicable
+     */
+    default List<Optional<Price>> findBestPrices(List<PriceSearchCriteria> criteria) {
+        return criteria.stream().map(this::findBestPrice).toList();
+    }
 }
@@ -0,0 +1,25 @@
+package com.price.manager.application.ports.driving;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Puerto de entrada para exportar el precio efectivo de todos los productos de una marca.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface PriceCatalogServicePort {
+
+    /**
+     * Entrega el precio ganador de cada producto de la marca en un instante, en orden de producto.
+     *
+     * @param brandId  identificador de la marca
+     * @param at       instante de consulta
+     * @param consumer receptor de cada precio ganador
+     * @return número de productos entregados
+     */
+    long streamEffectivePrices(Long brandId, LocalDateTime at, Consumer<Price> consumer);
+}
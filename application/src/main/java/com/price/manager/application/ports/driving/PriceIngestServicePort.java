@@ -0,0 +1,26 @@
+package com.price.manager.application.ports.driving;
+
+import java.util.stream.Stream;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.ingest.PriceIngestResult;
+
+/**
+ * Puerto de entrada para cargar precios de forma masiva.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface PriceIngestServicePort {
+
+    /**
+     * Valida y escribe los precios recibidos en bloques transaccionales.
+     *
+     * <p>El flujo se consume una sola vez y de forma perezosa, de modo que la carga no
+     * necesita tener todas las filas en memoria.</p>
+     *
+     * @param prices filas a cargar; las que no son consistentes se rechazan
+     * @return resumen de la carga
+     */
+    PriceIngestResult ingest(Stream<Price> prices);
+}
@@ -0,0 +1,39 @@
+package com.price.manager.application.ports.driving;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante no bloqueante de {@link PriceServicePort}, usada por el adaptador WebFlux.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceServicePort
+ */
+public interface PriceReactiveServicePort {
+
+    /**
+     * Busca el precio aplicable a un producto de una marca en una fecha.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param dateBetween fecha de consulta
+     * @return precio aplicable, o un {@link Mono} vacío si no hay ninguno
+     */
+    Mono<Price> findByBrandProductBetweenDate(Long brandId, Long productId, LocalDateTime dateBetween);
+
+    /**
+     * Resuelve varias búsquedas.
+     *
+     * @param criteria búsquedas a resolver
+     * @return un elemento por criterio, en el mismo orden; vacío si no hay precio aplicable
+     */
+    Flux<Optional<Price>> findBestPrices(List<PriceSearchCriteria> criteria);
+}
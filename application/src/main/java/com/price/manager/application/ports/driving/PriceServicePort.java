@@ -1,10 +1,39 @@
 package com.price.manager.application.ports.driving;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.domain.quote.PriceQuote;
 
 public interface PriceServicePort {
 
     Price findByBrandProductBetweenDate(Long brandId, Long productId, LocalDateTime dateBetween);
+
+    /**
+     * Busca el precio aplicable de varios productos a la vez.
+     *
+     * @param criteria búsquedas a resolver
+     * @return lista del mismo tamaño y orden que {@code criteria}, con {@code null} en las
+     *         posiciones sin precio aplicable
+     */
+    List<Price> findBestPrices(List<PriceSearchCriteria> criteria);
+
+    /**
+     * Busca el precio aplicable y el instante hasta el que lo sigue siendo.
+     *
+     * <p>Por defecto el límite es el final de la vigencia del precio; las implementaciones que
+     * conocen todas las filas del producto devuelven el siguiente límite, que puede ser anterior
+     * si otra tarifa empieza antes.</p>
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param dateBetween fecha de consulta
+     * @return precio y límite, o {@code null} si no hay precio aplicable
+     */
+    default PriceQuote findQuote(Long brandId, Long productId, LocalDateTime dateBetween) {
+        final Price price = this.findByBrandProductBetweenDate(brandId, productId, dateBetween);
+        return price == null ? null : PriceQuote.untilEndOf(price);
+    }
 }
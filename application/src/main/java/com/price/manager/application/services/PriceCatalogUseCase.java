@@ -0,0 +1,85 @@
+package com.price.manager.application.services;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.price.manager.application.ports.driven.PriceCatalogPort;
+import com.price.manager.application.ports.driving.PriceCatalogServicePort;
+import com.price.manager.domain.Price;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caso de uso que exporta el precio efectivo de todos los productos de una marca.
+ *
+ * <p>Las filas llegan agrupadas por producto desde {@link PriceCatalogPort}; el ganador de cada
+ * producto se resuelve al vuelo con {@link Price#hasHigherPriorityThan(Price)} y se entrega en
+ * cuanto empieza el producto siguiente. Solo se retiene el mejor candidato del producto en
+ * curso, así que la memoria es constante aunque la marca tenga millones de filas.</p>
+ *
+ * <p>Al terminar se registra en el log el número de filas, productos y filas por segundo.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceCatalogPort
+ * @see PriceCatalogServicePort
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceCatalogUseCase implements PriceCatalogServicePort {
+
+    private final PriceCatalogPort priceCatalogPort;
+
+    @Override
+    public long streamEffectivePrices(Long brandId, LocalDateTime at, Consumer<Price> consumer) {
+        final long started = System.nanoTime();
+        final WinnerResolver resolver = new WinnerResolver(consumer);
+        final long rows = this.priceCatalogPort.forEachValidAt(brandId, at, resolver);
+        resolver.flush();
+
+        final long elapsedNanos = Math.max(System.nanoTime() - started, 1L);
+        log.info("Streamed catalog of brand {} at {}: {} rows, {} products in {} ms ({} rows/s)",
+                brandId, at, rows, resolver.emitted, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        return resolver.emitted;
+    }
+
+    /**
+     * Acumula el mejor candidato del producto en curso y lo entrega al cambiar de producto.
+     */
+    private static final class WinnerResolver implements Consumer<Price> {
+
+        private final Consumer<Price> downstream;
+
+        private Price best;
+
+        private long emitted;
+
+        private WinnerResolver(Consumer<Price> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void accept(Price candidate) {
+            if (this.best != null && !Objects.equals(this.best.getProductId(), candidate.getProductId())) {
+                this.flush();
+            }
+            if (candidate.hasHigherPriorityThan(this.best)) {
+                this.best = candidate;
+            }
+        }
+
+        private void flush() {
+            if (this.best != null) {
+                this.downstream.accept(this.best);
+                this.emitted++;
+                this.best = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.price.manager.application.services;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import com.price.manager.application.cache.PriceResultCache;
+import com.price.manager.application.decorators.PriceCandidateCacheDecorator;
+import com.price.manager.application.index.PriceKeyBloomFilter;
+import com.price.manager.application.ports.driven.PriceIngestPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.application.ports.driving.PriceIngestServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.ingest.PriceIngestResult;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caso de uso que carga precios de forma masiva.
+ *
+ * <p>Cada fila se valida con {@link Price#isConsistent()}; las consistentes se acumulan en
+ * bloques de {@code price-manager.ingest.chunk-size} filas y cada bloque se escribe en una
+ * transacción con {@link PriceIngestPort#saveAll(List)}. Solo se retiene el bloque en curso,
+ * así que la memoria no depende del tamaño de la carga. Si un bloque falla, los anteriores
+ * ya están confirmados y la excepción se propaga.</p>
+ *
+ * <p>Tras cada bloque se vacían las cachés de lectura (resultados y candidatos) para que
+ * las consultas vean los precios nuevos. Los pares (brandId, productId) de cada bloque se
+ * añaden al filtro de búsquedas negativas antes de escribirlo, para que ninguna consulta
+ * rechace un producto que ya está en la base de datos. Al terminar se registra en el log el número de
+ * filas y las filas por segundo.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceIngestPort
+ * @see PriceIngestServicePort
+ */
+@Slf4j
+@Service
+public class PriceIngestUseCase implements PriceIngestServicePort {
+
+    private final PriceIngestPort priceIngestPort;
+
+    private final PriceRepositoryPort priceRepositoryPort;
+
+    /**
+     * Caché de resultados por intervalo de vigencia; {@code null} si está desactivada.
+     */
+    private final PriceResultCache resultCache;
+
+    /**
+     * Filtro de búsquedas negativas; {@code null} si está desactivado.
+     */
+    private final PriceKeyBloomFilter keyFilter;
+
+    private final int chunkSize;
+
+    /**
+     * Crea el caso de uso.
+     *
+     * @param priceIngestPort     puerto de escritura masiva
+     * @param priceRepositoryPort puerto de lectura, para invalidar su caché de candidatos si la tiene
+     * @param resultCache         caché de resultados, o {@code null} si está desactivada
+     * @param keyFilter           filtro de búsquedas negativas, o {@code null} si está desactivado
+     * @param chunkSize           filas por transacción
+     */
+    public PriceIngestUseCase(PriceIngestPort priceIngestPort, PriceRepositoryPort priceRepositoryPort,
+                              @Nullable PriceResultCache resultCache, @Nullable PriceKeyBloomFilter keyFilter,
+                              @Value("${price-manager.ingest.chunk-size:10000}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.priceIngestPort = priceIngestPort;
+        this.priceRepositoryPort = priceRepositoryPort;
+        this.resultCache = resultCache;
+        this.keyFilter = keyFilter;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public PriceIngestResult ingest(Stream<Price> prices) {
+        final long started = System.nanoTime();
+        List<Price> chunk = new ArrayList<>(this.chunkSize);
+        final List<Long> rejectedRows = new ArrayList<>();
+        long row = 0;
+        long accepted = 0;
+        long rejected = 0;
+        int chunks = 0;
+
+        final Iterator<Price> iterator = prices.iterator();
+        while (iterator.hasNext()) {
+            final Price price = iterator.next();
+            row++;
+            if (price == null || !price.isConsistent()) {
+                rejected++;
+                if (rejectedRows.size() < PriceIngestResult.MAX_REJECTED_ROWS) {
+                    rejectedRows.add(row);
+                }
+                continue;
+            }
+            chunk.add(price);
+            if (chunk.size() == this.chunkSize) {
+                this.write(chunk);
+                accepted += chunk.size();
+                chunks++;
+                chunk = new ArrayList<>(this.chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            this.write(chunk);
+            accepted += chunk.size();
+            chunks++;
+        }
+
+        final long elapsedNanos = Math.max(System.nanoTime() - started, 1L);
+        log.info("Ingested {} prices in {} chunks, {} rejected, in {} ms ({} rows/s)",
+                accepted, chunks, rejected, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                row * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        return new PriceIngestResult(accepted, rejected, chunks, List.copyOf(rejectedRows));
+    }
+
+    private void write(List<Price> chunk) {
+        if (this.keyFilter != null) {
+            for (final Price price : chunk) {
+                this.keyFilter.put(price.getBrandId(), price.getProductId());
+            }
+        }
+        this.priceIngestPort.saveAll(chunk);
+        if (this.resultCache != null) {
+            this.resultCache.invalidateAll();
+        }
+        if (this.priceRepositoryPort instanceof PriceCandidateCacheDecorator candidateCache) {
+            candidateCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.price.manager.application.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.price.manager.application.ports.driven.PriceReactiveRepositoryPort;
+import com.price.manager.application.ports.driving.PriceReactiveServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso no bloqueante de búsqueda de precios.
+ *
+ * <p>Las búsquedas por lotes se lanzan en paralelo, como mucho
+ * {@code price-manager.reactive.bulk-concurrency} a la vez (el tamaño del pool R2DBC por
+ * defecto), y se emiten en el orden de la petición.</p>
+ *
+ * <h3>Activación:</h3>
+ * <p>{@code price-manager.reactive.enabled=true}, que activa también el adaptador R2DBC
+ * (perfil {@code reactive} del módulo boot).</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceReactiveRepositoryPort
+ * @see PriceServiceUseCase
+ */
+@Service
+@ConditionalOnProperty(prefix = "price-manager.reactive", name = "enabled", havingValue = "true")
+public class PriceReactiveServiceUseCase implements PriceReactiveServicePort {
+
+    private final PriceReactiveRepositoryPort priceReactiveRepositoryPort;
+
+    private final int bulkConcurrency;
+
+    /**
+     * Crea el caso de uso.
+     *
+     * @param priceReactiveRepositoryPort puerto de repositorio no bloqueante
+     * @param bulkConcurrency             búsquedas simultáneas de un mismo lote
+     */
+    public PriceReactiveServiceUseCase(PriceReactiveRepositoryPort priceReactiveRepositoryPort,
+                                       @Value("${price-manager.reactive.bulk-concurrency:10}") int bulkConcurrency) {
+        if (bulkConcurrency <= 0) {
+            throw new IllegalArgumentException("bulkConcurrency must be positive: " + bulkConcurrency);
+        }
+        this.priceReactiveRepositoryPort = priceReactiveRepositoryPort;
+        this.bulkConcurrency = bulkConcurrency;
+    }
+
+    @Override
+    public Mono<Price> findByBrandProductBetweenDate(Long brandId, Long productId, LocalDateTime dateBetween) {
+        return this.priceReactiveRepositoryPort.findBestPrice(PriceSearchCriteria.of(brandId, productId, dateBetween));
+    }
+
+    @Override
+    public Flux<Optional<Price>> findBestPrices(List<PriceSearchCriteria> criteria) {
+        return Flux.fromIterable(criteria)
+                .flatMapSequential(item -> this.priceReactiveRepositoryPort.findBestPrice(item)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty()), this.bulkConcurrency);
+    }
+}
@@ -1,13 +1,23 @@
 package com.price.manager.application.services;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import com.price.manager.application.cache.PriceResultCache;
+import com.price.manager.application.diagnostics.PriceLookupEvent;
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.index.PriceTimeline;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.application.ports.driven.PricePrimitiveLookupPort;
 import com.price.manager.application.ports.driven.PriceRepositoryPort;
 import com.price.manager.application.ports.driving.PriceServicePort;
 import com.price.manager.domain.Price;
 import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.domain.quote.PriceQuote;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -34,6 +44,39 @@ import org.springframework.stereotype.Service;
  *   <li>Usa el puerto driven - para acceso a datos</li>
  * </ul>
  *
+ * <p><strong>Ruta primitiva:</strong></p>
+ * <p>Si el repositorio configurado implementa {@link PricePrimitiveLookupPort}, la consulta
+ * se delega en su búsqueda por {@code long} y este caso de uso queda como un envoltorio fino
+ * que no crea {@link PriceSearchCriteria} ni {@code Optional}.</p>
+ *
+ * <p><strong>Caché de resultados:</strong></p>
+ * <p>Si hay una {@link PriceResultCache} configurada y el repositorio implementa
+ * {@link PriceCandidatesPort}, el ganador se guarda junto al intervalo en el que sigue
+ * ganando; las consultas dentro de ese intervalo no llegan al repositorio. En un fallo se
+ * cargan las filas del producto, se resuelven con {@link PriceTimeline} y se guarda el
+ * segmento que contiene la fecha consultada.</p>
+ *
+ * <p><strong>Eventos JFR:</strong></p>
+ * <p>Cada búsqueda individual emite un {@link PriceLookupEvent} con la marca, el producto, si
+ * hubo precio y el resultado de la caché. El evento está desactivado por defecto; sin una
+ * grabación que lo active ni siquiera se crea.</p>
+ *
+ * <p><strong>Límite de validez:</strong></p>
+ * <p>{@link #findQuote(Long, Long, LocalDateTime)} devuelve además el fin del segmento del
+ * ganador, que la API usa para las cabeceras de caché HTTP. Con {@link PriceCandidatesPort}
+ * lo resuelve igual que la caché de resultados (y la consulta y alimenta si está activa); con
+ * otros repositorios, el límite es el final de la vigencia del precio.</p>
+ *
+ * <p><strong>Búsqueda por lotes:</strong></p>
+ * <p>{@link #findBestPrices(List)} delega en {@link PriceRepositoryPort#findBestPrices(List)},
+ * que los adaptadores de base de datos resuelven con una única consulta; ese camino no consulta
+ * ni alimenta la caché de resultados. Los repositorios con {@link PricePrimitiveLookupPort}
+ * (los de memoria y la caché de candidatos) resuelven cada elemento por separado con
+ * {@link #findByBrandProductBetweenDate(Long, Long, LocalDateTime)}, ya que no hay viaje de
+ * red que ahorrar: cada elemento usa la caché de resultados como una búsqueda individual (si
+ * está activa y el repositorio implementa {@link PriceCandidatesPort}) y emite su
+ * {@link PriceLookupEvent}.</p>
+ *
  * <p><strong>Ejemplo de Uso:</strong></p>
  * <pre>{@code
  * @Autowired
@@ -54,12 +97,13 @@ import org.springframework.stereotype.Service;
  * @version 1.0.0
  * @see PriceServicePort
  * @see PriceRepositoryPort
+ * @see PricePrimitiveLookupPort
+ * @see PriceResultCache
  * @see Price
  * @see PriceSearchCriteria
  * @since 1.0.0
  */
 @Service
-@RequiredArgsConstructor
 public class PriceServiceUseCase implements PriceServicePort {
 
     /**
@@ -70,6 +114,32 @@ public class PriceServiceUseCase implements PriceServicePort {
      */
     private final PriceRepositoryPort priceRepositoryPort;
 
+    /**
+     * Caché de resultados por intervalo de vigencia; {@code null} si está desactivada.
+     */
+    private final PriceResultCache resultCache;
+
+    /**
+     * Crea el caso de uso sin caché de resultados.
+     *
+     * @param priceRepositoryPort puerto de salida de precios
+     */
+    public PriceServiceUseCase(PriceRepositoryPort priceRepositoryPort) {
+        this(priceRepositoryPort, null);
+    }
+
+    /**
+     * Crea el caso de uso con una caché de resultados opcional.
+     *
+     * @param priceRepositoryPort puerto de salida de precios
+     * @param resultCache         caché de resultados, o {@code null} para desactivarla
+     */
+    @Autowired
+    public PriceServiceUseCase(PriceRepositoryPort priceRepositoryPort, @Nullable PriceResultCache resultCache) {
+        this.priceRepositoryPort = priceRepositoryPort;
+        this.resultCache = resultCache;
+    }
+
     /**
      * Encuentra el precio aplicable para una marca y producto en una fecha específica.
      *
@@ -80,7 +150,11 @@ public class PriceServiceUseCase implements PriceServicePort {
      * <h4>Algoritmo de Búsqueda:</h4>
      * <ol>
      *   <li>Validar parámetros de entrada</li>
-     *   <li>Crear criterio de búsqueda estructurado</li>
+     *   <li>Si hay caché de resultados y el repositorio ofrece {@link PriceCandidatesPort},
+     *       servir desde la caché o resolver el intervalo del ganador y guardarlo</li>
+     *   <li>Si el repositorio ofrece {@link PricePrimitiveLookupPort} y no hay parámetros
+     *       {@code null}, delegar en la búsqueda primitiva</li>
+     *   <li>En otro caso, crear criterio de búsqueda estructurado</li>
      *   <li>Delegar al repositorio la selección del mejor precio</li>
      *   <li>Retornar el resultado o {@code null} si no hay precio aplicable</li>
      * </ol>
@@ -109,8 +183,159 @@ public class PriceServiceUseCase implements PriceServicePort {
      */
     @Override
     public Price findByBrandProductBetweenDate(Long brandId, Long productId, LocalDateTime dateBetween) {
+        final PriceLookupEvent event = begin();
+        final boolean complete = brandId != null && productId != null && dateBetween != null;
+        final Price price;
+        if (complete && this.resultCache != null && this.priceRepositoryPort instanceof PriceCandidatesPort candidates) {
+            price = this.findCached(candidates, brandId, productId, EpochMillis.of(dateBetween), event);
+        } else {
+            price = this.lookup(brandId, productId, dateBetween, complete);
+        }
+        commit(event, brandId, productId, dateBetween, price != null);
+        return price;
+    }
+
+    private Price lookup(Long brandId, Long productId, LocalDateTime dateBetween, boolean complete) {
+        if (complete && this.priceRepositoryPort instanceof PricePrimitiveLookupPort lookup) {
+            return lookup.findBestPrice(brandId, productId, EpochMillis.of(dateBetween));
+        }
         final var criteria = PriceSearchCriteria.of(brandId, productId, dateBetween);
         return this.priceRepositoryPort.findBestPrice(criteria).orElse(null);
     }
 
+    /**
+     * Busca el precio aplicable de varios productos a la vez.
+     *
+     * <p>Con un repositorio {@link PricePrimitiveLookupPort}, cada elemento es una búsqueda
+     * individual y pasa por la caché de resultados; si no, una sola consulta sin caché.</p>
+     *
+     * @param criteria búsquedas a resolver
+     * @return lista del mismo tamaño y orden que {@code criteria}, con {@code null} en las
+     *         posiciones sin precio aplicable
+     * @see PriceRepositoryPort#findBestPrices(List)
+     */
+    @Override
+    public List<Price> findBestPrices(List<PriceSearchCriteria> criteria) {
+        // ArrayList admite null para marcar los elementos sin precio
+        final List<Price> results = new ArrayList<>(criteria.size());
+        if (this.priceRepositoryPort instanceof PricePrimitiveLookupPort) {
+            criteria.forEach(item -> results.add(
+                    this.findByBrandProductBetweenDate(item.brandId(), item.productId(), item.queryDate())));
+            return results;
+        }
+        this.priceRepositoryPort.findBestPrices(criteria).forEach(price -> results.add(price.orElse(null)));
+        return results;
+    }
+
+    /**
+     * Busca el precio aplicable y el fin del segmento en el que sigue ganando.
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param dateBetween fecha de consulta
+     * @return precio y límite, o {@code null} si no hay precio aplicable
+     * @see PriceQuote
+     */
+    @Override
+    public PriceQuote findQuote(Long brandId, Long productId, LocalDateTime dateBetween) {
+        final boolean complete = brandId != null && productId != null && dateBetween != null;
+        if (!complete || !(this.priceRepositoryPort instanceof PriceCandidatesPort candidates)) {
+            // La implementación por defecto pasa por findByBrandProductBetweenDate, que emite el evento
+            return PriceServicePort.super.findQuote(brandId, productId, dateBetween);
+        }
+        final PriceLookupEvent event = begin();
+        final PriceQuote quote = this.quote(candidates, brandId, productId, EpochMillis.of(dateBetween), event);
+        commit(event, brandId, productId, dateBetween, quote != null);
+        return quote;
+    }
+
+    private PriceQuote quote(PriceCandidatesPort candidates, long brandId, long productId, long epochMillis,
+                             PriceLookupEvent event) {
+        long generation = 0L;
+        if (this.resultCache != null) {
+            final PriceQuote cached = this.resultCache.getQuote(brandId, productId, epochMillis);
+            if (cached != null) {
+                cache(event, PriceLookupEvent.CACHE_HIT);
+                return cached;
+            }
+            cache(event, PriceLookupEvent.CACHE_MISS);
+            generation = this.resultCache.generation();
+        }
+        final List<Price> rows = candidates.findAllByBrandAndProduct(brandId, productId);
+        candidates(event, rows.size());
+        final PriceTimeline timeline = PriceTimeline.of(rows);
+        final int segment = timeline.segmentAt(epochMillis);
+        if (segment < 0) {
+            return null;
+        }
+        if (this.resultCache != null) {
+            this.resultCache.put(brandId, productId, timeline.start(segment), timeline.end(segment),
+                    timeline.winner(segment), generation);
+        }
+        return new PriceQuote(timeline.winner(segment), EpochMillis.toLocalDateTime(timeline.end(segment)));
+    }
+
+    private Price findCached(PriceCandidatesPort candidates, long brandId, long productId, long epochMillis,
+                             PriceLookupEvent event) {
+        final Price cached = this.resultCache.get(brandId, productId, epochMillis);
+        if (cached != null) {
+            cache(event, PriceLookupEvent.CACHE_HIT);
+            return cached;
+        }
+        cache(event, PriceLookupEvent.CACHE_MISS);
+        // Leída antes de cargar: si una invalidación llega durante la carga, el ganador no se guarda
+        final long generation = this.resultCache.generation();
+        final List<Price> rows = candidates.findAllByBrandAndProduct(brandId, productId);
+        candidates(event, rows.size());
+        final PriceTimeline timeline = PriceTimeline.of(rows);
+        final int segment = timeline.segmentAt(epochMillis);
+        if (segment < 0) {
+            return null;
+        }
+        this.resultCache.put(brandId, productId, timeline.start(segment), timeline.end(segment), timeline.winner(segment),
+                generation);
+        return timeline.winner(segment);
+    }
+
+    /**
+     * Crea y empieza el evento solo si alguna grabación lo tiene activo.
+     *
+     * @return evento empezado, o {@code null} si JFR no lo graba
+     */
+    private static PriceLookupEvent begin() {
+        if (!PriceLookupEvent.isTypeEnabled()) {
+            return null;
+        }
+        final PriceLookupEvent event = new PriceLookupEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void cache(PriceLookupEvent event, String cache) {
+        if (event != null) {
+            event.cache = cache;
+        }
+    }
+
+    private static void candidates(PriceLookupEvent event, int candidates) {
+        if (event != null) {
+            event.candidates = candidates;
+        }
+    }
+
+    private static void commit(PriceLookupEvent event, Long brandId, Long productId, LocalDateTime dateBetween,
+                               boolean found) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.brandId = brandId == null ? 0L : brandId;
+            event.productId = productId == null ? 0L : productId;
+            event.queryDate = dateBetween == null ? 0L : EpochMillis.of(dateBetween);
+            event.found = found;
+            event.commit();
+        }
+    }
+
 }
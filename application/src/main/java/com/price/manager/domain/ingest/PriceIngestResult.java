@@ -0,0 +1,27 @@
+package com.price.manager.domain.ingest;
+
+import java.util.List;
+
+/**
+ * Resumen de una carga masiva de precios.
+ *
+ * <p>Las filas rechazadas no detienen la carga: se cuentan y se guardan sus posiciones
+ * (hasta {@link #MAX_REJECTED_ROWS}) para que el cliente pueda corregirlas y reenviarlas.</p>
+ *
+ * @param accepted     filas escritas en la base de datos
+ * @param rejected     filas descartadas por no ser consistentes
+ * @param chunks       transacciones confirmadas
+ * @param rejectedRows posiciones (desde 1) de las primeras filas rechazadas
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see com.price.manager.domain.Price#isConsistent()
+ */
+public record PriceIngestResult(long accepted, long rejected, int chunks, List<Long> rejectedRows) {
+
+    /**
+     * Número máximo de posiciones rechazadas que se devuelven.
+     */
+    public static final int MAX_REJECTED_ROWS = 100;
+}
@@ -0,0 +1,35 @@
+package com.price.manager.domain.quote;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Precio aplicable junto al instante en el que deja de serlo.
+ *
+ * <p>{@code validUntil} es el siguiente límite ({@code startDate} o {@code endDate}) entre las
+ * filas del producto cuando se conocen todas; si no, el final de la vigencia del propio
+ * precio. Hasta entonces, cualquier consulta posterior del mismo producto devuelve el mismo
+ * precio mientras no cambien los datos.</p>
+ *
+ * @param price      precio aplicable
+ * @param validUntil instante (exclusive, UTC) en el que el precio puede dejar de ser el aplicable
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see com.price.manager.application.ports.driving.PriceServicePort#findQuote(Long, Long, LocalDateTime)
+ */
+public record PriceQuote(Price price, LocalDateTime validUntil) {
+
+    /**
+     * Presupuesto limitado al final de la vigencia del precio ({@code endDate} es inclusive).
+     *
+     * @param price precio aplicable
+     * @return presupuesto válido hasta el milisegundo siguiente a {@code endDate}
+     */
+    public static PriceQuote untilEndOf(Price price) {
+        return new PriceQuote(price, price.getEndDate().plus(1, ChronoUnit.MILLIS));
+    }
+}
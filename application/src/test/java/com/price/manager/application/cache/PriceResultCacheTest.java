@@ -0,0 +1,175 @@
+package com.price.manager.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.domain.Price;
+import com.price.manager.utils.MutableClock;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Price Result Cache Tests")
+class PriceResultCacheTest {
+
+    private static final long FROM = EpochMillis.of(LocalDateTime.of(2020, 6, 14, 15, 0));
+
+    private static final long TO = EpochMillis.of(LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+
+    private final Price promotion = PriceDomainMocks.createInitSqlPrices().get(1);
+
+    private MutableClock clock;
+
+    private PriceResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.clock = new MutableClock(LocalDateTime.of(2020, 6, 14, 16, 0));
+        this.cache = new PriceResultCache(2, Duration.ofSeconds(1), this.clock);
+    }
+
+    @Test
+    @DisplayName("Should serve any timestamp inside the winning interval")
+    void shouldServeAnyTimestampInsideWinningInterval() {
+        // Given
+        this.cache.put(1L, 35455L, FROM, TO, this.promotion, this.cache.generation());
+
+        // When & Then - límites [from, to)
+        assertSame(this.promotion, this.cache.get(1L, 35455L, FROM));
+        assertSame(this.promotion, this.cache.get(1L, 35455L, TO - 1));
+        assertNull(this.cache.get(1L, 35455L, TO));
+        assertNull(this.cache.get(1L, 35455L, FROM - 1));
+        assertNull(this.cache.get(1L, 1L, FROM));
+        assertEquals(new PriceResultCache.Stats(2, 3, 0, 0, 1), this.cache.stats());
+    }
+
+    @Test
+    @DisplayName("Should expire the entry exactly at its boundary")
+    void shouldExpireEntryExactlyAtItsBoundary() {
+        // Given
+        this.cache.put(1L, 35455L, FROM, TO, this.promotion, this.cache.generation());
+
+        // When & Then
+        this.clock.set(LocalDateTime.of(2020, 6, 14, 18, 30));
+        this.cache.expire();
+        assertEquals(1, this.cache.stats().size());
+        this.clock.set(LocalDateTime.of(2020, 6, 14, 18, 30, 1));
+        this.cache.expire();
+        assertEquals(0, this.cache.stats().size());
+        assertEquals(1, this.cache.stats().expirations());
+    }
+
+    @Test
+    @DisplayName("Should not store intervals that already ended")
+    void shouldNotStoreIntervalsThatAlreadyEnded() {
+        // When
+        this.cache.put(1L, 35455L, 0L, FROM, this.promotion, this.cache.generation());
+
+        // Then
+        assertEquals(0, this.cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Should replace the entry and cancel the previous expiration")
+    void shouldReplaceEntryAndCancelPreviousExpiration() {
+        // Given
+        final Price other = PriceDomainMocks.createInitSqlPrices().get(0);
+        this.cache.put(1L, 35455L, FROM, TO, this.promotion, this.cache.generation());
+
+        // When - nuevo intervalo que termina más tarde
+        this.cache.put(1L, 35455L, TO, TO + Duration.ofHours(1).toMillis(), other, this.cache.generation());
+        this.clock.set(LocalDateTime.of(2020, 6, 14, 19, 0));
+        this.cache.expire();
+
+        // Then - la caducidad anterior no elimina la entrada nueva
+        assertSame(other, this.cache.get(1L, 35455L, TO));
+        assertEquals(0, this.cache.stats().expirations());
+    }
+
+    @Test
+    @DisplayName("Should evict the entry not read since the last sweep when full")
+    void shouldEvictEntryNotReadSinceLastSweepWhenFull() {
+        // Given - capacidad 2; solo se consulta el primero
+        this.cache.put(1L, 1L, FROM, TO, this.promotion, this.cache.generation());
+        this.cache.put(1L, 2L, FROM, TO, this.promotion, this.cache.generation());
+        this.cache.get(1L, 1L, FROM);
+
+        // When
+        this.cache.put(1L, 3L, FROM, TO, this.promotion, this.cache.generation());
+
+        // Then - el segundo, sin uso, deja sitio al tercero
+        assertSame(this.promotion, this.cache.get(1L, 1L, FROM));
+        assertNull(this.cache.get(1L, 2L, FROM));
+        assertSame(this.promotion, this.cache.get(1L, 3L, FROM));
+        assertEquals(1, this.cache.stats().evictions());
+        assertEquals(2, this.cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Should not let far-future entries pin the cache")
+    void shouldNotLetFarFutureEntriesPinCache() {
+        // Given - tarifas base que no caducan nunca en la práctica
+        final long forever = EpochMillis.of(LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+        for (long productId = 1; productId <= 100; productId++) {
+            this.cache.put(1L, productId, FROM, forever, this.promotion, this.cache.generation());
+        }
+
+        // Then - siempre entran los nuevos y la caché no pasa de su tamaño
+        assertSame(this.promotion, this.cache.get(1L, 100L, FROM));
+        assertSame(this.promotion, this.cache.get(1L, 99L, FROM));
+        assertEquals(2, this.cache.stats().size());
+        assertEquals(98, this.cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("Should honour invalidation")
+    void shouldHonourInvalidation() {
+        // Given
+        this.cache.put(1L, 1L, FROM, TO, this.promotion, this.cache.generation());
+        this.cache.put(1L, 2L, FROM, TO, this.promotion, this.cache.generation());
+
+        // When
+        this.cache.invalidate(1L, 1L);
+        this.cache.put(1L, 3L, FROM, TO, this.promotion, this.cache.generation());
+
+        // Then - la invalidación deja sitio sin expulsar
+        assertNull(this.cache.get(1L, 1L, FROM));
+        assertSame(this.promotion, this.cache.get(1L, 2L, FROM));
+        assertSame(this.promotion, this.cache.get(1L, 3L, FROM));
+        assertEquals(0, this.cache.stats().evictions());
+        this.cache.invalidateAll();
+        assertEquals(0, this.cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Should drop a winner loaded before an invalidation")
+    void shouldDropWinnerLoadedBeforeInvalidation() {
+        // Given - la carga lee la generación y una invalidación llega antes de guardar
+        final long generation = this.cache.generation();
+        this.cache.invalidateAll();
+
+        // When
+        this.cache.put(1L, 35455L, FROM, TO, this.promotion, generation);
+
+        // Then
+        assertNull(this.cache.get(1L, 35455L, FROM));
+        assertEquals(0, this.cache.stats().size());
+        this.cache.put(1L, 35455L, FROM, TO, this.promotion, this.cache.generation());
+        assertSame(this.promotion, this.cache.get(1L, 35455L, FROM));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive maximum size")
+    void shouldRejectNonPositiveMaximumSize() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new PriceResultCache(0, Duration.ofSeconds(1), this.clock));
+    }
+}
@@ -0,0 +1,96 @@
+package com.price.manager.application.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Timer Wheel Tests")
+class TimerWheelTest {
+
+    private final List<String> expired = new ArrayList<>();
+
+    private final TimerWheel<String> wheel = new TimerWheel<>(10, 8, 0);
+
+    @Test
+    @DisplayName("Should expire keys exactly when their deadline is reached")
+    void shouldExpireKeysExactlyWhenDeadlineIsReached() {
+        // Given
+        this.wheel.schedule("a", 25);
+        this.wheel.schedule("b", 40);
+
+        // When & Then - "a" no vence en el mismo tick antes de su instante
+        this.wheel.advance(24, timeout -> this.expired.add(timeout.key()));
+        assertTrue(this.expired.isEmpty());
+        this.wheel.advance(25, timeout -> this.expired.add(timeout.key()));
+        assertEquals(List.of("a"), this.expired);
+        this.wheel.advance(40, timeout -> this.expired.add(timeout.key()));
+        assertEquals(List.of("a", "b"), this.expired);
+        assertEquals(0, this.wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should keep deadlines beyond one revolution until they are due")
+    void shouldKeepDeadlinesBeyondOneRevolutionUntilDue() {
+        // Given - una vuelta son 8 ticks de 10 ms
+        this.wheel.schedule("far", 1_000);
+
+        // When
+        for (long now = 0; now < 1_000; now += 7) {
+            this.wheel.advance(now, timeout -> this.expired.add(timeout.key()));
+        }
+        final boolean pendingBeforeDeadline = this.expired.isEmpty();
+        this.wheel.advance(1_000, timeout -> this.expired.add(timeout.key()));
+
+        // Then
+        assertTrue(pendingBeforeDeadline);
+        assertEquals(List.of("far"), this.expired);
+    }
+
+    @Test
+    @DisplayName("Should expire everything due after a jump longer than the wheel")
+    void shouldExpireEverythingDueAfterJumpLongerThanWheel() {
+        // Given
+        this.wheel.schedule("a", 15);
+        this.wheel.schedule("b", 55);
+        this.wheel.schedule("c", 5_000);
+
+        // When
+        this.wheel.advance(1_000, timeout -> this.expired.add(timeout.key()));
+
+        // Then
+        assertEquals(List.of("a", "b"), this.expired.stream().sorted().toList());
+        assertEquals(1, this.wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should not fire cancelled timeouts and expire past deadlines on the next advance")
+    void shouldNotFireCancelledTimeoutsAndExpirePastDeadlinesOnNextAdvance() {
+        // Given
+        this.wheel.advance(100, timeout -> this.expired.add(timeout.key()));
+        final var cancelled = this.wheel.schedule("cancelled", 120);
+        this.wheel.schedule("past", 50);
+
+        // When
+        this.wheel.cancel(cancelled);
+        this.wheel.cancel(cancelled);
+        this.wheel.advance(130, timeout -> this.expired.add(timeout.key()));
+
+        // Then
+        assertEquals(List.of("past"), this.expired);
+        assertEquals(0, this.wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive tick or size")
+    void shouldRejectNonPositiveTickOrSize() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel<String>(0, 8, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel<String>(10, 0, 0));
+    }
+}
@@ -0,0 +1,118 @@
+package com.price.manager.application.decorators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.price.manager.application.index.PriceKeyBloomFilter;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Bloom Filter Decorator Tests")
+class PriceBloomFilterDecoratorTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceCandidatesPort delegate;
+
+    private PriceKeyBloomFilter filter;
+
+    private PriceBloomFilterDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        this.filter = PriceKeyBloomFilter.create(1_000, 0.01, 1L << 20);
+        this.filter.put(1L, 35455L);
+        this.decorator = new PriceBloomFilterDecorator(this.delegate, this.filter);
+    }
+
+    @Test
+    @DisplayName("Should answer unknown pairs as empty without touching the repository")
+    void shouldAnswerUnknownPairsWithoutRepository() {
+        // When
+        final Optional<Price> price = this.decorator.findBestPrice(PriceSearchCriteria.of(1L, 99999L, DATE));
+        final List<Price> candidates = this.decorator.findAllByBrandAndProduct(2L, 35455L);
+
+        // Then
+        assertTrue(price.isEmpty());
+        assertTrue(candidates.isEmpty());
+        verifyNoInteractions(this.delegate);
+        assertEquals(new PriceBloomFilterDecorator.Stats(2, 0, 0), this.decorator.stats());
+    }
+
+    @Test
+    @DisplayName("Should forward known pairs to the repository")
+    void shouldForwardKnownPairs() {
+        // Given
+        final PriceSearchCriteria criteria = PriceSearchCriteria.of(1L, 35455L, DATE);
+        final Optional<Price> expected = Optional.of(PriceDomainMocks.createInitSqlPrices().get(1));
+        when(this.delegate.findBestPrice(criteria)).thenReturn(expected);
+
+        // When
+        final Optional<Price> price = this.decorator.findBestPrice(criteria);
+
+        // Then
+        assertSame(expected, price);
+        assertEquals(new PriceBloomFilterDecorator.Stats(0, 1, 0), this.decorator.stats());
+    }
+
+    @Test
+    @DisplayName("Should count a forwarded candidate lookup without rows as a false positive")
+    void shouldCountEmptyForwardedCandidatesAsFalsePositive() {
+        // Given
+        when(this.delegate.findAllByBrandAndProduct(1L, 35455L)).thenReturn(List.of());
+
+        // When
+        this.decorator.findAllByBrandAndProduct(1L, 35455L);
+
+        // Then
+        assertEquals(new PriceBloomFilterDecorator.Stats(0, 1, 1), this.decorator.stats());
+    }
+
+    @Test
+    @DisplayName("Should forward only admitted criteria of a batch and keep the request order")
+    void shouldForwardOnlyAdmittedCriteriaOfBatch() {
+        // Given
+        final PriceSearchCriteria unknown = PriceSearchCriteria.of(1L, 99999L, DATE);
+        final PriceSearchCriteria known = PriceSearchCriteria.of(1L, 35455L, DATE);
+        final Optional<Price> found = Optional.of(PriceDomainMocks.createInitSqlPrices().get(1));
+        when(this.delegate.findBestPrices(List.of(known))).thenReturn(List.of(found));
+
+        // When
+        final List<Optional<Price>> results = this.decorator.findBestPrices(List.of(unknown, known, unknown));
+
+        // Then
+        assertEquals(List.of(Optional.empty(), found, Optional.empty()), results);
+        verify(this.delegate).findBestPrices(List.of(known));
+    }
+
+    @Test
+    @DisplayName("Should pass the whole batch through when every criterion is admitted")
+    void shouldPassWholeBatchWhenEveryCriterionIsAdmitted() {
+        // Given
+        final List<PriceSearchCriteria> batch = List.of(PriceSearchCriteria.of(1L, 35455L, DATE));
+        final List<Optional<Price>> expected = List.of(Optional.empty());
+        when(this.delegate.findBestPrices(batch)).thenReturn(expected);
+
+        // When / Then
+        assertSame(expected, this.decorator.findBestPrices(batch));
+    }
+}
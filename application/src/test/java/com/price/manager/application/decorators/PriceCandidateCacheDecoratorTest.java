@@ -0,0 +1,160 @@
+package com.price.manager.application.decorators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.utils.MutableClock;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Candidate Cache Decorator Tests")
+class PriceCandidateCacheDecoratorTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private PriceCandidatesPort delegate;
+
+    private MutableClock clock;
+
+    private PriceCandidateCacheDecorator cache;
+
+    @BeforeEach
+    void setUp() {
+        this.clock = new MutableClock();
+        this.cache = new PriceCandidateCacheDecorator(this.delegate, 2, TTL, this.clock);
+    }
+
+    @Test
+    @DisplayName("Should load the product once and resolve different dates in memory")
+    void shouldLoadProductOnceAndResolveDifferentDatesInMemory() {
+        // Given
+        when(this.delegate.findAllByBrandAndProduct(1L, 35455L)).thenReturn(PriceDomainMocks.createInitSqlPrices());
+
+        // When
+        final var morning = this.cache.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+        final var afternoon = this.cache.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0)));
+        final var premium = this.cache.findBestPrice(1L, 35455L, EpochMillis.of(LocalDateTime.of(2020, 6, 16, 21, 0)));
+
+        // Then - una sola carga y dos aciertos
+        assertEquals(1L, morning.orElseThrow().getPriceList());
+        assertEquals(2L, afternoon.orElseThrow().getPriceList());
+        assertEquals(4L, premium.getPriceList());
+        verify(this.delegate, times(1)).findAllByBrandAndProduct(1L, 35455L);
+        assertEquals(new PriceCandidateCacheDecorator.Stats(2, 1, 0, 1), this.cache.stats());
+    }
+
+    @Test
+    @DisplayName("Should cache products without prices")
+    void shouldCacheProductsWithoutPrices() {
+        // Given
+        when(this.delegate.findAllByBrandAndProduct(1L, 99999L)).thenReturn(List.of());
+
+        // When
+        this.cache.findBestPrice(PriceSearchCriteria.of(1L, 99999L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+        final var result = this.cache.findBestPrice(PriceSearchCriteria.of(1L, 99999L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(this.delegate, times(1)).findAllByBrandAndProduct(1L, 99999L);
+    }
+
+    @Test
+    @DisplayName("Should reload entries after the TTL expires")
+    void shouldReloadEntriesAfterTtlExpires() {
+        // Given
+        when(this.delegate.findAllByBrandAndProduct(1L, 35455L)).thenReturn(PriceDomainMocks.createInitSqlPrices());
+        final long query = EpochMillis.of(LocalDateTime.of(2020, 6, 14, 10, 0));
+        this.cache.findBestPrice(1L, 35455L, query);
+
+        // When
+        this.clock.advance(TTL);
+        this.cache.findBestPrice(1L, 35455L, query);
+
+        // Then
+        verify(this.delegate, times(2)).findAllByBrandAndProduct(1L, 35455L);
+        assertEquals(1, this.cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used product when full")
+    void shouldEvictLeastRecentlyUsedProductWhenFull() {
+        // Given - capacidad 2
+        when(this.delegate.findAllByBrandAndProduct(1L, 1L)).thenReturn(List.of());
+        when(this.delegate.findAllByBrandAndProduct(1L, 2L)).thenReturn(List.of());
+        when(this.delegate.findAllByBrandAndProduct(1L, 3L)).thenReturn(List.of());
+        this.cache.findBestPrice(1L, 1L, 0L);
+        this.cache.findBestPrice(1L, 2L, 0L);
+        this.cache.findBestPrice(1L, 1L, 0L);
+
+        // When - el producto 2 es el menos usado
+        this.cache.findBestPrice(1L, 3L, 0L);
+        this.cache.findBestPrice(1L, 1L, 0L);
+        this.cache.findBestPrice(1L, 2L, 0L);
+
+        // Then
+        verify(this.delegate, times(1)).findAllByBrandAndProduct(1L, 1L);
+        verify(this.delegate, times(2)).findAllByBrandAndProduct(1L, 2L);
+        assertEquals(2, this.cache.stats().size());
+        assertEquals(2, this.cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("Should reload a product after explicit invalidation")
+    void shouldReloadProductAfterExplicitInvalidation() {
+        // Given
+        when(this.delegate.findAllByBrandAndProduct(1L, 35455L)).thenReturn(PriceDomainMocks.createInitSqlPrices());
+        this.cache.findBestPrice(1L, 35455L, 0L);
+
+        // When
+        this.cache.invalidate(1L, 35455L);
+        this.cache.findBestPrice(1L, 35455L, 0L);
+        this.cache.invalidateAll();
+        this.cache.findBestPrice(1L, 35455L, 0L);
+
+        // Then
+        verify(this.delegate, times(3)).findAllByBrandAndProduct(1L, 35455L);
+    }
+
+    @Test
+    @DisplayName("Should delegate criteria with null fields without caching")
+    void shouldDelegateCriteriaWithNullFieldsWithoutCaching() {
+        // Given
+        final PriceSearchCriteria criteria = PriceSearchCriteria.of(1L, null, LocalDateTime.of(2020, 6, 14, 10, 0));
+        when(this.delegate.findBestPrice(criteria)).thenReturn(Optional.empty());
+
+        // When
+        final var result = this.cache.findBestPrice(criteria);
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertEquals(0, this.cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive size or TTL")
+    void shouldRejectNonPositiveSizeOrTtl() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new PriceCandidateCacheDecorator(this.delegate, 0, TTL));
+        assertThrows(IllegalArgumentException.class, () -> new PriceCandidateCacheDecorator(this.delegate, 1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,228 @@
+package com.price.manager.application.decorators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Micro-Batching Decorator Tests")
+class PriceMicroBatchingDecoratorTest {
+
+    private static final int CALLERS = 4;
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    @Mock
+    private PriceCandidatesPort delegate;
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private ExecutorService executor;
+
+    private PriceMicroBatchingDecorator batcher;
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+        if (this.batcher != null) {
+            this.batcher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve concurrent lookups with one multi-key query once the batch is full")
+    void shouldResolveConcurrentLookupsWithOneQuery() throws Exception {
+        // Given - el plazo es largo, así que el lote solo se despacha al llenarse
+        this.batcher = new PriceMicroBatchingDecorator(this.delegate, CALLERS, Duration.ofSeconds(10), 1, MAX_WAIT,
+                (size, waitNanos) -> this.batchSizes.add(size));
+        final List<Price> prices = PriceDomainMocks.createInitSqlPrices();
+        when(this.delegate.findBestPrices(anyList())).thenAnswer(invocation -> {
+            final List<PriceSearchCriteria> criteria = invocation.getArgument(0);
+            return criteria.stream()
+                    .map(item -> Optional.of(prices.get(item.productId().intValue() - 1)))
+                    .toList();
+        });
+
+        // When
+        final List<CompletableFuture<Optional<Price>>> lookups = new ArrayList<>();
+        for (long product = 1; product <= CALLERS; product++) {
+            final var criteria = PriceSearchCriteria.of(1L, product, LocalDateTime.of(2020, 6, 14, 10, 0));
+            lookups.add(CompletableFuture.supplyAsync(() -> this.batcher.findBestPrice(criteria), this.executor));
+        }
+
+        // Then - cada llamada recibe la posición que le corresponde del resultado
+        for (int i = 0; i < CALLERS; i++) {
+            assertSame(prices.get(i), lookups.get(i).get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        verify(this.delegate).findBestPrices(anyList());
+        verifyNoMoreInteractions(this.delegate);
+        assertEquals(List.of(CALLERS), this.batchSizes);
+    }
+
+    @Test
+    @DisplayName("Should dispatch a partial batch when the latency budget runs out")
+    void shouldDispatchPartialBatchWhenBudgetRunsOut() {
+        // Given
+        this.batcher = new PriceMicroBatchingDecorator(this.delegate, 64, Duration.ofMillis(1), 1, MAX_WAIT,
+                (size, waitNanos) -> this.batchSizes.add(size));
+        final var criteria = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+        final Price price = PriceDomainMocks.createInitSqlPrices().get(1);
+        when(this.delegate.findBestPrices(List.of(criteria))).thenReturn(List.of(Optional.of(price)));
+
+        // When
+        final Optional<Price> result = this.batcher.findBestPrice(criteria);
+
+        // Then
+        assertSame(price, result.orElseThrow());
+        assertEquals(List.of(1), this.batchSizes);
+    }
+
+    @Test
+    @DisplayName("Should fail every lookup of a batch whose query fails")
+    void shouldFailEveryLookupOfFailedBatch() {
+        // Given
+        this.batcher = new PriceMicroBatchingDecorator(this.delegate, 2, Duration.ofSeconds(10), 1, MAX_WAIT,
+                PriceMicroBatchingDecorator.BatchObserver.NONE);
+        final IllegalStateException failure = new IllegalStateException("connection lost");
+        when(this.delegate.findBestPrices(anyList())).thenThrow(failure);
+
+        // When
+        final var first = CompletableFuture.supplyAsync(() -> this.batcher.findBestPrice(
+                PriceSearchCriteria.of(1L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0))), this.executor);
+        final var second = CompletableFuture.supplyAsync(() -> this.batcher.findBestPrice(
+                PriceSearchCriteria.of(1L, 2L, LocalDateTime.of(2020, 6, 14, 10, 0))), this.executor);
+
+        // Then
+        assertSame(failure, assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS)).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS)).getCause());
+    }
+
+    @Test
+    @DisplayName("Should fail the lookups of a batch whose observer throws instead of leaving them waiting")
+    void shouldFailLookupsWhenObserverThrows() {
+        // Given
+        final IllegalStateException failure = new IllegalStateException("registry closed");
+        this.batcher = new PriceMicroBatchingDecorator(this.delegate, 64, Duration.ofMillis(1), 1, MAX_WAIT,
+                (size, waitNanos) -> {
+                    throw failure;
+                });
+        final var criteria = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // When / Then
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> this.batcher.findBestPrice(criteria)));
+        verifyNoMoreInteractions(this.delegate);
+    }
+
+    @Test
+    @DisplayName("Should resolve the batch being collected when closed")
+    void shouldResolveCollectingBatchOnClose() throws Exception {
+        // Given - el lote no se llena ni vence su plazo antes de cerrar
+        this.batcher = new PriceMicroBatchingDecorator(this.delegate, 2, Duration.ofSeconds(10), 1, MAX_WAIT,
+                PriceMicroBatchingDecorator.BatchObserver.NONE);
+        final var criteria = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+        final Price price = PriceDomainMocks.createInitSqlPrices().get(1);
+        when(this.delegate.findBestPrices(List.of(criteria))).thenReturn(List.of(Optional.of(price)));
+        final var lookup = CompletableFuture.supplyAsync(() -> this.batcher.findBestPrice(criteria), this.executor);
+        Thread.sleep(50);
+
+        // When
+        this.batcher.close();
+
+        // Then
+        assertSame(price, lookup.get(5, TimeUnit.SECONDS).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should give up waiting for a batch after max wait")
+    void shouldGiveUpAfterMaxWait() throws Exception {
+        // Given
+        this.batcher = new PriceMicroBatchingDecorator(this.delegate, 64, Duration.ofMillis(1), 1,
+                Duration.ofMillis(50), PriceMicroBatchingDecorator.BatchObserver.NONE);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(this.delegate.findBestPrices(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(Optional.empty());
+        });
+        final var criteria = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // When / Then
+        try {
+            assertThrows(MicroBatchTimeoutException.class, () -> this.batcher.findBestPrice(criteria));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should bypass batching for incomplete criteria and after close")
+    void shouldBypassBatchingForIncompleteCriteriaAndAfterClose() {
+        // Given
+        this.batcher = new PriceMicroBatchingDecorator(this.delegate, 2, Duration.ofSeconds(10), 1, MAX_WAIT,
+                PriceMicroBatchingDecorator.BatchObserver.NONE);
+        final var incomplete = PriceSearchCriteria.of(null, 35455L, null);
+        final var complete = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0));
+        when(this.delegate.findBestPrice(incomplete)).thenReturn(Optional.empty());
+        when(this.delegate.findBestPrice(complete)).thenReturn(Optional.empty());
+
+        // When
+        final Optional<Price> before = this.batcher.findBestPrice(incomplete);
+        this.batcher.close();
+        final Optional<Price> after = this.batcher.findBestPrice(complete);
+
+        // Then
+        assertTrue(before.isEmpty());
+        assertTrue(after.isEmpty());
+        verify(this.delegate).findBestPrice(incomplete);
+        verify(this.delegate).findBestPrice(complete);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid limits")
+    void shouldRejectInvalidLimits() {
+        final var none = PriceMicroBatchingDecorator.BatchObserver.NONE;
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriceMicroBatchingDecorator(this.delegate, 0, Duration.ZERO, 1, MAX_WAIT, none));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriceMicroBatchingDecorator(this.delegate, 1, Duration.ofMillis(-1), 1, MAX_WAIT, none));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriceMicroBatchingDecorator(this.delegate, 1, Duration.ZERO, 0, MAX_WAIT, none));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriceMicroBatchingDecorator(this.delegate, 1, Duration.ZERO, 1, Duration.ofMillis(-1), none));
+    }
+}
@@ -0,0 +1,107 @@
+package com.price.manager.application.decorators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Repository Bulkhead Decorator Tests")
+class PriceRepositoryBulkheadDecoratorTest {
+
+    private static final PriceSearchCriteria CRITERIA = PriceSearchCriteria.of(1L, 35455L,
+            LocalDateTime.of(2020, 6, 14, 10, 0));
+
+    @Mock
+    private PriceCandidatesPort delegate;
+
+    @Test
+    @DisplayName("Should delegate every operation and give the permit back")
+    void shouldDelegateAndReleasePermit() {
+        // Given
+        final Price price = PriceDomainMocks.createInitSqlPrices().get(0);
+        final var bulkhead = new PriceRepositoryBulkheadDecorator(this.delegate, 1, Duration.ZERO);
+        when(this.delegate.findBestPrice(CRITERIA)).thenReturn(Optional.of(price));
+        when(this.delegate.findBestPrices(List.of(CRITERIA))).thenReturn(List.of(Optional.of(price)));
+        when(this.delegate.findAllByBrandAndProduct(1L, 35455L)).thenReturn(List.of(price));
+
+        // When
+        final Optional<Price> single = bulkhead.findBestPrice(CRITERIA);
+        final List<Optional<Price>> bulk = bulkhead.findBestPrices(List.of(CRITERIA));
+        final List<Price> candidates = bulkhead.findAllByBrandAndProduct(1L, 35455L);
+
+        // Then - con un solo permiso, las tres llamadas solo pasan si cada una lo devuelve
+        assertSame(price, single.orElseThrow());
+        assertSame(price, bulk.get(0).orElseThrow());
+        assertSame(price, candidates.get(0));
+        assertEquals(new PriceRepositoryBulkheadDecorator.Stats(1, 1, 0, 0), bulkhead.stats());
+    }
+
+    @Test
+    @DisplayName("Should give the permit back when the delegate fails")
+    void shouldReleasePermitWhenDelegateFails() {
+        // Given
+        final var bulkhead = new PriceRepositoryBulkheadDecorator(this.delegate, 1, Duration.ZERO);
+        when(this.delegate.findBestPrice(CRITERIA)).thenThrow(new IllegalStateException("connection lost"));
+
+        // When
+        assertThrows(IllegalStateException.class, () -> bulkhead.findBestPrice(CRITERIA));
+
+        // Then
+        assertEquals(1, bulkhead.stats().available());
+    }
+
+    @Test
+    @DisplayName("Should reject a call that waits longer than the maximum wait")
+    void shouldRejectCallWaitingLongerThanMaxWait() throws Exception {
+        // Given - una llamada ocupa el único permiso hasta que se libera el latch
+        final var bulkhead = new PriceRepositoryBulkheadDecorator(this.delegate, 1, Duration.ofMillis(50));
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(this.delegate.findAllByBrandAndProduct(1L, 35455L)).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await();
+            return List.of();
+        });
+        final CompletableFuture<List<Price>> holder = CompletableFuture.supplyAsync(
+                () -> bulkhead.findAllByBrandAndProduct(1L, 35455L));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // When / Then
+        assertThrows(BulkheadFullException.class, () -> bulkhead.findBestPrice(CRITERIA));
+        assertEquals(1L, bulkhead.stats().rejected());
+        release.countDown();
+        assertEquals(List.of(), holder.get(5, TimeUnit.SECONDS));
+        verify(this.delegate).findAllByBrandAndProduct(1L, 35455L);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid limits")
+    void shouldRejectInvalidLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriceRepositoryBulkheadDecorator(this.delegate, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriceRepositoryBulkheadDecorator(this.delegate, 1, Duration.ofMillis(-1)));
+    }
+}
@@ -0,0 +1,157 @@
+package com.price.manager.application.decorators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Single-Flight Decorator Tests")
+class PriceSingleFlightDecoratorTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private PriceCandidatesPort delegate;
+
+    private PriceSingleFlightDecorator singleFlight;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        this.singleFlight = new PriceSingleFlightDecorator(this.delegate);
+        this.executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one repository call between concurrent lookups and resolve each date")
+    void shouldShareOneRepositoryCallBetweenConcurrentLookups() throws Exception {
+        // Given - la carga se bloquea hasta que todas las demás llamadas están esperando
+        final CountDownLatch release = new CountDownLatch(1);
+        when(this.delegate.findAllByBrandAndProduct(1L, 35455L)).thenAnswer(invocation -> {
+            release.await();
+            return PriceDomainMocks.createInitSqlPrices();
+        });
+        final List<LocalDateTime> dates = List.of(LocalDateTime.of(2020, 6, 14, 10, 0),
+                LocalDateTime.of(2020, 6, 14, 16, 0), LocalDateTime.of(2020, 6, 15, 10, 0),
+                LocalDateTime.of(2020, 6, 16, 21, 0));
+
+        // When
+        final List<CompletableFuture<Optional<Price>>> lookups = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            final var criteria = PriceSearchCriteria.of(1L, 35455L, dates.get(i % dates.size()));
+            lookups.add(CompletableFuture.supplyAsync(() -> this.singleFlight.findBestPrice(criteria), this.executor));
+        }
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        // Then
+        final List<Long> expected = List.of(1L, 2L, 3L, 4L);
+        for (int i = 0; i < CALLERS; i++) {
+            assertEquals(expected.get(i % expected.size()),
+                    lookups.get(i).get(5, TimeUnit.SECONDS).orElseThrow().getPriceList());
+        }
+        verify(this.delegate, times(1)).findAllByBrandAndProduct(1L, 35455L);
+        assertEquals(new PriceSingleFlightDecorator.Stats(1, CALLERS - 1, 0), this.singleFlight.stats());
+    }
+
+    @Test
+    @DisplayName("Should query again once the previous flight has finished")
+    void shouldQueryAgainOnceFlightHasFinished() {
+        // Given
+        when(this.delegate.findAllByBrandAndProduct(1L, 35455L)).thenReturn(PriceDomainMocks.createInitSqlPrices());
+
+        // When
+        this.singleFlight.findAllByBrandAndProduct(1L, 35455L);
+        this.singleFlight.findAllByBrandAndProduct(1L, 35455L);
+
+        // Then
+        verify(this.delegate, times(2)).findAllByBrandAndProduct(1L, 35455L);
+        assertEquals(new PriceSingleFlightDecorator.Stats(2, 0, 0), this.singleFlight.stats());
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader failure to every waiter")
+    void shouldPropagateLeaderFailureToWaiters() throws Exception {
+        // Given
+        final CountDownLatch release = new CountDownLatch(1);
+        final IllegalStateException failure = new IllegalStateException("connection lost");
+        when(this.delegate.findAllByBrandAndProduct(1L, 35455L)).thenAnswer(invocation -> {
+            release.await();
+            throw failure;
+        });
+
+        // When
+        final var leader = CompletableFuture.runAsync(() -> this.singleFlight.findAllByBrandAndProduct(1L, 35455L),
+                this.executor);
+        final var waiter = CompletableFuture.runAsync(() -> this.singleFlight.findAllByBrandAndProduct(1L, 35455L),
+                this.executor);
+        awaitCoalesced(1);
+        release.countDown();
+
+        // Then
+        final var leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+        final var waiterError = assertThrows(Exception.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderError.getCause());
+        assertSame(failure, waiterError.getCause());
+        assertEquals(0, this.singleFlight.stats().inFlight());
+    }
+
+    @Test
+    @DisplayName("Should bypass coalescing for bulk lookups and incomplete criteria")
+    void shouldBypassCoalescingForBulkAndIncompleteCriteria() {
+        // Given
+        final var incomplete = PriceSearchCriteria.of(null, 35455L, null);
+        when(this.delegate.findBestPrice(incomplete)).thenReturn(Optional.empty());
+        when(this.delegate.findBestPrices(List.of(incomplete))).thenReturn(List.of(Optional.empty()));
+
+        // When
+        this.singleFlight.findBestPrice(incomplete);
+        this.singleFlight.findBestPrices(List.of(incomplete));
+
+        // Then
+        verify(this.delegate).findBestPrice(incomplete);
+        verify(this.delegate).findBestPrices(List.of(incomplete));
+        assertEquals(new PriceSingleFlightDecorator.Stats(0, 0, 0), this.singleFlight.stats());
+    }
+
+    private void awaitCoalesced(long expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (this.singleFlight.stats().coalesced() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Callers did not join the in-flight lookup");
+            Thread.sleep(5);
+        }
+    }
+}
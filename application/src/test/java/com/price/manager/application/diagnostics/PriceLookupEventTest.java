@@ -0,0 +1,122 @@
+package com.price.manager.application.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.price.manager.application.cache.PriceResultCache;
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.application.services.PriceServiceUseCase;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.utils.MutableClock;
+import com.price.manager.utils.PriceDomainMocks;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Price Lookup Event Tests")
+class PriceLookupEventTest {
+
+    private static final LocalDateTime AFTERNOON = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should be disabled by default")
+    void shouldBeDisabledByDefault() {
+        // When
+        FlightRecorder.register(PriceLookupEvent.class);
+        final EventType type = EventType.getEventType(PriceLookupEvent.class);
+
+        // Then
+        assertEquals(PriceLookupEvent.NAME, type.getName());
+        assertFalse(type.isEnabled());
+        assertFalse(PriceLookupEvent.isTypeEnabled());
+        assertFalse(new PriceLookupEvent().shouldCommit());
+    }
+
+    @Test
+    @DisplayName("Should record brand, product, date and outcome of a lookup without result cache")
+    void shouldRecordLookupWithoutResultCache() throws IOException {
+        // Given
+        final PriceRepositoryPort repository = mock(PriceRepositoryPort.class);
+        when(repository.findBestPrice(any(PriceSearchCriteria.class)))
+                .thenReturn(Optional.of(PriceDomainMocks.createInitSqlPrices().get(1)), Optional.empty());
+        final PriceServiceUseCase service = new PriceServiceUseCase(repository);
+
+        // When
+        final List<RecordedEvent> events = this.record(() -> {
+            service.findByBrandProductBetweenDate(1L, 35455L, AFTERNOON);
+            service.findByBrandProductBetweenDate(1L, 99999L, AFTERNOON);
+        });
+
+        // Then
+        assertEquals(2, events.size());
+        final RecordedEvent found = events.get(0);
+        assertEquals(1L, found.getLong("brandId"));
+        assertEquals(35455L, found.getLong("productId"));
+        assertEquals(EpochMillis.of(AFTERNOON), found.getInstant("queryDate").toEpochMilli());
+        assertTrue(found.getBoolean("found"));
+        assertEquals(PriceLookupEvent.CACHE_NONE, found.getString("cache"));
+        assertEquals(-1, found.getInt("candidates"));
+        assertFalse(events.get(1).getBoolean("found"));
+    }
+
+    @Test
+    @DisplayName("Should record result-cache misses with their candidate rows and hits without them")
+    void shouldRecordResultCacheOutcome() throws IOException {
+        // Given
+        final PriceCandidatesPort candidates = mock(PriceCandidatesPort.class);
+        when(candidates.findAllByBrandAndProduct(1L, 35455L)).thenReturn(PriceDomainMocks.createInitSqlPrices());
+        final PriceResultCache cache = new PriceResultCache(10, Duration.ofSeconds(1), new MutableClock(AFTERNOON));
+        final PriceServiceUseCase service = new PriceServiceUseCase(candidates, cache);
+
+        // When
+        final List<RecordedEvent> events = this.record(() -> {
+            service.findByBrandProductBetweenDate(1L, 35455L, AFTERNOON);
+            service.findByBrandProductBetweenDate(1L, 35455L, AFTERNOON.plusHours(1));
+        });
+
+        // Then
+        assertEquals(2, events.size());
+        assertEquals(PriceLookupEvent.CACHE_MISS, events.get(0).getString("cache"));
+        assertEquals(PriceDomainMocks.createInitSqlPrices().size(), events.get(0).getInt("candidates"));
+        assertEquals(PriceLookupEvent.CACHE_HIT, events.get(1).getString("cache"));
+        assertEquals(-1, events.get(1).getInt("candidates"));
+    }
+
+    private List<RecordedEvent> record(Runnable lookups) throws IOException {
+        final Path file = this.directory.resolve("lookups.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PriceLookupEvent.class).withoutThreshold();
+            recording.start();
+            assertTrue(PriceLookupEvent.isTypeEnabled());
+            lookups.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> PriceLookupEvent.NAME.equals(event.getEventType().getName()))
+                .sorted((left, right) -> left.getStartTime().compareTo(right.getStartTime()))
+                .toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.price.manager.application.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import com.price.manager.application.diagnostics.RequestStageRecorder.Stage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Request Stage Recorder Tests")
+class RequestStageRecorderTest {
+
+    @Test
+    @DisplayName("Should ignore every call on a thread without an open request")
+    void shouldIgnoreCallsOutsideARequest() throws Exception {
+        // Given - un hilo nuevo, en el que ningún filtro ha llamado a begin()
+        final long[] started = new long[1];
+        final Thread thread = new Thread(() -> {
+            RequestStageRecorder.enterHandler();
+            started[0] = RequestStageRecorder.start();
+            RequestStageRecorder.bind("lookup", 1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+            RequestStageRecorder.stop(Stage.SQL, started[0]);
+            RequestStageRecorder.exitHandler();
+        });
+
+        // When
+        thread.start();
+        thread.join();
+
+        // Then
+        assertEquals(0L, started[0]);
+    }
+
+    @Test
+    @DisplayName("Should accumulate stages, keep the SQL binds and derive serialization on finish")
+    void shouldRecordStagesOfARequest() throws InterruptedException {
+        // Given
+        final LocalDateTime queryDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+        final RequestStageRecorder recorder = RequestStageRecorder.begin();
+
+        // When
+        RequestStageRecorder.enterHandler();
+        final long sql = RequestStageRecorder.start();
+        RequestStageRecorder.bind("lookup", 1L, 35455L, queryDate);
+        Thread.sleep(2);
+        RequestStageRecorder.stop(Stage.SQL, sql);
+        RequestStageRecorder.exitHandler();
+        final long total = recorder.finish();
+
+        // Then
+        assertNotNull(recorder);
+        assertTrue(recorder.nanos(Stage.SQL) >= 2_000_000L, () -> "SQL stage: " + recorder.nanos(Stage.SQL));
+        assertEquals(0L, recorder.nanos(Stage.DTO_MAPPING));
+        assertTrue(recorder.nanos(Stage.SERIALIZATION) > 0L);
+        assertTrue(total >= recorder.nanos(Stage.SQL));
+        assertEquals("lookup", recorder.statement());
+        assertEquals(3, recorder.bindCount());
+        assertSame(queryDate, recorder.bindAt(2));
+    }
+
+    @Test
+    @DisplayName("Should stop recording after finish and forget the request on clear")
+    void shouldStopRecordingAfterFinish() {
+        // Given
+        final RequestStageRecorder recorder = RequestStageRecorder.begin();
+        RequestStageRecorder.bind("lookup", 1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+        recorder.finish();
+
+        // When
+        final long started = RequestStageRecorder.start();
+        recorder.clear();
+
+        // Then
+        assertEquals(0L, started);
+        assertNull(recorder.statement());
+        assertEquals(0, recorder.bindCount());
+    }
+
+    @Test
+    @DisplayName("Should reuse the same recorder for every request of a thread")
+    void shouldReuseRecorderPerThread() {
+        // Given
+        final RequestStageRecorder first = RequestStageRecorder.begin();
+        first.finish();
+
+        // When
+        final RequestStageRecorder second = RequestStageRecorder.begin();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(0L, second.nanos(Stage.SQL));
+        second.finish();
+    }
+}
@@ -0,0 +1,109 @@
+package com.price.manager.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.price.manager.domain.Price;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("Columnar Price Store Tests")
+class ColumnarPriceStoreTest {
+
+    private final List<Price> initSqlPrices = PriceDomainMocks.createInitSqlPrices();
+
+    private final ColumnarPriceStore store = ColumnarPriceStore.of(this.initSqlPrices);
+
+    static Stream<Arguments> businessScenarios() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), 1L, "Test 1: 10:00 día 14 - Precio base"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), 2L, "Test 2: 16:00 día 14 - Promoción tarde"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), 1L, "Test 3: 21:00 día 14 - Precio base"),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), 3L, "Test 4: 10:00 día 15 - Promoción mañana"),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), 4L, "Test 5: 21:00 día 16 - Precio premium")
+        );
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("businessScenarios")
+    @DisplayName("Should resolve the winning row from primitive columns")
+    void shouldResolveWinningRowFromPrimitiveColumns(LocalDateTime queryDate, Long expectedPriceList, String description) {
+        // When
+        final int row = this.store.find(1L, 35455L, EpochMillis.of(queryDate));
+
+        // Then
+        assertEquals(expectedPriceList, this.store.priceList(row), description);
+    }
+
+    @Test
+    @DisplayName("Should materialize a price equal to the original row")
+    void shouldMaterializePriceEqualToOriginalRow() {
+        // When
+        final Price materialized = this.store.materialize(this.store.find(1L, 35455L,
+                EpochMillis.of(LocalDateTime.of(2020, 6, 14, 16, 0))));
+
+        // Then
+        assertEquals(this.initSqlPrices.get(1), materialized);
+        assertEquals(2545L, this.store.unscaledPrice(this.store.find(1L, 35455L,
+                EpochMillis.of(LocalDateTime.of(2020, 6, 14, 16, 0)))));
+    }
+
+    @Test
+    @DisplayName("Should keep rows of interleaved products apart")
+    void shouldKeepRowsOfInterleavedProductsApart() {
+        // Given - filas de dos productos intercaladas en la entrada
+        final var builder = ColumnarPriceStore.builder(2);
+        final long start = EpochMillis.of(LocalDateTime.of(2020, 1, 1, 0, 0));
+        final long end = EpochMillis.of(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+        builder.add(1L, 2L, 20L, 0, start, end, new BigDecimal("2.00"), "EUR");
+        builder.add(1L, 1L, 10L, 0, start, end, new BigDecimal("1.00"), "USD");
+        builder.add(1L, 2L, 21L, 1, start, end, new BigDecimal("2.50"), "EUR");
+
+        // When
+        final var interleaved = builder.build();
+
+        // Then
+        assertEquals(2, interleaved.productCount());
+        final Price first = interleaved.materialize(interleaved.find(1L, 1L, start));
+        final Price second = interleaved.materialize(interleaved.find(1L, 2L, start));
+        assertEquals(1L, first.getProductId());
+        assertEquals("USD", first.getCurr());
+        assertEquals(21L, second.getPriceList());
+        assertEquals(new BigDecimal("2.50"), second.getPrice());
+    }
+
+    @Test
+    @DisplayName("Should report a footprint well below the object graph per row")
+    void shouldReportFootprintWellBelowObjectGraphPerRow() {
+        // Then - 38 bytes de columnas más segmentos e índice de productos
+        assertTrue(this.store.bytesPerRow() > 38, "Footprint should include every column");
+        assertTrue(this.store.bytesPerRow() < 200, "Footprint should stay small: " + this.store.bytesPerRow());
+        assertEquals(0, ColumnarPriceStore.builder(0).build().bytesPerRow());
+    }
+
+    @Test
+    @DisplayName("Should reject rows that do not fit the columns")
+    void shouldRejectRowsThatDoNotFitColumns() {
+        // Given
+        final var builder = ColumnarPriceStore.builder(1);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.add(1L, 1L, 1L, 0, 0L, 1L, new BigDecimal("123456789012345678901234567890"), "EUR"));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.add(1L, 1L, 1L, 0, 2L, 1L, BigDecimal.ONE, "EUR"));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.add(-1L, 1L, 1L, 0, 0L, 1L, BigDecimal.ONE, "EUR"));
+    }
+}
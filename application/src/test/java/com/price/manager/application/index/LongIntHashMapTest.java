@@ -0,0 +1,73 @@
+package com.price.manager.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Long Int Hash Map Tests")
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("Should store and retrieve packed keys")
+    void shouldStoreAndRetrievePackedKeys() {
+        // Given
+        final int keys = 10_000;
+        final LongIntHashMap map = new LongIntHashMap(keys);
+
+        // When
+        for (int i = 0; i < keys; i++) {
+            map.put(PackedKey.pack(i % 7, i), i);
+        }
+
+        // Then
+        assertEquals(keys, map.size());
+        for (int i = 0; i < keys; i++) {
+            assertEquals(i, map.get(PackedKey.pack(i % 7, i)));
+        }
+        assertEquals(LongIntHashMap.MISSING, map.get(PackedKey.pack(8, 1)));
+        assertEquals(LongIntHashMap.MISSING, map.get(PackedKey.INVALID));
+    }
+
+    @Test
+    @DisplayName("Should replace the value of an existing key")
+    void shouldReplaceValueOfExistingKey() {
+        // Given
+        final LongIntHashMap map = new LongIntHashMap(1);
+        map.put(42L, 1);
+
+        // When
+        map.put(42L, 2);
+
+        // Then
+        assertEquals(1, map.size());
+        assertEquals(2, map.get(42L));
+    }
+
+    @Test
+    @DisplayName("Should reject negative keys and overflow")
+    void shouldRejectNegativeKeysAndOverflow() {
+        // Given
+        final LongIntHashMap map = new LongIntHashMap(1);
+        for (int i = 0; i < 8; i++) {
+            map.put(i, i);
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> map.put(-5L, 1));
+        assertThrows(IllegalStateException.class, () -> map.put(100L, 1));
+    }
+
+    @Test
+    @DisplayName("Should round-trip brand and product through the packed key")
+    void shouldRoundTripBrandAndProductThroughPackedKey() {
+        // Given
+        final long key = PackedKey.pack(Integer.MAX_VALUE, 0xFFFF_FFFFL);
+
+        // When & Then
+        assertEquals(Integer.MAX_VALUE, PackedKey.brandId(key));
+        assertEquals(0xFFFF_FFFFL, PackedKey.productId(key));
+        assertEquals(PackedKey.INVALID, PackedKey.pack(1L, -1L));
+    }
+}
@@ -0,0 +1,108 @@
+package com.price.manager.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("Price Interval Index Tests")
+class PriceIntervalIndexTest {
+
+    private final PriceIntervalIndex index = PriceIntervalIndex.of(PriceDomainMocks.createInitSqlPrices());
+
+    static Stream<Arguments> businessScenarios() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), 1L, "Test 1: 10:00 día 14 - Precio base"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), 2L, "Test 2: 16:00 día 14 - Promoción tarde"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), 1L, "Test 3: 21:00 día 14 - Precio base"),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), 3L, "Test 4: 10:00 día 15 - Promoción mañana"),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), 4L, "Test 5: 21:00 día 16 - Precio premium")
+        );
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("businessScenarios")
+    @DisplayName("Should resolve the same winner as the JPA query")
+    void shouldResolveSameWinnerAsJpaQuery(LocalDateTime queryDate, Long expectedPriceList, String description) {
+        // When
+        final var result = this.index.findBestPrice(PriceSearchCriteria.of(1L, 35455L, queryDate));
+
+        // Then
+        assertTrue(result.isPresent(), "Should find a price for: " + description);
+        assertEquals(expectedPriceList, result.get().getPriceList(), description);
+    }
+
+    @Test
+    @DisplayName("Should treat start and end dates as inclusive")
+    void shouldTreatStartAndEndDatesAsInclusive() {
+        // When & Then
+        assertEquals(2L, this.find(LocalDateTime.of(2020, 6, 14, 15, 0)).getPriceList());
+        assertEquals(2L, this.find(LocalDateTime.of(2020, 6, 14, 18, 30)).getPriceList());
+        assertEquals(1L, this.find(LocalDateTime.of(2020, 6, 14, 18, 30, 1)).getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should break priority ties by higher price list")
+    void shouldBreakPriorityTiesByHigherPriceList() {
+        // Given
+        final var base = PriceDomainMocks.createExpectedPrice(10L, 1, "10.00", "2020-01-01T00:00:00", "2020-12-31T23:59:59");
+        final var tie = PriceDomainMocks.createExpectedPrice(11L, 1, "11.00", "2020-06-01T00:00:00", "2020-06-30T23:59:59");
+        final var tieIndex = PriceIntervalIndex.of(List.of(tie, base));
+
+        // When
+        final var result = tieIndex.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 15, 0, 0)));
+
+        // Then
+        assertEquals(11L, result.orElseThrow().getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should find long-running price hidden behind later short intervals")
+    void shouldFindLongRunningPriceHiddenBehindLaterShortIntervals() {
+        // Given - un precio largo seguido de varios cortos ya finalizados
+        final var longRunning = PriceDomainMocks.createExpectedPrice(1L, 0, "10.00", "2020-01-01T00:00:00", "2020-12-31T23:59:59");
+        final var shortOne = PriceDomainMocks.createExpectedPrice(2L, 1, "5.00", "2020-02-01T00:00:00", "2020-02-02T00:00:00");
+        final var shortTwo = PriceDomainMocks.createExpectedPrice(3L, 1, "6.00", "2020-03-01T00:00:00", "2020-03-02T00:00:00");
+        final var sparseIndex = PriceIntervalIndex.of(List.of(shortTwo, longRunning, shortOne));
+
+        // When
+        final var result = sparseIndex.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 7, 1, 0, 0)));
+
+        // Then
+        assertEquals(1L, result.orElseThrow().getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown product, out of range date or null date")
+    void shouldReturnEmptyForUnknownProductOutOfRangeDateOrNullDate() {
+        // When & Then
+        assertTrue(this.index.findBestPrice(PriceSearchCriteria.of(2L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0))).isEmpty());
+        assertTrue(this.index.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2019, 1, 1, 0, 0))).isEmpty());
+        assertTrue(this.index.findBestPrice(PriceSearchCriteria.of(1L, 35455L, null)).isEmpty());
+        assertTrue(PriceIntervalIndex.empty().findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.now())).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report indexed rows and products")
+    void shouldReportIndexedRowsAndProducts() {
+        // When & Then
+        assertEquals(4, this.index.size());
+        assertEquals(1, this.index.productCount());
+    }
+
+    private Price find(LocalDateTime queryDate) {
+        return this.index.findBestPrice(PriceSearchCriteria.of(1L, 35455L, queryDate)).orElseThrow();
+    }
+}
@@ -0,0 +1,105 @@
+package com.price.manager.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Price Key Bloom Filter Tests")
+class PriceKeyBloomFilterTest {
+
+    private static final int KEYS = 100_000;
+
+    private static final long ONE_MEGABYTE = 1L << 20;
+
+    @Test
+    @DisplayName("Should never reject a pair that was added")
+    void shouldNeverRejectAddedPair() {
+        // Given
+        final PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(KEYS, 0.01, ONE_MEGABYTE);
+
+        // When
+        for (int i = 0; i < KEYS; i++) {
+            filter.put(i % 7, 1_000_000L + i);
+        }
+
+        // Then
+        for (int i = 0; i < KEYS; i++) {
+            assertTrue(filter.mightContain(i % 7, 1_000_000L + i), "Added pair rejected: " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the observed false-positive rate near the configured one")
+    void shouldKeepObservedFalsePositiveRateNearConfigured() {
+        // Given
+        final PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(KEYS, 0.01, ONE_MEGABYTE);
+        for (int i = 0; i < KEYS; i++) {
+            filter.put(1L, i);
+        }
+
+        // When - productos que nunca se añadieron
+        int falsePositives = 0;
+        for (int i = 0; i < KEYS; i++) {
+            if (filter.mightContain(1L, 10_000_000L + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        final double observed = (double) falsePositives / KEYS;
+        assertTrue(observed < 0.02, "Observed false-positive rate too high: " + observed);
+        assertEquals(0.01, filter.estimatedFalsePositiveRate(), 0.005);
+        assertEquals(7, filter.hashFunctions());
+    }
+
+    @Test
+    @DisplayName("Should cap the bit array at the maximum size")
+    void shouldCapBitArrayAtMaximumSize() {
+        // When - 100.000 claves al 0,1% necesitarían unos 175 KB
+        final PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(KEYS, 0.001, 16 * 1024);
+
+        // Then
+        assertEquals(16 * 1024, filter.sizeInBytes());
+        assertEquals(16 * 1024 * 8, filter.bitSize());
+        assertEquals(1, filter.hashFunctions());
+    }
+
+    @Test
+    @DisplayName("Should report an empty filter as rejecting everything")
+    void shouldReportEmptyFilterAsRejectingEverything() {
+        // Given
+        final PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(10, 0.01, ONE_MEGABYTE);
+
+        // Then
+        assertFalse(filter.mightContain(1L, 35455L));
+        assertEquals(0.0, filter.estimatedFalsePositiveRate());
+        assertEquals(0L, filter.approximateKeys());
+    }
+
+    @Test
+    @DisplayName("Should treat pairs outside the packed range as present without storing them")
+    void shouldTreatUnpackablePairsAsPresent() {
+        // Given
+        final PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(10, 0.01, ONE_MEGABYTE);
+
+        // When
+        filter.put(-1L, 35455L);
+
+        // Then
+        assertTrue(filter.mightContain(-1L, 35455L));
+        assertEquals(0L, filter.approximateKeys());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void shouldRejectInvalidSizingParameters() {
+        assertThrows(IllegalArgumentException.class, () -> PriceKeyBloomFilter.create(0, 0.01, ONE_MEGABYTE));
+        assertThrows(IllegalArgumentException.class, () -> PriceKeyBloomFilter.create(10, 0.0, ONE_MEGABYTE));
+        assertThrows(IllegalArgumentException.class, () -> PriceKeyBloomFilter.create(10, 1.0, ONE_MEGABYTE));
+        assertThrows(IllegalArgumentException.class, () -> PriceKeyBloomFilter.create(10, 0.01, 4));
+    }
+}
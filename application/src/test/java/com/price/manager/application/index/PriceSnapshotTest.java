@@ -0,0 +1,156 @@
+package com.price.manager.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.price.manager.domain.Price;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("Price Snapshot Tests")
+class PriceSnapshotTest {
+
+    private final List<Price> initSqlPrices = PriceDomainMocks.createInitSqlPrices();
+
+    @TempDir
+    private Path directory;
+
+    static Stream<Arguments> businessScenarios() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), 1L, "Test 1: 10:00 día 14 - Precio base"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), 2L, "Test 2: 16:00 día 14 - Promoción tarde"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), 1L, "Test 3: 21:00 día 14 - Precio base"),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), 3L, "Test 4: 10:00 día 15 - Promoción mañana"),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), 4L, "Test 5: 21:00 día 16 - Precio premium")
+        );
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("businessScenarios")
+    @DisplayName("Should resolve business scenarios from the mapped file")
+    void shouldResolveBusinessScenariosFromMappedFile(LocalDateTime queryDate, Long expectedPriceList, String description) {
+        // Given
+        final Path file = this.directory.resolve("prices.snap");
+        PriceSnapshot.write(file, this.initSqlPrices);
+
+        // When
+        final Price price = PriceSnapshot.open(file).findBestPrice(1L, 35455L, EpochMillis.of(queryDate));
+
+        // Then
+        assertEquals(expectedPriceList, price.getPriceList(), description);
+    }
+
+    @Test
+    @DisplayName("Should round-trip every field through the binary format")
+    void shouldRoundTripEveryFieldThroughBinaryFormat() {
+        // Given
+        final Path file = this.directory.resolve("prices.snap");
+
+        // When
+        final int written = PriceSnapshot.write(file, this.initSqlPrices);
+        final PriceSnapshot snapshot = PriceSnapshot.open(file);
+
+        // Then - los registros quedan ordenados por fecha de inicio dentro del producto
+        assertEquals(4, written);
+        assertEquals(4, snapshot.recordCount());
+        assertEquals(1, snapshot.productCount());
+        assertEquals(this.initSqlPrices.get(1), snapshot.findBestPrice(1L, 35455L,
+                EpochMillis.of(LocalDateTime.of(2020, 6, 14, 16, 0))));
+    }
+
+    @Test
+    @DisplayName("Should keep products apart and find nothing outside any range")
+    void shouldKeepProductsApartAndFindNothingOutsideAnyRange() {
+        // Given - dos productos con monedas distintas
+        final LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        final LocalDateTime end = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+        final PriceSnapshot snapshot = PriceSnapshot.of(List.of(
+                price(2L, 10L, start, end, "EUR"),
+                price(1L, 11L, start, end, "USD")));
+
+        // When & Then
+        assertEquals("EUR", snapshot.findBestPrice(1L, 2L, EpochMillis.of(start)).getCurr());
+        assertEquals("USD", snapshot.findBestPrice(1L, 1L, EpochMillis.of(end)).getCurr());
+        assertNull(snapshot.findBestPrice(1L, 1L, EpochMillis.of(end) + 1));
+        assertEquals(PriceSnapshot.NOT_FOUND, snapshot.find(1L, 3L, EpochMillis.of(start)));
+        assertEquals(PriceSnapshot.NOT_FOUND, snapshot.find(-1L, 1L, EpochMillis.of(start)));
+    }
+
+    @Test
+    @DisplayName("Should open an empty snapshot")
+    void shouldOpenEmptySnapshot() {
+        // Given
+        final Path file = this.directory.resolve("empty.snap");
+        PriceSnapshot.write(file, List.of());
+
+        // When
+        final PriceSnapshot snapshot = PriceSnapshot.open(file);
+
+        // Then
+        assertEquals(0, snapshot.recordCount());
+        assertEquals(PriceSnapshot.NOT_FOUND, snapshot.find(1L, 35455L, 0L));
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not snapshots or are truncated")
+    void shouldRejectFilesThatAreNotSnapshotsOrAreTruncated() throws IOException {
+        // Given
+        final Path garbage = Files.write(this.directory.resolve("garbage.snap"), new byte[128]);
+        final Path file = this.directory.resolve("prices.snap");
+        PriceSnapshot.write(file, this.initSqlPrices);
+        final byte[] bytes = Files.readAllBytes(file);
+        final Path truncated = Files.write(this.directory.resolve("truncated.snap"),
+                Arrays.copyOf(bytes, bytes.length - PriceSnapshot.RECORD_SIZE));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> PriceSnapshot.open(garbage));
+        assertThrows(IllegalArgumentException.class, () -> PriceSnapshot.open(truncated));
+    }
+
+    @Test
+    @DisplayName("Should replace an existing snapshot atomically")
+    void shouldReplaceExistingSnapshotAtomically() throws IOException {
+        // Given
+        final Path file = this.directory.resolve("prices.snap");
+        PriceSnapshot.write(file, List.of());
+
+        // When
+        PriceSnapshot.write(file, this.initSqlPrices);
+
+        // Then - no quedan ficheros temporales
+        assertEquals(4, PriceSnapshot.open(file).recordCount());
+        try (Stream<Path> files = Files.list(this.directory)) {
+            assertTrue(files.allMatch(file::equals));
+        }
+    }
+
+    private static Price price(Long productId, Long priceList, LocalDateTime start, LocalDateTime end, String curr) {
+        return Price.builder()
+                .brandId(1L)
+                .productId(productId)
+                .priceList(priceList)
+                .priority(0)
+                .startDate(start)
+                .endDate(end)
+                .price(new BigDecimal("9.99"))
+                .curr(curr)
+                .build();
+    }
+}
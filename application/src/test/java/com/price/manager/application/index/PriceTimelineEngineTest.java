@@ -0,0 +1,84 @@
+package com.price.manager.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Price Timeline Engine Tests")
+class PriceTimelineEngineTest {
+
+    private PriceTimelineEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        this.engine = new PriceTimelineEngine();
+        this.engine.load(PriceDomainMocks.createInitSqlPrices());
+    }
+
+    @Test
+    @DisplayName("Should resolve the required business scenarios")
+    void shouldResolveRequiredBusinessScenarios() {
+        // When & Then
+        assertEquals(1L, this.find(LocalDateTime.of(2020, 6, 14, 10, 0)));
+        assertEquals(2L, this.find(LocalDateTime.of(2020, 6, 14, 16, 0)));
+        assertEquals(1L, this.find(LocalDateTime.of(2020, 6, 14, 21, 0)));
+        assertEquals(3L, this.find(LocalDateTime.of(2020, 6, 15, 10, 0)));
+        assertEquals(4L, this.find(LocalDateTime.of(2020, 6, 16, 21, 0)));
+        assertEquals(1, this.engine.productCount());
+        assertEquals(6, this.engine.segmentCount());
+    }
+
+    @Test
+    @DisplayName("Should rebuild a single product without affecting the others")
+    void shouldRebuildSingleProductWithoutAffectingOthers() {
+        // Given
+        final var otherProduct = PriceDomainMocks.createExpectedPrice(9L, 0, "99.00", "2020-01-01T00:00:00", "2020-12-31T23:59:59")
+                .toBuilder().productId(1L).build();
+        this.engine.rebuild(1L, 1L, List.of(otherProduct));
+        final var flashSale = PriceDomainMocks.createExpectedPrice(5L, 2, "9.99", "2020-06-14T09:00:00", "2020-06-14T11:00:00");
+        final var rows = new ArrayList<>(PriceDomainMocks.createInitSqlPrices());
+        rows.add(flashSale);
+
+        // When
+        this.engine.rebuild(1L, 35455L, rows);
+
+        // Then
+        assertEquals(5L, this.find(LocalDateTime.of(2020, 6, 14, 10, 0)));
+        assertEquals(9L, this.engine.findBestPrice(PriceSearchCriteria.of(1L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)))
+                .orElseThrow().getPriceList());
+        assertEquals(2, this.engine.productCount());
+    }
+
+    @Test
+    @DisplayName("Should remove a product when rebuilt without rows")
+    void shouldRemoveProductWhenRebuiltWithoutRows() {
+        // When
+        this.engine.rebuild(1L, 35455L, List.of());
+
+        // Then
+        assertTrue(this.engine.timeline(1L, 35455L).isEmpty());
+        assertTrue(this.engine.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown products and null dates")
+    void shouldReturnEmptyForUnknownProductsAndNullDates() {
+        // When & Then
+        assertTrue(this.engine.findBestPrice(PriceSearchCriteria.of(2L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0))).isEmpty());
+        assertTrue(this.engine.findBestPrice(PriceSearchCriteria.of(1L, 35455L, null)).isEmpty());
+    }
+
+    private Long find(LocalDateTime queryDate) {
+        return this.engine.findBestPrice(PriceSearchCriteria.of(1L, 35455L, queryDate)).orElseThrow().getPriceList();
+    }
+}
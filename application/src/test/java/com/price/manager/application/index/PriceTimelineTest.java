@@ -0,0 +1,87 @@
+package com.price.manager.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Price Timeline Tests")
+class PriceTimelineTest {
+
+    private final PriceTimeline timeline = PriceTimeline.of(PriceDomainMocks.createInitSqlPrices());
+
+    @Test
+    @DisplayName("Should flatten sample-data rows into non-overlapping resolved segments")
+    void shouldFlattenInitSqlRowsIntoNonOverlappingResolvedSegments() {
+        // Then - base, promoción tarde, base, promoción mañana, base, premium
+        assertEquals(6, this.timeline.size());
+        final long[] expectedPriceLists = {1L, 2L, 1L, 3L, 1L, 4L};
+        for (int i = 0; i < this.timeline.size(); i++) {
+            assertEquals(expectedPriceLists[i], this.timeline.winner(i).getPriceList(), "Segment " + i);
+            if (i > 0) {
+                assertEquals(this.timeline.end(i - 1), this.timeline.start(i), "Segments should be contiguous");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve inclusive end boundaries at millisecond precision")
+    void shouldResolveInclusiveEndBoundariesAtMillisecondPrecision() {
+        // Given
+        final long promotionEnd = EpochMillis.of(LocalDateTime.of(2020, 6, 14, 18, 30));
+
+        // When & Then
+        assertEquals(2L, this.timeline.priceAt(promotionEnd).getPriceList());
+        assertEquals(1L, this.timeline.priceAt(promotionEnd + 1).getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should return null outside every interval")
+    void shouldReturnNullOutsideEveryInterval() {
+        // When & Then
+        assertNull(this.timeline.priceAt(EpochMillis.of(LocalDateTime.of(2020, 6, 13, 23, 59))));
+        assertNull(this.timeline.priceAt(EpochMillis.of(LocalDateTime.of(2021, 1, 1, 0, 0))));
+        assertEquals(-1, this.timeline.segmentAt(Long.MIN_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should leave gaps between disjoint intervals")
+    void shouldLeaveGapsBetweenDisjointIntervals() {
+        // Given
+        final var first = PriceDomainMocks.createExpectedPrice(1L, 0, "10.00", "2020-01-01T00:00:00", "2020-01-31T23:59:59");
+        final var second = PriceDomainMocks.createExpectedPrice(2L, 0, "12.00", "2020-03-01T00:00:00", "2020-03-31T23:59:59");
+        final var overlapping = PriceDomainMocks.createExpectedPrice(3L, 0, "9.00", "2020-01-10T00:00:00", "2020-01-20T00:00:00");
+
+        // When - en empate de prioridad gana el mayor priceList (3 sobre 1)
+        final var gapped = PriceTimeline.of(List.of(second, overlapping, first));
+
+        // Then
+        assertEquals(4, gapped.size());
+        assertNull(gapped.priceAt(EpochMillis.of(LocalDateTime.of(2020, 2, 15, 0, 0))));
+        assertEquals(3L, gapped.priceAt(EpochMillis.of(LocalDateTime.of(2020, 1, 15, 0, 0))).getPriceList());
+        assertEquals(2L, gapped.priceAt(EpochMillis.of(LocalDateTime.of(2020, 3, 15, 0, 0))).getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should merge adjacent segments won by the same price")
+    void shouldMergeAdjacentSegmentsWonBySamePrice() {
+        // Given - un precio de menor prioridad completamente cubierto por otro
+        final var dominant = PriceDomainMocks.createExpectedPrice(1L, 1, "10.00", "2020-01-01T00:00:00", "2020-01-31T23:59:59");
+        final var covered = PriceDomainMocks.createExpectedPrice(2L, 0, "12.00", "2020-01-10T00:00:00", "2020-01-20T00:00:00");
+
+        // When
+        final var merged = PriceTimeline.of(List.of(covered, dominant));
+
+        // Then
+        assertEquals(1, merged.size());
+        assertEquals(1L, merged.winner(0).getPriceList());
+        assertEquals(EpochMillis.of(LocalDateTime.of(2020, 1, 1, 0, 0)), merged.start(0));
+        assertEquals(EpochMillis.of(LocalDateTime.of(2020, 1, 31, 23, 59, 59)) + 1, merged.end(0));
+    }
+}
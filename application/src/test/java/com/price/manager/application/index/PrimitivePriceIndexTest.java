@@ -0,0 +1,101 @@
+package com.price.manager.application.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("Primitive Price Index Tests")
+class PrimitivePriceIndexTest {
+
+    private final PrimitivePriceIndex index = PrimitivePriceIndex.of(PriceDomainMocks.createInitSqlPrices());
+
+    static Stream<Arguments> businessScenarios() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), 1L, "Test 1: 10:00 día 14 - Precio base"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), 2L, "Test 2: 16:00 día 14 - Promoción tarde"),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), 1L, "Test 3: 21:00 día 14 - Precio base"),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), 3L, "Test 4: 10:00 día 15 - Promoción mañana"),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), 4L, "Test 5: 21:00 día 16 - Precio premium")
+        );
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("businessScenarios")
+    @DisplayName("Should resolve the same winner as the JPA query")
+    void shouldResolveSameWinnerAsJpaQuery(LocalDateTime queryDate, Long expectedPriceList, String description) {
+        // When
+        final int segment = this.index.find(1L, 35455L, EpochMillis.of(queryDate));
+
+        // Then
+        assertEquals(expectedPriceList, this.index.winner(segment).getPriceList(), description);
+        assertSame(this.index.winner(segment), this.index.findBestPrice(1L, 35455L, EpochMillis.of(queryDate)));
+    }
+
+    @Test
+    @DisplayName("Should return not found for unknown, unpackable or uncovered lookups")
+    void shouldReturnNotFoundForUnknownUnpackableOrUncoveredLookups() {
+        // Given
+        final long covered = EpochMillis.of(LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        // When & Then
+        assertEquals(PrimitivePriceIndex.NOT_FOUND, this.index.find(2L, 35455L, covered));
+        assertEquals(PrimitivePriceIndex.NOT_FOUND, this.index.find(-1L, 35455L, covered));
+        assertEquals(PrimitivePriceIndex.NOT_FOUND, this.index.find(1L, 1L << 40, covered));
+        assertEquals(PrimitivePriceIndex.NOT_FOUND, this.index.find(1L, 35455L, EpochMillis.of(LocalDateTime.of(2019, 1, 1, 0, 0))));
+        assertNull(this.index.findBestPrice(1L, 35455L, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should keep products with colliding low bits apart")
+    void shouldKeepProductsWithCollidingLowBitsApart() {
+        // Given - mismo producto en dos marcas y productos consecutivos
+        final var rows = List.of(
+                PriceDomainMocks.createExpectedPrice(1L, 0, "10.00", "2020-01-01T00:00:00", "2020-12-31T23:59:59"),
+                PriceDomainMocks.createExpectedPrice(2L, 0, "20.00", "2020-01-01T00:00:00", "2020-12-31T23:59:59")
+                        .toBuilder().brandId(2L).build(),
+                PriceDomainMocks.createExpectedPrice(3L, 0, "30.00", "2020-01-01T00:00:00", "2020-12-31T23:59:59")
+                        .toBuilder().productId(35456L).build());
+        final long date = EpochMillis.of(LocalDateTime.of(2020, 6, 1, 0, 0));
+
+        // When
+        final var multi = PrimitivePriceIndex.of(rows);
+
+        // Then
+        assertEquals(3, multi.productCount());
+        assertEquals(1L, multi.findBestPrice(1L, 35455L, date).getPriceList());
+        assertEquals(2L, multi.findBestPrice(2L, 35455L, date).getPriceList());
+        assertEquals(3L, multi.findBestPrice(1L, 35456L, date).getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should reject identifiers that cannot be packed")
+    void shouldRejectIdentifiersThatCannotBePacked() {
+        // Given
+        final var row = PriceDomainMocks.createExpectedPrice(1L, 0, "10.00", "2020-01-01T00:00:00", "2020-12-31T23:59:59")
+                .toBuilder().brandId(1L << 31).build();
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> PrimitivePriceIndex.of(List.of(row)));
+    }
+
+    @Test
+    @DisplayName("Should return nothing from the empty index")
+    void shouldReturnNothingFromEmptyIndex() {
+        // When & Then
+        assertEquals(0, PrimitivePriceIndex.empty().segmentCount());
+        assertEquals(PrimitivePriceIndex.NOT_FOUND, PrimitivePriceIndex.empty().find(1L, 35455L, 0L));
+    }
+}
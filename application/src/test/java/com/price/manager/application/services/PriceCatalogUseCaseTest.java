@@ -0,0 +1,93 @@
+package com.price.manager.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.price.manager.application.ports.driven.PriceCatalogPort;
+import com.price.manager.domain.Price;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Catalog Use Case - Tests")
+class PriceCatalogUseCaseTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceCatalogPort priceCatalogPort;
+
+    @InjectMocks
+    private PriceCatalogUseCase priceCatalogUseCase;
+
+    private static Price price(Long productId, Long priceList, Integer priority) {
+        return Price.builder()
+                .brandId(1L)
+                .productId(productId)
+                .priceList(priceList)
+                .priority(priority)
+                .price(new BigDecimal("10.00"))
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59))
+                .curr("EUR")
+                .build();
+    }
+
+    private void givenRows(List<Price> rows) {
+        when(this.priceCatalogPort.forEachValidAt(eq(1L), eq(AT), any())).thenAnswer(invocation -> {
+            final Consumer<Price> consumer = invocation.getArgument(2);
+            rows.forEach(consumer);
+            return (long) rows.size();
+        });
+    }
+
+    @Test
+    @DisplayName("Should emit one winner per product in product order")
+    void shouldEmitOneWinnerPerProductInProductOrder() {
+        // Given - filas agrupadas por producto, no necesariamente con el ganador primero
+        this.givenRows(List.of(
+                price(100L, 1L, 0),
+                price(100L, 2L, 1),
+                price(200L, 3L, 0),
+                price(300L, 4L, 1),
+                price(300L, 5L, 1)));
+        final List<Price> emitted = new ArrayList<>();
+
+        // When
+        final long products = this.priceCatalogUseCase.streamEffectivePrices(1L, AT, emitted::add);
+
+        // Then
+        assertEquals(3L, products);
+        assertEquals(List.of(2L, 3L, 5L), emitted.stream().map(Price::getPriceList).toList());
+        assertEquals(List.of(100L, 200L, 300L), emitted.stream().map(Price::getProductId).toList());
+    }
+
+    @Test
+    @DisplayName("Should emit nothing when the brand has no valid rows")
+    void shouldEmitNothingWhenBrandHasNoValidRows() {
+        // Given
+        this.givenRows(List.of());
+        final List<Price> emitted = new ArrayList<>();
+
+        // When
+        final long products = this.priceCatalogUseCase.streamEffectivePrices(1L, AT, emitted::add);
+
+        // Then
+        assertEquals(0L, products);
+        assertTrue(emitted.isEmpty());
+    }
+}
@@ -0,0 +1,156 @@
+package com.price.manager.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.price.manager.application.cache.PriceResultCache;
+import com.price.manager.application.index.PriceKeyBloomFilter;
+import com.price.manager.application.ports.driven.PriceIngestPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.ingest.PriceIngestResult;
+import com.price.manager.utils.MutableClock;
+import com.price.manager.utils.PriceDomainMocks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Ingest Use Case - Tests")
+class PriceIngestUseCaseTest {
+
+    @Mock
+    private PriceIngestPort priceIngestPort;
+
+    @Mock
+    private PriceRepositoryPort priceRepositoryPort;
+
+    private PriceDomainMocks mocks;
+
+    @BeforeEach
+    void setUp() {
+        this.mocks = new PriceDomainMocks();
+    }
+
+    private PriceResultCache cacheWithOneEntry() {
+        final PriceResultCache cache = new PriceResultCache(10, Duration.ofSeconds(1), new MutableClock());
+        cache.put(1L, 1L, 0L, Duration.ofHours(1).toMillis(), this.mocks.createValidPrice(), cache.generation());
+        return cache;
+    }
+
+    private Stream<Price> validPrices(long count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(productId -> this.mocks.createValidPrice().toBuilder().productId(productId).build());
+    }
+
+    @Test
+    @DisplayName("Should write valid rows in chunks of the configured size")
+    @SuppressWarnings("unchecked")
+    void shouldWriteValidRowsInChunksOfConfiguredSize() {
+        // Given
+        final PriceIngestUseCase useCase = new PriceIngestUseCase(this.priceIngestPort, this.priceRepositoryPort, null, null, 2);
+        final ArgumentCaptor<List<Price>> chunks = ArgumentCaptor.forClass(List.class);
+
+        // When
+        final PriceIngestResult result = useCase.ingest(this.validPrices(5));
+
+        // Then
+        verify(this.priceIngestPort, times(3)).saveAll(chunks.capture());
+        assertEquals(List.of(2, 2, 1), chunks.getAllValues().stream().map(List::size).toList());
+        assertEquals(new PriceIngestResult(5, 0, 3, List.of()), result);
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent rows and report their positions")
+    void shouldRejectInconsistentRowsAndReportPositions() {
+        // Given - fila 2 sin moneda y fila 4 vacía (no se pudo leer)
+        final PriceIngestUseCase useCase = new PriceIngestUseCase(this.priceIngestPort, this.priceRepositoryPort, null, null, 10);
+        final Price valid = this.mocks.createValidPrice();
+        final Price withoutCurrency = valid.toBuilder().curr(" ").build();
+
+        // When
+        final PriceIngestResult result = useCase.ingest(
+                Stream.of(valid, withoutCurrency, valid, Price.builder().build()));
+
+        // Then
+        verify(this.priceIngestPort).saveAll(List.of(valid, valid));
+        assertEquals(new PriceIngestResult(2, 2, 1, List.of(2L, 4L)), result);
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when every row is rejected")
+    void shouldNotTouchDatabaseWhenEveryRowIsRejected() {
+        // Given
+        final PriceResultCache resultCache = this.cacheWithOneEntry();
+        final PriceIngestUseCase useCase = new PriceIngestUseCase(this.priceIngestPort, this.priceRepositoryPort,
+                resultCache, null, 10);
+
+        // When
+        final PriceIngestResult result = useCase.ingest(Stream.of(Price.builder().build()));
+
+        // Then
+        verify(this.priceIngestPort, never()).saveAll(any());
+        assertEquals(1, resultCache.stats().size());
+        assertEquals(new PriceIngestResult(0, 1, 0, List.of(1L)), result);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the result cache once new prices are written")
+    void shouldInvalidateResultCacheOnceNewPricesAreWritten() {
+        // Given
+        final PriceResultCache resultCache = this.cacheWithOneEntry();
+        final PriceIngestUseCase useCase = new PriceIngestUseCase(this.priceIngestPort, this.priceRepositoryPort,
+                resultCache, null, 2);
+
+        // When
+        useCase.ingest(this.validPrices(3));
+
+        // Then
+        assertEquals(0, resultCache.stats().size());
+    }
+
+    @Test
+    @DisplayName("Should add the pairs of each chunk to the key filter before writing it")
+    void shouldAddPairsToKeyFilterBeforeWriting() {
+        // Given
+        final PriceKeyBloomFilter keyFilter = PriceKeyBloomFilter.create(100, 0.01, 1L << 10);
+        final PriceIngestUseCase useCase = new PriceIngestUseCase(this.priceIngestPort, this.priceRepositoryPort,
+                null, keyFilter, 10);
+        final long brandId = this.mocks.createValidPrice().getBrandId();
+        doAnswer(invocation -> {
+            assertTrue(keyFilter.mightContain(brandId, 1L), "Key must be visible before the rows are written");
+            return null;
+        }).when(this.priceIngestPort).saveAll(any());
+
+        // When
+        useCase.ingest(this.validPrices(2));
+
+        // Then
+        assertTrue(keyFilter.mightContain(brandId, 2L));
+        assertFalse(keyFilter.mightContain(brandId, 3L));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive chunk size")
+    void shouldRejectNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriceIngestUseCase(this.priceIngestPort, this.priceRepositoryPort, null, null, 0));
+    }
+}
@@ -0,0 +1,104 @@
+package com.price.manager.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.price.manager.application.ports.driven.PriceReactiveRepositoryPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Reactive Service Use Case - Tests")
+class PriceReactiveServiceUseCaseTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceReactiveRepositoryPort priceReactiveRepositoryPort;
+
+    private PriceReactiveServiceUseCase useCase;
+
+    private static Price price(Long productId) {
+        return Price.builder()
+                .brandId(1L)
+                .productId(productId)
+                .priceList(2L)
+                .priority(1)
+                .price(new BigDecimal("25.45"))
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .curr("EUR")
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.useCase = new PriceReactiveServiceUseCase(this.priceReactiveRepositoryPort, 4);
+    }
+
+    @Test
+    @DisplayName("Should emit the price found by the reactive repository")
+    void shouldEmitPriceFoundByReactiveRepository() {
+        // Given
+        final Price expected = price(35455L);
+        when(this.priceReactiveRepositoryPort.findBestPrice(PriceSearchCriteria.of(1L, 35455L, AT)))
+                .thenReturn(Mono.just(expected));
+
+        // When & Then
+        StepVerifier.create(this.useCase.findByBrandProductBetweenDate(1L, 35455L, AT))
+                .expectNext(expected)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete empty when no price applies")
+    void shouldCompleteEmptyWhenNoPriceApplies() {
+        // Given
+        when(this.priceReactiveRepositoryPort.findBestPrice(PriceSearchCriteria.of(1L, 99999L, AT)))
+                .thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(this.useCase.findByBrandProductBetweenDate(1L, 99999L, AT))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should keep request order in bulk lookups even when later items finish first")
+    void shouldKeepRequestOrderInBulkLookups() {
+        // Given
+        final PriceSearchCriteria slow = PriceSearchCriteria.of(1L, 1L, AT);
+        final PriceSearchCriteria missing = PriceSearchCriteria.of(1L, 2L, AT);
+        final PriceSearchCriteria fast = PriceSearchCriteria.of(1L, 3L, AT);
+        when(this.priceReactiveRepositoryPort.findBestPrice(slow))
+                .thenReturn(Mono.just(price(1L)).delayElement(Duration.ofMillis(50)));
+        when(this.priceReactiveRepositoryPort.findBestPrice(missing)).thenReturn(Mono.empty());
+        when(this.priceReactiveRepositoryPort.findBestPrice(fast)).thenReturn(Mono.just(price(3L)));
+
+        // When & Then
+        StepVerifier.create(this.useCase.findBestPrices(List.of(slow, missing, fast)))
+                .expectNext(Optional.of(price(1L)), Optional.empty(), Optional.of(price(3L)))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive bulk concurrency")
+    void shouldRejectNonPositiveBulkConcurrency() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriceReactiveServiceUseCase(this.priceReactiveRepositoryPort, 0));
+    }
+}
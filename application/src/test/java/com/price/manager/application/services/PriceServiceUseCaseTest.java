@@ -5,19 +5,32 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import com.price.manager.application.cache.PriceResultCache;
+import com.price.manager.application.decorators.PriceCandidateCacheDecorator;
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.application.ports.driven.PricePrimitiveLookupPort;
 import com.price.manager.application.ports.driven.PriceRepositoryPort;
 import com.price.manager.domain.Price;
 import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.domain.quote.PriceQuote;
+import com.price.manager.utils.MutableClock;
 import com.price.manager.utils.PriceDomainMocks;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -321,4 +334,204 @@ class PriceServiceUseCaseTest {
         assertEquals(1, result.getPriority());
         assertEquals("EUR", result.getCurr());
     }
+
+    @Test
+    @DisplayName("Should delegate to the primitive lookup when the repository offers it")
+    void shouldDelegateToPrimitiveLookupWhenRepositoryOffersIt() {
+        // Given
+        final PriceRepositoryPort primitiveRepository = mock(PriceRepositoryPort.class,
+                withSettings().extraInterfaces(PricePrimitiveLookupPort.class));
+        final LocalDateTime queryDate = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+        final Price expectedPrice = PriceDomainMocks.createExpectedPrice(2L, 1, "25.45",
+                "2020-06-14T15:00:00", "2020-06-14T18:30:00");
+        when(((PricePrimitiveLookupPort) primitiveRepository).findBestPrice(1L, 35455L, EpochMillis.of(queryDate)))
+                .thenReturn(expectedPrice);
+
+        // When
+        final Price result = new PriceServiceUseCase(primitiveRepository).findByBrandProductBetweenDate(1L, 35455L, queryDate);
+
+        // Then
+        assertEquals(expectedPrice, result);
+        verify(primitiveRepository, never()).findBestPrice(any(PriceSearchCriteria.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to search criteria when a primitive lookup parameter is null")
+    void shouldFallBackToSearchCriteriaWhenPrimitiveLookupParameterIsNull() {
+        // Given
+        final PriceRepositoryPort primitiveRepository = mock(PriceRepositoryPort.class,
+                withSettings().extraInterfaces(PricePrimitiveLookupPort.class));
+        when(primitiveRepository.findBestPrice(any(PriceSearchCriteria.class))).thenReturn(Optional.empty());
+
+        // When
+        final Price result = new PriceServiceUseCase(primitiveRepository).findByBrandProductBetweenDate(1L, 35455L, null);
+
+        // Then
+        assertNull(result);
+        verify(primitiveRepository).findBestPrice(any(PriceSearchCriteria.class));
+    }
+
+    @Test
+    @DisplayName("Should serve queries inside the winning interval from the result cache")
+    void shouldServeQueriesInsideWinningIntervalFromResultCache() {
+        // Given - reloj en la promoción de tarde del día 14
+        final PriceCandidatesPort candidates = mock(PriceCandidatesPort.class);
+        when(candidates.findAllByBrandAndProduct(1L, 35455L)).thenReturn(PriceDomainMocks.createInitSqlPrices());
+        final PriceResultCache cache = new PriceResultCache(10, Duration.ofSeconds(1),
+                new MutableClock(LocalDateTime.of(2020, 6, 14, 16, 0)));
+        final PriceServiceUseCase service = new PriceServiceUseCase(candidates, cache);
+
+        // When
+        final Price first = service.findByBrandProductBetweenDate(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+        final Price second = service.findByBrandProductBetweenDate(1L, 35455L, LocalDateTime.of(2020, 6, 14, 18, 30));
+        final Price after = service.findByBrandProductBetweenDate(1L, 35455L, LocalDateTime.of(2020, 6, 14, 18, 31));
+
+        // Then - la segunda consulta cae en el mismo intervalo; la tercera no
+        assertEquals(2L, first.getPriceList());
+        assertEquals(2L, second.getPriceList());
+        assertEquals(1L, after.getPriceList());
+        assertEquals(1, cache.stats().hits());
+        verify(candidates, times(2)).findAllByBrandAndProduct(1L, 35455L);
+        verify(candidates, never()).findBestPrice(any(PriceSearchCriteria.class));
+    }
+
+    @Test
+    @DisplayName("Should not cache a winner loaded while the result cache was invalidated")
+    void shouldNotCacheWinnerLoadedDuringInvalidation() {
+        // Given - un lote de carga masiva se confirma mientras se leen los candidatos
+        final PriceCandidatesPort candidates = mock(PriceCandidatesPort.class);
+        final PriceResultCache cache = new PriceResultCache(10, Duration.ofSeconds(1),
+                new MutableClock(LocalDateTime.of(2020, 6, 14, 16, 0)));
+        when(candidates.findAllByBrandAndProduct(1L, 35455L)).thenAnswer(invocation -> {
+            cache.invalidateAll();
+            return PriceDomainMocks.createInitSqlPrices();
+        });
+        final PriceServiceUseCase service = new PriceServiceUseCase(candidates, cache);
+
+        // When
+        final Price price = service.findByBrandProductBetweenDate(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+        final PriceQuote quote = service.findQuote(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then - se responde con lo cargado, pero no se guarda
+        assertEquals(2L, price.getPriceList());
+        assertEquals(2L, quote.price().getPriceList());
+        assertEquals(0, cache.stats().size());
+        verify(candidates, times(2)).findAllByBrandAndProduct(1L, 35455L);
+    }
+
+    @Test
+    @DisplayName("Should ignore the result cache when the repository cannot list candidates")
+    void shouldIgnoreResultCacheWhenRepositoryCannotListCandidates() {
+        // Given
+        final PriceResultCache cache = new PriceResultCache(10, Duration.ofSeconds(1), new MutableClock());
+        when(this.priceRepositoryPort.findBestPrice(any(PriceSearchCriteria.class))).thenReturn(Optional.empty());
+
+        // When
+        final Price result = new PriceServiceUseCase(this.priceRepositoryPort, cache)
+                .findByBrandProductBetweenDate(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertNull(result);
+        assertEquals(0, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("Should quote the winner until the next boundary of the product, sharing the result cache")
+    void shouldQuoteWinnerUntilNextBoundary() {
+        // Given - reloj el día 14 por la mañana; la promoción de tarde empieza a las 15:00
+        final PriceCandidatesPort candidates = mock(PriceCandidatesPort.class);
+        when(candidates.findAllByBrandAndProduct(1L, 35455L)).thenReturn(PriceDomainMocks.createInitSqlPrices());
+        final PriceResultCache cache = new PriceResultCache(10, Duration.ofSeconds(1),
+                new MutableClock(LocalDateTime.of(2020, 6, 14, 9, 0)));
+        final PriceServiceUseCase service = new PriceServiceUseCase(candidates, cache);
+
+        // When
+        final PriceQuote first = service.findQuote(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0));
+        final PriceQuote second = service.findQuote(1L, 35455L, LocalDateTime.of(2020, 6, 14, 14, 0));
+
+        // Then - la tarifa base vence el día 31 de diciembre, pero deja de ganar a las 15:00
+        assertEquals(1L, first.price().getPriceList());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 15, 0), first.validUntil());
+        assertEquals(first, second);
+        assertEquals(1, cache.stats().hits());
+        verify(candidates, times(1)).findAllByBrandAndProduct(1L, 35455L);
+    }
+
+    @Test
+    @DisplayName("Should quote until the end of the price when the repository cannot list candidates")
+    void shouldQuoteUntilEndOfPriceWithoutCandidates() {
+        // Given
+        final Price price = this.mocks.createValidPrice();
+        when(this.priceRepositoryPort.findBestPrice(any(PriceSearchCriteria.class))).thenReturn(Optional.of(price));
+
+        // When
+        final PriceQuote quote = new PriceServiceUseCase(this.priceRepositoryPort)
+                .findQuote(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertEquals(price, quote.price());
+        assertEquals(price.getEndDate().plusNanos(1_000_000L), quote.validUntil());
+    }
+
+    @Test
+    @DisplayName("Should resolve bulk lookups with a single repository call in request order")
+    void shouldResolveBulkLookupsWithSingleRepositoryCallInRequestOrder() {
+        // Given
+        final Price price = this.mocks.createValidPrice();
+        final List<PriceSearchCriteria> criteria = List.of(
+                PriceSearchCriteria.of(1L, 99999L, LocalDateTime.of(2020, 6, 14, 10, 0)),
+                PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+        when(this.priceRepositoryPort.findBestPrices(criteria)).thenReturn(List.of(Optional.empty(), Optional.of(price)));
+
+        // When
+        final List<Price> result = this.priceServiceUseCase.findBestPrices(criteria);
+
+        // Then
+        assertEquals(Arrays.asList(null, price), result);
+        verify(this.priceRepositoryPort).findBestPrices(criteria);
+        verifyNoMoreInteractions(this.priceRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should resolve bulk lookups item by item on primitive repositories")
+    void shouldResolveBulkLookupsItemByItemOnPrimitiveRepositories() {
+        // Given
+        final PriceRepositoryPort primitiveRepository = mock(PriceRepositoryPort.class,
+                withSettings().extraInterfaces(PricePrimitiveLookupPort.class));
+        final LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        final Price price = this.mocks.createValidPrice();
+        when(((PricePrimitiveLookupPort) primitiveRepository).findBestPrice(1L, 35455L, EpochMillis.of(date))).thenReturn(price);
+
+        // When
+        final List<Price> result = new PriceServiceUseCase(primitiveRepository).findBestPrices(List.of(
+                PriceSearchCriteria.of(1L, 35455L, date),
+                PriceSearchCriteria.of(1L, 99999L, date)));
+
+        // Then
+        assertEquals(Arrays.asList(price, null), result);
+        verify(primitiveRepository, never()).findBestPrices(any());
+    }
+
+    @Test
+    @DisplayName("Should read and populate the result cache when bulk lookups go item by item")
+    void shouldUseResultCacheWhenBulkLookupsGoItemByItem() {
+        // Given - caché de candidatos (ruta primitiva) con caché de resultados
+        final PriceCandidatesPort candidates = mock(PriceCandidatesPort.class);
+        when(candidates.findAllByBrandAndProduct(1L, 35455L)).thenReturn(PriceDomainMocks.createInitSqlPrices());
+        final PriceResultCache cache = new PriceResultCache(10, Duration.ofSeconds(1),
+                new MutableClock(LocalDateTime.of(2020, 6, 14, 16, 0)));
+        final PriceServiceUseCase service = new PriceServiceUseCase(
+                new PriceCandidateCacheDecorator(candidates, 10, Duration.ofMinutes(1)), cache);
+
+        // When - dos fechas dentro del mismo intervalo ganador
+        final List<Price> result = service.findBestPrices(List.of(
+                PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 17, 0))));
+
+        // Then - el primero la alimenta y el segundo acierta
+        assertEquals(2L, result.get(0).getPriceList());
+        assertEquals(2L, result.get(1).getPriceList());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().size());
+    }
 }
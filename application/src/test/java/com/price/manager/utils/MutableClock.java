@@ -0,0 +1,51 @@
+package com.price.manager.utils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Reloj manual en UTC para controlar caducidades en los tests.
+ */
+public final class MutableClock extends Clock {
+
+    private Instant now;
+
+    public MutableClock() {
+        this(Instant.EPOCH);
+    }
+
+    public MutableClock(LocalDateTime now) {
+        this(now.toInstant(ZoneOffset.UTC));
+    }
+
+    private MutableClock(Instant now) {
+        this.now = now;
+    }
+
+    public void advance(Duration duration) {
+        this.now = this.now.plus(duration);
+    }
+
+    public void set(LocalDateTime now) {
+        this.now = now.toInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return this.now;
+    }
+}
@@ -2,6 +2,7 @@ package com.price.manager.utils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.price.manager.domain.Price;
 
@@ -33,4 +34,16 @@ public class PriceDomainMocks {
                 .curr("EUR")
                 .build();
     }
+
+    /**
+     * Los cuatro precios de los datos de ejemplo (db/sample-data) para brandId 1 y productId 35455.
+     */
+    public static List<Price> createInitSqlPrices() {
+        return List.of(
+                createExpectedPrice(1L, 0, "35.50", "2020-06-14T00:00:00", "2020-12-31T23:59:59"),
+                createExpectedPrice(2L, 1, "25.45", "2020-06-14T15:00:00", "2020-06-14T18:30:00"),
+                createExpectedPrice(3L, 1, "30.50", "2020-06-15T00:00:00", "2020-06-15T11:00:00"),
+                createExpectedPrice(4L, 1, "38.95", "2020-06-15T16:00:00", "2020-12-31T23:59:59")
+        );
+    }
 }
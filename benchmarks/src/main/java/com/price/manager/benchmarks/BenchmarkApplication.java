@@ -0,0 +1,22 @@
+package com.price.manager.benchmarks;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Contexto Spring mínimo para los microbenchmarks JMH.
+ *
+ * <p>Solo escanea los repositorios JPA del módulo {@code repository-sql}; no levanta la
+ * capa web ni los casos de uso, de modo que las mediciones aíslan el acceso a datos.
+ * La configuración (H2 en memoria, solo las migraciones de esquema, sin datos de ejemplo) se inyecta desde
+ * {@link SyntheticCatalog#startContext()}.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@SpringBootApplication(scanBasePackages = "com.price.manager.driven.repositories")
+@EnableJpaRepositories(basePackages = "com.price.manager.driven.repositories")
+@EntityScan(basePackages = "com.price.manager.driven.repositories.models")
+public class BenchmarkApplication {
+}
@@ -0,0 +1,139 @@
+package com.price.manager.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.driving.controllers.models.PriceResponse;
+import com.price.manager.driving.grpc.config.GrpcServerLifecycle;
+import com.price.manager.driving.grpc.proto.PriceLookupRequest;
+import com.price.manager.driving.grpc.proto.PriceLookupServiceGrpc;
+import com.price.manager.driving.grpc.proto.PriceMessage;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Latencia de una búsqueda por loopback: JSON sobre HTTP/1.1 frente a protobuf sobre gRPC.
+ *
+ * <p>Ambos clientes hacen la llamada completa, incluida la decodificación de la respuesta:
+ * Jackson a {@link PriceResponse} (con sus {@code OffsetDateTime}) en REST y el mensaje
+ * {@link PriceMessage} en gRPC. El servidor ({@link TransportBenchmarkApplication}) no toca la
+ * base de datos. Con el profiler {@code gc}, {@code gc.alloc.rate.norm} incluye las
+ * asignaciones del cliente y del servidor, que comparten JVM.</p>
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl benchmarks exec:exec -Dbenchmark=GrpcVsRestBenchmark
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcVsRestBenchmark {
+
+    private static final LocalDateTime QUERY_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private HttpRequest restRequest;
+
+    private ObjectMapper objectMapper;
+
+    private ManagedChannel channel;
+
+    private PriceLookupServiceGrpc.PriceLookupServiceBlockingStub stub;
+
+    private PriceLookupRequest grpcRequest;
+
+    /**
+     * Arranca Tomcat y el servidor gRPC en puertos libres y abre un cliente para cada uno.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(TransportBenchmarkApplication.class)
+                .properties(
+                        "server.port=0",
+                        "price-manager.grpc.enabled=true",
+                        "price-manager.grpc.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        final int restPort = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+        final int grpcPort = this.context.getBean(GrpcServerLifecycle.class).getPort();
+
+        this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.restRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + restPort
+                        + "/v1/price/findByBrandProductBetweenDate?dateQuery=2020-06-14T16:00:00Z&productId=35455&brandId=1"))
+                .GET()
+                .build();
+        this.objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        this.channel = ManagedChannelBuilder.forAddress("localhost", grpcPort).usePlaintext().build();
+        this.stub = PriceLookupServiceGrpc.newBlockingStub(this.channel);
+        this.grpcRequest = PriceLookupRequest.newBuilder()
+                .setBrandId(1L)
+                .setProductId(35455L)
+                .setApplicationDate(EpochMillis.of(QUERY_DATE))
+                .build();
+    }
+
+    /**
+     * Cierra el canal gRPC y el contexto.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.channel.shutdownNow();
+        this.context.close();
+    }
+
+    /**
+     * GET {@code /v1/price/findByBrandProductBetweenDate} con respuesta JSON.
+     *
+     * @return respuesta decodificada
+     * @throws Exception si la llamada falla
+     */
+    @Benchmark
+    public PriceResponse rest() throws Exception {
+        final HttpResponse<byte[]> response = this.httpClient.send(this.restRequest,
+                HttpResponse.BodyHandlers.ofByteArray());
+        return this.objectMapper.readValue(response.body(), PriceResponse.class);
+    }
+
+    /**
+     * RPC unaria {@code FindPrice} con respuesta protobuf.
+     *
+     * @return respuesta decodificada
+     */
+    @Benchmark
+    public PriceMessage grpc() {
+        return this.stub.findPrice(this.grpcRequest);
+    }
+}
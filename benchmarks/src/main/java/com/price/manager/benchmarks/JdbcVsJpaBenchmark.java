@@ -0,0 +1,126 @@
+package com.price.manager.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.jdbc.adapters.PriceJdbcRepositoryAdapter;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.adapters.PriceRepositoryAdapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compara el adaptador JPA ({@link PriceRepositoryAdapter}) con el adaptador JDBC plano
+ * ({@link PriceJdbcRepositoryAdapter}) sobre el mismo catálogo sintético y la misma consulta.
+ *
+ * <p>Ambos devuelven un {@link Price} de dominio, así que la diferencia medida es el coste de
+ * Hibernate (contexto de persistencia, entidad intermedia y mapper) frente a leer el
+ * {@code ResultSet} directamente. Con el profiler {@code gc} la métrica a comparar es
+ * {@code gc.alloc.rate.norm}.</p>
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl benchmarks exec:exec -Dbenchmark=JdbcVsJpaBenchmark
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see SyntheticCatalog
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcVsJpaBenchmark {
+
+    private static final int QUERY_COUNT = 4096;
+
+    private static final int QUERY_MASK = QUERY_COUNT - 1;
+
+    /**
+     * Número de productos del catálogo.
+     */
+    @Param({"10000"})
+    public int products;
+
+    /**
+     * Promociones solapadas por producto, además de la tarifa base.
+     */
+    @Param({"3", "20"})
+    public int promotionsPerProduct;
+
+    private ConfigurableApplicationContext context;
+
+    private PriceRepositoryAdapter jpaAdapter;
+
+    private PriceJdbcRepositoryAdapter jdbcAdapter;
+
+    private PriceSearchCriteria[] queries;
+
+    private int cursor;
+
+    /**
+     * Arranca el contexto, persiste el catálogo y crea el adaptador JDBC sobre el mismo
+     * {@code DataSource} que usa JPA.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = SyntheticCatalog.startContext();
+        this.context.getBean(PriceJpaRepository.class)
+                .saveAll(SyntheticCatalog.rows(this.products, this.promotionsPerProduct));
+        this.jpaAdapter = this.context.getBean(PriceRepositoryAdapter.class);
+        this.jdbcAdapter = new PriceJdbcRepositoryAdapter(this.context.getBean(JdbcTemplate.class));
+        this.queries = SyntheticCatalog.queries(this.products, QUERY_COUNT);
+    }
+
+    /**
+     * Cierra el contexto y la base de datos en memoria.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    /**
+     * Adaptador JPA: JPQL, entidad gestionada y mapeo MapStruct a dominio.
+     *
+     * @return precio ganador
+     */
+    @Benchmark
+    public Optional<Price> jpa() {
+        return this.jpaAdapter.findBestPrice(this.next());
+    }
+
+    /**
+     * Adaptador JDBC: misma SQL con {@code JdbcTemplate} y mapeo directo desde el {@code ResultSet}.
+     *
+     * @return precio ganador
+     */
+    @Benchmark
+    public Optional<Price> jdbc() {
+        return this.jdbcAdapter.findBestPrice(this.next());
+    }
+
+    private PriceSearchCriteria next() {
+        this.cursor = (this.cursor + 1) & QUERY_MASK;
+        return this.queries[this.cursor];
+    }
+}
@@ -0,0 +1,121 @@
+package com.price.manager.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Tráfico solo de 404 por loopback: respuesta preconstruida frente a excepción con pila.
+ *
+ * <p>{@code current} llama a {@code /v1/price/findByBrandProductBetweenDate}, que devuelve
+ * la respuesta compartida de {@code ErrorResponses}; {@code legacy} llama al controlador de
+ * {@link NotFoundBenchmarkApplication} que lanza la excepción y serializa un {@code Error}
+ * nuevo. Con el profiler {@code gc}, {@code gc.alloc.rate.norm} da los bytes por petición
+ * de cliente y servidor, que comparten JVM.</p>
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl benchmarks exec:exec -Dbenchmark=NotFoundBenchmark
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class NotFoundBenchmark {
+
+    private static final String QUERY = "?dateQuery=2020-06-14T16:00:00Z&productId=99999&brandId=1";
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient httpClient;
+
+    private HttpRequest currentRequest;
+
+    private HttpRequest legacyRequest;
+
+    /**
+     * Arranca Tomcat en un puerto libre y prepara las dos peticiones.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(NotFoundBenchmarkApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        final String base = "http://localhost:"
+                + ((WebServerApplicationContext) this.context).getWebServer().getPort();
+
+        this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.currentRequest = HttpRequest.newBuilder(URI.create(base + "/v1/price/findByBrandProductBetweenDate" + QUERY))
+                .GET()
+                .build();
+        this.legacyRequest = HttpRequest.newBuilder(URI.create(base + "/legacy/price" + QUERY))
+                .GET()
+                .build();
+    }
+
+    /**
+     * Cierra el contexto.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    /**
+     * 404 devuelto como valor con el cuerpo ya serializado.
+     *
+     * @return cuerpo de la respuesta
+     * @throws Exception si la llamada falla
+     */
+    @Benchmark
+    public byte[] current() throws Exception {
+        return this.send(this.currentRequest);
+    }
+
+    /**
+     * 404 por excepción con pila y {@code Error} serializado en cada petición.
+     *
+     * @return cuerpo de la respuesta
+     * @throws Exception si la llamada falla
+     */
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        return this.send(this.legacyRequest);
+    }
+
+    private byte[] send(HttpRequest request) throws Exception {
+        final HttpResponse<byte[]> response = this.httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 404) {
+            throw new IllegalStateException("Expected 404 but got " + response.statusCode());
+        }
+        return response.body();
+    }
+}
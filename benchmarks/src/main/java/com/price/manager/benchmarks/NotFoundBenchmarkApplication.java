@@ -0,0 +1,126 @@
+package com.price.manager.benchmarks;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import com.price.manager.application.ports.driving.PriceServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driving.controllers.adapters.PriceControllerAdapter;
+import com.price.manager.driving.controllers.cache.PriceHttpCachePolicy;
+import com.price.manager.driving.controllers.error.CustomExceptionHandler;
+import com.price.manager.driving.controllers.mappers.PriceMapper;
+import com.price.manager.driving.controllers.mappers.PriceMapperImpl;
+import com.price.manager.driving.controllers.models.Error;
+import com.price.manager.driving.controllers.models.PriceResponse;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Contexto Spring mínimo para {@link NotFoundBenchmark}.
+ *
+ * <p>El {@link PriceServicePort} no encuentra nunca precio, así que todas las peticiones
+ * acaban en 404. Junto a {@link PriceControllerAdapter} se publica {@code /legacy/price}, que
+ * reproduce la ruta anterior: lanza una excepción con pila y la traduce en un {@link Error}
+ * nuevo, con fecha, serializado por Jackson en cada petición.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+    DataSourceAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    FlywayAutoConfiguration.class
+})
+@Import({
+    PriceControllerAdapter.class,
+    PriceMapperImpl.class,
+    PriceHttpCachePolicy.class,
+    CustomExceptionHandler.class,
+    NotFoundBenchmarkApplication.LegacyPriceController.class
+})
+public class NotFoundBenchmarkApplication {
+
+    /**
+     * Servicio sin acceso a datos que no encuentra ningún precio.
+     *
+     * @return servicio vacío
+     */
+    @Bean
+    public PriceServicePort emptyPriceService() {
+        return new PriceServicePort() {
+            @Override
+            public Price findByBrandProductBetweenDate(Long brandId, Long productId, LocalDateTime dateBetween) {
+                return null;
+            }
+
+            @Override
+            public List<Price> findBestPrices(List<PriceSearchCriteria> criteria) {
+                return criteria.stream().map(c -> (Price) null).toList();
+            }
+        };
+    }
+
+    /**
+     * Búsqueda con el 404 basado en excepciones, tal como estaba antes.
+     */
+    @RestController
+    static class LegacyPriceController {
+
+        private final PriceServicePort priceServicePort;
+
+        private final PriceMapper mapper;
+
+        LegacyPriceController(PriceServicePort priceServicePort, PriceMapper mapper) {
+            this.priceServicePort = priceServicePort;
+            this.mapper = mapper;
+        }
+
+        @GetMapping("/legacy/price")
+        ResponseEntity<PriceResponse> find(@RequestParam Long brandId, @RequestParam Long productId,
+                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                           OffsetDateTime dateQuery) {
+            final PriceResponse response = this.mapper.toResponseDto(this.priceServicePort
+                    .findByBrandProductBetweenDate(brandId, productId, dateQuery.toLocalDateTime()));
+            if (response == null) {
+                throw new LegacyNotFoundException("No price found for the given parameters");
+            }
+            return ResponseEntity.ok(response);
+        }
+
+        @ExceptionHandler(LegacyNotFoundException.class)
+        ResponseEntity<Error> handleNotFound(LegacyNotFoundException ex) {
+            final Error error = new Error();
+            error.setCode("PRICE_NOT_FOUND");
+            error.setMessage(ex.getMessage());
+            error.setTimestamp(OffsetDateTime.now(ZoneOffset.UTC));
+            return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+        }
+    }
+
+    /**
+     * Excepción con pila completa, como la de antes.
+     */
+    static class LegacyNotFoundException extends RuntimeException {
+
+        LegacyNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
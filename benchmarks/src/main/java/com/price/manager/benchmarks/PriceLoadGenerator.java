@@ -0,0 +1,128 @@
+package com.price.manager.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generador de carga HTTP para comparar la pila servlet con la reactiva.
+ *
+ * <p>Lanza {@code load.requests} peticiones {@code GET /v1/price/findByBrandProductBetweenDate}
+ * contra una aplicación ya arrancada, con {@code load.concurrency} peticiones en vuelo como
+ * máximo, tras {@code load.warmup} peticiones de calentamiento. Recorre las cinco fechas de
+ * los casos de prueba del enunciado.</p>
+ *
+ * <p>Informa del rendimiento (peticiones por segundo), los percentiles 50 y 99 de latencia y,
+ * leyendo {@code /actuator/metrics} del servidor, los hilos vivos y máximos y la memoria de
+ * heap usada tras la carga. Con la misma concurrencia la pila servlet necesita un hilo de
+ * Tomcat por petición en vuelo ({@code server.tomcat.threads.max}, 200 por defecto), mientras
+ * que WebFlux mantiene los hilos del event loop de Netty (uno por núcleo).</p>
+ *
+ * <pre>
+ * java -jar boot/target/price-manager-boot-1.0.0.jar                                  # servlet
+ * java -jar boot/target/price-manager-boot-1.0.0.jar --spring.profiles.active=reactive
+ * mvn -Pbenchmarks -pl benchmarks exec:exec@load-test -Dload.concurrency=512
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PriceLoadGenerator {
+
+    private static final String[] DATE_QUERIES = {
+        "2020-06-14T10:00:00Z", "2020-06-14T16:00:00Z", "2020-06-14T21:00:00Z",
+        "2020-06-15T10:00:00Z", "2020-06-16T21:00:00Z"
+    };
+
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"statistic\"\\s*:\\s*\"VALUE\"\\s*,\\s*\"value\"\\s*:\\s*([0-9.E+-]+)");
+
+    private PriceLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        final String baseUrl = System.getProperty("load.url", "http://localhost:9090");
+        final int concurrency = Integer.getInteger("load.concurrency", 256);
+        final int requests = Integer.getInteger("load.requests", 20_000);
+        final int warmup = Integer.getInteger("load.warmup", 2_000);
+
+        final HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        final HttpRequest[] templates = new HttpRequest[DATE_QUERIES.length];
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = HttpRequest.newBuilder(URI.create(baseUrl
+                    + "/v1/price/findByBrandProductBetweenDate?brandId=1&productId=35455&dateQuery=" + DATE_QUERIES[i]))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+        }
+
+        run(client, templates, concurrency, warmup, new long[warmup], new AtomicLong());
+
+        final long[] latencies = new long[requests];
+        final AtomicLong failures = new AtomicLong();
+        final long started = System.nanoTime();
+        run(client, templates, concurrency, requests, latencies, failures);
+        final long elapsedNanos = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        System.out.printf("%s: %d requests, concurrency %d, %d failed%n", baseUrl, requests, concurrency, failures.get());
+        System.out.printf("throughput: %.0f req/s%n", requests * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+        System.out.printf("latency p50: %.2f ms, p99: %.2f ms%n",
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6);
+        System.out.printf("server jvm.threads.live: %s, jvm.threads.peak: %s, heap used: %s MiB%n",
+                metric(client, baseUrl, "jvm.threads.live", 1),
+                metric(client, baseUrl, "jvm.threads.peak", 1),
+                metric(client, baseUrl, "jvm.memory.used?tag=area:heap", 1024 * 1024));
+    }
+
+    private static void run(HttpClient client, HttpRequest[] templates, int concurrency, int requests,
+                            long[] latencies, AtomicLong failures) throws InterruptedException {
+        final Semaphore inFlight = new Semaphore(concurrency);
+        final CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            final int index = i;
+            final long sent = System.nanoTime();
+            client.sendAsync(templates[i % templates.length], HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                        done.countDown();
+                    });
+        }
+        done.await();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    private static String metric(HttpClient client, String baseUrl, String metric, double divisor) {
+        try {
+            final String body = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric))
+                    .GET().build(), HttpResponse.BodyHandlers.ofString()).body();
+            final Matcher matcher = METRIC_VALUE.matcher(body);
+            return matcher.find() ? String.format("%.0f", Double.parseDouble(matcher.group(1)) / divisor) : "n/a";
+        } catch (IOException e) {
+            return "n/a";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "n/a";
+        }
+    }
+}
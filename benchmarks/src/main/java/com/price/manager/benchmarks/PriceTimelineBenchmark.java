@@ -0,0 +1,126 @@
+package com.price.manager.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.index.PriceTimelineEngine;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driven.repositories.models.PriceEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compara la consulta JPQL de {@link PriceJpaRepository} con la búsqueda binaria de
+ * {@link PriceTimelineEngine} sobre el mismo catálogo sintético.
+ *
+ * <h3>Ejecución:</h3>
+ * <pre>
+ * mvn -Pbenchmarks install -DskipTests
+ * mvn -Pbenchmarks -pl benchmarks exec:exec -Dbenchmark=PriceTimelineBenchmark
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see SyntheticCatalog
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriceTimelineBenchmark {
+
+    private static final int QUERY_COUNT = 4096;
+
+    private static final int QUERY_MASK = QUERY_COUNT - 1;
+
+    /**
+     * Número de productos del catálogo.
+     */
+    @Param({"1000", "10000"})
+    public int products;
+
+    /**
+     * Promociones solapadas por producto, además de la tarifa base.
+     */
+    @Param({"3", "20"})
+    public int promotionsPerProduct;
+
+    private ConfigurableApplicationContext context;
+
+    private PriceJpaRepository repository;
+
+    private PriceTimelineEngine engine;
+
+    private PriceSearchCriteria[] queries;
+
+    private int cursor;
+
+    /**
+     * Arranca el contexto, persiste el catálogo y precalcula las líneas temporales.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = SyntheticCatalog.startContext();
+        this.repository = this.context.getBean(PriceJpaRepository.class);
+        this.repository.saveAll(SyntheticCatalog.rows(this.products, this.promotionsPerProduct));
+
+        final PriceEntityMapper mapper = this.context.getBean(PriceEntityMapper.class);
+        this.engine = new PriceTimelineEngine();
+        this.engine.load(this.repository.findAll().stream().map(mapper::toDomain).toList());
+        this.queries = SyntheticCatalog.queries(this.products, QUERY_COUNT);
+    }
+
+    /**
+     * Cierra el contexto y la base de datos en memoria.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    /**
+     * Consulta actual: JPQL con filtro temporal, ORDER BY y LIMIT 1 contra H2.
+     *
+     * @return entidad ganadora
+     */
+    @Benchmark
+    public Optional<PriceEntity> jpaQuery() {
+        final PriceSearchCriteria criteria = this.next();
+        return this.repository.findBestPriceByBrandIdAndProductIdAtDate(
+                criteria.brandId(), criteria.productId(), criteria.queryDate());
+    }
+
+    /**
+     * Línea temporal precalculada: una búsqueda binaria por consulta.
+     *
+     * @return precio ganador
+     */
+    @Benchmark
+    public Optional<Price> timeline() {
+        return this.engine.findBestPrice(this.next());
+    }
+
+    private PriceSearchCriteria next() {
+        this.cursor = (this.cursor + 1) & QUERY_MASK;
+        return this.queries[this.cursor];
+    }
+}
@@ -0,0 +1,172 @@
+package com.price.manager.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.index.PriceTimelineEngine;
+import com.price.manager.application.index.PrimitivePriceIndex;
+import com.price.manager.application.ports.driven.PricePrimitiveLookupPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.application.services.PriceServiceUseCase;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide latencia y asignaciones por consulta de la ruta primitiva frente a la ruta con objetos.
+ *
+ * <p>Se ejecuta con el profiler {@code gc} (valor por defecto de {@code jmh.prof}); la métrica
+ * a vigilar es {@code gc.alloc.rate.norm}, que debe ser 0 B/op en {@code primitiveIndex}
+ * y {@code primitiveService}.</p>
+ *
+ * <ul>
+ *   <li><strong>boxedService:</strong> {@link PriceServiceUseCase} sobre un repositorio sin
+ *       capacidad primitiva (crea criterio y {@code Optional} en cada llamada)</li>
+ *   <li><strong>primitiveService:</strong> {@link PriceServiceUseCase} sobre un repositorio con
+ *       {@link PricePrimitiveLookupPort}</li>
+ *   <li><strong>primitiveIndex:</strong> {@link PrimitivePriceIndex#find(long, long, long)} directo</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl benchmarks exec:exec -Dbenchmark=PrimitiveLookupBenchmark
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveLookupBenchmark {
+
+    private static final int QUERY_COUNT = 4096;
+
+    private static final int QUERY_MASK = QUERY_COUNT - 1;
+
+    /**
+     * Número de productos del catálogo.
+     */
+    @Param({"10000"})
+    public int products;
+
+    /**
+     * Promociones solapadas por producto, además de la tarifa base.
+     */
+    @Param({"5"})
+    public int promotionsPerProduct;
+
+    private PrimitivePriceIndex index;
+
+    private PriceServiceUseCase boxedService;
+
+    private PriceServiceUseCase primitiveService;
+
+    private Long[] brandIds;
+
+    private Long[] productIds;
+
+    private LocalDateTime[] dates;
+
+    private long[] epochMillis;
+
+    private int cursor;
+
+    /**
+     * Construye los índices y precalcula las consultas, ya empaquetadas en objetos
+     * para que la ruta con objetos no pague el autoboxing dentro de la medición.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<Price> prices = SyntheticCatalog.prices(this.products, this.promotionsPerProduct);
+        this.index = PrimitivePriceIndex.of(prices);
+        final PriceTimelineEngine engine = new PriceTimelineEngine();
+        engine.load(prices);
+        this.boxedService = new PriceServiceUseCase(engine::findBestPrice);
+        this.primitiveService = new PriceServiceUseCase(new PrimitiveRepository(this.index));
+
+        final PriceSearchCriteria[] queries = SyntheticCatalog.queries(this.products, QUERY_COUNT);
+        this.brandIds = new Long[QUERY_COUNT];
+        this.productIds = new Long[QUERY_COUNT];
+        this.dates = new LocalDateTime[QUERY_COUNT];
+        this.epochMillis = new long[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            this.brandIds[i] = queries[i].brandId();
+            this.productIds[i] = queries[i].productId();
+            this.dates[i] = queries[i].queryDate();
+            this.epochMillis[i] = EpochMillis.of(queries[i].queryDate());
+        }
+    }
+
+    /**
+     * Caso de uso con criterio, {@code Optional} y búsqueda por objetos.
+     *
+     * @return precio ganador
+     */
+    @Benchmark
+    public Price boxedService() {
+        final int i = this.next();
+        return this.boxedService.findByBrandProductBetweenDate(this.brandIds[i], this.productIds[i], this.dates[i]);
+    }
+
+    /**
+     * Caso de uso como envoltorio fino de la ruta primitiva.
+     *
+     * @return precio ganador
+     */
+    @Benchmark
+    public Price primitiveService() {
+        final int i = this.next();
+        return this.primitiveService.findByBrandProductBetweenDate(this.brandIds[i], this.productIds[i], this.dates[i]);
+    }
+
+    /**
+     * Búsqueda primitiva directa sobre el índice.
+     *
+     * @return posición del segmento ganador
+     */
+    @Benchmark
+    public int primitiveIndex() {
+        final int i = this.next();
+        return this.index.find(this.brandIds[i], this.productIds[i], this.epochMillis[i]);
+    }
+
+    private int next() {
+        this.cursor = (this.cursor + 1) & QUERY_MASK;
+        return this.cursor;
+    }
+
+    /**
+     * Repositorio mínimo con capacidad primitiva, sin dependencias de Spring.
+     */
+    private record PrimitiveRepository(PrimitivePriceIndex index) implements PriceRepositoryPort, PricePrimitiveLookupPort {
+
+        @Override
+        public Price findBestPrice(long brandId, long productId, long epochMillis) {
+            return this.index.findBestPrice(brandId, productId, epochMillis);
+        }
+
+        @Override
+        public Optional<Price> findBestPrice(PriceSearchCriteria criteria) {
+            return Optional.ofNullable(this.findBestPrice(criteria.brandId(), criteria.productId(),
+                    EpochMillis.of(criteria.queryDate())));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.price.manager.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.models.PriceEntity;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Generador determinista de catálogos sintéticos para los benchmarks.
+ *
+ * <p>Cada producto reproduce la forma de los datos de ejemplo: una tarifa base
+ * que cubre todo el año y varias promociones de mayor prioridad que se solapan con ella
+ * y entre sí. Las consultas se reparten uniformemente por productos y fechas del año.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SyntheticCatalog {
+
+    /**
+     * Marca de todos los precios generados.
+     */
+    public static final long BRAND_ID = 1L;
+
+    /**
+     * Primer identificador de producto generado.
+     */
+    public static final long FIRST_PRODUCT_ID = 10_000L;
+
+    private static final LocalDateTime YEAR_START = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static final int HOURS_PER_YEAR = 366 * 24;
+
+    private static final int MINUTES_PER_YEAR = HOURS_PER_YEAR * 60;
+
+    private static final int MAX_PROMOTION_HOURS = 30 * 24;
+
+    private static final long SEED = 42L;
+
+    private SyntheticCatalog() {
+    }
+
+    /**
+     * Arranca el contexto de benchmark sobre una base H2 en memoria vacía.
+     *
+     * @return contexto arrancado; el llamador es responsable de cerrarlo
+     */
+    public static ConfigurableApplicationContext startContext() {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+                        "spring.flyway.locations=classpath:db/migration",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    /**
+     * Genera las filas del catálogo.
+     *
+     * @param products            número de productos
+     * @param promotionsPerProduct promociones solapadas por producto, además de la tarifa base
+     * @return filas listas para persistir (sin {@code priceList})
+     */
+    public static List<PriceEntity> rows(int products, int promotionsPerProduct) {
+        final Random random = new Random(SEED);
+        final List<PriceEntity> rows = new ArrayList<>(products * (promotionsPerProduct + 1));
+        for (int p = 0; p < products; p++) {
+            final long productId = FIRST_PRODUCT_ID + p;
+            rows.add(row(productId, 0, YEAR_START, YEAR_START.plusHours(HOURS_PER_YEAR).minusSeconds(1)));
+            for (int i = 0; i < promotionsPerProduct; i++) {
+                final LocalDateTime start = YEAR_START.plusHours(random.nextInt(HOURS_PER_YEAR));
+                rows.add(row(productId, 1 + random.nextInt(2), start, start.plusHours(1 + random.nextInt(MAX_PROMOTION_HOURS))));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Genera el mismo catálogo que {@link #rows(int, int)} como precios de dominio, con
+     * {@code priceList} consecutivos, para benchmarks que no usan base de datos.
+     *
+     * @param products            número de productos
+     * @param promotionsPerProduct promociones solapadas por producto, además de la tarifa base
+     * @return precios de dominio
+     */
+    public static List<Price> prices(int products, int promotionsPerProduct) {
+        final List<PriceEntity> rows = rows(products, promotionsPerProduct);
+        final List<Price> prices = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            final PriceEntity row = rows.get(i);
+            prices.add(Price.builder()
+                    .brandId(row.getBrandId())
+                    .productId(row.getProductId())
+                    .priceList(i + 1L)
+                    .priority(row.getPriority())
+                    .startDate(row.getStartDate())
+                    .endDate(row.getEndDate())
+                    .price(row.getPrice())
+                    .curr(row.getCurr())
+                    .build());
+        }
+        return prices;
+    }
+
+    /**
+     * Genera criterios de búsqueda repartidos por productos y fechas.
+     *
+     * @param products número de productos del catálogo
+     * @param count    número de consultas
+     * @return consultas precalculadas
+     */
+    public static PriceSearchCriteria[] queries(int products, int count) {
+        final Random random = new Random(SEED + 1);
+        final PriceSearchCriteria[] queries = new PriceSearchCriteria[count];
+        for (int i = 0; i < count; i++) {
+            queries[i] = PriceSearchCriteria.of(BRAND_ID, FIRST_PRODUCT_ID + random.nextInt(products),
+                    YEAR_START.plusMinutes(random.nextInt(MINUTES_PER_YEAR)));
+        }
+        return queries;
+    }
+
+    private static PriceEntity row(long productId, int priority, LocalDateTime start, LocalDateTime end) {
+        return PriceEntity.builder()
+                .brandId(BRAND_ID)
+                .productId(productId)
+                .priority(priority)
+                .startDate(start)
+                .endDate(end)
+                .price(BigDecimal.valueOf(productId % 100 + priority))
+                .curr("EUR")
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.price.manager.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.price.manager.application.ports.driving.PriceServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driving.controllers.adapters.PriceControllerAdapter;
+import com.price.manager.driving.controllers.cache.PriceHttpCachePolicy;
+import com.price.manager.driving.controllers.error.CustomExceptionHandler;
+import com.price.manager.driving.controllers.mappers.PriceMapperImpl;
+import com.price.manager.driving.grpc.adapters.PriceGrpcServiceAdapter;
+import com.price.manager.driving.grpc.config.GrpcServerConfig;
+import com.price.manager.driving.grpc.mappers.GrpcPriceMapper;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Contexto Spring mínimo para {@link GrpcVsRestBenchmark}.
+ *
+ * <p>Levanta Tomcat con {@link PriceControllerAdapter} y el servidor gRPC con
+ * {@link PriceGrpcServiceAdapter}, ambos sobre un {@link PriceServicePort} que devuelve siempre
+ * el mismo precio. Sin base de datos ni casos de uso, la diferencia medida es solo la del
+ * transporte y la codificación.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+    DataSourceAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    FlywayAutoConfiguration.class
+})
+@Import({
+    PriceControllerAdapter.class,
+    PriceMapperImpl.class,
+    PriceHttpCachePolicy.class,
+    CustomExceptionHandler.class,
+    PriceGrpcServiceAdapter.class,
+    GrpcPriceMapper.class,
+    GrpcServerConfig.class
+})
+public class TransportBenchmarkApplication {
+
+    /**
+     * Precio de ejemplo (tarifa 2 del producto 35455) para cualquier búsqueda.
+     *
+     * @return servicio sin acceso a datos
+     */
+    @Bean
+    public PriceServicePort fixedPriceService() {
+        final Price price = Price.builder()
+                .brandId(1L)
+                .productId(35455L)
+                .priceList(2L)
+                .priority(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .price(new BigDecimal("25.45"))
+                .curr("EUR")
+                .build();
+        return new PriceServicePort() {
+            @Override
+            public Price findByBrandProductBetweenDate(Long brandId, Long productId, LocalDateTime dateBetween) {
+                return price;
+            }
+
+            @Override
+            public List<Price> findBestPrices(List<PriceSearchCriteria> criteria) {
+                return criteria.stream().map(c -> price).toList();
+            }
+        };
+    }
+}
@@ -2,14 +2,20 @@ package com.price.manager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
 
-@SpringBootApplication
+// Sin R2dbcAutoConfiguration: su ConnectionFactory sustituiría al DataSource de JPA (ver R2dbcConfig)
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 @ComponentScan(basePackages = {
     "com.price.manager.application",
     "com.price.manager.boot",
+    "com.price.manager.driven.jdbc",
+    "com.price.manager.driven.r2dbc",
     "com.price.manager.driven.repositories",
-    "com.price.manager.driving.controllers"
+    "com.price.manager.driving.controllers",
+    "com.price.manager.driving.grpc",
+    "com.price.manager.driving.reactive"
 })
 public class Application {
     public static void main(String[] args) {
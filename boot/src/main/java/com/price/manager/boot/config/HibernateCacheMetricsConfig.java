@@ -0,0 +1,77 @@
+package com.price.manager.boot.config;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.models.PriceEntity;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publica los aciertos y fallos de las regiones de la caché de segundo nivel de Hibernate.
+ *
+ * <p>Usa las mismas métricas que las cachés de la aplicación, con la región como etiqueta
+ * {@code cache}: {@code /actuator/metrics/cache.gets?tag=cache:prices&tag=result:hit},
+ * {@code cache.puts} y {@code cache.size}. Los valores salen de {@link Statistics}, que
+ * {@code RepositoryConfig} activa junto con la caché.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.price.manager.driven.repositories.config.RepositoryConfig
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.l2-cache", name = "enabled", havingValue = "true")
+public class HibernateCacheMetricsConfig {
+
+    private static final List<String> REGIONS = List.of(PriceEntity.CACHE_REGION, PriceJpaRepository.LOOKUP_CACHE_REGION);
+
+    /**
+     * Métricas por región, registradas por Actuator en cada {@link MeterRegistry}.
+     *
+     * @param entityManagerFactory factoría JPA de Hibernate
+     * @return enlazador de métricas
+     */
+    @Bean
+    public MeterBinder hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> REGIONS.forEach(region -> bindRegion(statistics, region, registry));
+    }
+
+    private static void bindRegion(Statistics statistics, String region, MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", statistics, regionValue(region, CacheRegionStatistics::getHitCount))
+                .tag("cache", region).tag("result", "hit")
+                .description("Second-level cache hits")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", statistics, regionValue(region, CacheRegionStatistics::getMissCount))
+                .tag("cache", region).tag("result", "miss")
+                .description("Second-level cache misses")
+                .register(registry);
+        FunctionCounter.builder("cache.puts", statistics, regionValue(region, CacheRegionStatistics::getPutCount))
+                .tag("cache", region)
+                .description("Entries written to the second-level cache")
+                .register(registry);
+        Gauge.builder("cache.size", statistics, regionValue(region, CacheRegionStatistics::getElementCountInMemory))
+                .tag("cache", region)
+                .description("Entries held by the second-level cache region")
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<Statistics> regionValue(String region, ToLongFunction<CacheRegionStatistics> value) {
+        return statistics -> {
+            final CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : value.applyAsLong(regionStatistics);
+        };
+    }
+}
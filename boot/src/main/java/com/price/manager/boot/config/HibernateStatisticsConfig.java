@@ -0,0 +1,82 @@
+package com.price.manager.boot.config;
+
+import com.price.manager.boot.web.HibernateStatisticsFilter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Activa las estadísticas de Hibernate y las expone por petición sobre {@code /v1/*}.
+ *
+ * <p>Sirve para comprobar que la búsqueda del adaptador {@code jpa} no carga entidades: tras
+ * unas cuantas peticiones, {@code /actuator/metrics/hibernate.entities.loaded} debe mostrar
+ * {@code MAX = 0}. Las estadísticas tienen coste en cada sesión, por eso están desactivadas
+ * por defecto.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   repository:
+ *     statistics:
+ *       enabled: true
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see HibernateStatisticsFilter
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.repository.statistics", name = "enabled", havingValue = "true")
+public class HibernateStatisticsConfig {
+
+    /**
+     * Estadísticas del {@code SessionFactory}, activadas al crear el bean.
+     *
+     * @param entityManagerFactory factoría JPA de Hibernate
+     * @return estadísticas de Hibernate
+     */
+    @Bean
+    public Statistics hibernateStatistics(EntityManagerFactory entityManagerFactory) {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        log.info("Hibernate statistics enabled");
+        return statistics;
+    }
+
+    /**
+     * Filtro que mide entidades cargadas y sentencias preparadas por petición.
+     *
+     * @param statistics estadísticas de Hibernate
+     * @param registry   registro de métricas, si Actuator está presente
+     * @return registro del filtro sobre {@code /v1/*}
+     */
+    @Bean
+    public FilterRegistrationBean<HibernateStatisticsFilter> hibernateStatisticsFilter(
+            Statistics statistics, ObjectProvider<MeterRegistry> registry) {
+        final MeterRegistry meters = registry.getIfAvailable();
+        final DistributionSummary entitiesLoaded = meters == null ? null
+                : DistributionSummary.builder("hibernate.entities.loaded")
+                        .baseUnit("entities")
+                        .description("Entities loaded by Hibernate while serving one request")
+                        .register(meters);
+        final DistributionSummary statementsPrepared = meters == null ? null
+                : DistributionSummary.builder("hibernate.statements.prepared")
+                        .baseUnit("statements")
+                        .description("JDBC statements prepared by Hibernate while serving one request")
+                        .register(meters);
+        final FilterRegistrationBean<HibernateStatisticsFilter> registration = new FilterRegistrationBean<>(
+                new HibernateStatisticsFilter(statistics, entitiesLoaded, statementsPrepared));
+        registration.addUrlPatterns("/v1/*");
+        return registration;
+    }
+}
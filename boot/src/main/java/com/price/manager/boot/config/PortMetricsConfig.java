@@ -0,0 +1,128 @@
+package com.price.manager.boot.config;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.application.ports.driven.PricePrimitiveLookupPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.application.ports.driving.PriceServicePort;
+import com.price.manager.boot.metrics.PortTimingInterceptor;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driving.controllers.api.PriceControllerApi;
+import com.price.manager.driving.controllers.mappers.PriceMapper;
+import com.price.manager.driving.reactive.mappers.ReactivePriceMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Mide la latencia de cada puerto hexagonal y de los mappers con un {@code Timer} con histograma.
+ *
+ * <p>Un {@link BeanPostProcessor} añade un {@link PortTimingInterceptor} a los beans que
+ * implementan alguno de los puertos medidos:</p>
+ * <ul>
+ *   <li><strong>Entrada:</strong> {@link PriceControllerApi} y {@link PriceServicePort}</li>
+ *   <li><strong>Salida:</strong> {@link PriceRepositoryPort}, {@link PriceCandidatesPort} y
+ *       {@link PricePrimitiveLookupPort}</li>
+ *   <li><strong>Mappers:</strong> {@link PriceMapper}, {@link PriceEntityMapper} y
+ *       {@link ReactivePriceMapper}</li>
+ * </ul>
+ *
+ * <p>Si el bean ya es un proxy (transaccional o de validación) el interceptor se añade el
+ * primero de su cadena, de modo que la medida incluye la transacción; si no, se crea un proxy
+ * de clase. Se ejecuta antes que el resto de decoradores del repositorio, así que
+ * {@code port=PriceRepositoryPort} mide solo el adaptador; lo que añaden la caché, el
+ * single-flight o el bulkhead queda entre esa medida y la de {@code port=PriceServicePort}.
+ * Los puertos reactivos no se miden: la llamada solo monta el {@code Mono}.</p>
+ *
+ * <p>Métrica: {@code price.port.calls} con las etiquetas {@code port}, {@code method} y
+ * {@code exception}; en {@code /actuator/prometheus}, {@code price_port_calls_seconds_bucket}.
+ * El proxy añade una llamada y, en la búsqueda primitiva, el empaquetado de los argumentos:
+ * desactívese al medir asignaciones con los benchmarks.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   metrics:
+ *     ports:
+ *       enabled: true
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PortTimingInterceptor
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.metrics.ports", name = "enabled", havingValue = "true")
+public class PortMetricsConfig {
+
+    private static final List<Class<?>> PORTS = List.of(
+            PriceControllerApi.class, PriceServicePort.class,
+            PriceRepositoryPort.class, PriceCandidatesPort.class, PricePrimitiveLookupPort.class,
+            PriceMapper.class, PriceEntityMapper.class, ReactivePriceMapper.class);
+
+    /**
+     * Post-procesador que añade la medida de latencia a los puertos.
+     *
+     * @param registry registro de métricas, si Actuator está presente
+     * @return post-procesador
+     */
+    @Bean
+    public static PortMetricsPostProcessor portMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new PortMetricsPostProcessor(registry);
+    }
+
+    /**
+     * Ordenado después del que crea los proxies transaccionales y antes que el bulkhead, el
+     * micro-batching, el single-flight, el filtro de Bloom y la caché de candidatos.
+     */
+    static final class PortMetricsPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<MeterRegistry> registry;
+
+        private PortMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            final List<Class<?>> ports = PORTS.stream().filter(port -> port.isInstance(bean)).toList();
+            if (ports.isEmpty()) {
+                return bean;
+            }
+            final MeterRegistry meters = this.registry.getIfAvailable();
+            if (meters == null) {
+                return bean;
+            }
+            final Object timed;
+            if (bean instanceof Advised advised && !advised.isFrozen()) {
+                ports.forEach(port -> advised.addAdvisor(0, new PortTimingInterceptor(port, meters).advisor()));
+                timed = bean;
+            } else {
+                final ProxyFactory factory = new ProxyFactory(bean);
+                factory.setProxyTargetClass(!Modifier.isFinal(AopUtils.getTargetClass(bean).getModifiers()));
+                ports.forEach(port -> factory.addAdvisor(new PortTimingInterceptor(port, meters).advisor()));
+                timed = factory.getProxy(bean.getClass().getClassLoader());
+            }
+            log.info("Port latency metrics enabled on '{}' for {}", beanName,
+                    ports.stream().map(Class::getSimpleName).toList());
+            return timed;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 5;
+        }
+    }
+}
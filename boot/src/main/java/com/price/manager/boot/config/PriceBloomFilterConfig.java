@@ -0,0 +1,178 @@
+package com.price.manager.boot.config;
+
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.decorators.PriceBloomFilterDecorator;
+import com.price.manager.application.index.PriceKeyBloomFilter;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.application.ports.driven.PriceKeyPort;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Descarta delante del repositorio las búsquedas de productos que no tienen ninguna fila.
+ *
+ * <p>Al arrancar se construye un {@link PriceKeyBloomFilter} con todos los pares
+ * (brandId, productId) de PRICES, leídos con {@link PriceKeyPort}. Se dimensiona para el mayor
+ * de {@code expected-keys} y los pares existentes, con la tasa {@code false-positive-rate} y
+ * como mucho {@code max-size} de memoria. {@code PriceIngestUseCase} añade los pares nuevos
+ * antes de escribirlos.</p>
+ *
+ * <p>Un {@link BeanPostProcessor} envuelve el bean que implementa {@link PriceCandidatesPort}
+ * (adaptadores {@code jpa} y {@code jdbc}) en un {@link PriceBloomFilterDecorator}. Queda por
+ * fuera del single-flight, el micro-batching y el bulkhead, de modo que una búsqueda rechazada
+ * no espera permisos ni lotes, y por dentro de la caché de candidatos.</p>
+ *
+ * <p>Métricas: {@code price.bloom.filter.size} (bytes), {@code price.bloom.filter.keys},
+ * {@code price.bloom.filter.fpp} con {@code kind=target} (configurada) y
+ * {@code kind=estimated} (según la ocupación actual), y {@code price.bloom.filter.lookups}
+ * con {@code result=rejected}, {@code result=passed} y {@code result=false-positive}.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   bloom-filter:
+ *     enabled: true
+ *     expected-keys: 1000000
+ *     false-positive-rate: 0.01
+ *     max-size: 64MB
+ * </pre>
+ *
+ * <p>Las escrituras que no pasan por {@code PriceIngestUseCase} (por ejemplo, SQL directo) no
+ * actualizan el filtro hasta reiniciar la aplicación.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceBloomFilterDecorator
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.bloom-filter", name = "enabled", havingValue = "true")
+public class PriceBloomFilterConfig {
+
+    private static final long DEFAULT_EXPECTED_KEYS = 1_000_000L;
+
+    private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+    private static final DataSize DEFAULT_MAX_SIZE = DataSize.ofMegabytes(64);
+
+    /**
+     * Filtro con los pares existentes al arrancar.
+     *
+     * @param keys        pares de PRICES
+     * @param environment propiedades {@code price-manager.bloom-filter.*}
+     * @param registry    registro de métricas, si Actuator está presente
+     * @return filtro cargado
+     */
+    @Bean
+    public PriceKeyBloomFilter priceKeyBloomFilter(PriceKeyPort keys, Environment environment,
+                                                   ObjectProvider<MeterRegistry> registry) {
+        final long configuredKeys = environment.getProperty("price-manager.bloom-filter.expected-keys",
+                Long.class, DEFAULT_EXPECTED_KEYS);
+        final double falsePositiveRate = environment.getProperty("price-manager.bloom-filter.false-positive-rate",
+                Double.class, DEFAULT_FALSE_POSITIVE_RATE);
+        final DataSize maxSize = environment.getProperty("price-manager.bloom-filter.max-size",
+                DataSize.class, DEFAULT_MAX_SIZE);
+
+        final long started = System.nanoTime();
+        final PriceKeyBloomFilter filter = PriceKeyBloomFilter.create(
+                Math.max(configuredKeys, keys.countKeys()), falsePositiveRate, maxSize.toBytes());
+        final long loaded = keys.forEachKey(filter::put);
+        log.info("Price key Bloom filter loaded {} keys in {} ms: {} bytes, {} hash functions, estimated fpp {}",
+                loaded, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), filter.sizeInBytes(),
+                filter.hashFunctions(), filter.estimatedFalsePositiveRate());
+        registry.ifAvailable(meters -> bindFilterMetrics(filter, falsePositiveRate, meters));
+        return filter;
+    }
+
+    /**
+     * Post-procesador que decora el repositorio con el filtro.
+     *
+     * @param filter   filtro, que se crea al decorar el repositorio
+     * @param registry registro de métricas, si Actuator está presente
+     * @return post-procesador
+     */
+    @Bean
+    public static BloomFilterPostProcessor priceBloomFilterPostProcessor(ObjectProvider<PriceKeyBloomFilter> filter,
+                                                                  ObjectProvider<MeterRegistry> registry) {
+        return new BloomFilterPostProcessor(filter, registry);
+    }
+
+    private static void bindFilterMetrics(PriceKeyBloomFilter filter, double targetRate, MeterRegistry registry) {
+        Gauge.builder("price.bloom.filter.size", filter, PriceKeyBloomFilter::sizeInBytes)
+                .baseUnit("bytes")
+                .description("Memory used by the negative-lookup Bloom filter")
+                .register(registry);
+        Gauge.builder("price.bloom.filter.keys", filter, PriceKeyBloomFilter::approximateKeys)
+                .description("Approximate brand/product pairs added to the filter")
+                .register(registry);
+        Gauge.builder("price.bloom.filter.fpp", () -> targetRate)
+                .tag("kind", "target")
+                .description("Configured false-positive rate")
+                .register(registry);
+        Gauge.builder("price.bloom.filter.fpp", filter, PriceKeyBloomFilter::estimatedFalsePositiveRate)
+                .tag("kind", "estimated")
+                .description("False-positive rate estimated from the current bit occupancy")
+                .register(registry);
+    }
+
+    private static void bindLookupMetrics(PriceBloomFilterDecorator decorator, MeterRegistry registry) {
+        FunctionCounter.builder("price.bloom.filter.lookups", decorator, d -> d.stats().rejected())
+                .tag("result", "rejected")
+                .description("Lookups answered as empty without querying the repository")
+                .register(registry);
+        FunctionCounter.builder("price.bloom.filter.lookups", decorator, d -> d.stats().passed())
+                .tag("result", "passed")
+                .description("Lookups forwarded to the repository")
+                .register(registry);
+        FunctionCounter.builder("price.bloom.filter.lookups", decorator, d -> d.stats().falsePositives())
+                .tag("result", "false-positive")
+                .description("Forwarded candidate lookups that found no rows")
+                .register(registry);
+    }
+
+    /**
+     * Ordenado después del bulkhead, el micro-batching y el single-flight, y antes que la caché de
+     * candidatos.
+     */
+    static final class BloomFilterPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<PriceKeyBloomFilter> filter;
+
+        private final ObjectProvider<MeterRegistry> registry;
+
+        private BloomFilterPostProcessor(ObjectProvider<PriceKeyBloomFilter> filter,
+                                         ObjectProvider<MeterRegistry> registry) {
+            this.filter = filter;
+            this.registry = registry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof PriceCandidatesPort candidates)) {
+                return bean;
+            }
+            final PriceBloomFilterDecorator decorator = new PriceBloomFilterDecorator(candidates,
+                    this.filter.getObject());
+            this.registry.ifAvailable(meters -> bindLookupMetrics(decorator, meters));
+            log.info("Price key Bloom filter enabled on '{}'", beanName);
+            return decorator;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.price.manager.boot.config;
+
+import java.time.Duration;
+
+import com.price.manager.application.decorators.PriceRepositoryBulkheadDecorator;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Activa el bulkhead delante de los adaptadores de repositorio con acceso a base de datos.
+ *
+ * <p>Un {@link BeanPostProcessor} envuelve el bean que implementa {@link PriceCandidatesPort}
+ * (adaptadores {@code jpa} y {@code jdbc}) en un {@link PriceRepositoryBulkheadDecorator}. Por
+ * defecto admite tantas llamadas simultáneas como conexiones tiene el pool de Hikari
+ * ({@code spring.datasource.hikari.maximum-pool-size}, 10 si no se indica). Se aplica antes que
+ * el micro-batching de {@link PriceMicroBatchConfig}, el single-flight de
+ * {@link PriceSingleFlightConfig}, el filtro de {@link PriceBloomFilterConfig} y la caché de
+ * candidatos de {@link PriceCacheConfig}, que quedan por fuera.</p>
+ *
+ * <p>Métricas con la etiqueta {@code name=price-repository}: {@code bulkhead.max.permits},
+ * {@code bulkhead.available.permits}, {@code bulkhead.waiting.calls} y
+ * {@code bulkhead.rejected.calls}.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   bulkhead:
+ *     enabled: true
+ *     max-concurrent-calls: 10
+ *     max-wait: 10s
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceRepositoryBulkheadDecorator
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.bulkhead", name = "enabled", havingValue = "true")
+public class PriceBulkheadConfig {
+
+    private static final String BULKHEAD_NAME = "price-repository";
+
+    /**
+     * Tamaño por defecto del pool de Hikari.
+     */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(10);
+
+    /**
+     * Post-procesador que decora el repositorio con el bulkhead.
+     *
+     * @param environment propiedades {@code price-manager.bulkhead.*} y del pool de Hikari
+     * @param registry    registro de métricas, si Actuator está presente
+     * @return post-procesador
+     */
+    @Bean
+    public static BulkheadPostProcessor priceBulkheadPostProcessor(Environment environment,
+            ObjectProvider<MeterRegistry> registry) {
+        return new BulkheadPostProcessor(environment, registry);
+    }
+
+    private static void bindMetrics(PriceRepositoryBulkheadDecorator bulkhead, MeterRegistry registry) {
+        Gauge.builder("bulkhead.max.permits", bulkhead, b -> b.stats().maxConcurrentCalls())
+                .tag("name", BULKHEAD_NAME)
+                .description("Concurrent repository calls allowed")
+                .register(registry);
+        Gauge.builder("bulkhead.available.permits", bulkhead, b -> b.stats().available())
+                .tag("name", BULKHEAD_NAME)
+                .description("Repository calls that can start without waiting")
+                .register(registry);
+        Gauge.builder("bulkhead.waiting.calls", bulkhead, b -> b.stats().waiting())
+                .tag("name", BULKHEAD_NAME)
+                .description("Calls queued for a repository permit")
+                .register(registry);
+        FunctionCounter.builder("bulkhead.rejected.calls", bulkhead, b -> b.stats().rejected())
+                .tag("name", BULKHEAD_NAME)
+                .description("Calls rejected after waiting longer than max-wait")
+                .register(registry);
+    }
+
+    /**
+     * Ordenado para ejecutarse antes que el micro-batching, el single-flight, el filtro de Bloom
+     * y la caché de candidatos, y después de los que crean los proxies transaccionales y miden la
+     * latencia de los puertos.
+     */
+    static final class BulkheadPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        private final ObjectProvider<MeterRegistry> registry;
+
+        private BulkheadPostProcessor(Environment environment, ObjectProvider<MeterRegistry> registry) {
+            this.environment = environment;
+            this.registry = registry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof PriceCandidatesPort candidates)) {
+                return bean;
+            }
+            final int poolSize = this.environment.getProperty("spring.datasource.hikari.maximum-pool-size",
+                    Integer.class, DEFAULT_POOL_SIZE);
+            final int maxConcurrentCalls = this.environment.getProperty("price-manager.bulkhead.max-concurrent-calls",
+                    Integer.class, poolSize);
+            final Duration maxWait = this.environment.getProperty("price-manager.bulkhead.max-wait", Duration.class,
+                    DEFAULT_MAX_WAIT);
+            final PriceRepositoryBulkheadDecorator bulkhead =
+                    new PriceRepositoryBulkheadDecorator(candidates, maxConcurrentCalls, maxWait);
+            this.registry.ifAvailable(meters -> bindMetrics(bulkhead, meters));
+            log.info("Price repository bulkhead enabled on '{}': maxConcurrentCalls={}, maxWait={}",
+                    beanName, maxConcurrentCalls, maxWait);
+            return bulkhead;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 4;
+        }
+    }
+}
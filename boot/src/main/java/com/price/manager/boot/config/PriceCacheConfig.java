@@ -0,0 +1,122 @@
+package com.price.manager.boot.config;
+
+import java.time.Duration;
+
+import com.price.manager.application.decorators.PriceCandidateCacheDecorator;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Activa la caché de candidatos por producto delante del repositorio de precios.
+ *
+ * <p>Un {@link BeanPostProcessor} envuelve el bean que implementa {@link PriceCandidatesPort}
+ * (el adaptador JPA) en un {@link PriceCandidateCacheDecorator}, de modo que el caso de uso
+ * recibe el decorador sin cambiar su código. Los contadores se publican en Micrometer con los
+ * nombres habituales de caché ({@code cache.gets}, {@code cache.evictions}, {@code cache.size})
+ * y la etiqueta {@code cache=price-candidates}.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   cache:
+ *     enabled: true
+ *     maximum-size: 10000
+ *     ttl: 5m
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceCandidateCacheDecorator
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.cache", name = "enabled", havingValue = "true")
+public class PriceCacheConfig {
+
+    private static final String CACHE_NAME = "price-candidates";
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    /**
+     * Post-procesador que decora el repositorio con la caché.
+     *
+     * <p>Es estático para que Spring lo registre antes que el resto de beans.</p>
+     *
+     * @param environment propiedades {@code price-manager.cache.*}
+     * @param registry    registro de métricas, si Actuator está presente
+     * @return post-procesador
+     */
+    @Bean
+    public static CandidateCachePostProcessor priceCandidateCachePostProcessor(Environment environment,
+            ObjectProvider<MeterRegistry> registry) {
+        return new CandidateCachePostProcessor(environment, registry);
+    }
+
+    private static void bindMetrics(PriceCandidateCacheDecorator cache, MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().hits())
+                .tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("Lookups resolved from the cached candidate set")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().misses())
+                .tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("Lookups that loaded the candidate set from the repository")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> c.stats().evictions())
+                .tag("cache", CACHE_NAME)
+                .description("Entries evicted by size or expiration")
+                .register(registry);
+        Gauge.builder("cache.size", cache, c -> c.stats().size())
+                .tag("cache", CACHE_NAME)
+                .description("Products currently cached")
+                .register(registry);
+    }
+
+    /**
+     * Ordenado el último, de modo que la caché queda por fuera de todos los demás decoradores y
+     * sus aciertos no pasan por el filtro de Bloom, el single-flight, el micro-batching ni el
+     * bulkhead.
+     */
+    static final class CandidateCachePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        private final ObjectProvider<MeterRegistry> registry;
+
+        private CandidateCachePostProcessor(Environment environment, ObjectProvider<MeterRegistry> registry) {
+            this.environment = environment;
+            this.registry = registry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof PriceCandidatesPort candidates)) {
+                return bean;
+            }
+            final int maximumSize = this.environment.getProperty("price-manager.cache.maximum-size",
+                    Integer.class, DEFAULT_MAXIMUM_SIZE);
+            final Duration ttl = this.environment.getProperty("price-manager.cache.ttl", Duration.class, DEFAULT_TTL);
+            final PriceCandidateCacheDecorator cache = new PriceCandidateCacheDecorator(candidates, maximumSize, ttl);
+            this.registry.ifAvailable(meters -> bindMetrics(cache, meters));
+            log.info("Price candidate cache enabled on '{}': maximumSize={}, ttl={}", beanName, maximumSize, ttl);
+            return cache;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
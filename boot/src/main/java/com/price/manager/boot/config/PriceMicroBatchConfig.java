@@ -0,0 +1,148 @@
+package com.price.manager.boot.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.decorators.PriceMicroBatchingDecorator;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Agrupa las búsquedas individuales en lotes delante del repositorio.
+ *
+ * <p>Un {@link BeanPostProcessor} envuelve el bean que implementa {@link PriceCandidatesPort}
+ * (adaptadores {@code jpa} y {@code jdbc}) en un {@link PriceMicroBatchingDecorator}, por fuera
+ * del bulkhead (un permiso por lote) y por dentro del single-flight, el filtro de Bloom y la
+ * caché de candidatos.
+ * Los hilos del decorador se detienen al cerrar el contexto.</p>
+ *
+ * <p>Solo agrupa {@code findBestPrice}. El single-flight, la caché de candidatos y la caché de
+ * resultados piden {@code findAllByBrandAndProduct}, que pasa directa al repositorio; con
+ * cualquiera de ellos activo el micro-batching no agrupa nada.</p>
+ *
+ * <p>Métricas para ajustar {@code max-batch-size} y {@code max-delay}:
+ * {@code price.lookups.batch.size} (búsquedas por lote) y {@code price.lookups.batch.wait}
+ * (latencia añadida a la búsqueda más antigua de cada lote), ambas con histograma de
+ * percentiles.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   micro-batch:
+ *     enabled: true
+ *     max-batch-size: 32
+ *     max-delay: 200us
+ *     max-concurrent-batches: 4
+ *     max-wait: 10s
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceMicroBatchingDecorator
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.micro-batch", name = "enabled", havingValue = "true")
+public class PriceMicroBatchConfig {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofNanos(200_000);
+
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(10);
+
+    /**
+     * Post-procesador que decora el repositorio con el micro-batching.
+     *
+     * @param environment propiedades {@code price-manager.micro-batch.*}
+     * @param registry    registro de métricas, si Actuator está presente
+     * @return post-procesador
+     */
+    @Bean
+    public static MicroBatchPostProcessor priceMicroBatchPostProcessor(Environment environment,
+            ObjectProvider<MeterRegistry> registry) {
+        return new MicroBatchPostProcessor(environment, registry);
+    }
+
+    private static PriceMicroBatchingDecorator.BatchObserver observer(MeterRegistry registry) {
+        final DistributionSummary sizes = DistributionSummary.builder("price.lookups.batch.size")
+                .description("Individual lookups resolved by each repository query")
+                .publishPercentileHistogram()
+                .register(registry);
+        final Timer waits = Timer.builder("price.lookups.batch.wait")
+                .description("Time the oldest lookup of each batch waited before its query started")
+                .publishPercentileHistogram()
+                .register(registry);
+        return (size, waitNanos) -> {
+            sizes.record(size);
+            waits.record(waitNanos, TimeUnit.NANOSECONDS);
+        };
+    }
+
+    /**
+     * Ordenado después del bulkhead y antes que el single-flight, el filtro de Bloom y la caché de
+     * candidatos. Cierra los decoradores con el contexto.
+     */
+    static final class MicroBatchPostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+        private final Environment environment;
+
+        private final ObjectProvider<MeterRegistry> registry;
+
+        private final List<PriceMicroBatchingDecorator> decorators = new CopyOnWriteArrayList<>();
+
+        private MicroBatchPostProcessor(Environment environment, ObjectProvider<MeterRegistry> registry) {
+            this.environment = environment;
+            this.registry = registry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof PriceCandidatesPort candidates)) {
+                return bean;
+            }
+            final int maxBatchSize = this.environment.getProperty("price-manager.micro-batch.max-batch-size",
+                    Integer.class, DEFAULT_MAX_BATCH_SIZE);
+            final Duration maxDelay = this.environment.getProperty("price-manager.micro-batch.max-delay",
+                    Duration.class, DEFAULT_MAX_DELAY);
+            final int maxConcurrentBatches = this.environment.getProperty(
+                    "price-manager.micro-batch.max-concurrent-batches", Integer.class, DEFAULT_MAX_CONCURRENT_BATCHES);
+            final Duration maxWait = this.environment.getProperty("price-manager.micro-batch.max-wait",
+                    Duration.class, DEFAULT_MAX_WAIT);
+            final MeterRegistry meters = this.registry.getIfAvailable();
+            final PriceMicroBatchingDecorator batcher = new PriceMicroBatchingDecorator(candidates, maxBatchSize,
+                    maxDelay, maxConcurrentBatches, maxWait,
+                    meters == null ? PriceMicroBatchingDecorator.BatchObserver.NONE : observer(meters));
+            this.decorators.add(batcher);
+            log.info("Price lookup micro-batching enabled on '{}': maxBatchSize={}, maxDelay={}, maxConcurrentBatches={}, "
+                    + "maxWait={}", beanName, maxBatchSize, maxDelay, maxConcurrentBatches, maxWait);
+            return batcher;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 3;
+        }
+
+        @Override
+        public void destroy() {
+            this.decorators.forEach(PriceMicroBatchingDecorator::close);
+        }
+    }
+}
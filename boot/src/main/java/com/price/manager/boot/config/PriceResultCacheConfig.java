@@ -0,0 +1,87 @@
+package com.price.manager.boot.config;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import com.price.manager.application.cache.PriceResultCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Activa la caché de resultados por intervalo de vigencia en {@code PriceServiceUseCase}.
+ *
+ * <p>Solo tiene efecto con repositorios que implementan {@code PriceCandidatesPort}
+ * (el adaptador {@code jpa}, con o sin la caché de candidatos). Las métricas se publican
+ * con la etiqueta {@code cache=price-results}; {@code cache.evictions} cuenta las entradas
+ * caducadas al llegar a su límite y las expulsadas para admitir otras.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   result-cache:
+ *     enabled: true
+ *     maximum-size: 10000
+ *     tick: 1s
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceResultCache
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.result-cache", name = "enabled", havingValue = "true")
+public class PriceResultCacheConfig {
+
+    private static final String CACHE_NAME = "price-results";
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final Duration DEFAULT_TICK = Duration.ofSeconds(1);
+
+    /**
+     * Caché de resultados con el reloj del sistema en UTC, la misma escala que {@code EpochMillis}
+     * y que el resto de cachés, para que la caducidad no dependa de la zona horaria del host.
+     *
+     * @param environment propiedades {@code price-manager.result-cache.*}
+     * @param registry    registro de métricas, si Actuator está presente
+     * @return caché de resultados
+     */
+    @Bean
+    public PriceResultCache priceResultCache(Environment environment, ObjectProvider<MeterRegistry> registry) {
+        final int maximumSize = environment.getProperty("price-manager.result-cache.maximum-size",
+                Integer.class, DEFAULT_MAXIMUM_SIZE);
+        final Duration tick = environment.getProperty("price-manager.result-cache.tick", Duration.class, DEFAULT_TICK);
+        final PriceResultCache cache = new PriceResultCache(maximumSize, tick, Clock.systemUTC());
+        registry.ifAvailable(meters -> bindMetrics(cache, meters));
+        log.info("Price result cache enabled: maximumSize={}, tick={}", maximumSize, tick);
+        return cache;
+    }
+
+    private static void bindMetrics(PriceResultCache cache, MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().hits())
+                .tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("Lookups served inside a cached winning interval")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().misses())
+                .tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("Lookups outside any cached winning interval")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> c.stats().expirations() + c.stats().evictions())
+                .tag("cache", CACHE_NAME)
+                .description("Entries expired at their price boundary or evicted to admit others")
+                .register(registry);
+        Gauge.builder("cache.size", cache, c -> c.stats().size())
+                .tag("cache", CACHE_NAME)
+                .description("Products currently cached")
+                .register(registry);
+    }
+}
@@ -0,0 +1,99 @@
+package com.price.manager.boot.config;
+
+import com.price.manager.application.decorators.PriceSingleFlightDecorator;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Agrupa las búsquedas simultáneas de un mismo producto delante del repositorio.
+ *
+ * <p>Un {@link BeanPostProcessor} envuelve el bean que implementa {@link PriceCandidatesPort}
+ * (adaptadores {@code jpa} y {@code jdbc}) en un {@link PriceSingleFlightDecorator}. Queda por
+ * dentro de la caché de candidatos, de modo que los fallos simultáneos de la caché sobre un
+ * producto también comparten una sola consulta, y por fuera del bulkhead, de modo que una
+ * consulta agrupada ocupa un único permiso.</p>
+ *
+ * <p>Métricas: {@code price.lookups.coalescing} con {@code result=leader} (consultas lanzadas)
+ * y {@code result=coalesced} (llamadas que esperaron la de otra), y {@code price.lookups.in.flight}.
+ * La tasa de agrupación es {@code coalesced / (leader + coalesced)}.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   single-flight:
+ *     enabled: true
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceSingleFlightDecorator
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.single-flight", name = "enabled", havingValue = "true")
+public class PriceSingleFlightConfig {
+
+    /**
+     * Post-procesador que decora el repositorio con el single-flight.
+     *
+     * @param registry registro de métricas, si Actuator está presente
+     * @return post-procesador
+     */
+    @Bean
+    public static SingleFlightPostProcessor priceSingleFlightPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new SingleFlightPostProcessor(registry);
+    }
+
+    private static void bindMetrics(PriceSingleFlightDecorator singleFlight, MeterRegistry registry) {
+        FunctionCounter.builder("price.lookups.coalescing", singleFlight, s -> s.stats().leaders())
+                .tag("result", "leader")
+                .description("Lookups that queried the repository on behalf of concurrent callers")
+                .register(registry);
+        FunctionCounter.builder("price.lookups.coalescing", singleFlight, s -> s.stats().coalesced())
+                .tag("result", "coalesced")
+                .description("Lookups that waited for an identical in-flight query")
+                .register(registry);
+        Gauge.builder("price.lookups.in.flight", singleFlight, s -> s.stats().inFlight())
+                .description("Products with a repository query in progress")
+                .register(registry);
+    }
+
+    /**
+     * Ordenado después del bulkhead y el micro-batching, y antes que el filtro de Bloom y la caché de
+     * candidatos.
+     */
+    static final class SingleFlightPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<MeterRegistry> registry;
+
+        private SingleFlightPostProcessor(ObjectProvider<MeterRegistry> registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof PriceCandidatesPort candidates)) {
+                return bean;
+            }
+            final PriceSingleFlightDecorator singleFlight = new PriceSingleFlightDecorator(candidates);
+            this.registry.ifAvailable(meters -> bindMetrics(singleFlight, meters));
+            log.info("Price lookup single-flight enabled on '{}'", beanName);
+            return singleFlight;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 2;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.price.manager.boot.config;
+
+import java.time.Duration;
+
+import com.price.manager.application.diagnostics.RequestStageRecorder;
+import com.price.manager.boot.diagnostics.SlowRequestLog;
+import com.price.manager.boot.diagnostics.SlowRequestsEndpoint;
+import com.price.manager.boot.web.SlowRequestFilter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Desglosa por etapas la latencia de cada petición sobre {@code /v1/*} y conserva las lentas.
+ *
+ * <p>Registra el filtro que abre el {@link RequestStageRecorder}, con el que el controlador REST
+ * y el adaptador {@code jpa} miden la conversión de parámetros, la llamada al servicio, la
+ * consulta SQL, el mapeo a dominio, el mapeo al DTO y la serialización. Sin este filtro no se
+ * graba nada, así que cada contexto decide por sí mismo. Las peticiones que tardan al menos
+ * {@code threshold} se guardan, con sus parámetros y los valores de la consulta SQL, en un
+ * {@link SlowRequestLog} de {@code capacity} entradas que se consulta en
+ * {@code /actuator/slowrequests}.</p>
+ *
+ * <p>Métrica: {@code price.requests.slow}, peticiones lentas desde el arranque.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   slow-requests:
+ *     enabled: true
+ *     threshold: 100ms
+ *     capacity: 100
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SlowRequestFilter
+ */
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "price-manager.slow-requests", name = "enabled", havingValue = "true")
+public class SlowRequestConfig {
+
+    private static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(100);
+
+    private static final int DEFAULT_CAPACITY = 100;
+
+    /**
+     * Búfer de peticiones lentas.
+     *
+     * @param environment propiedades {@code price-manager.slow-requests.*}
+     * @param registry    registro de métricas, si Actuator está presente
+     * @return búfer vacío
+     */
+    @Bean
+    public SlowRequestLog slowRequestLog(Environment environment, ObjectProvider<MeterRegistry> registry) {
+        final SlowRequestLog slowRequestLog = new SlowRequestLog(
+                environment.getProperty("price-manager.slow-requests.threshold", Duration.class, DEFAULT_THRESHOLD),
+                environment.getProperty("price-manager.slow-requests.capacity", Integer.class, DEFAULT_CAPACITY));
+        registry.ifAvailable(meters -> FunctionCounter.builder("price.requests.slow", slowRequestLog,
+                        SlowRequestLog::captured)
+                .description("Requests slower than price-manager.slow-requests.threshold")
+                .register(meters));
+        log.info("Slow request capture enabled: threshold {}, capacity {}",
+                slowRequestLog.threshold(), slowRequestLog.capacity());
+        return slowRequestLog;
+    }
+
+    /**
+     * Endpoint {@code /actuator/slowrequests}.
+     *
+     * @param slowRequestLog búfer de peticiones lentas
+     * @return endpoint
+     */
+    @Bean
+    public SlowRequestsEndpoint slowRequestsEndpoint(SlowRequestLog slowRequestLog) {
+        return new SlowRequestsEndpoint(slowRequestLog);
+    }
+
+    /**
+     * Filtro que abre y cierra la grabación de cada petición.
+     *
+     * @param slowRequestLog búfer de peticiones lentas
+     * @return registro del filtro sobre {@code /v1/*}
+     */
+    @Bean
+    public FilterRegistrationBean<SlowRequestFilter> slowRequestFilter(SlowRequestLog slowRequestLog) {
+        final FilterRegistrationBean<SlowRequestFilter> registration = new FilterRegistrationBean<>(
+                new SlowRequestFilter(slowRequestLog));
+        registration.addUrlPatterns("/v1/*");
+        return registration;
+    }
+}
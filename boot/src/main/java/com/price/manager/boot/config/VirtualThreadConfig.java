@@ -0,0 +1,183 @@
+package com.price.manager.boot.config;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.price.manager.application.ports.driven.PriceKeyPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.boot.threads.VirtualThreadPinningMonitor;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Diagnóstico de los hilos virtuales ({@code spring.threads.virtual.enabled=true} sobre Java 21).
+ *
+ * <p>Arranca un {@link VirtualThreadPinningMonitor} y, cuando la aplicación está lista, lanza
+ * {@code probe-lookups} búsquedas simultáneas en hilos virtuales. Así los bloques
+ * {@code synchronized} de H2 o Hibernate que fijan el hilo portador aparecen en el log del
+ * arranque y no la primera vez que hay carga. El total de eventos se publica como
+ * {@code jvm.threads.virtual.pinned}.</p>
+ *
+ * <p>Las búsquedas se reparten entre hasta {@code probe-lookups} pares (brandId, productId)
+ * reales, leídos con {@link PriceKeyPort}, y van directas al {@link PriceRepositoryPort} sin
+ * decorar: ni la caché de resultados, ni la de candidatos, ni el single-flight o el
+ * micro-batching las agrupan en una sola consulta que no detectaría nada.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   virtual-threads:
+ *     pinning:
+ *       threshold: 0ms
+ *       probe-lookups: 100
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see VirtualThreadPinningMonitor
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final int DEFAULT_PROBE_LOOKUPS = 100;
+
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Monitor de fijaciones, arrancado con el contexto y cerrado con él.
+     *
+     * @param environment propiedades {@code price-manager.virtual-threads.pinning.*}
+     * @param registry    registro de métricas, si Actuator está presente
+     * @return monitor
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(Environment environment,
+                                                                   ObjectProvider<MeterRegistry> registry) {
+        final Duration threshold = environment.getProperty("price-manager.virtual-threads.pinning.threshold",
+                Duration.class, Duration.ZERO);
+        final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(threshold);
+        registry.ifAvailable(meters -> FunctionCounter
+                .builder("jvm.threads.virtual.pinned", monitor, VirtualThreadPinningMonitor::pinnedCount)
+                .description("Virtual threads that blocked while pinned to their carrier")
+                .register(meters));
+        log.info("Virtual thread pinning monitor started: threshold={}", threshold);
+        return monitor;
+    }
+
+    /**
+     * Post-procesador que guarda el repositorio antes de que lo envuelvan los decoradores.
+     *
+     * @return post-procesador
+     */
+    @Bean
+    public static ProbeTargetPostProcessor pinningProbeTargetPostProcessor() {
+        return new ProbeTargetPostProcessor();
+    }
+
+    /**
+     * Sonda de arranque: búsquedas simultáneas en hilos virtuales y resumen de fijaciones.
+     *
+     * @param event evento de aplicación lista
+     */
+    @EventListener
+    public void probePinning(ApplicationReadyEvent event) {
+        final var context = event.getApplicationContext();
+        final int lookups = context.getEnvironment().getProperty(
+                "price-manager.virtual-threads.pinning.probe-lookups", Integer.class, DEFAULT_PROBE_LOOKUPS);
+        if (lookups <= 0) {
+            return;
+        }
+        final PriceRepositoryPort repository = context.getBean(ProbeTargetPostProcessor.class).target;
+        if (repository == null) {
+            return;
+        }
+        final List<long[]> keys = new ArrayList<>();
+        context.getBean(PriceKeyPort.class).forEachKey(lookups, (brandId, productId) ->
+                keys.add(new long[] {brandId, productId}));
+        if (keys.isEmpty()) {
+            log.info("Virtual thread pinning probe skipped: no prices to look up");
+            return;
+        }
+        final VirtualThreadPinningMonitor monitor = context.getBean(VirtualThreadPinningMonitor.class);
+        final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("pinning-probe-");
+        executor.setVirtualThreads(true);
+        final CountDownLatch done = new CountDownLatch(lookups);
+        final AtomicInteger failures = new AtomicInteger();
+        final long pinnedBefore = monitor.pinnedCount();
+        for (int i = 0; i < lookups; i++) {
+            final long[] key = keys.get(i % keys.size());
+            executor.execute(() -> {
+                try {
+                    repository.findBestPrice(PriceSearchCriteria.of(key[0], key[1], now));
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        try {
+            if (!done.await(PROBE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS) || !monitor.awaitFlush(FLUSH_TIMEOUT)) {
+                log.warn("Virtual thread pinning probe did not finish within {}", PROBE_TIMEOUT.plus(FLUSH_TIMEOUT));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        final long pinned = monitor.pinnedCount() - pinnedBefore;
+        if (pinned == 0) {
+            log.info("Virtual thread pinning probe: {} lookups over {} products ({} failed), no pinning detected",
+                    lookups, keys.size(), failures.get());
+        } else {
+            log.warn("Virtual thread pinning probe: {} lookups over {} products ({} failed), {} pinned events at {}",
+                    lookups, keys.size(), failures.get(), pinned, monitor.sites());
+        }
+    }
+
+    /**
+     * Guarda el primer {@link PriceRepositoryPort}: ordenado después del que crea los proxies
+     * transaccionales y antes que las métricas de puertos y todos los decoradores.
+     */
+    static final class ProbeTargetPostProcessor implements BeanPostProcessor, Ordered {
+
+        private PriceRepositoryPort target;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (this.target == null && bean instanceof PriceRepositoryPort repository) {
+                this.target = repository;
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 6;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.price.manager.boot.diagnostics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.price.manager.application.diagnostics.RequestStageRecorder;
+import com.price.manager.application.diagnostics.RequestStageRecorder.Stage;
+
+/**
+ * Búfer circular con las últimas peticiones que superaron el umbral de latencia.
+ *
+ * <p>Cada petición lenta se copia del {@link RequestStageRecorder} a un {@link SlowRequest}
+ * inmutable; las rápidas solo cuestan una comparación. Cuando el búfer se llena, cada nueva
+ * entrada sustituye a la más antigua. Las escrituras concurrentes no se bloquean: en el peor
+ * caso, una lectura simultánea ve una entrada ya sustituida.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SlowRequestsEndpoint
+ */
+public class SlowRequestLog {
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Duration threshold;
+
+    private final long thresholdNanos;
+
+    private final AtomicReferenceArray<SlowRequest> slots;
+
+    private final AtomicLong captured = new AtomicLong();
+
+    /**
+     * Crea el búfer.
+     *
+     * @param threshold duración a partir de la cual una petición se conserva
+     * @param capacity  peticiones que se conservan
+     */
+    public SlowRequestLog(Duration threshold, int capacity) {
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("threshold must not be negative: " + threshold);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.threshold = threshold;
+        this.thresholdNanos = threshold.toNanos();
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Conserva la petición si su duración alcanza el umbral.
+     *
+     * @param method      método HTTP
+     * @param path        ruta de la petición
+     * @param query       parámetros de la petición, o {@code null}
+     * @param status      código de la respuesta
+     * @param recorder    etapas grabadas de la petición
+     * @param totalNanos  duración total
+     * @return {@code true} si se conservó
+     */
+    public boolean offer(String method, String path, String query, int status, RequestStageRecorder recorder,
+                         long totalNanos) {
+        if (totalNanos < this.thresholdNanos) {
+            return false;
+        }
+        final Map<String, Double> stages = new LinkedHashMap<>();
+        for (final Stage stage : STAGES) {
+            stages.put(stage.name().toLowerCase(Locale.ROOT), millis(recorder.nanos(stage)));
+        }
+        final List<String> binds = new ArrayList<>(recorder.bindCount());
+        for (int i = 0; i < recorder.bindCount(); i++) {
+            binds.add(String.valueOf(recorder.bindAt(i)));
+        }
+        final SlowRequest request = new SlowRequest(Instant.now(), method, path, query, status, millis(totalNanos),
+                stages, recorder.statement(), binds);
+        final long sequence = this.captured.getAndIncrement();
+        this.slots.set((int) (sequence % this.slots.length()), request);
+        return true;
+    }
+
+    /**
+     * Peticiones conservadas, de la más reciente a la más antigua.
+     *
+     * @return copia del contenido del búfer
+     */
+    public List<SlowRequest> snapshot() {
+        final long end = this.captured.get();
+        final int size = (int) Math.min(end, this.slots.length());
+        final List<SlowRequest> requests = new ArrayList<>(size);
+        for (long sequence = end - 1; sequence >= end - size; sequence--) {
+            final SlowRequest request = this.slots.get((int) (sequence % this.slots.length()));
+            if (request != null) {
+                requests.add(request);
+            }
+        }
+        return requests;
+    }
+
+    /**
+     * Vacía el búfer; el contador de peticiones conservadas se mantiene.
+     */
+    public void clear() {
+        for (int i = 0; i < this.slots.length(); i++) {
+            this.slots.set(i, null);
+        }
+    }
+
+    /**
+     * Peticiones lentas conservadas desde el arranque, incluidas las ya sustituidas.
+     *
+     * @return total de peticiones lentas
+     */
+    public long captured() {
+        return this.captured.get();
+    }
+
+    /**
+     * Umbral configurado.
+     *
+     * @return duración mínima de una petición lenta
+     */
+    public Duration threshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Capacidad del búfer.
+     *
+     * @return peticiones que se conservan
+     */
+    public int capacity() {
+        return this.slots.length();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Petición lenta con el desglose de sus etapas.
+     *
+     * @param at          instante en que terminó
+     * @param method      método HTTP
+     * @param path        ruta
+     * @param query       parámetros (marca, producto y fecha de la búsqueda)
+     * @param status      código de la respuesta
+     * @param totalMillis duración total en milisegundos
+     * @param stageMillis milisegundos por etapa, en el orden de {@link Stage}
+     * @param statement   consulta SQL ejecutada, o {@code null} si no llegó a la base de datos
+     * @param binds       valores de la consulta
+     */
+    public record SlowRequest(Instant at, String method, String path, String query, int status, double totalMillis,
+                              Map<String, Double> stageMillis, String statement, List<String> binds) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.price.manager.boot.diagnostics;
+
+import java.util.List;
+
+import com.price.manager.boot.diagnostics.SlowRequestLog.SlowRequest;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Endpoint de Actuator {@code /actuator/slowrequests} con las últimas peticiones lentas.
+ *
+ * <p>{@code GET} devuelve el umbral, el total de peticiones lentas desde el arranque y las que
+ * siguen en el {@link SlowRequestLog}, de la más reciente a la más antigua. {@code DELETE}
+ * vacía el búfer.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog slowRequestLog;
+
+    /**
+     * Crea el endpoint.
+     *
+     * @param slowRequestLog búfer de peticiones lentas
+     */
+    public SlowRequestsEndpoint(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    /**
+     * Peticiones lentas conservadas.
+     *
+     * @return informe con el umbral y las peticiones
+     */
+    @ReadOperation
+    public SlowRequestsReport slowRequests() {
+        return new SlowRequestsReport(this.slowRequestLog.threshold().toMillis(), this.slowRequestLog.capacity(),
+                this.slowRequestLog.captured(), this.slowRequestLog.snapshot());
+    }
+
+    /**
+     * Vacía el búfer.
+     */
+    @DeleteOperation
+    public void clear() {
+        this.slowRequestLog.clear();
+    }
+
+    /**
+     * Respuesta del endpoint.
+     *
+     * @param thresholdMillis umbral en milisegundos
+     * @param capacity        peticiones que conserva el búfer
+     * @param captured        peticiones lentas desde el arranque
+     * @param requests        peticiones conservadas, de la más reciente a la más antigua
+     */
+    public record SlowRequestsReport(long thresholdMillis, int capacity, long captured, List<SlowRequest> requests) {
+    }
+}
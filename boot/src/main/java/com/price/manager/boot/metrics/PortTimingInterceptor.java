@@ -0,0 +1,118 @@
+package com.price.manager.boot.metrics;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+/**
+ * Mide con un {@link Timer} cada llamada a los métodos de un puerto.
+ *
+ * <p>Registra {@value #METRIC} con las etiquetas {@code port} (nombre simple de la interfaz),
+ * {@code method} y {@code exception} ({@code none} si la llamada termina bien) y publica el
+ * histograma de percentiles, de modo que Prometheus puede agregar p50/p99/p999 entre instancias.
+ * El {@link Timer} de cada método se resuelve una vez y se reutiliza; medir una llamada cuesta
+ * dos lecturas de {@link System#nanoTime()}.</p>
+ *
+ * <p>Solo se miden los métodos declarados en la propia interfaz: los heredados los mide el
+ * interceptor de su puerto, y los métodos propios del adaptador no se miden.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PortTimingInterceptor implements MethodInterceptor {
+
+    /**
+     * Nombre del {@link Timer}; en Prometheus, {@code price_port_calls_seconds}.
+     */
+    public static final String METRIC = "price.port.calls";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private static final Duration MINIMUM_EXPECTED = Duration.ofNanos(500);
+
+    private static final Duration MAXIMUM_EXPECTED = Duration.ofSeconds(10);
+
+    private final Class<?> port;
+
+    private final MeterRegistry registry;
+
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Crea el interceptor de un puerto.
+     *
+     * @param port     interfaz cuyos métodos se miden
+     * @param registry registro donde se crean los {@link Timer}
+     */
+    public PortTimingInterceptor(Class<?> port, MeterRegistry registry) {
+        if (!port.isInterface()) {
+            throw new IllegalArgumentException("port must be an interface: " + port.getName());
+        }
+        this.port = port;
+        this.registry = registry;
+    }
+
+    /**
+     * Devuelve este interceptor limitado a los métodos declarados en el puerto.
+     *
+     * @return advisor para añadir a un proxy
+     */
+    public Advisor advisor() {
+        return new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return PortTimingInterceptor.this.declares(method);
+            }
+        }, this);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        final long started = System.nanoTime();
+        final Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            this.timer(invocation.getMethod(), e.getClass().getSimpleName())
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        this.timers.computeIfAbsent(invocation.getMethod(), method -> this.timer(method, NO_EXCEPTION))
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private boolean declares(Method method) {
+        for (final Method declared : this.port.getDeclaredMethods()) {
+            if (declared.getName().equals(method.getName())
+                    && Arrays.equals(declared.getParameterTypes(), method.getParameterTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Timer timer(Method method, String exception) {
+        // El registro devuelve el mismo Timer para el mismo nombre y etiquetas
+        return Timer.builder(METRIC)
+                .tag("port", this.port.getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .description("Latency of calls to a hexagonal port or mapper")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MINIMUM_EXPECTED)
+                .maximumExpectedValue(MAXIMUM_EXPECTED)
+                .register(this.registry);
+    }
+}
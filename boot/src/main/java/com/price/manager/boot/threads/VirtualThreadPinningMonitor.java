@@ -0,0 +1,138 @@
+package com.price.manager.boot.threads;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detecta hilos virtuales fijados a su hilo portador ({@code jdk.VirtualThreadPinned} de JFR).
+ *
+ * <p>Un hilo virtual que se bloquea dentro de un bloque {@code synchronized} (habitual en H2 y
+ * en partes de Hibernate) no libera su portador, así que unos pocos bloqueos de este tipo
+ * agotan los portadores y anulan la ventaja de los hilos virtuales. El monitor escucha el
+ * evento con un {@link RecordingStream} en proceso y, la primera vez que aparece cada punto
+ * de origen, lo registra en el log con su pila. El origen es el primer marco fuera del JDK.</p>
+ *
+ * <p>En JVM anteriores a la 21 el evento no existe y el monitor no recibe nada.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 12;
+
+    private static final Duration FLUSH_POLL = Duration.ofMillis(50);
+
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+
+    private final RecordingStream stream;
+
+    private final Set<String> sites = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder pinned = new LongAdder();
+
+    private final AtomicLong flushes = new AtomicLong();
+
+    /**
+     * Crea el monitor sin arrancarlo.
+     *
+     * @param threshold duración mínima del bloqueo para emitir el evento; {@code 0} los recoge todos
+     */
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.stream = new RecordingStream();
+        this.stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        this.stream.onEvent(PINNED_EVENT, this::onPinned);
+        this.stream.onFlush(this.flushes::incrementAndGet);
+    }
+
+    /**
+     * Empieza a recibir eventos en un hilo propio de JFR.
+     */
+    public void start() {
+        this.stream.startAsync();
+    }
+
+    /**
+     * Espera a que JFR entregue los eventos registrados hasta ahora.
+     *
+     * @param timeout espera máxima
+     * @return {@code true} si hubo una entrega completa dentro del plazo
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    public boolean awaitFlush(Duration timeout) throws InterruptedException {
+        final long target = this.flushes.get() + 2;
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        while (this.flushes.get() < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(FLUSH_POLL.toMillis());
+        }
+        return true;
+    }
+
+    /**
+     * Eventos de fijación recibidos desde el arranque.
+     *
+     * @return número de eventos
+     */
+    public long pinnedCount() {
+        return this.pinned.sum();
+    }
+
+    /**
+     * Puntos de origen distintos detectados.
+     *
+     * @return marcos {@code clase.método:línea}
+     */
+    public Set<String> sites() {
+        return Set.copyOf(this.sites);
+    }
+
+    @Override
+    public void close() {
+        this.stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        this.pinned.increment();
+        final RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return;
+        }
+        final List<RecordedFrame> frames = stackTrace.getFrames();
+        final RecordedFrame origin = frames.stream()
+                .filter(frame -> frame.isJavaFrame() && !isJdkFrame(frame))
+                .findFirst()
+                .orElse(frames.get(0));
+        final String site = describe(origin);
+        if (this.sites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}:\n\t{}", event.getDuration().toMillis(), site,
+                    frames.stream().limit(LOGGED_FRAMES).map(VirtualThreadPinningMonitor::describe)
+                            .collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    private static boolean isJdkFrame(RecordedFrame frame) {
+        final String type = frame.getMethod().getType().getName();
+        return JDK_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,71 @@
+package com.price.manager.boot.web;
+
+import java.io.IOException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.stat.Statistics;
+import org.springframework.lang.Nullable;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Registra cuántas entidades carga Hibernate y cuántas sentencias prepara mientras se atiende
+ * cada petición.
+ *
+ * <p>Toma los contadores globales de {@link Statistics} antes y después de la cadena de filtros
+ * y publica la diferencia en {@code hibernate.entities.loaded} y
+ * {@code hibernate.statements.prepared} (si hay registro de métricas), además de escribirla en
+ * el log a nivel DEBUG. Los contadores son del {@code SessionFactory}, no de la petición: con
+ * peticiones concurrentes cada diferencia incluye el trabajo de las demás, pero un máximo de 0
+ * en {@code hibernate.entities.loaded} sigue probando que ninguna petición cargó entidades.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.price.manager.boot.config.HibernateStatisticsConfig
+ */
+@Slf4j
+public class HibernateStatisticsFilter extends OncePerRequestFilter {
+
+    private final Statistics statistics;
+
+    private final DistributionSummary entitiesLoaded;
+
+    private final DistributionSummary statementsPrepared;
+
+    /**
+     * Crea el filtro.
+     *
+     * @param statistics         estadísticas de Hibernate, ya activadas
+     * @param entitiesLoaded     resumen de entidades cargadas por petición, o {@code null} sin métricas
+     * @param statementsPrepared resumen de sentencias preparadas por petición, o {@code null} sin métricas
+     */
+    public HibernateStatisticsFilter(Statistics statistics, @Nullable DistributionSummary entitiesLoaded,
+                                     @Nullable DistributionSummary statementsPrepared) {
+        this.statistics = statistics;
+        this.entitiesLoaded = entitiesLoaded;
+        this.statementsPrepared = statementsPrepared;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final long loadsBefore = this.statistics.getEntityLoadCount();
+        final long statementsBefore = this.statistics.getPrepareStatementCount();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            final long loads = this.statistics.getEntityLoadCount() - loadsBefore;
+            final long statements = this.statistics.getPrepareStatementCount() - statementsBefore;
+            if (this.entitiesLoaded != null) {
+                this.entitiesLoaded.record(loads);
+                this.statementsPrepared.record(statements);
+            }
+            log.debug("{} {}: {} entities loaded, {} statements prepared",
+                    request.getMethod(), request.getRequestURI(), loads, statements);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.price.manager.boot.web;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.diagnostics.RequestStageRecorder;
+import com.price.manager.boot.diagnostics.SlowRequestLog;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Graba las etapas de cada petición y conserva en {@link SlowRequestLog} las que superan el umbral.
+ *
+ * <p>Abre el {@link RequestStageRecorder} del hilo antes de la cadena de filtros y lo cierra
+ * después, cuando la respuesta ya está escrita. Solo las peticiones lentas crean objetos: la
+ * copia que guarda el búfer y una línea de log a nivel WARN.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.price.manager.boot.config.SlowRequestConfig
+ */
+@Slf4j
+public class SlowRequestFilter extends OncePerRequestFilter {
+
+    private final SlowRequestLog slowRequestLog;
+
+    /**
+     * Crea el filtro.
+     *
+     * @param slowRequestLog búfer donde se conservan las peticiones lentas
+     */
+    public SlowRequestFilter(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        final RequestStageRecorder recorder = RequestStageRecorder.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            final long totalNanos = recorder.finish();
+            if (this.slowRequestLog.offer(request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                    response.getStatus(), recorder, totalNanos)) {
+                log.warn("Slow request {} {}?{}: {} ms", request.getMethod(), request.getRequestURI(),
+                        request.getQueryString(), TimeUnit.NANOSECONDS.toMillis(totalNanos));
+            }
+            recorder.clear();
+        }
+    }
+}
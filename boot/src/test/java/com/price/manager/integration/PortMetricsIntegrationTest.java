@@ -0,0 +1,107 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.price.manager.Application;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.boot.metrics.PortTimingInterceptor;
+import com.price.manager.driven.repositories.adapters.PriceRepositoryAdapter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN de los timers por puerto y del endpoint {@code /actuator/prometheus}.
+ *
+ * <p>{@link AutoConfigureObservability} mantiene el registro de Prometheus, que los tests de
+ * Spring Boot sustituyen por uno en memoria.</p>
+ */
+@AutoConfigureObservability
+@SpringBootTest(
+        classes = Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:portmetricstestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.metrics.ports.enabled=true",
+    "price-manager.repository.statistics.enabled=true"
+})
+@DisplayName("Port Metrics - Integration Tests")
+class PortMetricsIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Test
+    @DisplayName("Should time the controller, service, repository and mappers of a lookup")
+    void shouldTimeEveryPortOfALookup() {
+        // When
+        final ResponseEntity<String> response = this.restTemplate.getForEntity(this.url(
+                "/v1/price/findByBrandProductBetweenDate?brandId=1&productId=35455&dateQuery=2020-06-14T16:00:00Z"),
+                String.class);
+
+        // Then - el adaptador jpa sigue siendo el bean, con el interceptor en su proxy transaccional
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertInstanceOf(PriceRepositoryAdapter.class, this.priceRepositoryPort);
+        final Set<String> timedPorts = this.meterRegistry.find(PortTimingInterceptor.METRIC).timers().stream()
+                .filter(timer -> timer.count() > 0)
+                .map(timer -> timer.getId().getTag("port"))
+                .collect(Collectors.toSet());
+        assertTrue(timedPorts.containsAll(Set.of("PriceControllerApi", "PriceServicePort", "PriceRepositoryPort",
+                "PriceMapper")), timedPorts::toString);
+        final Timer controller = this.meterRegistry.get(PortTimingInterceptor.METRIC)
+                .tags("port", "PriceControllerApi", "method", "findByBrandProductBetweenDate", "exception", "none")
+                .timer();
+        assertTrue(controller.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Should expose port histograms, Hikari and Hibernate metrics in Prometheus format")
+    void shouldExposePrometheusScrape() {
+        // Given
+        this.restTemplate.getForEntity(this.url(
+                "/v1/price/findByBrandProductBetweenDate?brandId=1&productId=35455&dateQuery=2020-06-14T10:00:00Z"),
+                String.class);
+
+        // When
+        final ResponseEntity<String> scrape = this.restTemplate.getForEntity(this.url("/actuator/prometheus"), String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, scrape.getStatusCode());
+        final String body = scrape.getBody();
+        assertTrue(body.contains("price_port_calls_seconds_bucket{"), "Port timers should publish histogram buckets");
+        assertTrue(body.contains("port=\"PriceServicePort\""));
+        assertTrue(body.contains("hikaricp_connections_acquire_seconds_bucket{"), "Hikari metrics should be exposed");
+        assertTrue(body.contains("hibernate_sessions_open_total"), "Hibernate metrics should be exposed");
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + this.port + path;
+    }
+}
@@ -0,0 +1,107 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import com.price.manager.application.decorators.PriceBloomFilterDecorator;
+import com.price.manager.application.index.PriceKeyBloomFilter;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.application.ports.driving.PriceIngestServicePort;
+import com.price.manager.application.ports.driving.PriceServicePort;
+import com.price.manager.domain.Price;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN del filtro de Bloom de búsquedas negativas sobre el adaptador jpa.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bloomfiltertestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.bloom-filter.enabled=true",
+    "price-manager.bloom-filter.expected-keys=1000",
+    "price-manager.single-flight.enabled=true"
+})
+@DisplayName("Price Bloom Filter - Integration Tests")
+class PriceBloomFilterIntegrationTest {
+
+    private static final LocalDateTime QUERY_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceServicePort priceServicePort;
+
+    @Autowired
+    private PriceIngestServicePort priceIngestServicePort;
+
+    @Autowired
+    private PriceKeyBloomFilter keyFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should load the sample product at startup and place the filter outside the single-flight")
+    void shouldLoadSampleProductAndWrapSingleFlight() {
+        assertInstanceOf(PriceBloomFilterDecorator.class, this.priceRepositoryPort);
+        assertTrue(this.keyFilter.mightContain(1L, 35455L));
+        assertEquals(2L, this.priceServicePort.findByBrandProductBetweenDate(1L, 35455L, QUERY_DATE).getPriceList());
+        assertNotNull(this.meterRegistry.get("price.bloom.filter.fpp").tag("kind", "estimated").gauge());
+    }
+
+    @Test
+    @DisplayName("Should answer an unknown product without reaching the repository")
+    void shouldAnswerUnknownProductWithoutRepository() {
+        // Given
+        final PriceBloomFilterDecorator filter = (PriceBloomFilterDecorator) this.priceRepositoryPort;
+        final long rejectedBefore = filter.stats().rejected();
+
+        // When
+        final Price price = this.priceServicePort.findByBrandProductBetweenDate(1L, 99999L, QUERY_DATE);
+
+        // Then
+        assertNull(price);
+        assertEquals(rejectedBefore + 1, filter.stats().rejected());
+        assertEquals((double) filter.stats().rejected(),
+                this.meterRegistry.get("price.bloom.filter.lookups").tag("result", "rejected").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should find a product ingested after startup")
+    void shouldFindProductIngestedAfterStartup() {
+        // Given
+        final Price ingested = Price.builder()
+                .brandId(1L)
+                .productId(77777L)
+                .priority(0)
+                .startDate(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .price(new BigDecimal("19.99"))
+                .curr("EUR")
+                .build();
+
+        // When
+        this.priceIngestServicePort.ingest(Stream.of(ingested));
+        final Price price = this.priceServicePort.findByBrandProductBetweenDate(1L, 77777L, QUERY_DATE);
+
+        // Then
+        assertNotNull(price);
+        assertEquals(0, new BigDecimal("19.99").compareTo(price.getPrice()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.time.LocalDateTime;
+
+import com.price.manager.application.decorators.PriceRepositoryBulkheadDecorator;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.application.ports.driving.PriceServicePort;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN del perfil {@code virtual-threads}.
+ *
+ * <p>Los hilos virtuales solo se activan en Java 21; el bulkhead se comprueba en cualquier JVM.</p>
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "virtual-threads"})
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bulkheadtestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.datasource.hikari.maximum-pool-size=4"
+})
+@DisplayName("Price Repository Bulkhead - Integration Tests")
+class PriceBulkheadIntegrationTest {
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceServicePort priceServicePort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should wrap the JPA adapter in a bulkhead sized to the Hikari pool")
+    void shouldWrapJpaAdapterInBulkheadSizedToPool() {
+        final var bulkhead = assertInstanceOf(PriceRepositoryBulkheadDecorator.class, this.priceRepositoryPort);
+        assertEquals(4, bulkhead.stats().maxConcurrentCalls());
+        assertEquals(4.0, this.meterRegistry.get("bulkhead.max.permits").tag("name", "price-repository").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should resolve lookups through the bulkhead and release every permit")
+    void shouldResolveLookupsThroughBulkhead() {
+        // When
+        final var price = this.priceServicePort.findByBrandProductBetweenDate(1L, 35455L,
+                LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertEquals(2L, price.getPriceList());
+        final var stats = ((PriceRepositoryBulkheadDecorator) this.priceRepositoryPort).stats();
+        assertEquals(4, stats.available());
+        assertEquals(0L, stats.rejected());
+    }
+}
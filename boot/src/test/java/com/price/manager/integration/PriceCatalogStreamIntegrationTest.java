@@ -0,0 +1,108 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import com.price.manager.Application;
+import com.price.manager.application.ports.driving.PriceCatalogServicePort;
+import com.price.manager.domain.Price;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN de la duración máxima de la exportación NDJSON del catálogo.
+ *
+ * <p>El conector se arranca con un timeout asíncrono por defecto de 1 s, en lugar de los 30 s de
+ * Tomcat, para que la exportación lenta lo supere sin alargar el test.</p>
+ */
+@SpringBootTest(
+        classes = Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:catalogstreamtestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.catalog.stream-timeout=30s"
+})
+@Import(PriceCatalogStreamIntegrationTest.ShortConnectorTimeout.class)
+@DisplayName("Price Catalog Stream - Integration Tests")
+class PriceCatalogStreamIntegrationTest {
+
+    private static final long CONNECTOR_ASYNC_TIMEOUT_MILLIS = 1000L;
+
+    private static final Duration PAUSE = Duration.ofMillis(1500);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private PriceCatalogServicePort priceCatalogServicePort;
+
+    @Test
+    @DisplayName("Should keep streaming past the container default async timeout")
+    void shouldKeepStreamingPastContainerDefaultTimeout() {
+        // Given - dos precios separados por más que el timeout por defecto del conector
+        final Price price = Price.builder()
+                .priceList(1L)
+                .brandId(1L)
+                .productId(35455L)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .priority(0)
+                .price(new BigDecimal("35.50"))
+                .curr("EUR")
+                .build();
+        when(this.priceCatalogServicePort.streamEffectivePrices(eq(1L), any(), any())).thenAnswer(invocation -> {
+            final Consumer<Price> consumer = invocation.getArgument(2);
+            consumer.accept(price);
+            Thread.sleep(PAUSE.toMillis());
+            consumer.accept(price);
+            return 2L;
+        });
+
+        // When
+        final ResponseEntity<String> response = this.restTemplate.getForEntity(
+                "http://localhost:" + this.port + "/v1/price/catalog/1?dateQuery=2020-06-14T16:00:00Z", String.class);
+
+        // Then - con el timeout del conector la respuesta se cortaría tras la primera línea
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().strip().split("\n").length);
+    }
+
+    @TestConfiguration
+    static class ShortConnectorTimeout {
+
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> shortAsyncTimeout() {
+            return factory -> factory.addConnectorCustomizers(
+                    connector -> connector.setAsyncTimeout(CONNECTOR_ASYNC_TIMEOUT_MILLIS));
+        }
+    }
+}
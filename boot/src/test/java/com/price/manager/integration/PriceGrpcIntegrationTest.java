@@ -0,0 +1,116 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.driving.grpc.config.GrpcServerLifecycle;
+import com.price.manager.driving.grpc.proto.PriceLookupRequest;
+import com.price.manager.driving.grpc.proto.PriceLookupServiceGrpc;
+import com.price.manager.driving.grpc.proto.PriceMessage;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN del servidor gRPC sobre la aplicación completa, por loopback.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:grpctestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.grpc.enabled=true",
+    "price-manager.grpc.port=0"
+})
+@DisplayName("Price gRPC - Integration Tests")
+class PriceGrpcIntegrationTest {
+
+    @Autowired
+    private GrpcServerLifecycle grpcServer;
+
+    private ManagedChannel channel;
+
+    private PriceLookupServiceGrpc.PriceLookupServiceBlockingStub stub;
+
+    static Stream<Arguments> requiredTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), 2L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), 3L),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), 4L)
+        );
+    }
+
+    @BeforeAll
+    void openChannel() {
+        this.channel = ManagedChannelBuilder.forAddress("localhost", this.grpcServer.getPort()).usePlaintext().build();
+        this.stub = PriceLookupServiceGrpc.newBlockingStub(this.channel);
+    }
+
+    @AfterAll
+    void closeChannel() {
+        this.channel.shutdownNow();
+    }
+
+    @ParameterizedTest(name = "{0} -> priceList {1}")
+    @MethodSource("requiredTestCases")
+    @DisplayName("Should resolve the required cases over gRPC")
+    void shouldResolveRequiredCases(LocalDateTime queryDate, Long expectedPriceList) {
+        // When
+        final PriceMessage price = this.stub.findPrice(request(35455L, queryDate));
+
+        // Then
+        assertEquals(expectedPriceList, price.getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should return the exact amount of the sample data")
+    void shouldReturnExactAmount() {
+        // When
+        final PriceMessage price = this.stub.findPrice(request(35455L, LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+        // Then
+        assertEquals(0, new BigDecimal("25.45")
+                .compareTo(BigDecimal.valueOf(price.getPriceUnscaled(), price.getPriceScale())));
+        assertEquals(EpochMillis.of(LocalDateTime.of(2020, 6, 14, 15, 0)), price.getStartDate());
+    }
+
+    @Test
+    @DisplayName("Should answer NOT_FOUND for an unknown product")
+    void shouldAnswerNotFoundForUnknownProduct() {
+        // When
+        final StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> this.stub.findPrice(request(99999L, LocalDateTime.of(2020, 6, 14, 10, 0))));
+
+        // Then
+        assertEquals(Status.Code.NOT_FOUND, error.getStatus().getCode());
+    }
+
+    private static PriceLookupRequest request(long productId, LocalDateTime date) {
+        return PriceLookupRequest.newBuilder()
+                .setBrandId(1L)
+                .setProductId(productId)
+                .setApplicationDate(EpochMillis.of(date))
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.price.manager.Application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN de las cabeceras de caché HTTP y las peticiones condicionales.
+ */
+@SpringBootTest(
+        classes = Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:httpcachetestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.http-cache.enabled=true",
+    "price-manager.http-cache.max-age=2m"
+})
+@DisplayName("Price HTTP Cache - Integration Tests")
+class PriceHttpCacheIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Should return ETag and Cache-Control, and 304 when If-None-Match matches")
+    void shouldAnswerNotModifiedWhenETagMatches() {
+        // Given
+        final String url = this.url("2020-06-14T16:00:00Z");
+        final ResponseEntity<String> first = this.restTemplate.getForEntity(url, String.class);
+        final String etag = first.getHeaders().getETag();
+        final HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(etag);
+
+        // When
+        final ResponseEntity<String> second = this.restTemplate.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(conditional), String.class);
+
+        // Then - consulta histórica: no caduca por tiempo, max-age es el techo configurado
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\"2-"), etag);
+        assertEquals("max-age=120, public", first.getHeaders().getCacheControl());
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertEquals(etag, second.getHeaders().getETag());
+        assertNull(second.getBody());
+    }
+
+    @Test
+    @DisplayName("Should return the full body when the ETag belongs to another price")
+    void shouldReturnBodyWhenETagDiffers() {
+        // Given - ETag de la tarifa 2, consulta resuelta por la tarifa 1
+        final HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(this.restTemplate.getForEntity(this.url("2020-06-14T16:00:00Z"), String.class)
+                .getHeaders().getETag());
+
+        // When
+        final ResponseEntity<String> response = this.restTemplate.exchange(this.url("2020-06-14T10:00:00Z"),
+                HttpMethod.GET, new HttpEntity<>(conditional), String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getHeaders().getETag().startsWith("\"1-"));
+        assertNotNull(response.getBody());
+    }
+
+    private String url(String dateQuery) {
+        return String.format(
+                "http://localhost:%d/v1/price/findByBrandProductBetweenDate?brandId=1&productId=35455&dateQuery=%s",
+                this.port, dateQuery);
+    }
+}
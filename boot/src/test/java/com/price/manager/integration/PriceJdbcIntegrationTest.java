@@ -0,0 +1,68 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.jdbc.adapters.PriceJdbcRepositoryAdapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN del adaptador JDBC activado con el perfil {@code jdbc}.
+ * Usa los datos de ejemplo de las migraciones cargados al arrancar.
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "jdbc"})
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:jdbctestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@DisplayName("Price JDBC Repository - Integration Tests")
+class PriceJdbcIntegrationTest {
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    static Stream<Arguments> requiredTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), "35.5", 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), "25.45", 2L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), "35.5", 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), "30.5", 3L),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), "38.95", 4L)
+        );
+    }
+
+    @Test
+    @DisplayName("Should wire the JDBC adapter as the repository port")
+    void shouldWireJdbcAdapterAsRepositoryPort() {
+        assertInstanceOf(PriceJdbcRepositoryAdapter.class, this.priceRepositoryPort);
+    }
+
+    @ParameterizedTest(name = "{0} -> priceList {2}")
+    @MethodSource("requiredTestCases")
+    @DisplayName("Should match the JPA query results for the required cases")
+    void shouldMatchJpaQueryResultsForRequiredCases(LocalDateTime queryDate, String expectedPrice, Long expectedPriceList) {
+        // When
+        final var result = this.priceRepositoryPort.findBestPrice(PriceSearchCriteria.of(1L, 35455L, queryDate));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(0, new BigDecimal(expectedPrice).compareTo(result.get().getPrice()));
+        assertEquals(expectedPriceList, result.get().getPriceList());
+    }
+}
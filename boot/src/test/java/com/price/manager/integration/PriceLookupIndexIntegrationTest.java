@@ -0,0 +1,156 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.models.PriceLookupView;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Comprueba con {@code EXPLAIN} que la búsqueda del mejor precio usa {@code IDX_PRICES_LOOKUP}.
+ *
+ * <p>Carga un millón de filas sintéticas (marca 2) junto a los datos de ejemplo, en una base
+ * propia para no alterar el resto de tests de integración. El plan se pide para el SQL que
+ * Hibernate genera para
+ * {@link PriceJpaRepository#findBestPriceViewByBrandIdAndProductIdAtDate(Long, Long, LocalDateTime)},
+ * la consulta que ejecuta el adaptador, capturado con un {@link StatementInspector}.</p>
+ *
+ * <p>La carga tarda decenas de segundos, así que el test lleva la etiqueta
+ * {@value #TAG} y solo se ejecuta con {@code mvn -P large-catalog test}.</p>
+ *
+ * @since 1.0.0
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag(PriceLookupIndexIntegrationTest.TAG)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:lookupindextestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.price.manager.integration.PriceLookupIndexIntegrationTest$CapturingStatementInspector"
+})
+@DisplayName("Price Lookup Index - Integration Tests")
+class PriceLookupIndexIntegrationTest {
+
+    static final String TAG = "large-catalog";
+
+    private static final int SYNTHETIC_ROWS = 1_000_000;
+
+    private static final LocalDateTime SYNTHETIC_DATE = LocalDateTime.of(2021, 3, 15, 10, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PriceJpaRepository repository;
+
+    @BeforeAll
+    void loadSyntheticCatalog() {
+        // 100.000 productos de la marca 2 con diez tarifas mensuales consecutivas cada uno
+        this.jdbcTemplate.update("""
+                INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRODUCT_ID, PRIORITY, PRICE, CURR)
+                SELECT 2,
+                       DATEADD('DAY', (X / 100000) * 30, TIMESTAMP '2021-01-01 00:00:00'),
+                       DATEADD('DAY', (X / 100000) * 30 + 29, TIMESTAMP '2021-01-01 00:00:00'),
+                       100000 + MOD(X, 100000),
+                       MOD(X, 3),
+                       10 + MOD(X, 90),
+                       'EUR'
+                FROM SYSTEM_RANGE(0, ?)
+                """, SYNTHETIC_ROWS - 1);
+        this.jdbcTemplate.execute("ANALYZE TABLE PRICES");
+    }
+
+    @Test
+    @DisplayName("Should have loaded the synthetic catalogue next to the sample data")
+    void shouldHaveLoadedSyntheticCatalogue() {
+        assertEquals(SYNTHETIC_ROWS + 4L, this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES", Long.class));
+    }
+
+    @Test
+    @DisplayName("EXPLAIN of the adapter's projection query should use IDX_PRICES_LOOKUP instead of a table scan")
+    void explainShouldShowLookupServedByIndex() {
+        // Given - el SQL que Hibernate ejecuta para la proyección
+        CapturingStatementInspector.clear();
+        this.repository.findBestPriceViewByBrandIdAndProductIdAtDate(2L, 100042L, SYNTHETIC_DATE);
+        final String sql = CapturingStatementInspector.lookupSql();
+        assertNotNull(sql, () -> "Lookup SQL should have been captured: " + CapturingStatementInspector.STATEMENTS);
+
+        // When - marca, producto y fecha, más el límite si Hibernate lo parametriza
+        final List<Object> parameters = new ArrayList<>(List.of(2L, 100042L, SYNTHETIC_DATE));
+        while (parameters.size() < sql.chars().filter(c -> c == '?').count()) {
+            parameters.add(1);
+        }
+        final String plan = this.jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters.toArray());
+
+        // Then
+        assertTrue(plan.contains("IDX_PRICES_LOOKUP"), () -> "Lookup should use the covering index:\n" + plan);
+        assertFalse(plan.contains("tableScan"), () -> "Lookup should not scan PRICES:\n" + plan);
+    }
+
+    @Test
+    @DisplayName("Repository projection lookup should still resolve the winner on the large catalogue")
+    void repositoryLookupShouldResolveWinnerOnLargeCatalogue() {
+        // When - X = 200042 (tercer mes, 2021-03-02 a 2021-03-31, prioridad 200042 % 3 = 2)
+        final PriceLookupView synthetic = this.repository
+                .findBestPriceViewByBrandIdAndProductIdAtDate(2L, 100042L, SYNTHETIC_DATE)
+                .orElseThrow();
+        final PriceLookupView sample = this.repository
+                .findBestPriceViewByBrandIdAndProductIdAtDate(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0))
+                .orElseThrow();
+
+        // Then
+        assertEquals(LocalDateTime.of(2021, 3, 2, 0, 0), synthetic.startDate());
+        assertEquals(2, synthetic.priority());
+        assertEquals(2L, sample.priceList());
+    }
+
+    /**
+     * Guarda el SQL que prepara Hibernate, sin modificarlo.
+     */
+    public static final class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static String lookupSql() {
+            synchronized (STATEMENTS) {
+                return STATEMENTS.stream()
+                        .filter(sql -> sql.toLowerCase().contains("prices"))
+                        .reduce((first, second) -> second)
+                        .orElse(null);
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.price.manager.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import com.price.manager.Application;
@@ -18,8 +21,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
@@ -40,8 +47,6 @@ import org.springframework.test.context.TestPropertySource;
 @ActiveProfiles("test")
 @TestPropertySource(properties = {
     "spring.datasource.url=jdbc:h2:mem:integrationtestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
-    "spring.jpa.hibernate.ddl-auto=create-drop",
-    "spring.sql.init.mode=always",
     "logging.level.org.springframework.web=INFO"
 })
 @DisplayName("🔄 Price Manager - Integration Tests")
@@ -56,6 +61,9 @@ class PriceManagerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     /**
      * Datos de prueba según los 5 casos específicos requeridos por Core Platform.
      *
@@ -209,6 +217,113 @@ class PriceManagerIntegrationTest {
                 "Content type should be JSON");
     }
 
+    @Test
+    @DisplayName("API should resolve bulk lookups in request order with not-found markers")
+    void apiShouldResolveBulkLookupsInRequestOrderWithNotFoundMarkers() throws Exception {
+        // Given - dos productos existentes y uno inexistente
+        final String body = """
+                {"items": [
+                  {"brandId": 1, "productId": 35455, "dateQuery": "2020-06-14T16:00:00Z"},
+                  {"brandId": 999, "productId": 99999, "dateQuery": "2020-06-14T10:00:00Z"},
+                  {"brandId": 1, "productId": 35455, "dateQuery": "2020-06-16T21:00:00Z"}
+                ]}
+                """;
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // When
+        final ResponseEntity<String> response = this.restTemplate.postForEntity(
+                "http://localhost:" + this.port + "/v1/price/bulk", new HttpEntity<>(body, headers), String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "Bulk lookup should return 200 even with missing items");
+        final var items = this.objectMapper.readTree(response.getBody()).get("items");
+        assertEquals(3, items.size());
+        assertTrue(items.get(0).get("found").asBoolean());
+        assertEquals(2L, items.get(0).get("price").get("id").asLong());
+        assertFalse(items.get(1).get("found").asBoolean());
+        assertEquals(99999L, items.get(1).get("productId").asLong());
+        assertEquals(4L, items.get(2).get("price").get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("API should stream the brand catalogue as one NDJSON line per product")
+    void apiShouldStreamBrandCatalogueAsNdjson() throws Exception {
+        // When
+        final ResponseEntity<String> response = this.restTemplate.getForEntity(
+                "http://localhost:" + this.port + "/v1/price/catalog/1?dateQuery=2020-06-14T16:00:00Z", String.class);
+
+        // Then - un único producto en los datos de ejemplo, con la promoción de tarde como ganadora
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getHeaders().getContentType().toString().startsWith("application/x-ndjson"));
+        final String[] lines = response.getBody().strip().split("\n");
+        assertEquals(1, lines.length);
+        assertEquals(2L, this.objectMapper.readTree(lines[0]).get("id").asLong());
+    }
+
+    @Test
+    @DisplayName("API should ingest CSV rows, reject inconsistent ones and serve the new prices")
+    void apiShouldIngestCsvRowsAndServeNewPrices() throws Exception {
+        // Given - marca 2 para no alterar los datos de ejemplo; la fila 2 tiene precio negativo y
+        // las filas 4 y 5 no caben en CURR VARCHAR(3) ni en PRODUCT_ID INT
+        final String body = """
+                brandId,productId,startDate,endDate,priority,price,curr
+                2,50001,2020-07-01T00:00:00,2020-07-31T23:59:59,0,19.95,EUR
+                2,50001,2020-07-01T00:00:00,2020-07-31T23:59:59,0,-1,EUR
+                2,50002,2020-07-01T00:00:00Z,2020-07-31T23:59:59Z,1,9.95,EUR
+                2,50003,2020-07-01T00:00:00,2020-07-31T23:59:59,0,19.95,EURO
+                2,2147483648,2020-07-01T00:00:00,2020-07-31T23:59:59,0,19.95,EUR
+                """;
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+
+        // When
+        final ResponseEntity<String> response = this.restTemplate.postForEntity(
+                "http://localhost:" + this.port + "/v1/price/ingest", new HttpEntity<>(body, headers), String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        final var result = this.objectMapper.readTree(response.getBody());
+        assertEquals(2L, result.get("accepted").asLong());
+        assertEquals(3L, result.get("rejected").asLong());
+        assertEquals(2L, result.get("rejectedRows").get(0).asLong());
+        assertEquals(4L, result.get("rejectedRows").get(1).asLong());
+        assertEquals(5L, result.get("rejectedRows").get(2).asLong());
+
+        final ResponseEntity<String> lookup = this.restTemplate.getForEntity("http://localhost:" + this.port +
+                "/v1/price/findByBrandProductBetweenDate?brandId=2&productId=50002&dateQuery=2020-07-15T10:00:00Z",
+                String.class);
+        assertEquals(HttpStatus.OK, lookup.getStatusCode());
+        final var price = this.objectMapper.readTree(lookup.getBody());
+        assertEquals(9.95, price.get("price").asDouble(), 0.001);
+        assertTrue(price.get("id").asLong() >= 1001L, "Ingested rows take their ids from PRICES_SEQ");
+    }
+
+    @Test
+    @DisplayName("Rows inserted without PRICE_LIST and ingested rows should share PRICES_SEQ")
+    void rowsInsertedBySqlAndIngestedShouldShareSequence() {
+        // Given - marca 3; inserción por SQL sin identificador antes y después de una carga
+        final String insert = "INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRODUCT_ID, PRIORITY, PRICE, CURR) "
+                + "VALUES (3, TIMESTAMP '2020-07-01 00:00:00', TIMESTAMP '2020-07-31 23:59:59', ?, 0, 1.0, 'EUR')";
+        this.jdbcTemplate.update(insert, 60001L);
+        final HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv"));
+
+        // When
+        final ResponseEntity<String> response = this.restTemplate.postForEntity(
+                "http://localhost:" + this.port + "/v1/price/ingest",
+                new HttpEntity<>("3,60002,2020-07-01T00:00:00,2020-07-31T23:59:59,0,2.0,EUR\n", headers), String.class);
+        this.jdbcTemplate.update(insert, 60003L);
+
+        // Then - un único generador: identificadores distintos y fuera del rango de los datos de ejemplo
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        final List<Long> ids = this.jdbcTemplate.queryForList("SELECT PRICE_LIST FROM PRICES WHERE BRAND_ID = 3", Long.class);
+        assertEquals(3, ids.size());
+        assertEquals(3, Set.copyOf(ids).size());
+        assertTrue(ids.stream().allMatch(id -> id >= 1001L), ids::toString);
+    }
+
     @Test
     @DisplayName("Application should handle concurrent requests properly")
     void applicationShouldHandleConcurrentRequestsProperly() throws InterruptedException {
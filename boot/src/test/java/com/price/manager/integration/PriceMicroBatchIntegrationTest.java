@@ -0,0 +1,81 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import com.price.manager.application.decorators.PriceMicroBatchingDecorator;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.application.ports.driving.PriceServicePort;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN del micro-batching sobre el adaptador JPA.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:microbatchtestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.micro-batch.enabled=true",
+    "price-manager.micro-batch.max-delay=1ms"
+})
+@DisplayName("Price Micro-Batching - Integration Tests")
+class PriceMicroBatchIntegrationTest {
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceServicePort priceServicePort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    static Stream<Arguments> requiredTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), 2L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), 3L),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), 4L)
+        );
+    }
+
+    @ParameterizedTest(name = "{0} -> priceList {1}")
+    @MethodSource("requiredTestCases")
+    @DisplayName("Should resolve the required cases through the micro-batcher")
+    void shouldResolveRequiredCases(LocalDateTime queryDate, Long expectedPriceList) {
+        // When
+        final var price = this.priceServicePort.findByBrandProductBetweenDate(1L, 35455L, queryDate);
+
+        // Then
+        assertEquals(expectedPriceList, price.getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should decorate the repository and record the size of each batch")
+    void shouldRecordBatchSizes() {
+        // Given
+        assertInstanceOf(PriceMicroBatchingDecorator.class, this.priceRepositoryPort);
+
+        // When
+        this.priceServicePort.findByBrandProductBetweenDate(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        // Then
+        assertTrue(this.meterRegistry.get("price.lookups.batch.size").summary().count() > 0);
+        assertTrue(this.meterRegistry.get("price.lookups.batch.wait").timer().count() > 0);
+    }
+}
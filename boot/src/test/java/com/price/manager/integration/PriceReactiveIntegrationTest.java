@@ -0,0 +1,132 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.price.manager.application.ports.driven.PriceReactiveRepositoryPort;
+import com.price.manager.driven.r2dbc.adapters.PriceR2dbcRepositoryAdapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Test de INTEGRACIÓN de la pila reactiva (WebFlux + R2DBC) activada con el perfil {@code reactive}.
+ * Usa los datos de ejemplo de las migraciones de Flyway, leídos por R2DBC sobre la misma base H2.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "reactive"})
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactivetestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@DisplayName("Price Reactive Stack - Integration Tests")
+class PriceReactiveIntegrationTest {
+
+    private static final String FIND_PATH = "/v1/price/findByBrandProductBetweenDate";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PriceReactiveRepositoryPort priceReactiveRepositoryPort;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    static Stream<Arguments> requiredTestCases() {
+        return Stream.of(
+                Arguments.of("2020-06-14T10:00:00Z", 35.5, 1),
+                Arguments.of("2020-06-14T16:00:00Z", 25.45, 2),
+                Arguments.of("2020-06-14T21:00:00Z", 35.5, 1),
+                Arguments.of("2020-06-15T10:00:00Z", 30.5, 3),
+                Arguments.of("2020-06-16T21:00:00Z", 38.95, 4)
+        );
+    }
+
+    @Test
+    @DisplayName("Should wire the R2DBC adapter and leave the servlet controller out")
+    void shouldWireReactiveStackOnly() {
+        assertInstanceOf(PriceR2dbcRepositoryAdapter.class, this.priceReactiveRepositoryPort);
+        assertFalse(this.applicationContext.containsBean("priceControllerAdapter"));
+    }
+
+    @ParameterizedTest(name = "{0} -> priceList {2}")
+    @MethodSource("requiredTestCases")
+    @DisplayName("Should return the same prices as the servlet stack for the required cases")
+    void shouldReturnSamePricesAsServletStack(String dateQuery, double expectedPrice, int expectedPriceList) {
+        this.webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(FIND_PATH)
+                        .queryParam("brandId", 1)
+                        .queryParam("productId", 35455)
+                        .queryParam("dateQuery", dateQuery)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(expectedPriceList)
+                .jsonPath("$.brandId").isEqualTo(1)
+                .jsonPath("$.price").isEqualTo(expectedPrice);
+    }
+
+    @Test
+    @DisplayName("Should answer 404 PRICE_NOT_FOUND when no price applies")
+    void shouldAnswerNotFoundWhenNoPriceApplies() {
+        this.webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(FIND_PATH)
+                        .queryParam("brandId", 1)
+                        .queryParam("productId", 99999)
+                        .queryParam("dateQuery", "2020-06-14T10:00:00Z")
+                        .build())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("PRICE_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("Should answer 400 when a query parameter is missing")
+    void shouldAnswerBadRequestWhenParameterIsMissing() {
+        this.webTestClient.get()
+                .uri(uriBuilder -> uriBuilder.path(FIND_PATH).queryParam("brandId", 1).build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("INVALID_PARAMETER");
+    }
+
+    @Test
+    @DisplayName("Should resolve bulk lookups in request order")
+    void shouldResolveBulkLookupsInRequestOrder() {
+        // Given
+        final Map<String, Object> body = Map.of("items", List.of(
+                Map.of("brandId", 1, "productId", 35455, "dateQuery", "2020-06-14T16:00:00Z"),
+                Map.of("brandId", 1, "productId", 99999, "dateQuery", "2020-06-14T16:00:00Z"),
+                Map.of("brandId", 1, "productId", 35455, "dateQuery", "2020-06-16T21:00:00Z")));
+
+        // When / Then
+        this.webTestClient.post()
+                .uri("/v1/price/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items.length()").isEqualTo(3)
+                .jsonPath("$.items[0].price.id").isEqualTo(2)
+                .jsonPath("$.items[1].found").isEqualTo(false)
+                .jsonPath("$.items[2].price.id").isEqualTo(4);
+    }
+}
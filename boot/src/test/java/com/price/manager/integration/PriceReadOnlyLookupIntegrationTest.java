@@ -0,0 +1,88 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.price.manager.Application;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Comprueba con las estadísticas de Hibernate que la búsqueda del adaptador {@code jpa}
+ * responde sin cargar entidades.
+ *
+ * @since 1.0.0
+ */
+@SpringBootTest(
+        classes = Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:readonlylookuptestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.repository.statistics.enabled=true",
+    "logging.level.org.springframework.web=INFO"
+})
+@DisplayName("Price Read-Only Lookup - Integration Tests")
+class PriceReadOnlyLookupIntegrationTest {
+
+    private static final String[] QUERY_DATES = {
+        "2020-06-14T10:00:00Z", "2020-06-14T16:00:00Z", "2020-06-14T21:00:00Z",
+        "2020-06-15T10:00:00Z", "2020-06-16T21:00:00Z"
+    };
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private Statistics statistics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Lookups should run queries without loading a single entity")
+    void lookupsShouldRunQueriesWithoutLoadingEntities() {
+        // Given
+        final long loadsBefore = this.statistics.getEntityLoadCount();
+        final long queriesBefore = this.statistics.getQueryExecutionCount();
+
+        // When
+        for (final String date : QUERY_DATES) {
+            final ResponseEntity<String> response = this.restTemplate.getForEntity(
+                    "/v1/price/findByBrandProductBetweenDate?brandId=1&productId=35455&dateQuery=" + date, String.class);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+        }
+
+        // Then
+        assertEquals(0L, this.statistics.getEntityLoadCount() - loadsBefore, "Lookups must not load entities");
+        assertEquals(QUERY_DATES.length, this.statistics.getQueryExecutionCount() - queriesBefore);
+    }
+
+    @Test
+    @DisplayName("Per-request summary should be published and stay at zero entities")
+    void perRequestSummaryShouldBePublishedAndStayAtZero() {
+        // When
+        this.restTemplate.getForEntity(
+                "/v1/price/findByBrandProductBetweenDate?brandId=1&productId=35455&dateQuery=2020-06-14T16:00:00Z",
+                String.class);
+
+        // Then
+        final DistributionSummary loaded = this.meterRegistry.get("hibernate.entities.loaded").summary();
+        final DistributionSummary prepared = this.meterRegistry.get("hibernate.statements.prepared").summary();
+        assertTrue(loaded.count() >= 1, "Every /v1 request should be recorded");
+        assertEquals(0.0, loaded.max());
+        assertTrue(prepared.totalAmount() >= 1, "The lookup should prepare its query");
+    }
+}
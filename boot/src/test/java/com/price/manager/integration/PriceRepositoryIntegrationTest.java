@@ -17,7 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Test de INTEGRACIÓN para validar la query JPQL y lógica de prioridad.
- * Usa el contexto completo de Spring Boot y datos reales de init.sql.
+ * Usa el contexto completo de Spring Boot y datos de ejemplo de las migraciones.
  */
 @SpringBootTest
 @ActiveProfiles("test")
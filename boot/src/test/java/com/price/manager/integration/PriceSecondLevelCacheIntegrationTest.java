@@ -0,0 +1,135 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.application.ports.driving.PriceIngestServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.models.PriceEntity;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN de la caché de segundo nivel y de consultas de Hibernate.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:l2cachetestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.l2-cache.enabled=true"
+})
+@DisplayName("Price Second-Level Cache - Integration Tests")
+class PriceSecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceJpaRepository priceJpaRepository;
+
+    @Autowired
+    private PriceIngestServicePort priceIngestServicePort;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Repeated lookups should be served by the query cache without hitting H2")
+    void repeatedLookupsShouldBeServedByQueryCache() {
+        // Given
+        final PriceSearchCriteria criteria = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+        final Price first = this.priceRepositoryPort.findBestPrice(criteria).orElseThrow();
+        final long executions = this.statistics.getQueryExecutionCount();
+        final long hits = this.lookupRegion().getHitCount();
+
+        // When
+        final Price second = this.priceRepositoryPort.findBestPrice(criteria).orElseThrow();
+
+        // Then
+        assertEquals(first, second);
+        assertEquals(2L, second.getPriceList());
+        assertEquals(executions, this.statistics.getQueryExecutionCount(), "Second lookup must not reach H2");
+        assertEquals(hits + 1, this.lookupRegion().getHitCount());
+    }
+
+    @Test
+    @DisplayName("Entities loaded by id should be served by the entity region on later sessions")
+    void entitiesLoadedByIdShouldBeServedByEntityRegion() {
+        // Given
+        this.priceJpaRepository.findById(1L).orElseThrow();
+        final long hits = this.statistics.getDomainDataRegionStatistics(PriceEntity.CACHE_REGION).getHitCount();
+
+        // When
+        final PriceEntity entity = this.priceJpaRepository.findById(1L).orElseThrow();
+
+        // Then
+        assertEquals(0, new BigDecimal("35.5").compareTo(entity.getPrice()));
+        assertEquals(hits + 1, this.statistics.getDomainDataRegionStatistics(PriceEntity.CACHE_REGION).getHitCount());
+    }
+
+    @Test
+    @DisplayName("Ingesting prices through JPA should invalidate cached lookups")
+    void ingestingPricesShouldInvalidateCachedLookups() {
+        // Given
+        final PriceSearchCriteria criteria = PriceSearchCriteria.of(7L, 700L, LocalDateTime.of(2021, 1, 10, 12, 0));
+        assertTrue(this.priceRepositoryPort.findBestPrice(criteria).isEmpty());
+
+        // When
+        this.priceIngestServicePort.ingest(Stream.of(Price.builder()
+                .brandId(7L).productId(700L).priority(0).price(new BigDecimal("9.99")).curr("EUR")
+                .startDate(LocalDateTime.of(2021, 1, 1, 0, 0)).endDate(LocalDateTime.of(2021, 12, 31, 23, 59, 59))
+                .build()));
+
+        // Then
+        assertEquals(0, new BigDecimal("9.99").compareTo(
+                this.priceRepositoryPort.findBestPrice(criteria).orElseThrow().getPrice()));
+    }
+
+    @Test
+    @DisplayName("Region hit and miss counters should be published as cache metrics")
+    void regionCountersShouldBePublishedAsCacheMetrics() {
+        // Given
+        final PriceSearchCriteria criteria = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 15, 10, 0));
+        this.priceRepositoryPort.findBestPrice(criteria);
+        this.priceRepositoryPort.findBestPrice(criteria);
+
+        // Then
+        final double metricHits = this.meterRegistry.get("cache.gets")
+                .tag("cache", PriceJpaRepository.LOOKUP_CACHE_REGION).tag("result", "hit")
+                .functionCounter().count();
+        assertEquals(this.lookupRegion().getHitCount(), (long) metricHits);
+        assertTrue(metricHits >= 1);
+    }
+
+    private CacheRegionStatistics lookupRegion() {
+        return this.statistics.getQueryRegionStatistics(PriceJpaRepository.LOOKUP_CACHE_REGION);
+    }
+}
@@ -0,0 +1,74 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import com.price.manager.application.decorators.PriceCandidateCacheDecorator;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.application.ports.driving.PriceServicePort;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN del single-flight combinado con la caché de candidatos.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:singleflighttestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.single-flight.enabled=true",
+    "price-manager.cache.enabled=true"
+})
+@DisplayName("Price Single-Flight - Integration Tests")
+class PriceSingleFlightIntegrationTest {
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceServicePort priceServicePort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    static Stream<Arguments> requiredTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), 2L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), 3L),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), 4L)
+        );
+    }
+
+    @Test
+    @DisplayName("Should place the candidate cache outside the single-flight and publish its metrics")
+    void shouldPlaceCacheOutsideSingleFlight() {
+        assertInstanceOf(PriceCandidateCacheDecorator.class, this.priceRepositoryPort);
+        assertNotNull(this.meterRegistry.get("price.lookups.coalescing").tag("result", "coalesced").functionCounter());
+    }
+
+    @ParameterizedTest(name = "{0} -> priceList {1}")
+    @MethodSource("requiredTestCases")
+    @DisplayName("Should resolve the required cases through the single-flight")
+    void shouldResolveRequiredCases(LocalDateTime queryDate, Long expectedPriceList) {
+        // When
+        final var price = this.priceServicePort.findByBrandProductBetweenDate(1L, 35455L, queryDate);
+
+        // Then
+        assertEquals(expectedPriceList, price.getPriceList());
+    }
+}
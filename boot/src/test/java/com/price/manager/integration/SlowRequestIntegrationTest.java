@@ -0,0 +1,99 @@
+package com.price.manager.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import com.price.manager.Application;
+import com.price.manager.boot.diagnostics.SlowRequestLog;
+import com.price.manager.boot.diagnostics.SlowRequestLog.SlowRequest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test de INTEGRACIÓN del desglose por etapas y del endpoint {@code /actuator/slowrequests}.
+ *
+ * <p>Con umbral 0 todas las peticiones cuentan como lentas.</p>
+ */
+@SpringBootTest(
+        classes = Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:slowrequesttestdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "price-manager.slow-requests.enabled=true",
+    "price-manager.slow-requests.threshold=0ms",
+    "price-manager.slow-requests.capacity=4"
+})
+@DisplayName("Slow Request Capture - Integration Tests")
+class SlowRequestIntegrationTest {
+
+    private static final String LOOKUP =
+            "/v1/price/findByBrandProductBetweenDate?brandId=1&productId=35455&dateQuery=2020-06-14T16:00:00Z";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SlowRequestLog slowRequestLog;
+
+    @Test
+    @DisplayName("Should capture the stage breakdown, criteria and SQL binds of a lookup")
+    void shouldCaptureStageBreakdownOfLookup() {
+        // When
+        final ResponseEntity<String> response = this.restTemplate.getForEntity(this.url(LOOKUP), String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        final SlowRequest captured = this.slowRequestLog.snapshot().get(0);
+        assertEquals("/v1/price/findByBrandProductBetweenDate", captured.path());
+        assertTrue(captured.query().contains("productId=35455"));
+        assertEquals(200, captured.status());
+        assertEquals(List.of("parsing", "service", "sql", "entity_mapping", "dto_mapping", "serialization"),
+                List.copyOf(captured.stageMillis().keySet()));
+        assertTrue(captured.stageMillis().get("service") >= captured.stageMillis().get("sql"));
+        assertTrue(captured.totalMillis() >= captured.stageMillis().get("service"));
+        assertEquals("PriceJpaRepository.findBestPriceViewByBrandIdAndProductIdAtDate", captured.statement());
+        assertEquals(List.of("1", "35455", "2020-06-14T16:00"), captured.binds());
+    }
+
+    @Test
+    @DisplayName("Should expose the captured requests at the Actuator endpoint and keep only the newest")
+    void shouldExposeNewestRequestsAtEndpoint() {
+        // Given - más peticiones que la capacidad del búfer
+        for (int i = 0; i < 6; i++) {
+            this.restTemplate.getForEntity(this.url(LOOKUP), String.class);
+        }
+
+        // When
+        final ResponseEntity<String> report = this.restTemplate.getForEntity(this.url("/actuator/slowrequests"),
+                String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, report.getStatusCode());
+        assertTrue(report.getBody().contains("\"thresholdMillis\":0"), report.getBody());
+        assertTrue(report.getBody().contains("findBestPriceViewByBrandIdAndProductIdAtDate"));
+        assertEquals(4, this.slowRequestLog.snapshot().size());
+        assertTrue(this.slowRequestLog.captured() >= 6);
+        assertFalse(report.getBody().contains("/actuator/"), "Only /v1/* requests are recorded");
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + this.port + path;
+    }
+}
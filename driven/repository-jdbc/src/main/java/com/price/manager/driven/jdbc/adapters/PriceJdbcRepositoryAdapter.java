@@ -0,0 +1,156 @@
+package com.price.manager.driven.jdbc.adapters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.jdbc.mappers.PriceRowMapper;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Adaptador de repositorio sobre JDBC plano, alternativa sin Hibernate a
+ * {@code PriceRepositoryAdapter}.
+ *
+ * <p>Ejecuta la misma consulta que {@code PriceJpaRepository.findBestPriceByBrandIdAndProductIdAtDate}
+ * con {@link JdbcTemplate} y construye el {@link Price} directamente desde el
+ * {@code ResultSet} con {@link PriceRowMapper}. No hay contexto de persistencia, instantánea
+ * para dirty checking, entidad intermedia ni mapper MapStruct.</p>
+ *
+ * <p>El esquema es el de las migraciones de {@code repository-sql}; la consulta usa el índice
+ * {@code IDX_PRICES_LOOKUP}. Las búsquedas por lotes ({@link #findBestPrices(List)}) usan la
+ * misma consulta {@code VALUES}/{@code ROW_NUMBER()} que {@code PriceBulkQueryRepositoryImpl}.</p>
+ *
+ * <h3>Activación:</h3>
+ * <p>{@code price-manager.repository.type=jdbc}, o el perfil {@code jdbc} del módulo boot.
+ * Implementa {@link PriceCandidatesPort}, así que admite las cachés de candidatos y de
+ * resultados igual que el adaptador {@code jpa}.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see PriceCandidatesPort
+ * @see PriceRowMapper
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "price-manager.repository", name = "type", havingValue = "jdbc")
+public class PriceJdbcRepositoryAdapter implements PriceCandidatesPort {
+
+    static final String FIND_BEST_PRICE_SQL = """
+            SELECT %s
+            FROM PRICES
+            WHERE BRAND_ID = ?
+              AND PRODUCT_ID = ?
+              AND ? BETWEEN START_DATE AND END_DATE
+            ORDER BY PRIORITY DESC, PRICE_LIST DESC
+            FETCH FIRST 1 ROWS ONLY
+            """.formatted(PriceRowMapper.COLUMNS);
+
+    static final String FIND_ALL_BY_PRODUCT_SQL = """
+            SELECT %s
+            FROM PRICES
+            WHERE BRAND_ID = ?
+              AND PRODUCT_ID = ?
+            """.formatted(PriceRowMapper.COLUMNS);
+
+    static final String FIND_BEST_PRICES_SQL = """
+            SELECT ranked.PRICE_LIST, ranked.BRAND_ID, ranked.PRODUCT_ID, ranked.START_DATE,
+                   ranked.END_DATE, ranked.PRIORITY, ranked.PRICE, ranked.CURR, ranked.IDX
+            FROM (
+              SELECT q.IDX, p.PRICE_LIST, p.BRAND_ID, p.PRODUCT_ID, p.START_DATE, p.END_DATE, p.PRIORITY, p.PRICE, p.CURR,
+                     ROW_NUMBER() OVER (PARTITION BY q.IDX ORDER BY p.PRIORITY DESC, p.PRICE_LIST DESC) AS RN
+              FROM (VALUES %s) AS q(IDX, BRAND_ID, PRODUCT_ID, QUERY_DATE)
+              JOIN PRICES p ON p.BRAND_ID = q.BRAND_ID
+                           AND p.PRODUCT_ID = q.PRODUCT_ID
+                           AND q.QUERY_DATE BETWEEN p.START_DATE AND p.END_DATE
+            ) ranked
+            WHERE ranked.RN = 1
+            """;
+
+    private static final int PARAMETERS_PER_ROW = 4;
+
+    private static final int MAPPED_COLUMNS = 8;
+
+    private static final String BULK_ROW = "(CAST(? AS INTEGER), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Busca el mejor precio leyendo como mucho una fila.
+     *
+     * <p>Los parámetros se asignan con {@code setObject}, de modo que un criterio con valores
+     * {@code null} no encuentra filas, igual que en la consulta JPQL.</p>
+     *
+     * @param criteria criterios de búsqueda
+     * @return precio aplicable, o vacío si no hay ninguno
+     */
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria criteria) {
+        return this.jdbcTemplate.query(FIND_BEST_PRICE_SQL,
+                ps -> {
+                    ps.setObject(1, criteria.brandId());
+                    ps.setObject(2, criteria.productId());
+                    ps.setObject(3, criteria.queryDate());
+                },
+                rs -> rs.next() ? Optional.of(PriceRowMapper.INSTANCE.mapRow(rs, 0)) : Optional.<Price>empty());
+    }
+
+    /**
+     * Resuelve todas las búsquedas con una única consulta por conjuntos.
+     *
+     * <p>Cada búsqueda es una fila {@code (idx, brand, product, date)} de la tabla derivada
+     * {@code VALUES}; {@code ROW_NUMBER()} se queda con el ganador de cada posición. Las columnas
+     * del precio van primero para que {@link PriceRowMapper} las lea por posición, y la posición de
+     * la búsqueda va al final.</p>
+     *
+     * @param criteria búsquedas a resolver
+     * @return un resultado por criterio, en el mismo orden; vacío si no hay precio aplicable
+     */
+    @Override
+    public List<Optional<Price>> findBestPrices(List<PriceSearchCriteria> criteria) {
+        if (criteria.isEmpty()) {
+            return List.of();
+        }
+        final StringJoiner rows = new StringJoiner(", ");
+        for (int i = 0; i < criteria.size(); i++) {
+            rows.add(BULK_ROW);
+        }
+        final List<Optional<Price>> results = new ArrayList<>(Collections.nCopies(criteria.size(), Optional.empty()));
+        this.jdbcTemplate.query(FIND_BEST_PRICES_SQL.formatted(rows),
+                ps -> {
+                    for (int i = 0; i < criteria.size(); i++) {
+                        final PriceSearchCriteria item = criteria.get(i);
+                        final int first = i * PARAMETERS_PER_ROW + 1;
+                        ps.setInt(first, i);
+                        ps.setObject(first + 1, item.brandId());
+                        ps.setObject(first + 2, item.productId());
+                        ps.setObject(first + 3, item.queryDate());
+                    }
+                },
+                rs -> {
+                    results.set(rs.getInt(MAPPED_COLUMNS + 1), Optional.of(PriceRowMapper.INSTANCE.mapRow(rs, 0)));
+                });
+        return results;
+    }
+
+    /**
+     * Devuelve todas las filas de un producto, sin filtrar por fecha.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @return filas del producto
+     */
+    @Override
+    public List<Price> findAllByBrandAndProduct(Long brandId, Long productId) {
+        return this.jdbcTemplate.query(FIND_ALL_BY_PRODUCT_SQL, PriceRowMapper.INSTANCE, brandId, productId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.price.manager.driven.jdbc.mappers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import com.price.manager.domain.Price;
+
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Convierte una fila de PRICES directamente en un {@link Price} de dominio.
+ *
+ * <p>Lee las columnas por posición, en el orden de {@link #COLUMNS}, sin pasar por una
+ * entidad intermedia ni por reflexión. Es inmutable y sin estado, así que se comparte una
+ * única instancia ({@link #INSTANCE}).</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PriceRowMapper implements RowMapper<Price> {
+
+    /**
+     * Columnas que deben seleccionar las consultas, en este orden.
+     */
+    public static final String COLUMNS = "PRICE_LIST, BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRIORITY, PRICE, CURR";
+
+    /**
+     * Instancia compartida.
+     */
+    public static final PriceRowMapper INSTANCE = new PriceRowMapper();
+
+    private PriceRowMapper() {
+    }
+
+    @Override
+    public Price mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return Price.builder()
+                .priceList(rs.getLong(1))
+                .brandId(rs.getLong(2))
+                .productId(rs.getLong(3))
+                .startDate(rs.getObject(4, LocalDateTime.class))
+                .endDate(rs.getObject(5, LocalDateTime.class))
+                .priority(rs.getInt(6))
+                .price(rs.getBigDecimal(7))
+                .curr(rs.getString(8))
+                .build();
+    }
+}
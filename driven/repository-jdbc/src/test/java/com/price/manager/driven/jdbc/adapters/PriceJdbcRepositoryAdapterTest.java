@@ -0,0 +1,164 @@
+package com.price.manager.driven.jdbc.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Tests del adaptador JDBC contra una base H2 embebida con los datos de ejemplo.
+ */
+@DisplayName("Price JDBC Repository Adapter - Tests")
+class PriceJdbcRepositoryAdapterTest {
+
+    private EmbeddedDatabase database;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private PriceJdbcRepositoryAdapter adapter;
+
+    static Stream<Arguments> requiredTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), "35.5", 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), "25.45", 2L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), "35.5", 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), "30.5", 3L),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), "38.95", 4L)
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("prices.sql")
+                .build();
+        this.jdbcTemplate = spy(new JdbcTemplate(this.database));
+        this.adapter = new PriceJdbcRepositoryAdapter(this.jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.database.shutdown();
+    }
+
+    @ParameterizedTest(name = "{0} -> priceList {2}")
+    @MethodSource("requiredTestCases")
+    @DisplayName("Should resolve the same winner as the JPA query for the required cases")
+    void shouldResolveSameWinnerAsJpaQuery(LocalDateTime queryDate, String expectedPrice, Long expectedPriceList) {
+        // When
+        final Optional<Price> result = this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, queryDate));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(0, new BigDecimal(expectedPrice).compareTo(result.get().getPrice()));
+        assertEquals(expectedPriceList, result.get().getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should map every column of the row into the domain price")
+    void shouldMapEveryColumnIntoDomainPrice() {
+        // When
+        final Price price = this.adapter.findBestPrice(
+                PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0))).orElseThrow();
+
+        // Then
+        assertEquals(1L, price.getBrandId());
+        assertEquals(35455L, price.getProductId());
+        assertEquals(1, price.getPriority());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 15, 0), price.getStartDate());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30), price.getEndDate());
+        assertEquals("EUR", price.getCurr());
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown products and null criteria values")
+    void shouldReturnEmptyForUnknownProductsAndNullValues() {
+        assertTrue(this.adapter.findBestPrice(
+                PriceSearchCriteria.of(1L, 99999L, LocalDateTime.of(2020, 6, 14, 16, 0))).isEmpty());
+        assertTrue(this.adapter.findBestPrice(PriceSearchCriteria.of(null, 35455L, null)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should list every row of a product regardless of date")
+    void shouldListEveryRowOfProduct() {
+        // When
+        final List<Price> rows = this.adapter.findAllByBrandAndProduct(1L, 35455L);
+
+        // Then
+        assertEquals(4, rows.size());
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch in input order with a single statement")
+    void shouldResolveBatchWithSingleStatement() {
+        // Given
+        final List<PriceSearchCriteria> criteria = List.of(
+                PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                PriceSearchCriteria.of(1L, 99999L, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 16, 21, 0)),
+                PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+
+        // When
+        final List<Optional<Price>> results = this.adapter.findBestPrices(criteria);
+
+        // Then
+        assertEquals(criteria.size(), results.size());
+        assertEquals(2L, results.get(0).orElseThrow().getPriceList());
+        assertTrue(results.get(1).isEmpty());
+        assertEquals(4L, results.get(2).orElseThrow().getPriceList());
+        assertEquals(1L, results.get(3).orElseThrow().getPriceList());
+        verify(this.jdbcTemplate, times(1)).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("Should match the single lookup for every batch entry")
+    void shouldMatchSingleLookupForEveryBatchEntry() {
+        // Given
+        final List<PriceSearchCriteria> criteria = requiredTestCases()
+                .map(arguments -> PriceSearchCriteria.of(1L, 35455L, (LocalDateTime) arguments.get()[0]))
+                .toList();
+
+        // When
+        final List<Optional<Price>> results = this.adapter.findBestPrices(criteria);
+
+        // Then
+        for (int i = 0; i < criteria.size(); i++) {
+            assertEquals(this.adapter.findBestPrice(criteria.get(i)), results.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not query the database for an empty batch")
+    void shouldNotQueryForEmptyBatch() {
+        assertTrue(this.adapter.findBestPrices(List.of()).isEmpty());
+        verify(this.jdbcTemplate, times(0)).query(anyString(), any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+    }
+}
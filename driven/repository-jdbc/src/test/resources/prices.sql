@@ -0,0 +1,16 @@
+CREATE TABLE PRICES (
+    PRICE_LIST INT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID INT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRODUCT_ID INT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE DOUBLE NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRODUCT_ID, PRIORITY, PRICE, CURR) VALUES
+    (1, TIMESTAMP '2020-06-14 00:00:00', TIMESTAMP '2020-12-31 23:59:59', 35455, 0, 35.50, 'EUR'),
+    (1, TIMESTAMP '2020-06-14 15:00:00', TIMESTAMP '2020-06-14 18:30:00', 35455, 1, 25.45, 'EUR'),
+    (1, TIMESTAMP '2020-06-15 00:00:00', TIMESTAMP '2020-06-15 11:00:00', 35455, 1, 30.50, 'EUR'),
+    (1, TIMESTAMP '2020-06-15 16:00:00', TIMESTAMP '2020-12-31 23:59:59', 35455, 1, 38.95, 'EUR');
@@ -0,0 +1,95 @@
+package com.price.manager.driven.r2dbc.adapters;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.price.manager.application.ports.driven.PriceReactiveRepositoryPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Adaptador de repositorio sobre R2DBC.
+ *
+ * <p>Ejecuta la misma consulta que el adaptador {@code jpa} con {@link DatabaseClient} y
+ * construye el {@link Price} desde la fila, sin entidad ni contexto de persistencia. La
+ * conexión se toma del pool al suscribirse y se devuelve al emitir la fila. La consulta usa el
+ * índice {@code IDX_PRICES_LOOKUP}.</p>
+ *
+ * <p>{@code r2dbc-h2} no es asíncrono: ejecuta H2 embebido de forma síncrona en el hilo que se
+ * suscribe. Por eso la consulta se suscribe en {@link Schedulers#boundedElastic()} y no ocupa
+ * el event loop de Netty; con un driver realmente no bloqueante sobraría.</p>
+ *
+ * <h3>Activación:</h3>
+ * <p>{@code price-manager.reactive.enabled=true} (perfil {@code reactive} del módulo boot).</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see PriceReactiveRepositoryPort
+ * @see com.price.manager.driven.r2dbc.config.R2dbcConfig
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "price-manager.reactive", name = "enabled", havingValue = "true")
+public class PriceR2dbcRepositoryAdapter implements PriceReactiveRepositoryPort {
+
+    /**
+     * {@code BRAND_ID} y {@code PRODUCT_ID} son filtros de igualdad y se toman del criterio.
+     */
+    static final String FIND_BEST_PRICE_SQL = """
+            SELECT PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR
+            FROM PRICES
+            WHERE BRAND_ID = :brandId
+              AND PRODUCT_ID = :productId
+              AND :queryDate BETWEEN START_DATE AND END_DATE
+            ORDER BY PRIORITY DESC, PRICE_LIST DESC
+            FETCH FIRST 1 ROWS ONLY
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Busca el mejor precio leyendo como mucho una fila.
+     *
+     * <p>Un criterio con algún valor {@code null} no encuentra filas, igual que en la consulta
+     * JPQL, y se resuelve sin acceder a la base de datos.</p>
+     *
+     * @param criteria criterios de búsqueda
+     * @return precio aplicable, o vacío si no hay ninguno
+     */
+    @Override
+    public Mono<Price> findBestPrice(PriceSearchCriteria criteria) {
+        if (criteria.brandId() == null || criteria.productId() == null || criteria.queryDate() == null) {
+            return Mono.empty();
+        }
+        return this.databaseClient.sql(FIND_BEST_PRICE_SQL)
+                .bind("brandId", criteria.brandId())
+                .bind("productId", criteria.productId())
+                .bind("queryDate", criteria.queryDate())
+                .map(row -> toDomain(row, criteria))
+                .first()
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Price toDomain(Readable row, PriceSearchCriteria criteria) {
+        // Tipos de las columnas de V1__create_prices.sql: INT, TIMESTAMP y DOUBLE
+        return Price.builder()
+                .brandId(criteria.brandId())
+                .productId(criteria.productId())
+                .priceList(row.get(0, Integer.class).longValue())
+                .startDate(row.get(1, LocalDateTime.class))
+                .endDate(row.get(2, LocalDateTime.class))
+                .priority(row.get(3, Integer.class))
+                .price(BigDecimal.valueOf(row.get(4, Double.class)))
+                .curr(row.get(5, String.class))
+                .build();
+    }
+}
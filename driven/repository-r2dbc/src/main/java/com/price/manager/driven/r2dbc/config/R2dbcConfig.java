@@ -0,0 +1,90 @@
+package com.price.manager.driven.r2dbc.config;
+
+import java.time.Duration;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Cliente R2DBC del adaptador reactivo, sobre la misma base H2 que JPA.
+ *
+ * <p>La URL se deriva de {@code spring.datasource.url} ({@code jdbc:h2:...}), de modo que las
+ * migraciones de Flyway y las cargas por JDBC son visibles sin configuración adicional. El
+ * pool es propiedad de esta clase y no se publica como bean {@code ConnectionFactory}: si lo
+ * fuera, Spring Boot dejaría de crear el {@code DataSource} JDBC que siguen usando JPA, Flyway
+ * y los demás adaptadores.</p>
+ *
+ * <pre>
+ * price-manager:
+ *   reactive:
+ *     enabled: true
+ *     pool:
+ *       max-size: 20
+ *       max-acquire-time: 5s
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.reactive", name = "enabled", havingValue = "true")
+public class R2dbcConfig implements DisposableBean {
+
+    private static final String JDBC_H2_PREFIX = "jdbc:h2:";
+
+    private static final int DEFAULT_MAX_SIZE = 20;
+
+    private static final Duration DEFAULT_MAX_ACQUIRE_TIME = Duration.ofSeconds(5);
+
+    private ConnectionPool pool;
+
+    /**
+     * Cliente sobre un pool de conexiones H2.
+     *
+     * @param environment propiedades {@code spring.datasource.*} y {@code price-manager.reactive.pool.*}
+     * @return cliente R2DBC
+     */
+    @Bean
+    public DatabaseClient priceDatabaseClient(Environment environment) {
+        final String jdbcUrl = environment.getRequiredProperty("spring.datasource.url");
+        if (!jdbcUrl.startsWith(JDBC_H2_PREFIX)) {
+            throw new IllegalStateException("The R2DBC adapter only supports H2, got " + jdbcUrl);
+        }
+        final H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(JDBC_H2_PREFIX.length()))
+                .username(environment.getProperty("spring.datasource.username", "sa"))
+                .password(environment.getProperty("spring.datasource.password", ""))
+                .build());
+        final int maxSize = environment.getProperty("price-manager.reactive.pool.max-size", Integer.class,
+                DEFAULT_MAX_SIZE);
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(Math.min(maxSize, 2))
+                .maxSize(maxSize)
+                .maxAcquireTime(environment.getProperty("price-manager.reactive.pool.max-acquire-time",
+                        Duration.class, DEFAULT_MAX_ACQUIRE_TIME))
+                .name("price-r2dbc")
+                .build());
+        log.info("R2DBC pool created: maxSize={}", maxSize);
+        return DatabaseClient.create(this.pool);
+    }
+
+    /**
+     * Cierra el pool con el contexto.
+     */
+    @Override
+    public void destroy() {
+        if (this.pool != null) {
+            this.pool.dispose();
+        }
+    }
+}
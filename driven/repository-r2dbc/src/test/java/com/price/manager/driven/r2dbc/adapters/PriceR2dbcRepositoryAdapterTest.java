@@ -0,0 +1,108 @@
+package com.price.manager.driven.r2dbc.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests del adaptador R2DBC contra una base H2 en memoria con los datos de ejemplo.
+ */
+@DisplayName("Price R2DBC Repository Adapter - Tests")
+class PriceR2dbcRepositoryAdapterTest {
+
+    private CloseableConnectionFactory connectionFactory;
+
+    private PriceR2dbcRepositoryAdapter adapter;
+
+    static Stream<Arguments> requiredTestCases() {
+        return Stream.of(
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 10, 0), "35.5", 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 16, 0), "25.45", 2L),
+                Arguments.of(LocalDateTime.of(2020, 6, 14, 21, 0), "35.5", 1L),
+                Arguments.of(LocalDateTime.of(2020, 6, 15, 10, 0), "30.5", 3L),
+                Arguments.of(LocalDateTime.of(2020, 6, 16, 21, 0), "38.95", 4L)
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        // La factoría mantiene abierta una conexión: la base vive hasta close()
+        this.connectionFactory = H2ConnectionFactory.inMemory("r2dbc-" + UUID.randomUUID());
+        new ResourceDatabasePopulator(new ClassPathResource("prices.sql")).populate(this.connectionFactory).block();
+        this.adapter = new PriceR2dbcRepositoryAdapter(DatabaseClient.create(this.connectionFactory));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.connectionFactory.close().block();
+    }
+
+    @ParameterizedTest(name = "{0} -> priceList {2}")
+    @MethodSource("requiredTestCases")
+    @DisplayName("Should resolve the same winner as the JPA query for the required cases")
+    void shouldResolveSameWinnerAsJpaQuery(LocalDateTime queryDate, String expectedPrice, Long expectedPriceList) {
+        // When / Then
+        StepVerifier.create(this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, queryDate)))
+                .assertNext(price -> {
+                    assertEquals(0, new BigDecimal(expectedPrice).compareTo(price.getPrice()));
+                    assertEquals(expectedPriceList, price.getPriceList());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should map every column of the row into the domain price")
+    void shouldMapEveryColumnIntoDomainPrice() {
+        // When / Then
+        StepVerifier.create(this.adapter.findBestPrice(
+                        PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0))))
+                .assertNext(price -> {
+                    assertEquals(1L, price.getBrandId());
+                    assertEquals(35455L, price.getProductId());
+                    assertEquals(1, price.getPriority());
+                    assertEquals(LocalDateTime.of(2020, 6, 14, 15, 0), price.getStartDate());
+                    assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30), price.getEndDate());
+                    assertEquals("EUR", price.getCurr());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete empty for unknown products and null criteria values")
+    void shouldCompleteEmptyForUnknownProductsAndNullValues() {
+        StepVerifier.create(this.adapter.findBestPrice(
+                PriceSearchCriteria.of(1L, 99999L, LocalDateTime.of(2020, 6, 14, 16, 0)))).verifyComplete();
+        StepVerifier.create(this.adapter.findBestPrice(PriceSearchCriteria.of(null, 35455L, null))).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should run the blocking H2 query off the subscribing thread")
+    void shouldRunQueryOffSubscribingThread() {
+        // When / Then - r2dbc-h2 ejecuta la consulta en el hilo que se suscribe
+        StepVerifier.create(this.adapter.findBestPrice(
+                                PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0)))
+                        .map(price -> Thread.currentThread().getName()))
+                .assertNext(thread -> assertTrue(thread.startsWith("boundedElastic"), thread))
+                .verifyComplete();
+    }
+}
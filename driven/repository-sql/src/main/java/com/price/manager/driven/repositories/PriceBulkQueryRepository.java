@@ -0,0 +1,26 @@
+package com.price.manager.driven.repositories;
+
+import java.util.List;
+
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.models.PriceEntity;
+
+/**
+ * Fragmento de {@link PriceJpaRepository} para resolver varias búsquedas de precio con una
+ * única consulta.
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceBulkQueryRepositoryImpl
+ */
+public interface PriceBulkQueryRepository {
+
+    /**
+     * Busca el mejor precio de cada criterio en una sola sentencia SQL.
+     *
+     * @param criteria búsquedas a resolver; ninguno de sus campos puede ser {@code null}
+     * @return lista del mismo tamaño y orden que {@code criteria}, con {@code null} en las
+     *         posiciones sin precio aplicable
+     */
+    List<PriceEntity> findBestPrices(List<PriceSearchCriteria> criteria);
+}
@@ -0,0 +1,91 @@
+package com.price.manager.driven.repositories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.models.PriceEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Implementación del fragmento {@link PriceBulkQueryRepository} con una consulta nativa.
+ *
+ * <p>Las búsquedas se envían como una tabla derivada {@code VALUES (idx, brand, product, date)}
+ * que se une con {@code PRICES}; {@code ROW_NUMBER()} particionado por la posición de la
+ * búsqueda se queda con el ganador de cada una con el mismo orden que la consulta individual
+ * ({@code PRIORITY DESC, PRICE_LIST DESC}). Una petición de N productos cuesta así un único
+ * viaje a la base de datos en lugar de N.</p>
+ *
+ * <h3>SQL generado (N = 2):</h3>
+ * <pre>
+ * SELECT ranked.* FROM (
+ *   SELECT q.IDX, p.*, ROW_NUMBER() OVER (PARTITION BY q.IDX ORDER BY p.PRIORITY DESC, p.PRICE_LIST DESC) AS RN
+ *   FROM (VALUES (?1, ?2, ?3, ?4), (?5, ?6, ?7, ?8)) AS q(IDX, BRAND_ID, PRODUCT_ID, QUERY_DATE)
+ *   JOIN PRICES p ON p.BRAND_ID = q.BRAND_ID AND p.PRODUCT_ID = q.PRODUCT_ID
+ *                AND q.QUERY_DATE BETWEEN p.START_DATE AND p.END_DATE
+ * ) ranked WHERE ranked.RN = 1
+ * </pre>
+ *
+ * <p>Los parámetros de {@code VALUES} llevan {@code CAST} explícito porque la tabla derivada no
+ * permite al motor inferir su tipo.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceEntity#BULK_RESULT_MAPPING
+ */
+public class PriceBulkQueryRepositoryImpl implements PriceBulkQueryRepository {
+
+    private static final int PARAMETERS_PER_ROW = 4;
+
+    private static final String ROW = "(CAST(?%d AS INTEGER), CAST(?%d AS BIGINT), CAST(?%d AS BIGINT), CAST(?%d AS TIMESTAMP))";
+
+    private static final String SELECT = """
+            SELECT ranked.IDX, ranked.PRICE_LIST, ranked.BRAND_ID, ranked.PRODUCT_ID, ranked.START_DATE,
+                   ranked.END_DATE, ranked.PRIORITY, ranked.PRICE, ranked.CURR
+            FROM (
+              SELECT q.IDX, p.PRICE_LIST, p.BRAND_ID, p.PRODUCT_ID, p.START_DATE, p.END_DATE, p.PRIORITY, p.PRICE, p.CURR,
+                     ROW_NUMBER() OVER (PARTITION BY q.IDX ORDER BY p.PRIORITY DESC, p.PRICE_LIST DESC) AS RN
+              FROM (VALUES %s) AS q(IDX, BRAND_ID, PRODUCT_ID, QUERY_DATE)
+              JOIN PRICES p ON p.BRAND_ID = q.BRAND_ID
+                           AND p.PRODUCT_ID = q.PRODUCT_ID
+                           AND q.QUERY_DATE BETWEEN p.START_DATE AND p.END_DATE
+            ) ranked
+            WHERE ranked.RN = 1
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PriceEntity> findBestPrices(List<PriceSearchCriteria> criteria) {
+        if (criteria.isEmpty()) {
+            return List.of();
+        }
+        final StringJoiner rows = new StringJoiner(", ");
+        for (int i = 0; i < criteria.size(); i++) {
+            final int first = i * PARAMETERS_PER_ROW + 1;
+            rows.add(ROW.formatted(first, first + 1, first + 2, first + 3));
+        }
+        final Query query = this.entityManager.createNativeQuery(SELECT.formatted(rows), PriceEntity.BULK_RESULT_MAPPING);
+        for (int i = 0; i < criteria.size(); i++) {
+            final PriceSearchCriteria item = criteria.get(i);
+            final int first = i * PARAMETERS_PER_ROW + 1;
+            query.setParameter(first, i);
+            query.setParameter(first + 1, item.brandId());
+            query.setParameter(first + 2, item.productId());
+            query.setParameter(first + 3, item.queryDate());
+        }
+
+        final List<PriceEntity> results = new ArrayList<>(Collections.nCopies(criteria.size(), null));
+        for (final Object row : query.getResultList()) {
+            final Object[] columns = (Object[]) row;
+            results.set((Integer) columns[1], (PriceEntity) columns[0]);
+        }
+        return results;
+    }
+}
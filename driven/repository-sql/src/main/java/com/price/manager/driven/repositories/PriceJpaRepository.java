@@ -1,12 +1,18 @@
 package com.price.manager.driven.repositories;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.price.manager.driven.repositories.models.PriceEntity;
+import com.price.manager.driven.repositories.models.PriceLookupView;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 /**
@@ -23,13 +29,17 @@ import org.springframework.data.repository.query.Param;
  *   <li><strong>Filtrado temporal:</strong> Precios vigentes en una fecha específica</li>
  *   <li><strong>Selección por prioridad:</strong> Mejor precio según reglas de negocio</li>
  *   <li><strong>Filtrado por marca y producto:</strong> Criterios de búsqueda principales</li>
+ *   <li><strong>Búsqueda por lotes:</strong> Varios criterios en una sola consulta
+ *       ({@link PriceBulkQueryRepository})</li>
  * </ul>
  *
  * <h3>Performance:</h3>
- * <p>Para optimizar el rendimiento, se recomienda crear los siguientes índices:</p>
+ * <p>La migración {@code V2__create_prices_lookup_index.sql} crea el índice que usa
+ * {@link #findBestPriceByBrandIdAndProductIdAtDate(Long, Long, LocalDateTime)}; incluye todas
+ * las columnas seleccionadas, así que la búsqueda no lee la tabla:</p>
  * <pre>
- * CREATE INDEX idx_prices_search ON PRICES(BRAND_ID, PRODUCT_ID, START_DATE, END_DATE);
- * CREATE INDEX idx_prices_priority ON PRICES(PRIORITY DESC, PRICE_LIST DESC);
+ * CREATE INDEX IDX_PRICES_LOOKUP ON PRICES (BRAND_ID, PRODUCT_ID, START_DATE, END_DATE,
+ *     PRIORITY DESC, PRICE_LIST DESC, PRICE, CURR);
  * </pre>
  *
  * @version 1.0.0
@@ -38,7 +48,16 @@ import org.springframework.data.repository.query.Param;
  * @see PriceEntity
  * @see com.price.manager.driven.repositories.adapters.PriceRepositoryAdapter
  */
-public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
+public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long>, PriceBulkQueryRepository {
+
+    /**
+     * Región de la caché de consultas para las búsquedas del mejor precio.
+     *
+     * <p>Solo se usa con {@code price-manager.l2-cache.enabled=true}. Hibernate invalida los
+     * resultados cuando se escribe en PRICES a través de JPA; las escrituras directas por JDBC
+     * no la invalidan.</p>
+     */
+    String LOOKUP_CACHE_REGION = "price-lookups";
 
     /**
      * Encuentra el mejor precio aplicable para una marca y producto en una fecha específica.
@@ -84,6 +103,8 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
      *   <li><strong>Parámetros nombrados</strong> para prevenir inyección SQL</li>
      *   <li><strong>LIMIT 1</strong> para optimizar performance (solo necesitamos el mejor)</li>
      *   <li><strong>Orden determinista</strong> para garantizar consistencia</li>
+     *   <li><strong>Caché de consultas</strong> en {@value #LOOKUP_CACHE_REGION} si
+     *       {@code price-manager.l2-cache.enabled=true}</li>
      * </ul>
      *
      * @param brandId     identificador de la marca (ej: 1 para ZARA).
@@ -103,6 +124,10 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
      *
      * @since 1.0.0
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)
+    })
     @Query("""
             SELECT p
             FROM PriceEntity p
@@ -115,4 +140,117 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
     Optional<PriceEntity> findBestPriceByBrandIdAndProductIdAtDate(@Param("brandId") Long brandId,
                                                                    @Param("productId") Long productId,
                                                                    @Param("dateBetween") LocalDateTime dateBetween);
+
+    /**
+     * Misma búsqueda que {@link #findBestPriceByBrandIdAndProductIdAtDate(Long, Long, LocalDateTime)},
+     * proyectada en {@link PriceLookupView} en lugar de cargar una entidad.
+     *
+     * <p>La expresión {@code SELECT new} no añade nada al contexto de persistencia, por lo que
+     * {@code Statistics#getEntityLoadCount()} no cambia. Las pistas de solo lectura y
+     * {@code FlushMode.MANUAL} evitan además el flush previo a la consulta. Con la caché de
+     * segundo nivel activa, el resultado se guarda en {@value #LOOKUP_CACHE_REGION}.</p>
+     *
+     * @param brandId     identificador de la marca
+     * @param productId   identificador del producto
+     * @param dateBetween fecha para la cual se busca el precio vigente
+     * @return columnas del precio ganador, o vacío si no hay precio vigente
+     *
+     * @since 1.0.0
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = LOOKUP_CACHE_REGION)
+    })
+    @Query("""
+            SELECT new com.price.manager.driven.repositories.models.PriceLookupView(
+                p.priceList, p.startDate, p.endDate, p.priority, p.price, p.curr)
+            FROM PriceEntity p
+            WHERE p.brandId = :brandId
+              AND p.productId = :productId
+              AND :dateBetween BETWEEN p.startDate AND p.endDate
+            ORDER BY p.priority DESC, p.priceList DESC
+            LIMIT 1
+            """)
+    Optional<PriceLookupView> findBestPriceViewByBrandIdAndProductIdAtDate(@Param("brandId") Long brandId,
+                                                                           @Param("productId") Long productId,
+                                                                           @Param("dateBetween") LocalDateTime dateBetween);
+
+    /**
+     * Recupera todas las filas de un producto, vigentes o no.
+     *
+     * <p>Usado por los adaptadores en memoria para recalcular un único producto
+     * cuando cambian sus precios.</p>
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @return filas del producto, posiblemente vacía
+     *
+     * @since 1.0.0
+     */
+    List<PriceEntity> findAllByBrandIdAndProductId(Long brandId, Long productId);
+
+    /**
+     * Recorre con un cursor las filas de una marca vigentes en un instante.
+     *
+     * <p>Las filas se leen en bloques de {@code fetchSize} en lugar de cargarse en una lista, y
+     * se marcan de solo lectura para que Hibernate no guarde su estado para el dirty checking.
+     * Tampoco pasan por la caché de segundo nivel, para no desplazar las entradas calientes.
+     * El orden agrupa las filas de cada producto con su ganador en primer lugar.</p>
+     *
+     * <p>Debe consumirse dentro de una transacción y cerrarse al terminar
+     * ({@code try-with-resources}); el consumidor debe desvincular cada entidad del contexto
+     * de persistencia para mantener la memoria constante.</p>
+     *
+     * @param brandId identificador de la marca
+     * @param at      instante de vigencia
+     * @return flujo de filas ordenado por producto, prioridad y lista de precios
+     *
+     * @since 1.0.0
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("""
+            SELECT p
+            FROM PriceEntity p
+            WHERE p.brandId = :brandId
+              AND :at BETWEEN p.startDate AND p.endDate
+            ORDER BY p.productId, p.priority DESC, p.priceList DESC
+            """)
+    Stream<PriceEntity> streamAllByBrandIdValidAt(@Param("brandId") Long brandId, @Param("at") LocalDateTime at);
+
+    /**
+     * Cuenta los pares (brandId, productId) distintos.
+     *
+     * <p>Se resuelve recorriendo {@code IDX_PRICES_LOOKUP}, que empieza por esas dos columnas.</p>
+     *
+     * @return número de pares con al menos una fila
+     *
+     * @since 1.0.0
+     */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT DISTINCT BRAND_ID, PRODUCT_ID FROM PRICES) k", nativeQuery = true)
+    long countDistinctBrandIdAndProductId();
+
+    /**
+     * Recorre con un cursor los pares (brandId, productId) distintos.
+     *
+     * <p>Cada fila es un {@code Object[]} con la marca y el producto. Como
+     * {@link #streamAllByBrandIdValidAt(Long, LocalDateTime)}, debe consumirse dentro de una
+     * transacción y cerrarse al terminar.</p>
+     *
+     * @return flujo de pares
+     *
+     * @since 1.0.0
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT DISTINCT p.brandId, p.productId FROM PriceEntity p")
+    Stream<Object[]> streamDistinctBrandIdAndProductId();
 }
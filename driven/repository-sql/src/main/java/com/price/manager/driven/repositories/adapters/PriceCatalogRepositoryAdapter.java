@@ -0,0 +1,65 @@
+package com.price.manager.driven.repositories.adapters;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.price.manager.application.ports.driven.PriceCatalogPort;
+import com.price.manager.domain.Price;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driven.repositories.models.PriceEntity;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adaptador que recorre el catálogo de una marca con un cursor JDBC.
+ *
+ * <p>Usa {@link PriceJpaRepository#streamAllByBrandIdValidAt(Long, LocalDateTime)}, que lee
+ * las filas en bloques en lugar de cargar una lista. Cada entidad se convierte a dominio, se
+ * entrega al consumidor y se desvincula del contexto de persistencia, de modo que ni Hibernate
+ * ni el adaptador retienen filas ya procesadas.</p>
+ *
+ * <p>Está disponible con cualquier {@code price-manager.repository.type}: la exportación
+ * siempre lee de la base de datos.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceCatalogPort
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceCatalogRepositoryAdapter implements PriceCatalogPort {
+
+    private final PriceJpaRepository repository;
+
+    private final PriceEntityMapper mapper;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Recorre las filas vigentes de la marca dentro de una transacción de solo lectura, que
+     * mantiene abierto el cursor mientras dura el recorrido.
+     *
+     * @param brandId  identificador de la marca
+     * @param at       instante de vigencia
+     * @param consumer receptor de cada fila
+     * @return número de filas entregadas
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachValidAt(Long brandId, LocalDateTime at, Consumer<Price> consumer) {
+        long rows = 0;
+        try (Stream<PriceEntity> entities = this.repository.streamAllByBrandIdValidAt(brandId, at)) {
+            for (final PriceEntity entity : (Iterable<PriceEntity>) entities::iterator) {
+                consumer.accept(this.mapper.toDomain(entity));
+                this.entityManager.detach(entity);
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
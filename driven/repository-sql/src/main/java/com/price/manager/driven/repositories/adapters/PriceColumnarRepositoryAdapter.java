@@ -0,0 +1,100 @@
+package com.price.manager.driven.repositories.adapters;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.index.ColumnarPriceStore;
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.ports.driven.PricePrimitiveLookupPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.models.PriceEntity;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Service;
+
+/**
+ * Adaptador de repositorio respaldado por un {@link ColumnarPriceStore}.
+ *
+ * <p>Pensado para catálogos grandes: las filas se guardan en arrays primitivos paralelos
+ * en lugar de objetos {@link Price}, y el {@link Price} del ganador solo se construye al
+ * devolverlo al caso de uso. La carga copia cada {@link PriceEntity} directamente a las
+ * columnas, sin pasar por el mapper de dominio.</p>
+ *
+ * <h3>Activación:</h3>
+ * <pre>
+ * price-manager:
+ *   repository:
+ *     type: columnar
+ * </pre>
+ *
+ * <p>Cada carga informa en el log de la huella en bytes por fila.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see ColumnarPriceStore
+ * @see PricePrimitiveRepositoryAdapter
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(prefix = "price-manager.repository", name = "type", havingValue = "columnar")
+public class PriceColumnarRepositoryAdapter implements PriceRepositoryPort, PricePrimitiveLookupPort {
+
+    /**
+     * Repositorio JPA usado únicamente para la carga inicial y las recargas.
+     */
+    private final PriceJpaRepository repository;
+
+    /**
+     * Almacén publicado. Se sustituye completo en cada recarga.
+     */
+    private volatile ColumnarPriceStore store = ColumnarPriceStore.builder(0).build();
+
+    /**
+     * Carga (o recarga) todos los precios de la base de datos en un almacén nuevo.
+     *
+     * <p>Se ejecuta automáticamente al arrancar, una vez inicializada la base de datos.</p>
+     */
+    @PostConstruct
+    public void reload() {
+        final long start = System.nanoTime();
+        final var entities = this.repository.findAll();
+        final ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder(entities.size());
+        for (final PriceEntity entity : entities) {
+            builder.add(entity.getBrandId(), entity.getProductId(), entity.getPriceList(), entity.getPriority(),
+                    EpochMillis.of(entity.getStartDate()), EpochMillis.of(entity.getEndDate()),
+                    entity.getPrice(), entity.getCurr());
+        }
+        final var loaded = builder.build();
+        this.store = loaded;
+        log.info("Columnar price store loaded: {} rows, {} products, {} segments, {} bytes/row in {} ms",
+                loaded.rowCount(), loaded.productCount(), loaded.segmentCount(),
+                String.format("%.1f", loaded.bytesPerRow()), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public Price findBestPrice(long brandId, long productId, long epochMillis) {
+        final ColumnarPriceStore current = this.store;
+        final int row = current.find(brandId, productId, epochMillis);
+        return row == ColumnarPriceStore.NOT_FOUND ? null : current.materialize(row);
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria priceSearchCriteria) {
+        if (priceSearchCriteria.brandId() == null || priceSearchCriteria.productId() == null
+                || priceSearchCriteria.queryDate() == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.findBestPrice(priceSearchCriteria.brandId(), priceSearchCriteria.productId(),
+                EpochMillis.of(priceSearchCriteria.queryDate())));
+    }
+}
@@ -0,0 +1,90 @@
+package com.price.manager.driven.repositories.adapters;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.index.PriceIntervalIndex;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Service;
+
+/**
+ * Adaptador de repositorio que resuelve las búsquedas de precios en memoria.
+ *
+ * <p>Durante el arranque carga la tabla PRICES completa en un {@link PriceIntervalIndex}
+ * agrupado por (brandId, productId). A partir de ese momento cada llamada a
+ * {@link #findBestPrice(PriceSearchCriteria)} se resuelve sin acceso a base de datos
+ * ni materialización de entidades Hibernate.</p>
+ *
+ * <h3>Activación:</h3>
+ * <pre>
+ * price-manager:
+ *   repository:
+ *     type: in-memory
+ * </pre>
+ *
+ * <h3>Consistencia:</h3>
+ * <p>El índice refleja el contenido de PRICES en el momento de la carga. Si la tabla
+ * cambia, debe invocarse {@link #reload()} para publicar un índice nuevo; las consultas
+ * en curso siguen usando el índice anterior hasta que se sustituye la referencia.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see PriceRepositoryPort
+ * @see PriceIntervalIndex
+ * @see PriceRepositoryAdapter
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(prefix = "price-manager.repository", name = "type", havingValue = "in-memory")
+public class PriceInMemoryRepositoryAdapter implements PriceRepositoryPort {
+
+    /**
+     * Repositorio JPA usado únicamente para la carga inicial y las recargas.
+     */
+    private final PriceJpaRepository repository;
+
+    /**
+     * Mapper de entidades JPA a entidades de dominio.
+     */
+    private final PriceEntityMapper mapper;
+
+    /**
+     * Índice publicado. Se sustituye completo en cada recarga.
+     */
+    private volatile PriceIntervalIndex index = PriceIntervalIndex.empty();
+
+    /**
+     * Carga (o recarga) todos los precios de la base de datos en un índice nuevo.
+     *
+     * <p>Se ejecuta automáticamente al arrancar, una vez inicializada la base de datos.</p>
+     */
+    @PostConstruct
+    public void reload() {
+        final long start = System.nanoTime();
+        final var prices = this.repository.findAll().stream()
+                .map(this.mapper::toDomain)
+                .toList();
+        final var loaded = PriceIntervalIndex.of(prices);
+        this.index = loaded;
+        log.info("In-memory price index loaded: {} rows, {} products in {} ms",
+                loaded.size(), loaded.productCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria priceSearchCriteria) {
+        return this.index.findBestPrice(priceSearchCriteria);
+    }
+}
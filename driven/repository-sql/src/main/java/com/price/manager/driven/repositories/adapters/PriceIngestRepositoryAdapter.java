@@ -0,0 +1,58 @@
+package com.price.manager.driven.repositories.adapters;
+
+import java.util.List;
+
+import com.price.manager.application.ports.driven.PriceIngestPort;
+import com.price.manager.domain.Price;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adaptador que inserta bloques de precios con lotes JDBC.
+ *
+ * <p>Cada bloque se persiste en su propia transacción. Como {@code PriceEntity} obtiene su
+ * identificador de una secuencia, Hibernate agrupa los {@code INSERT} en lotes de
+ * {@code hibernate.jdbc.batch_size} sentencias. Al terminar el bloque se vacía el contexto de
+ * persistencia para que las entidades ya escritas no se acumulen en memoria.</p>
+ *
+ * <p>Está disponible con cualquier {@code price-manager.repository.type}: la carga siempre
+ * escribe en la base de datos. Los adaptadores en memoria no ven los precios nuevos hasta
+ * que se reinicia la aplicación.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceIngestPort
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceIngestRepositoryAdapter implements PriceIngestPort {
+
+    private final PriceEntityMapper mapper;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Persiste el bloque y lo vuelca a la base de datos antes de confirmar la transacción.
+     *
+     * <p>Las filas nuevas no se copian a la caché de segundo nivel ({@link CacheStoreMode#BYPASS});
+     * Hibernate sí invalida la caché de consultas de PRICES al confirmar.</p>
+     *
+     * @param prices bloque de precios a insertar
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<Price> prices) {
+        this.entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        for (final Price price : prices) {
+            this.entityManager.persist(this.mapper.toNewEntity(price));
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+}
@@ -0,0 +1,72 @@
+package com.price.manager.driven.repositories.adapters;
+
+import java.util.stream.Stream;
+
+import com.price.manager.application.ports.driven.PriceKeyPort;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adaptador que recorre los pares (brandId, productId) de PRICES con un cursor JDBC.
+ *
+ * <p>Usa {@link PriceJpaRepository#streamDistinctBrandIdAndProductId()}, que solo lee las dos
+ * columnas clave y no carga entidades. Está disponible con cualquier
+ * {@code price-manager.repository.type}.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceKeyPort
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceKeyRepositoryAdapter implements PriceKeyPort {
+
+    private final PriceJpaRepository repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countKeys() {
+        return this.repository.countDistinctBrandIdAndProductId();
+    }
+
+    /**
+     * Recorre los pares dentro de una transacción de solo lectura, que mantiene abierto el cursor.
+     *
+     * @param consumer receptor de cada par
+     * @return número de pares entregados
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachKey(KeyConsumer consumer) {
+        try (Stream<Object[]> rows = this.repository.streamDistinctBrandIdAndProductId()) {
+            return deliver(rows, consumer);
+        }
+    }
+
+    /**
+     * Recorre los primeros {@code limit} pares y cierra el cursor sin leer el resto.
+     *
+     * @param limit    número máximo de pares
+     * @param consumer receptor de cada par
+     * @return número de pares entregados
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long forEachKey(long limit, KeyConsumer consumer) {
+        try (Stream<Object[]> rows = this.repository.streamDistinctBrandIdAndProductId()) {
+            return deliver(rows.limit(limit), consumer);
+        }
+    }
+
+    private static long deliver(Stream<Object[]> rows, KeyConsumer consumer) {
+        long keys = 0;
+        for (final Object[] row : (Iterable<Object[]>) rows::iterator) {
+            consumer.accept(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+            keys++;
+        }
+        return keys;
+    }
+}
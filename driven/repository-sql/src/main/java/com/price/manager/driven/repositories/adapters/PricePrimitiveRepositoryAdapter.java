@@ -0,0 +1,99 @@
+package com.price.manager.driven.repositories.adapters;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.index.PrimitivePriceIndex;
+import com.price.manager.application.ports.driven.PricePrimitiveLookupPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Service;
+
+/**
+ * Adaptador de repositorio con ruta de consulta primitiva y sin asignaciones.
+ *
+ * <p>Carga PRICES en un {@link PrimitivePriceIndex} y expone, además de
+ * {@link PriceRepositoryPort}, la capacidad {@link PricePrimitiveLookupPort}. Con este
+ * adaptador {@code PriceServiceUseCase} resuelve cada petición con
+ * {@code (long, long, long)} sin crear criterios, {@code Optional} ni entidades.</p>
+ *
+ * <h3>Activación:</h3>
+ * <pre>
+ * price-manager:
+ *   repository:
+ *     type: primitive
+ * </pre>
+ *
+ * <h3>Consistencia:</h3>
+ * <p>Igual que {@link PriceInMemoryRepositoryAdapter}: el índice refleja PRICES en el
+ * momento de la carga y {@link #reload()} publica uno nuevo de forma atómica.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see PrimitivePriceIndex
+ * @see PricePrimitiveLookupPort
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(prefix = "price-manager.repository", name = "type", havingValue = "primitive")
+public class PricePrimitiveRepositoryAdapter implements PriceRepositoryPort, PricePrimitiveLookupPort {
+
+    /**
+     * Repositorio JPA usado únicamente para la carga inicial y las recargas.
+     */
+    private final PriceJpaRepository repository;
+
+    /**
+     * Mapper de entidades JPA a entidades de dominio.
+     */
+    private final PriceEntityMapper mapper;
+
+    /**
+     * Índice publicado. Se sustituye completo en cada recarga.
+     */
+    private volatile PrimitivePriceIndex index = PrimitivePriceIndex.empty();
+
+    /**
+     * Carga (o recarga) todos los precios de la base de datos en un índice nuevo.
+     *
+     * <p>Se ejecuta automáticamente al arrancar, una vez inicializada la base de datos.</p>
+     */
+    @PostConstruct
+    public void reload() {
+        final long start = System.nanoTime();
+        final var loaded = PrimitivePriceIndex.of(this.repository.findAll().stream()
+                .map(this.mapper::toDomain)
+                .toList());
+        this.index = loaded;
+        log.info("Primitive price index loaded: {} products, {} segments in {} ms",
+                loaded.productCount(), loaded.segmentCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public Price findBestPrice(long brandId, long productId, long epochMillis) {
+        return this.index.findBestPrice(brandId, productId, epochMillis);
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria priceSearchCriteria) {
+        if (priceSearchCriteria.brandId() == null || priceSearchCriteria.productId() == null
+                || priceSearchCriteria.queryDate() == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.findBestPrice(priceSearchCriteria.brandId(), priceSearchCriteria.productId(),
+                EpochMillis.of(priceSearchCriteria.queryDate())));
+    }
+}
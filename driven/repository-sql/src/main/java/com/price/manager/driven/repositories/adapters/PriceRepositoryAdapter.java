@@ -1,16 +1,25 @@
 package com.price.manager.driven.repositories.adapters;
 
+import java.util.List;
 import java.util.Optional;
 
+import com.price.manager.application.diagnostics.PriceQueryEvent;
+import com.price.manager.application.diagnostics.RequestStageRecorder;
+import com.price.manager.application.diagnostics.RequestStageRecorder.Stage;
+import com.price.manager.application.ports.driven.PriceCandidatesPort;
 import com.price.manager.application.ports.driven.PriceRepositoryPort;
 import com.price.manager.domain.Price;
 import com.price.manager.domain.criteria.PriceSearchCriteria;
 import com.price.manager.driven.repositories.PriceJpaRepository;
 import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driven.repositories.models.PriceEntity;
+import com.price.manager.driven.repositories.models.PriceLookupView;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Adaptador de repositorio que implementa el puerto de salida para persistencia de precios.
@@ -35,13 +44,22 @@ import org.springframework.stereotype.Service;
  *    ↓
  * JPA Repository (consulta SQL)
  *    ↓
- * PriceEntity (resultado de DB)
- *    ↓
- * EntityMapper (mapeo automático)
+ * PriceLookupView (proyección, sin entidad gestionada)
  *    ↓
  * Price (entidad de dominio)
  * </pre>
  *
+ * <h3>Solo lectura:</h3>
+ * <p>Todas las operaciones se ejecutan con {@code @Transactional(readOnly = true)}: Hibernate
+ * abre la sesión en modo solo lectura con {@code FlushMode.MANUAL}, así que las entidades que
+ * cargan la búsqueda por lotes y la de candidatos no guardan instantánea. La búsqueda individual
+ * no carga entidades; con {@code price-manager.repository.statistics.enabled=true} se puede
+ * comprobar que {@code hibernate.entities.loaded} se mantiene a cero por petición.</p>
+ *
+ * <h3>Eventos JFR:</h3>
+ * <p>Cada consulta emite un {@link PriceQueryEvent} con su nombre, la marca y el producto, las
+ * búsquedas que resuelve y las filas devueltas. Desactivado por defecto.</p>
+ *
  * <h3>Principios Aplicados:</h3>
  * <ul>
  *   <li><strong>Dependency Inversion:</strong> Depende de abstracciones, no implementaciones</li>
@@ -49,6 +67,13 @@ import org.springframework.stereotype.Service;
  *   <li><strong>Open/Closed:</strong> Extensible sin modificar código existente</li>
  * </ul>
  *
+ * <h3>Activación:</h3>
+ * <p>Es el adaptador por defecto. Se desactiva cuando {@code price-manager.repository.type}
+ * selecciona otra implementación (por ejemplo {@code in-memory}).</p>
+ *
+ * <p>Implementa {@link PriceCandidatesPort} para que la caché de candidatos por producto
+ * ({@code price-manager.cache.enabled}) pueda decorarlo.</p>
+ *
  * @version 1.0.0
  * @since 1.0.0
  *
@@ -56,11 +81,26 @@ import org.springframework.stereotype.Service;
  * @see PriceJpaRepository
  * @see PriceEntityMapper
  * @see PriceSearchCriteria
+ * @see PriceInMemoryRepositoryAdapter
+ * @see PriceCandidatesPort
+ * @see PriceLookupView
  */
 @Slf4j
 @RequiredArgsConstructor
 @Service
-public class PriceRepositoryAdapter implements PriceRepositoryPort {
+@Transactional(readOnly = true)
+@ConditionalOnProperty(prefix = "price-manager.repository", name = "type", havingValue = "jpa", matchIfMissing = true)
+public class PriceRepositoryAdapter implements PriceCandidatesPort {
+
+    /**
+     * Nombre con el que la búsqueda del mejor precio aparece en las peticiones lentas y en los
+     * eventos {@link PriceQueryEvent}.
+     */
+    private static final String LOOKUP_STATEMENT = "PriceJpaRepository.findBestPriceViewByBrandIdAndProductIdAtDate";
+
+    private static final String CANDIDATES_STATEMENT = "PriceJpaRepository.findAllByBrandIdAndProductId";
+
+    private static final String BULK_STATEMENT = "PriceJpaRepository.findBestPrices";
 
     /**
      * Repositorio JPA para operaciones de persistencia sobre precios.
@@ -73,7 +113,8 @@ public class PriceRepositoryAdapter implements PriceRepositoryPort {
     /**
      * Mapper automático para conversión entre entidades JPA y entidades de dominio.
      *
-     * <p>Implementado con MapStruct para garantizar mapeo type-safe y eficiente.</p>
+     * <p>Implementado con MapStruct para garantizar mapeo type-safe y eficiente. La búsqueda
+     * individual no lo usa: su proyección construye el {@link Price} directamente.</p>
      */
     private final PriceEntityMapper mapper;
 
@@ -88,7 +129,8 @@ public class PriceRepositoryAdapter implements PriceRepositoryPort {
      * <ol>
      *   <li><strong>Extracción de criterios:</strong> Descompone {@link PriceSearchCriteria}</li>
      *   <li><strong>Consulta especializada:</strong> Usa {@link PriceJpaRepository} con lógica optimizada</li>
-     *   <li><strong>Mapeo de resultado:</strong> Convierte {@code PriceEntity} → {@code Price}</li>
+     *   <li><strong>Mapeo de resultado:</strong> Convierte {@link PriceLookupView} → {@code Price}
+     *       con las claves del criterio</li>
      *   <li><strong>Encapsulación Optional:</strong> Maneja casos de ausencia de datos</li>
      * </ol>
      *
@@ -123,17 +165,84 @@ public class PriceRepositoryAdapter implements PriceRepositoryPort {
      * @throws IllegalArgumentException si {@code priceSearchCriteria} es {@code null}
      *                                 o contiene datos inválidos
      *
-     * @see PriceJpaRepository#findBestPriceByBrandIdAndProductIdAtDate
-     * @see PriceEntityMapper#toDomain
+     * @see PriceJpaRepository#findBestPriceViewByBrandIdAndProductIdAtDate
+     * @see PriceLookupView#toDomain(Long, Long)
      * @see PriceSearchCriteria
      *
      * @since 1.0.0
      */
     @Override
     public Optional<Price> findBestPrice(PriceSearchCriteria priceSearchCriteria) {
-        return this.repository.findBestPriceByBrandIdAndProductIdAtDate(
-                priceSearchCriteria.brandId(),
-                priceSearchCriteria.productId(), priceSearchCriteria.queryDate()
-        ).map(this.mapper::toDomain);
+        final Long brandId = priceSearchCriteria.brandId();
+        final Long productId = priceSearchCriteria.productId();
+        RequestStageRecorder.bind(LOOKUP_STATEMENT, brandId, productId, priceSearchCriteria.queryDate());
+        final PriceQueryEvent event = new PriceQueryEvent();
+        event.begin();
+        long started = RequestStageRecorder.start();
+        final Optional<PriceLookupView> view = this.repository.findBestPriceViewByBrandIdAndProductIdAtDate(
+                brandId, productId, priceSearchCriteria.queryDate()
+        );
+        RequestStageRecorder.stop(Stage.SQL, started);
+        commit(event, LOOKUP_STATEMENT, brandId, productId, 1, view.isPresent() ? 1 : 0);
+        started = RequestStageRecorder.start();
+        final Optional<Price> price = view.map(found -> found.toDomain(brandId, productId));
+        RequestStageRecorder.stop(Stage.ENTITY_MAPPING, started);
+        return price;
+    }
+
+    /**
+     * Devuelve todas las filas de un producto, sin filtrar por fecha.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @return filas del producto mapeadas a dominio
+     */
+    @Override
+    public List<Price> findAllByBrandAndProduct(Long brandId, Long productId) {
+        final PriceQueryEvent event = new PriceQueryEvent();
+        event.begin();
+        final List<PriceEntity> rows = this.repository.findAllByBrandIdAndProductId(brandId, productId);
+        commit(event, CANDIDATES_STATEMENT, brandId, productId, 1, rows.size());
+        return rows.stream()
+                .map(this.mapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Resuelve todas las búsquedas con una única consulta por conjuntos.
+     *
+     * @param criteria búsquedas a resolver
+     * @return un resultado por criterio, en el mismo orden; vacío si no hay precio aplicable
+     * @see PriceJpaRepository#findBestPrices(List)
+     */
+    @Override
+    public List<Optional<Price>> findBestPrices(List<PriceSearchCriteria> criteria) {
+        log.debug("Resolving {} price lookups in one query", criteria.size());
+        final PriceQueryEvent event = new PriceQueryEvent();
+        event.begin();
+        final List<PriceEntity> rows = this.repository.findBestPrices(criteria);
+        int found = 0;
+        for (final PriceEntity row : rows) {
+            if (row != null) {
+                found++;
+            }
+        }
+        commit(event, BULK_STATEMENT, null, null, criteria.size(), found);
+        return rows.stream()
+                .map(entity -> Optional.ofNullable(entity).map(this.mapper::toDomain))
+                .toList();
+    }
+
+    private static void commit(PriceQueryEvent event, String statement, Long brandId, Long productId, int keys,
+                               int rows) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.statement = statement;
+            event.brandId = brandId == null ? 0L : brandId;
+            event.productId = productId == null ? 0L : productId;
+            event.keys = keys;
+            event.rows = rows;
+            event.commit();
+        }
     }
 }
@@ -0,0 +1,138 @@
+package com.price.manager.driven.repositories.adapters;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.index.PriceSnapshot;
+import com.price.manager.application.ports.driven.PricePrimitiveLookupPort;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Service;
+
+/**
+ * Adaptador de repositorio que sirve las consultas desde una {@link PriceSnapshot} mapeada en memoria.
+ *
+ * <p>Al arrancar se mapea el fichero configurado; no se lee la tabla PRICES ni se construye
+ * ningún índice en heap, de modo que el tiempo de arranque no depende del tamaño del
+ * catálogo y varias instancias en el mismo host comparten las páginas del fichero.
+ * Si el fichero no existe, se genera una vez a partir de la base de datos.</p>
+ *
+ * <h3>Activación:</h3>
+ * <pre>
+ * price-manager:
+ *   repository:
+ *     type: snapshot
+ *     snapshot:
+ *       path: prices.snap
+ * </pre>
+ *
+ * <p>Para regenerar la instantánea tras cambiar los datos se invoca {@link #export()}, que
+ * escribe un fichero nuevo de forma atómica y vuelve a mapearlo.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see PriceSnapshot
+ */
+@Slf4j
+@Service
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(prefix = "price-manager.repository", name = "type", havingValue = "snapshot")
+public class PriceSnapshotRepositoryAdapter implements PriceRepositoryPort, PricePrimitiveLookupPort {
+
+    /**
+     * Repositorio JPA usado únicamente para generar la instantánea.
+     */
+    private final PriceJpaRepository repository;
+
+    /**
+     * Mapper de entidades a dominio.
+     */
+    private final PriceEntityMapper mapper;
+
+    /**
+     * Ubicación del fichero de la instantánea.
+     */
+    private final Path path;
+
+    /**
+     * Instantánea publicada. Se sustituye completa en cada exportación.
+     */
+    private volatile PriceSnapshot snapshot = PriceSnapshot.of(List.of());
+
+    /**
+     * Crea el adaptador.
+     *
+     * @param repository repositorio JPA para generar la instantánea
+     * @param mapper     mapper de entidades a dominio
+     * @param path       fichero de la instantánea
+     */
+    public PriceSnapshotRepositoryAdapter(PriceJpaRepository repository, PriceEntityMapper mapper,
+            @Value("${price-manager.repository.snapshot.path:prices.snap}") Path path) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.path = path;
+    }
+
+    /**
+     * Mapea la instantánea existente o, si no existe, la genera desde la base de datos.
+     */
+    @PostConstruct
+    public void open() {
+        if (!Files.exists(this.path)) {
+            log.info("Price snapshot {} not found, exporting from database", this.path);
+            this.export();
+            return;
+        }
+        this.map();
+    }
+
+    /**
+     * Escribe una instantánea nueva con todos los precios de la base de datos y la publica.
+     */
+    public void export() {
+        final long start = System.nanoTime();
+        final int records = PriceSnapshot.write(this.path,
+                this.repository.findAll().stream().map(this.mapper::toDomain).toList());
+        log.info("Price snapshot {} written: {} records in {} ms",
+                this.path, records, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        this.map();
+    }
+
+    @Override
+    public Price findBestPrice(long brandId, long productId, long epochMillis) {
+        return this.snapshot.findBestPrice(brandId, productId, epochMillis);
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria priceSearchCriteria) {
+        if (priceSearchCriteria.brandId() == null || priceSearchCriteria.productId() == null
+                || priceSearchCriteria.queryDate() == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.findBestPrice(priceSearchCriteria.brandId(), priceSearchCriteria.productId(),
+                EpochMillis.of(priceSearchCriteria.queryDate())));
+    }
+
+    private void map() {
+        final long start = System.nanoTime();
+        final PriceSnapshot mapped = PriceSnapshot.open(this.path);
+        this.snapshot = mapped;
+        log.info("Price snapshot {} mapped: {} records, {} products, {} bytes in {} ms",
+                this.path, mapped.recordCount(), mapped.productCount(), mapped.sizeBytes(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,103 @@
+package com.price.manager.driven.repositories.adapters;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.index.PriceTimelineEngine;
+import com.price.manager.application.ports.driven.PriceRepositoryPort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Service;
+
+/**
+ * Adaptador de repositorio que resuelve las búsquedas con líneas temporales precalculadas.
+ *
+ * <p>Al arrancar aplana las filas de cada producto en segmentos sin solapamiento con el
+ * precio ganador ya resuelto ({@link PriceTimelineEngine}). Cada consulta es una búsqueda
+ * binaria sobre la fecha, sin ordenar candidatos ni acceder a base de datos.</p>
+ *
+ * <h3>Activación:</h3>
+ * <pre>
+ * price-manager:
+ *   repository:
+ *     type: timeline
+ * </pre>
+ *
+ * <h3>Actualizaciones:</h3>
+ * <ul>
+ *   <li>{@link #reload()}: recalcula el catálogo completo</li>
+ *   <li>{@link #rebuild(Long, Long)}: relee de PRICES las filas de un producto y sustituye
+ *       solo su línea temporal</li>
+ * </ul>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see PriceRepositoryPort
+ * @see PriceTimelineEngine
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@DependsOnDatabaseInitialization
+@ConditionalOnProperty(prefix = "price-manager.repository", name = "type", havingValue = "timeline")
+public class PriceTimelineRepositoryAdapter implements PriceRepositoryPort {
+
+    /**
+     * Repositorio JPA usado para la carga inicial y las reconstrucciones.
+     */
+    private final PriceJpaRepository repository;
+
+    /**
+     * Mapper de entidades JPA a entidades de dominio.
+     */
+    private final PriceEntityMapper mapper;
+
+    /**
+     * Motor con las líneas temporales publicadas.
+     */
+    private final PriceTimelineEngine engine = new PriceTimelineEngine();
+
+    /**
+     * Carga (o recarga) todos los precios de la base de datos.
+     *
+     * <p>Se ejecuta automáticamente al arrancar, una vez inicializada la base de datos.</p>
+     */
+    @PostConstruct
+    public void reload() {
+        final long start = System.nanoTime();
+        this.engine.load(this.repository.findAll().stream()
+                .map(this.mapper::toDomain)
+                .toList());
+        log.info("Price timelines loaded: {} products, {} segments in {} ms",
+                this.engine.productCount(), this.engine.segmentCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Recalcula la línea temporal de un producto tras modificar sus filas en PRICES.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     */
+    public void rebuild(Long brandId, Long productId) {
+        this.engine.rebuild(brandId, productId, this.repository.findAllByBrandIdAndProductId(brandId, productId)
+                .stream()
+                .map(this.mapper::toDomain)
+                .toList());
+        log.debug("Price timeline rebuilt for brand {} product {}", brandId, productId);
+    }
+
+    @Override
+    public Optional<Price> findBestPrice(PriceSearchCriteria priceSearchCriteria) {
+        return this.engine.findBestPrice(priceSearchCriteria);
+    }
+}
@@ -1,13 +1,144 @@
 package com.price.manager.driven.repositories.config;
 
+import java.net.URI;
+import java.time.Duration;
+
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.models.PriceEntity;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+/**
+ * Configuración de los repositorios JPA.
+ *
+ * <h3>Caché de segundo nivel:</h3>
+ * <p>Con {@code price-manager.l2-cache.enabled=true} Hibernate usa una caché JCache local
+ * (Ehcache, solo en heap) con tres regiones:</p>
+ * <ul>
+ *   <li><strong>{@value PriceEntity#CACHE_REGION}:</strong> entidades {@link PriceEntity} por
+ *       identificador</li>
+ *   <li><strong>{@value PriceJpaRepository#LOOKUP_CACHE_REGION}:</strong> resultados de la
+ *       búsqueda del mejor precio</li>
+ *   <li><strong>{@code default-update-timestamps-region}:</strong> última escritura de cada
+ *       tabla, con la que Hibernate invalida los resultados de consultas; no caduca</li>
+ * </ul>
+ *
+ * <p>Hibernate crea además {@code default-query-results-region}, que se configura como la de
+ * consultas aunque ninguna consulta del proyecto la use. Si falta alguna región el arranque
+ * falla, en lugar de crearla con la configuración por defecto de Ehcache.</p>
+ *
+ * <p>Cada región admite como mucho {@code max-entries} entradas (al llenarse Ehcache expulsa
+ * las menos usadas) y caduca {@code time-to-live} después de escribirse. También se activan las
+ * estadísticas de Hibernate, de las que salen los aciertos y fallos por región.</p>
+ *
+ * <pre>
+ * price-manager:
+ *   l2-cache:
+ *     enabled: true
+ *     entities:
+ *       max-entries: 10000
+ *       time-to-live: 10m
+ *     queries:
+ *       max-entries: 10000
+ *       time-to-live: 10m
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
 @Configuration
 @ConfigurationProperties("spring.datasource")
 @EntityScan("com.price.manager.driven.repositories.models")
 @EnableJpaRepositories(basePackages = {"com.price.manager.driven.repositories"})
 public class RepositoryConfig {
+
+    private static final long DEFAULT_MAX_ENTRIES = 10_000L;
+
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    /**
+     * Entradas de la región de marcas de tiempo: una por tabla, así que basta con pocas.
+     */
+    private static final long TIMESTAMPS_MAX_ENTRIES = 1_000L;
+
+    /**
+     * Gestor JCache con las regiones de la caché de segundo nivel, cerrado con el contexto.
+     *
+     * @param environment propiedades {@code price-manager.l2-cache.*}
+     * @return gestor de cachés de Ehcache
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "price-manager.l2-cache", name = "enabled", havingValue = "true")
+    public CacheManager secondLevelCacheManager(Environment environment) {
+        // Un gestor por contexto: el proveedor reutiliza los gestores abiertos con la misma URI. Al pasar
+        // la configuración, Ehcache usa la URI solo como clave y no intenta leerla como fichero XML
+        final URI uri = URI.create("price-manager:l2-cache:" + Integer.toHexString(System.identityHashCode(environment)));
+        final EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        final CacheManager cacheManager = provider.getCacheManager(uri,
+                new DefaultConfiguration(RepositoryConfig.class.getClassLoader()));
+        createRegion(cacheManager, PriceEntity.CACHE_REGION,
+                environment.getProperty("price-manager.l2-cache.entities.max-entries", Long.class, DEFAULT_MAX_ENTRIES),
+                environment.getProperty("price-manager.l2-cache.entities.time-to-live", Duration.class,
+                        DEFAULT_TIME_TO_LIVE));
+        final long queryMaxEntries = environment.getProperty("price-manager.l2-cache.queries.max-entries",
+                Long.class, DEFAULT_MAX_ENTRIES);
+        final Duration queryTimeToLive = environment.getProperty("price-manager.l2-cache.queries.time-to-live",
+                Duration.class, DEFAULT_TIME_TO_LIVE);
+        createRegion(cacheManager, PriceJpaRepository.LOOKUP_CACHE_REGION, queryMaxEntries, queryTimeToLive);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                queryMaxEntries, queryTimeToLive);
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                TIMESTAMPS_MAX_ENTRIES, null);
+        log.info("Hibernate second-level cache enabled with regions {}", cacheManager.getCacheNames());
+        return cacheManager;
+    }
+
+    /**
+     * Activa la caché de segundo nivel y la de consultas sobre {@code secondLevelCacheManager}.
+     *
+     * @param secondLevelCacheManager gestor con las regiones ya creadas
+     * @return ajustes de Hibernate
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "price-manager.l2-cache", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maxEntries, Duration timeToLive) {
+        final var configuration = CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(timeToLive == null
+                        ? ExpiryPolicyBuilder.noExpiration()
+                        : ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive));
+        cacheManager.createCache(region, Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+    }
 }
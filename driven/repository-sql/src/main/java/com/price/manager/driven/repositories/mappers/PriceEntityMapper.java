@@ -4,10 +4,14 @@ import com.price.manager.domain.Price;
 import com.price.manager.driven.repositories.models.PriceEntity;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface PriceEntityMapper {
 
     Price toDomain(PriceEntity entity);
 
+    @Mapping(target = "priceList", ignore = true)
+    PriceEntity toNewEntity(Price price);
+
 }
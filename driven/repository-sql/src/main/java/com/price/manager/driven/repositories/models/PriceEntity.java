@@ -4,16 +4,23 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ColumnResult;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityResult;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.SqlResultSetMapping;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Entidad JPA que representa la tabla PRICES en la base de datos H2.
@@ -80,7 +87,7 @@ import lombok.NoArgsConstructor;
  *   </tr>
  * </table>
  *
- * <h3>Datos de Ejemplo (init.sql):</h3>
+ * <h3>Datos de Ejemplo ({@code db/sample-data}):</h3>
  * <pre>
  * | PRICE_LIST | BRAND_ID | PRODUCT_ID | START_DATE          | END_DATE            | PRIORITY | PRICE | CURR |
  * |------------|----------|------------|---------------------|---------------------|----------|-------|------|
@@ -90,20 +97,33 @@ import lombok.NoArgsConstructor;
  * | 4          | 1        | 35455      | 2020-06-15 16:00:00 | 2020-12-31 23:59:59 | 1        | 38.95 | EUR  |
  * </pre>
  *
- * <h3>Índices Recomendados:</h3>
+ * <h3>Índices:</h3>
  * <ul>
- *   <li><strong>Índice compuesto:</strong> (BRAND_ID, PRODUCT_ID, START_DATE, END_DATE)</li>
- *   <li><strong>Índice de prioridad:</strong> (PRIORITY DESC, PRICE_LIST DESC)</li>
+ *   <li><strong>IDX_PRICES_LOOKUP</strong> (migración {@code V2}): (BRAND_ID, PRODUCT_ID, START_DATE,
+ *       END_DATE, PRIORITY DESC, PRICE_LIST DESC, PRICE, CURR), que cubre la búsqueda del mejor precio</li>
  * </ul>
  *
+ * <h3>Caché de segundo nivel:</h3>
+ * <p>Con {@code price-manager.l2-cache.enabled=true} las entidades se guardan en la región
+ * {@value #CACHE_REGION} ({@code READ_WRITE}); sin esa propiedad las anotaciones de caché no
+ * tienen efecto. Ver {@link com.price.manager.driven.repositories.config.RepositoryConfig}.</p>
+ *
  * @version 1.0.0
  * @since 1.0.0
  *
  * @see com.price.manager.domain.Price
  * @see com.price.manager.driven.repositories.PriceJpaRepository
  * @see com.price.manager.driven.repositories.mappers.PriceEntityMapper
+ * @see com.price.manager.driven.repositories.PriceBulkQueryRepositoryImpl
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PriceEntity.CACHE_REGION)
+@SqlResultSetMapping(
+        name = PriceEntity.BULK_RESULT_MAPPING,
+        entities = @EntityResult(entityClass = PriceEntity.class),
+        columns = @ColumnResult(name = "IDX", type = Integer.class)
+)
 @Data
 @Builder
 @Table(name = "PRICES")
@@ -111,19 +131,52 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PriceEntity implements Serializable {
 
+    /**
+     * Mapeo de la consulta por lotes: cada fila devuelve la entidad y la posición
+     * ({@code IDX}) de la búsqueda a la que responde.
+     */
+    public static final String BULK_RESULT_MAPPING = "PriceEntity.bulk";
+
+    /**
+     * Región de la caché de segundo nivel para las entidades.
+     */
+    public static final String CACHE_REGION = "prices";
+
+    /**
+     * Secuencia de identificadores; la migración {@code V1__create_prices.sql} la crea con los mismos parámetros.
+     */
+    public static final String ID_SEQUENCE = "PRICES_SEQ";
+
+    /**
+     * Primer identificador generado; los anteriores quedan para las filas de ejemplo. La migración
+     * {@code V3__price_list_default_from_sequence.sql} hace de la secuencia el valor por defecto de la
+     * columna, así que las inserciones por SQL sin identificador comparten generador con las cargas.
+     */
+    public static final int ID_INITIAL_VALUE = 1001;
+
+    /**
+     * Identificadores reservados por cada llamada a la secuencia.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * Identificador único de la lista de precios y clave primaria de la tabla.
      *
-     * <p>Generado automáticamente por la base de datos usando estrategia de identidad.
+     * <p>Se obtiene de la secuencia {@code PRICES_SEQ} con el optimizador {@code pooled}:
+     * cada llamada a la secuencia reserva {@value #ID_ALLOCATION_SIZE} identificadores. A
+     * diferencia de {@code IDENTITY}, Hibernate conoce el identificador antes del
+     * {@code INSERT}, lo que le permite agrupar las inserciones en lotes JDBC.
      * Este campo corresponde al concepto de "tarifa" en el dominio de negocio.</p>
      *
-     * <p><strong>Mapeo:</strong> Columna PRICE_LIST, tipo BIGINT, AUTO_INCREMENT</p>
+     * <p><strong>Mapeo:</strong> Columna PRICE_LIST, tipo BIGINT, secuencia PRICES_SEQ</p>
      *
-     * @see jakarta.persistence.GenerationType#IDENTITY
+     * @see jakarta.persistence.GenerationType#SEQUENCE
      */
     @Id
     @Column(name = "PRICE_LIST", nullable = false)
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, initialValue = ID_INITIAL_VALUE,
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long priceList;
 
     /**
@@ -0,0 +1,51 @@
+package com.price.manager.driven.repositories.models;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.price.manager.domain.Price;
+
+/**
+ * Proyección por constructor del resultado de la búsqueda del mejor precio.
+ *
+ * <p>Hibernate la instancia directamente desde las columnas seleccionadas: no crea una
+ * {@link PriceEntity} gestionada, no guarda su instantánea para el dirty checking y no
+ * pasa por {@code PriceEntityMapper}. {@code BRAND_ID} y {@code PRODUCT_ID} no se
+ * seleccionan porque son los filtros de igualdad de la consulta; se toman del criterio.
+ * Todas las columnas seleccionadas están en {@code IDX_PRICES_LOOKUP}.</p>
+ *
+ * @param priceList identificador de la tarifa
+ * @param startDate inicio de vigencia
+ * @param endDate   fin de vigencia
+ * @param priority  prioridad de la tarifa
+ * @param price     precio final
+ * @param curr      código ISO de la moneda
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see com.price.manager.driven.repositories.PriceJpaRepository#findBestPriceViewByBrandIdAndProductIdAtDate
+ */
+public record PriceLookupView(Long priceList, LocalDateTime startDate, LocalDateTime endDate,
+                              Integer priority, BigDecimal price, String curr) {
+
+    /**
+     * Construye el precio de dominio completando las claves con las del criterio.
+     *
+     * @param brandId   marca buscada
+     * @param productId producto buscado
+     * @return precio de dominio
+     */
+    public Price toDomain(Long brandId, Long productId) {
+        return Price.builder()
+                .brandId(brandId)
+                .productId(productId)
+                .priceList(this.priceList)
+                .startDate(this.startDate)
+                .endDate(this.endDate)
+                .priority(this.priority)
+                .price(this.price)
+                .curr(this.curr)
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+CREATE TABLE PRICES (
+    PRICE_LIST INT AUTO_INCREMENT PRIMARY KEY,
+    BRAND_ID INT NOT NULL,
+    START_DATE TIMESTAMP NOT NULL,
+    END_DATE TIMESTAMP NOT NULL,
+    PRODUCT_ID INT NOT NULL,
+    PRIORITY INT NOT NULL,
+    PRICE DOUBLE NOT NULL,
+    CURR VARCHAR(3) NOT NULL
+);
+
+-- Identificadores de las cargas masivas (PriceEntity, optimizador pooled de 50 en 50).
+-- Empieza en 1001 para no chocar con las filas insertadas con AUTO_INCREMENT.
+CREATE SEQUENCE PRICES_SEQ START WITH 1001 INCREMENT BY 50;
@@ -0,0 +1,14 @@
+-- Índice de la búsqueda del mejor precio (PriceJpaRepository.findBestPriceByBrandIdAndProductIdAtDate).
+-- Las igualdades de marca y producto y el rango de fechas van en cabeza; PRIORITY y PRICE_LIST
+-- siguen el ORDER BY de la consulta, y PRICE y CURR completan las columnas seleccionadas para
+-- que la consulta se resuelva sin leer la tabla.
+CREATE INDEX IDX_PRICES_LOOKUP ON PRICES (
+    BRAND_ID,
+    PRODUCT_ID,
+    START_DATE,
+    END_DATE,
+    PRIORITY DESC,
+    PRICE_LIST DESC,
+    PRICE,
+    CURR
+);
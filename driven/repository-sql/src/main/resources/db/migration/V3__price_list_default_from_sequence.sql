@@ -0,0 +1,11 @@
+-- PRICE_LIST deja de ser AUTO_INCREMENT y toma su valor por defecto de PRICES_SEQ, la misma
+-- secuencia que usan las cargas masivas (PriceEntity). Con dos generadores, las inserciones sin
+-- PRICE_LIST acababan alcanzando el 1001 y chocando con los identificadores de las cargas.
+-- Las filas de ejemplo (db/sample-data) conservan sus identificadores 1-4, por debajo de 1001.
+--
+-- Cada inserción sin PRICE_LIST consume un valor de la secuencia, que Hibernate (optimizador
+-- pooled) trata como el extremo superior de un bloque de 50: esos valores nunca coinciden con
+-- los bloques que reserva una carga masiva.
+ALTER TABLE PRICES ALTER COLUMN PRICE_LIST DROP IDENTITY;
+
+ALTER TABLE PRICES ALTER COLUMN PRICE_LIST SET DEFAULT NEXT VALUE FOR PRICES_SEQ;
@@ -0,0 +1,73 @@
+package com.price.manager.driven.repositories.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import com.price.manager.domain.Price;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driven.repositories.models.PriceEntity;
+import com.price.manager.driven.repositories.utils.PriceRepositoryMocks;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Catalog Repository Adapter - Tests")
+class PriceCatalogRepositoryAdapterTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private final PriceRepositoryMocks mocks = new PriceRepositoryMocks();
+
+    @Mock
+    private PriceJpaRepository repository;
+
+    @Mock
+    private PriceEntityMapper mapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private PriceCatalogRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should map, deliver and detach every streamed row, then close the cursor")
+    void shouldMapDeliverAndDetachEveryRowThenCloseCursor() {
+        // Given
+        final PriceEntity first = this.mocks.createTestPriceEntityFor(1L, 100L);
+        final PriceEntity second = this.mocks.createTestPriceEntityFor(1L, 200L);
+        final Price firstPrice = this.mocks.createTestPriceFor(1L, 100L);
+        final Price secondPrice = this.mocks.createTestPriceFor(1L, 200L);
+        final AtomicBoolean closed = new AtomicBoolean();
+        when(this.repository.streamAllByBrandIdValidAt(1L, AT))
+                .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        when(this.mapper.toDomain(first)).thenReturn(firstPrice);
+        when(this.mapper.toDomain(second)).thenReturn(secondPrice);
+        final List<Price> delivered = new ArrayList<>();
+
+        // When
+        final long rows = this.adapter.forEachValidAt(1L, AT, delivered::add);
+
+        // Then
+        assertEquals(2L, rows);
+        assertEquals(List.of(firstPrice, secondPrice), delivered);
+        verify(this.entityManager).detach(first);
+        verify(this.entityManager).detach(second);
+        assertTrue(closed.get(), "The cursor stream must be closed");
+    }
+}
@@ -0,0 +1,86 @@
+package com.price.manager.driven.repositories.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driven.repositories.utils.PriceRepositoryMocks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price In-Memory Repository Adapter Tests")
+class PriceInMemoryRepositoryAdapterTest {
+
+    @Mock
+    private PriceJpaRepository repository;
+
+    @Mock
+    private PriceEntityMapper mapper;
+
+    @InjectMocks
+    private PriceInMemoryRepositoryAdapter adapter;
+
+    private PriceRepositoryMocks mocks;
+
+    @BeforeEach
+    void setUp() {
+        this.mocks = new PriceRepositoryMocks();
+    }
+
+    @Test
+    @DisplayName("Should answer from the loaded index without querying the database again")
+    void shouldAnswerFromLoadedIndexWithoutQueryingDatabaseAgain() {
+        // Given
+        final var entity = this.mocks.createTestPriceEntity();
+        final var price = this.mocks.createTestPrice();
+        when(this.repository.findAll()).thenReturn(List.of(entity));
+        when(this.mapper.toDomain(entity)).thenReturn(price);
+        this.adapter.reload();
+
+        // When
+        final var first = this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+        final var second = this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 20, 0)));
+
+        // Then
+        assertEquals(price, first.orElseThrow());
+        assertEquals(price, second.orElseThrow());
+        verify(this.repository, times(1)).findAll();
+        verify(this.mapper).toDomain(entity);
+        verifyNoMoreInteractions(this.repository, this.mapper);
+    }
+
+    @Test
+    @DisplayName("Should return empty before the first load and for dates out of range")
+    void shouldReturnEmptyBeforeFirstLoadAndForDatesOutOfRange() {
+        // Given
+        final var criteria = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        // When & Then - antes de cargar el índice
+        assertTrue(this.adapter.findBestPrice(criteria).isEmpty());
+
+        // Given - índice cargado
+        final var entity = this.mocks.createTestPriceEntity();
+        when(this.repository.findAll()).thenReturn(List.of(entity));
+        when(this.mapper.toDomain(entity)).thenReturn(this.mocks.createTestPrice());
+        this.adapter.reload();
+
+        // When & Then - fuera del rango de vigencia
+        assertTrue(this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 15, 0, 0))).isEmpty());
+    }
+}
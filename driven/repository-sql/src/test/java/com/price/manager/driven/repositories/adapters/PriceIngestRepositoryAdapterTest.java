@@ -0,0 +1,61 @@
+package com.price.manager.driven.repositories.adapters;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import com.price.manager.domain.Price;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driven.repositories.models.PriceEntity;
+import com.price.manager.driven.repositories.utils.PriceRepositoryMocks;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Ingest Repository Adapter - Tests")
+class PriceIngestRepositoryAdapterTest {
+
+    private final PriceRepositoryMocks mocks = new PriceRepositoryMocks();
+
+    @Mock
+    private PriceEntityMapper mapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private PriceIngestRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should bypass the L2 cache, persist every price, then flush and clear the persistence context")
+    void shouldPersistEveryPriceThenFlushAndClear() {
+        // Given
+        final Price first = this.mocks.createTestPriceFor(1L, 100L);
+        final Price second = this.mocks.createTestPriceFor(1L, 200L);
+        final PriceEntity firstEntity = this.mocks.createTestPriceEntityFor(1L, 100L);
+        final PriceEntity secondEntity = this.mocks.createTestPriceEntityFor(1L, 200L);
+        when(this.mapper.toNewEntity(first)).thenReturn(firstEntity);
+        when(this.mapper.toNewEntity(second)).thenReturn(secondEntity);
+
+        // When
+        this.adapter.saveAll(List.of(first, second));
+
+        // Then
+        final InOrder order = inOrder(this.entityManager);
+        order.verify(this.entityManager).setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        order.verify(this.entityManager).persist(firstEntity);
+        order.verify(this.entityManager).persist(secondEntity);
+        order.verify(this.entityManager).flush();
+        order.verify(this.entityManager).clear();
+    }
+}
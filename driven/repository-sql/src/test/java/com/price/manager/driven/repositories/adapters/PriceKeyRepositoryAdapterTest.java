@@ -0,0 +1,78 @@
+package com.price.manager.driven.repositories.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import com.price.manager.driven.repositories.PriceJpaRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Key Repository Adapter - Tests")
+class PriceKeyRepositoryAdapterTest {
+
+    @Mock
+    private PriceJpaRepository repository;
+
+    @InjectMocks
+    private PriceKeyRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should deliver every distinct pair as longs, then close the cursor")
+    void shouldDeliverEveryPairThenCloseCursor() {
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean();
+        when(this.repository.streamDistinctBrandIdAndProductId())
+                .thenReturn(Stream.of(new Object[] {1L, 35455L}, new Object[] {2L, 100042L})
+                        .onClose(() -> closed.set(true)));
+        final List<String> delivered = new ArrayList<>();
+
+        // When
+        final long keys = this.adapter.forEachKey((brandId, productId) -> delivered.add(brandId + "/" + productId));
+
+        // Then
+        assertEquals(2L, keys);
+        assertEquals(List.of("1/35455", "2/100042"), delivered);
+        assertTrue(closed.get(), "The cursor stream must be closed");
+    }
+
+    @Test
+    @DisplayName("Should stop after the limit and close the cursor")
+    void shouldStopAfterLimitThenCloseCursor() {
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean();
+        when(this.repository.streamDistinctBrandIdAndProductId())
+                .thenReturn(Stream.of(new Object[] {1L, 35455L}, new Object[] {2L, 100042L})
+                        .onClose(() -> closed.set(true)));
+        final List<String> delivered = new ArrayList<>();
+
+        // When
+        final long keys = this.adapter.forEachKey(1L, (brandId, productId) -> delivered.add(brandId + "/" + productId));
+
+        // Then
+        assertEquals(1L, keys);
+        assertEquals(List.of("1/35455"), delivered);
+        assertTrue(closed.get(), "The cursor stream must be closed");
+    }
+
+    @Test
+    @DisplayName("Should count distinct pairs with the repository query")
+    void shouldCountDistinctPairs() {
+        // Given
+        when(this.repository.countDistinctBrandIdAndProductId()).thenReturn(4L);
+
+        // When / Then
+        assertEquals(4L, this.adapter.countKeys());
+    }
+}
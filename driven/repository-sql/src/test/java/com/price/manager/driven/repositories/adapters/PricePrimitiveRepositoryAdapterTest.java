@@ -0,0 +1,73 @@
+package com.price.manager.driven.repositories.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driven.repositories.utils.PriceRepositoryMocks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Primitive Repository Adapter Tests")
+class PricePrimitiveRepositoryAdapterTest {
+
+    private static final LocalDateTime QUERY_DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Mock
+    private PriceJpaRepository repository;
+
+    @Mock
+    private PriceEntityMapper mapper;
+
+    @InjectMocks
+    private PricePrimitiveRepositoryAdapter adapter;
+
+    private PriceRepositoryMocks mocks;
+
+    @BeforeEach
+    void setUp() {
+        this.mocks = new PriceRepositoryMocks();
+    }
+
+    @Test
+    @DisplayName("Should answer primitive and criteria lookups with the same instance")
+    void shouldAnswerPrimitiveAndCriteriaLookupsWithSameInstance() {
+        // Given
+        final var entity = this.mocks.createTestPriceEntity();
+        final var price = this.mocks.createTestPrice();
+        when(this.repository.findAll()).thenReturn(List.of(entity));
+        when(this.mapper.toDomain(entity)).thenReturn(price);
+
+        // When
+        this.adapter.reload();
+
+        // Then
+        assertSame(price, this.adapter.findBestPrice(1L, 35455L, EpochMillis.of(QUERY_DATE)));
+        assertEquals(price, this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, QUERY_DATE)).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should return empty before loading and for null criteria fields")
+    void shouldReturnEmptyBeforeLoadingAndForNullCriteriaFields() {
+        // When & Then
+        assertNull(this.adapter.findBestPrice(1L, 35455L, EpochMillis.of(QUERY_DATE)));
+        assertTrue(this.adapter.findBestPrice(PriceSearchCriteria.of(null, 35455L, QUERY_DATE)).isEmpty());
+        assertTrue(this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, null)).isEmpty());
+    }
+}
@@ -7,7 +7,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -15,6 +14,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -23,6 +24,7 @@ import com.price.manager.domain.criteria.PriceSearchCriteria;
 import com.price.manager.driven.repositories.PriceJpaRepository;
 import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
 import com.price.manager.driven.repositories.models.PriceEntity;
+import com.price.manager.driven.repositories.models.PriceLookupView;
 import com.price.manager.driven.repositories.utils.PriceRepositoryMocks;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -62,12 +64,15 @@ class PriceRepositoryAdapterTest {
 
     private Price testPrice;
 
+    private PriceLookupView testView;
+
     @BeforeEach
     void setUp() {
         this.mocks = new PriceRepositoryMocks();
         this.testCriteria = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0, 0));
         this.testEntity = this.mocks.createTestPriceEntity();
         this.testPrice = this.mocks.createTestPrice();
+        this.testView = this.mocks.createTestPriceView();
     }
 
     /**
@@ -92,42 +97,39 @@ class PriceRepositoryAdapterTest {
 
     @ParameterizedTest(name = "{3}")
     @MethodSource("searchScenarios")
-    @DisplayName("Should return price when entity found and mapped successfully")
-    void shouldReturnPriceWhenEntityFoundAndMappedSuccessfully(
+    @DisplayName("Should return price built from the projection and the criteria keys")
+    void shouldReturnPriceBuiltFromProjectionAndCriteriaKeys(
             Long brandId, Long productId, LocalDateTime queryDate, String description) {
 
         // Given
         final var criteria = PriceSearchCriteria.of(brandId, productId, queryDate);
-        final var entity = this.mocks.createTestPriceEntityFor(brandId, productId);
         final var expectedPrice = this.mocks.createTestPriceFor(brandId, productId);
 
-        when(this.repository.findBestPriceByBrandIdAndProductIdAtDate(brandId, productId, queryDate))
-                .thenReturn(Optional.of(entity));
-        when(this.mapper.toDomain(entity))
-                .thenReturn(expectedPrice);
+        when(this.repository.findBestPriceViewByBrandIdAndProductIdAtDate(brandId, productId, queryDate))
+                .thenReturn(Optional.of(this.testView));
 
         // When
         final var result = this.priceRepositoryAdapter.findBestPrice(criteria);
 
         // Then
         assertTrue(result.isPresent(), "Should find a price for: " + description);
-        assertEquals(expectedPrice, result.get(), "Should return mapped price");
+        assertEquals(expectedPrice, result.get(), "Should return the projected price");
         assertEquals(brandId, result.get().getBrandId(), "Should match brand ID");
         assertEquals(productId, result.get().getProductId(), "Should match product ID");
         assertNotNull(result.get().getPrice(), "Price should not be null");
         assertNotNull(result.get().getCurr(), "Currency should not be null");
 
         // Verify
-        verify(this.repository).findBestPriceByBrandIdAndProductIdAtDate(brandId, productId, queryDate);
-        verify(this.mapper).toDomain(entity);
-        verifyNoMoreInteractions(this.repository, this.mapper);
+        verify(this.repository).findBestPriceViewByBrandIdAndProductIdAtDate(brandId, productId, queryDate);
+        verifyNoMoreInteractions(this.repository);
+        verifyNoInteractions(this.mapper);
     }
 
     @Test
     @DisplayName("Should return empty when no entity found in repository")
     void shouldReturnEmptyWhenNoEntityFoundInRepository() {
         // Given
-        when(this.repository.findBestPriceByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
+        when(this.repository.findBestPriceViewByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
                 .thenReturn(Optional.empty());
 
         // When
@@ -137,7 +139,7 @@ class PriceRepositoryAdapterTest {
         assertFalse(result.isPresent(), "Should return empty Optional when no entity found");
         assertTrue(result.isEmpty(), "Result should be empty");
 
-        verify(this.repository).findBestPriceByBrandIdAndProductIdAtDate(1L, 35455L, this.testCriteria.queryDate());
+        verify(this.repository).findBestPriceViewByBrandIdAndProductIdAtDate(1L, 35455L, this.testCriteria.queryDate());
         verifyNoInteractions(this.mapper);
     }
 
@@ -147,7 +149,7 @@ class PriceRepositoryAdapterTest {
         // Given
         final var expectedException = new DataAccessException("Database connection failed") {
         };
-        when(this.repository.findBestPriceByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
+        when(this.repository.findBestPriceViewByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
                 .thenThrow(expectedException);
 
         // When & Then
@@ -157,29 +159,24 @@ class PriceRepositoryAdapterTest {
 
         assertEquals("Database connection failed", thrownException.getMessage());
 
-        verify(this.repository).findBestPriceByBrandIdAndProductIdAtDate(1L, 35455L, this.testCriteria.queryDate());
+        verify(this.repository).findBestPriceViewByBrandIdAndProductIdAtDate(1L, 35455L, this.testCriteria.queryDate());
         verifyNoInteractions(this.mapper);
     }
 
     @Test
-    @DisplayName("Should handle mapper exceptions gracefully")
-    void shouldHandleMapperExceptionsGracefully() {
+    @DisplayName("Should never load an entity nor use the entity mapper for single lookups")
+    void shouldNeverLoadEntityNorUseEntityMapperForSingleLookups() {
         // Given
-        final var expectedException = new RuntimeException("Mapping failed for invalid data");
-        when(this.repository.findBestPriceByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
-                .thenReturn(Optional.of(this.testEntity));
-        when(this.mapper.toDomain(this.testEntity))
-                .thenThrow(expectedException);
+        when(this.repository.findBestPriceViewByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
+                .thenReturn(Optional.of(this.testView));
 
-        // When & Then
-        final var thrownException = assertThrows(RuntimeException.class,
-                () -> this.priceRepositoryAdapter.findBestPrice(this.testCriteria),
-                "Should propagate mapper exceptions");
-
-        assertEquals("Mapping failed for invalid data", thrownException.getMessage());
+        // When
+        this.priceRepositoryAdapter.findBestPrice(this.testCriteria);
 
-        verify(this.repository).findBestPriceByBrandIdAndProductIdAtDate(1L, 35455L, this.testCriteria.queryDate());
-        verify(this.mapper).toDomain(this.testEntity);
+        // Then
+        verify(this.repository).findBestPriceViewByBrandIdAndProductIdAtDate(1L, 35455L, this.testCriteria.queryDate());
+        verifyNoMoreInteractions(this.repository);
+        verifyNoInteractions(this.mapper);
     }
 
     @Test
@@ -189,14 +186,14 @@ class PriceRepositoryAdapterTest {
         final var specificCriteria = PriceSearchCriteria.of(99L, 12345L,
                 LocalDateTime.of(2021, 3, 15, 14, 30, 45, 123456789));
 
-        when(this.repository.findBestPriceByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
+        when(this.repository.findBestPriceViewByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
                 .thenReturn(Optional.empty());
 
         // When
         this.priceRepositoryAdapter.findBestPrice(specificCriteria);
 
         // Then - Verify exact parameters were passed
-        verify(this.repository).findBestPriceByBrandIdAndProductIdAtDate(
+        verify(this.repository).findBestPriceViewByBrandIdAndProductIdAtDate(
                 99L,
                 12345L,
                 LocalDateTime.of(2021, 3, 15, 14, 30, 45, 123456789)
@@ -210,10 +207,8 @@ class PriceRepositoryAdapterTest {
         final var criteria1 = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0, 0));
         final var criteria2 = PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0, 0));
 
-        when(this.repository.findBestPriceByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
-                .thenReturn(Optional.of(this.testEntity));
-        when(this.mapper.toDomain(this.testEntity))
-                .thenReturn(this.testPrice);
+        when(this.repository.findBestPriceViewByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
+                .thenReturn(Optional.of(this.testView));
 
         // When
         final var result1 = this.priceRepositoryAdapter.findBestPrice(criteria1);
@@ -222,10 +217,9 @@ class PriceRepositoryAdapterTest {
         // Then
         assertTrue(result1.isPresent(), "First call should return result");
         assertTrue(result2.isPresent(), "Second call should return result");
-        assertEquals(result1.get(), result2.get(), "Both calls should return same mapped object");
+        assertEquals(result1.get(), result2.get(), "Both calls should return equal projected prices");
 
-        verify(this.repository, times(2)).findBestPriceByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any());
-        verify(this.mapper, times(2)).toDomain(this.testEntity);
+        verify(this.repository, times(2)).findBestPriceViewByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any());
     }
 
     @Test
@@ -247,64 +241,58 @@ class PriceRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should handle null response from mapper gracefully")
-    void shouldHandleNullResponseFromMapperGracefully() {
+    @DisplayName("Should validate criteria immutability")
+    void shouldValidateCriteriaImmutability() {
         // Given
-        when(this.repository.findBestPriceByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
-                .thenReturn(Optional.of(this.testEntity));
-        when(this.mapper.toDomain(this.testEntity))
-                .thenReturn(null); // Mapper returns null
+        final var originalDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+        final var criteria = PriceSearchCriteria.of(1L, 35455L, originalDate);
 
         // When
-        final var result = this.priceRepositoryAdapter.findBestPrice(this.testCriteria);
+        when(this.repository.findBestPriceViewByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
+                .thenReturn(Optional.empty());
+
+        this.priceRepositoryAdapter.findBestPrice(criteria);
+        this.priceRepositoryAdapter.findBestPrice(criteria);
 
         // Then
-        assertFalse(result.isPresent(), "Repository adapter should return Optional.of(null)");
-        assertTrue(result.isEmpty(), "Content should be null when mapper returns null");
+        assertEquals(1L, criteria.brandId(), "Brand ID should remain unchanged");
+        assertEquals(35455L, criteria.productId(), "Product ID should remain unchanged");
+        assertEquals(originalDate, criteria.queryDate(), "Query date should remain unchanged");
 
-        verify(this.repository).findBestPriceByBrandIdAndProductIdAtDate(1L, 35455L, this.testCriteria.queryDate());
-        verify(this.mapper).toDomain(this.testEntity);
+        verify(this.repository, times(2)).findBestPriceViewByBrandIdAndProductIdAtDate(1L, 35455L, originalDate);
     }
 
     @Test
-    @DisplayName("Should validate interaction sequence is correct")
-    void shouldValidateInteractionSequenceIsCorrect() {
+    @DisplayName("Should return every candidate row of a product mapped to domain")
+    void shouldReturnEveryCandidateRowOfProductMappedToDomain() {
         // Given
-        when(this.repository.findBestPriceByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
-                .thenReturn(Optional.of(this.testEntity));
-        when(this.mapper.toDomain(this.testEntity))
-                .thenReturn(this.testPrice);
+        when(this.repository.findAllByBrandIdAndProductId(1L, 35455L)).thenReturn(List.of(this.testEntity));
+        when(this.mapper.toDomain(this.testEntity)).thenReturn(this.testPrice);
 
         // When
-        this.priceRepositoryAdapter.findBestPrice(this.testCriteria);
+        final List<Price> result = this.priceRepositoryAdapter.findAllByBrandAndProduct(1L, 35455L);
 
         // Then
-        final var inOrder = inOrder(this.repository, this.mapper);
-        inOrder.verify(this.repository).findBestPriceByBrandIdAndProductIdAtDate(1L, 35455L,
-                this.testCriteria.queryDate());
-        inOrder.verify(this.mapper).toDomain(this.testEntity);
-        inOrder.verifyNoMoreInteractions();
+        assertEquals(List.of(this.testPrice), result);
+        verifyNoMoreInteractions(this.repository);
     }
 
     @Test
-    @DisplayName("Should validate criteria immutability")
-    void shouldValidateCriteriaImmutability() {
+    @DisplayName("Should map bulk results in request order keeping not-found markers")
+    void shouldMapBulkResultsInRequestOrderKeepingNotFoundMarkers() {
         // Given
-        final var originalDate = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
-        final var criteria = PriceSearchCriteria.of(1L, 35455L, originalDate);
+        final List<PriceSearchCriteria> criteria = List.of(
+                PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)),
+                PriceSearchCriteria.of(1L, 99999L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+        when(this.repository.findBestPrices(criteria)).thenReturn(Arrays.asList(this.testEntity, null));
+        when(this.mapper.toDomain(this.testEntity)).thenReturn(this.testPrice);
 
         // When
-        when(this.repository.findBestPriceByBrandIdAndProductIdAtDate(anyLong(), anyLong(), any()))
-                .thenReturn(Optional.empty());
-
-        this.priceRepositoryAdapter.findBestPrice(criteria);
-        this.priceRepositoryAdapter.findBestPrice(criteria);
-
-        // Then
-        assertEquals(1L, criteria.brandId(), "Brand ID should remain unchanged");
-        assertEquals(35455L, criteria.productId(), "Product ID should remain unchanged");
-        assertEquals(originalDate, criteria.queryDate(), "Query date should remain unchanged");
+        final List<Optional<Price>> result = this.priceRepositoryAdapter.findBestPrices(criteria);
 
-        verify(this.repository, times(2)).findBestPriceByBrandIdAndProductIdAtDate(1L, 35455L, originalDate);
+        // Then - una sola consulta para todo el lote
+        assertEquals(List.of(Optional.of(this.testPrice), Optional.empty()), result);
+        verify(this.repository).findBestPrices(criteria);
+        verifyNoMoreInteractions(this.repository);
     }
 }
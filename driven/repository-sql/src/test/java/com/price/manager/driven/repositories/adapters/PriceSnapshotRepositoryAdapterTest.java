@@ -0,0 +1,96 @@
+package com.price.manager.driven.repositories.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.index.PriceSnapshot;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driven.repositories.utils.PriceRepositoryMocks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Snapshot Repository Adapter Tests")
+class PriceSnapshotRepositoryAdapterTest {
+
+    private static final LocalDateTime QUERY_DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Mock
+    private PriceJpaRepository repository;
+
+    @Mock
+    private PriceEntityMapper mapper;
+
+    @TempDir
+    private Path directory;
+
+    private PriceRepositoryMocks mocks;
+
+    private Path file;
+
+    private PriceSnapshotRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        this.mocks = new PriceRepositoryMocks();
+        this.file = this.directory.resolve("prices.snap");
+        this.adapter = new PriceSnapshotRepositoryAdapter(this.repository, this.mapper, this.file);
+    }
+
+    @Test
+    @DisplayName("Should export from the database when the snapshot does not exist")
+    void shouldExportFromDatabaseWhenSnapshotDoesNotExist() {
+        // Given
+        when(this.repository.findAll()).thenReturn(List.of(this.mocks.createTestPriceEntity()));
+        when(this.mapper.toDomain(any())).thenReturn(this.mocks.createTestPrice());
+
+        // When
+        this.adapter.open();
+
+        // Then
+        assertTrue(Files.exists(this.file));
+        assertEquals(this.mocks.createTestPrice(), this.adapter.findBestPrice(1L, 35455L, EpochMillis.of(QUERY_DATE)));
+        assertEquals(this.mocks.createTestPrice(),
+                this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, QUERY_DATE)).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should map an existing snapshot without touching the database")
+    void shouldMapExistingSnapshotWithoutTouchingDatabase() {
+        // Given
+        PriceSnapshot.write(this.file, List.of(this.mocks.createTestPrice()));
+
+        // When
+        this.adapter.open();
+
+        // Then
+        assertEquals(this.mocks.createTestPrice(), this.adapter.findBestPrice(1L, 35455L, EpochMillis.of(QUERY_DATE)));
+        verify(this.repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should return empty before opening and for null criteria fields")
+    void shouldReturnEmptyBeforeOpeningAndForNullCriteriaFields() {
+        // When & Then
+        assertTrue(this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, QUERY_DATE)).isEmpty());
+        assertTrue(this.adapter.findBestPrice(PriceSearchCriteria.of(1L, null, QUERY_DATE)).isEmpty());
+    }
+}
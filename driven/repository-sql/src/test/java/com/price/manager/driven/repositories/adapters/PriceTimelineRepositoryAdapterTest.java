@@ -0,0 +1,79 @@
+package com.price.manager.driven.repositories.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driven.repositories.PriceJpaRepository;
+import com.price.manager.driven.repositories.mappers.PriceEntityMapper;
+import com.price.manager.driven.repositories.utils.PriceRepositoryMocks;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Timeline Repository Adapter Tests")
+class PriceTimelineRepositoryAdapterTest {
+
+    @Mock
+    private PriceJpaRepository repository;
+
+    @Mock
+    private PriceEntityMapper mapper;
+
+    @InjectMocks
+    private PriceTimelineRepositoryAdapter adapter;
+
+    private PriceRepositoryMocks mocks;
+
+    @BeforeEach
+    void setUp() {
+        this.mocks = new PriceRepositoryMocks();
+    }
+
+    @Test
+    @DisplayName("Should answer from the precomputed timelines after loading")
+    void shouldAnswerFromPrecomputedTimelinesAfterLoading() {
+        // Given
+        final var entity = this.mocks.createTestPriceEntity();
+        final var price = this.mocks.createTestPrice();
+        when(this.repository.findAll()).thenReturn(List.of(entity));
+        when(this.mapper.toDomain(entity)).thenReturn(price);
+
+        // When
+        this.adapter.reload();
+        final var result = this.adapter.findBestPrice(PriceSearchCriteria.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+
+        // Then
+        assertEquals(price, result.orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should rebuild a single product from its current rows")
+    void shouldRebuildSingleProductFromItsCurrentRows() {
+        // Given
+        final var entity = this.mocks.createTestPriceEntityFor(2L, 67890L);
+        final var price = this.mocks.createTestPriceFor(2L, 67890L);
+        final var criteria = PriceSearchCriteria.of(2L, 67890L, LocalDateTime.of(2020, 6, 14, 10, 0));
+        when(this.repository.findAllByBrandIdAndProductId(2L, 67890L)).thenReturn(List.of(entity));
+        when(this.mapper.toDomain(entity)).thenReturn(price);
+        assertTrue(this.adapter.findBestPrice(criteria).isEmpty());
+
+        // When
+        this.adapter.rebuild(2L, 67890L);
+
+        // Then
+        assertEquals(price, this.adapter.findBestPrice(criteria).orElseThrow());
+        verify(this.repository).findAllByBrandIdAndProductId(2L, 67890L);
+    }
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 
 import com.price.manager.domain.Price;
 import com.price.manager.driven.repositories.models.PriceEntity;
+import com.price.manager.driven.repositories.models.PriceLookupView;
 
 public class PriceRepositoryMocks {
 
@@ -41,4 +42,9 @@ public class PriceRepositoryMocks {
                 .curr("EUR")
                 .build();
     }
+
+    public PriceLookupView createTestPriceView() {
+        return new PriceLookupView(1L, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 6, 14, 23, 59, 59),
+                0, new BigDecimal("35.5"), "EUR");
+    }
 }
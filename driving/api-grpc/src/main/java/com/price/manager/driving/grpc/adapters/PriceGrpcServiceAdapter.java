@@ -0,0 +1,147 @@
+package com.price.manager.driving.grpc.adapters;
+
+import com.price.manager.application.decorators.BulkheadFullException;
+import com.price.manager.application.decorators.MicroBatchTimeoutException;
+import com.price.manager.application.ports.driving.PriceServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.driving.grpc.mappers.GrpcPriceMapper;
+import com.price.manager.driving.grpc.proto.PriceLookupReply;
+import com.price.manager.driving.grpc.proto.PriceLookupRequest;
+import com.price.manager.driving.grpc.proto.PriceLookupServiceGrpc;
+import com.price.manager.driving.grpc.proto.PriceMessage;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptador gRPC de la búsqueda de precios sobre {@link PriceServicePort}.
+ *
+ * <p>Mismas reglas que {@code PriceControllerAdapter}, con codificación protobuf sobre HTTP/2
+ * (contrato {@code price_lookup.proto}). Se ahorra la serialización JSON de la respuesta y el
+ * parseo de fechas en texto: las fechas viajan como milisegundos desde epoch y el importe
+ * como entero sin escala más escala.</p>
+ *
+ * <p><strong>RPCs expuestas:</strong></p>
+ * <ul>
+ *   <li><strong>FindPrice</strong> (unaria): precio aplicable o {@code NOT_FOUND}</li>
+ *   <li><strong>FindPrices</strong> (bidireccional): una respuesta por búsqueda recibida, en el
+ *       mismo orden; las búsquedas sin precio responden sin {@code price} en lugar de cerrar
+ *       el stream</li>
+ * </ul>
+ *
+ * <p><strong>Errores:</strong> marca, producto o fecha sin informar ({@code 0}) responden
+ * {@code INVALID_ARGUMENT}; un bulkhead lleno, {@code RESOURCE_EXHAUSTED}; un lote de
+ * micro-batching sin resolver a tiempo, {@code UNAVAILABLE}; cualquier otro fallo,
+ * {@code INTERNAL}. En el stream, el error cierra la llamada.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see PriceServicePort
+ * @see GrpcPriceMapper
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "price-manager.grpc", name = "enabled", havingValue = "true")
+public class PriceGrpcServiceAdapter extends PriceLookupServiceGrpc.PriceLookupServiceImplBase {
+
+    private final PriceServicePort priceServicePort;
+
+    private final GrpcPriceMapper mapper;
+
+    @Override
+    public void findPrice(PriceLookupRequest request, StreamObserver<PriceMessage> responseObserver) {
+        final PriceMessage message;
+        try {
+            final Price price = this.lookup(request);
+            if (price == null) {
+                responseObserver.onError(Status.NOT_FOUND
+                        .withDescription("No price found for the given parameters")
+                        .asRuntimeException());
+                return;
+            }
+            // Dentro del try: un importe que no cabe en el mensaje responde INTERNAL, no UNKNOWN
+            message = this.mapper.toMessage(price);
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+            return;
+        }
+        responseObserver.onNext(message);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<PriceLookupRequest> findPrices(StreamObserver<PriceLookupReply> responseObserver) {
+        // gRPC entrega los mensajes de una llamada de uno en uno, así que no hace falta sincronizar
+        return new StreamObserver<>() {
+
+            private boolean failed;
+
+            @Override
+            public void onNext(PriceLookupRequest request) {
+                if (this.failed) {
+                    return;
+                }
+                final PriceLookupReply.Builder reply = PriceLookupReply.newBuilder().setRequest(request);
+                try {
+                    final Price price = PriceGrpcServiceAdapter.this.lookup(request);
+                    if (price != null) {
+                        reply.setPrice(PriceGrpcServiceAdapter.this.mapper.toMessage(price));
+                    }
+                } catch (RuntimeException e) {
+                    this.failed = true;
+                    responseObserver.onError(toStatus(e));
+                    return;
+                }
+                responseObserver.onNext(reply.build());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("Price lookup stream cancelled by the client: {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!this.failed) {
+                    responseObserver.onCompleted();
+                }
+            }
+        };
+    }
+
+    private Price lookup(PriceLookupRequest request) {
+        if (request.getBrandId() == 0 || request.getProductId() == 0) {
+            throw Status.INVALID_ARGUMENT
+                    .withDescription("brand_id and product_id are required")
+                    .asRuntimeException();
+        }
+        if (request.getApplicationDate() == 0) {
+            // Valor por defecto de proto3: el campo no se informó, no es 1970-01-01
+            throw Status.INVALID_ARGUMENT
+                    .withDescription("application_date is required")
+                    .asRuntimeException();
+        }
+        return this.priceServicePort.findByBrandProductBetweenDate(request.getBrandId(), request.getProductId(),
+                this.mapper.toApplicationDate(request));
+    }
+
+    private static StatusRuntimeException toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException status) {
+            return status;
+        }
+        if (e instanceof BulkheadFullException) {
+            return Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof MicroBatchTimeoutException) {
+            return Status.UNAVAILABLE.withDescription(e.getMessage()).asRuntimeException();
+        }
+        log.error("Unexpected error resolving a gRPC price lookup", e);
+        return Status.INTERNAL.withDescription("Unexpected error").asRuntimeException();
+    }
+}
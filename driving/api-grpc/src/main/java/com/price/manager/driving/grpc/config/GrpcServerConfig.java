@@ -0,0 +1,54 @@
+package com.price.manager.driving.grpc.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.grpc.BindableService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Servidor gRPC de la aplicación, junto al servidor HTTP.
+ *
+ * <p>Publica todos los {@link BindableService} del contexto (hoy,
+ * {@code PriceGrpcServiceAdapter}) en un servidor Netty propio que arranca y se detiene con el
+ * contexto. Funciona igual con la pila servlet que con la reactiva.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   grpc:
+ *     enabled: true
+ *     port: 9091            # 0 = puerto libre aleatorio
+ *     shutdown-timeout: 5s  # espera a las llamadas en curso al parar
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see GrpcServerLifecycle
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "price-manager.grpc", name = "enabled", havingValue = "true")
+public class GrpcServerConfig {
+
+    private static final int DEFAULT_PORT = 9091;
+
+    private static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Servidor gRPC con los servicios del contexto.
+     *
+     * @param services    servicios a publicar
+     * @param environment propiedades {@code price-manager.grpc.*}
+     * @return ciclo de vida del servidor
+     */
+    @Bean
+    public GrpcServerLifecycle grpcServerLifecycle(List<BindableService> services, Environment environment) {
+        return new GrpcServerLifecycle(services,
+                environment.getProperty("price-manager.grpc.port", Integer.class, DEFAULT_PORT),
+                environment.getProperty("price-manager.grpc.shutdown-timeout", Duration.class,
+                        DEFAULT_SHUTDOWN_TIMEOUT));
+    }
+}
@@ -0,0 +1,98 @@
+package com.price.manager.driving.grpc.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Arranca el servidor gRPC al refrescar el contexto y lo detiene al cerrarlo.
+ *
+ * <p>Al parar deja de aceptar llamadas y espera a las que están en curso como mucho
+ * {@code shutdownTimeout}; después cancela las que queden.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see GrpcServerConfig
+ */
+@Slf4j
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private final List<BindableService> services;
+
+    private final int port;
+
+    private final Duration shutdownTimeout;
+
+    private volatile Server server;
+
+    /**
+     * Crea el ciclo de vida sin arrancar el servidor.
+     *
+     * @param services        servicios a publicar
+     * @param port            puerto de escucha; {@code 0} elige uno libre
+     * @param shutdownTimeout espera máxima a las llamadas en curso al parar
+     */
+    public GrpcServerLifecycle(List<BindableService> services, int port, Duration shutdownTimeout) {
+        this.services = List.copyOf(services);
+        this.port = port;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void start() {
+        final NettyServerBuilder builder = NettyServerBuilder.forPort(this.port);
+        this.services.forEach(builder::addService);
+        try {
+            this.server = builder.build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start the gRPC server on port " + this.port, e);
+        }
+        log.info("gRPC server started on port {} with {} service(s)", this.server.getPort(), this.services.size());
+    }
+
+    @Override
+    public void stop() {
+        final Server running = this.server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(this.shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        this.server = null;
+        log.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.server != null;
+    }
+
+    /**
+     * Puerto en el que escucha el servidor, útil cuando se configura {@code port=0}.
+     *
+     * @return puerto de escucha
+     * @throws IllegalStateException si el servidor no está arrancado
+     */
+    public int getPort() {
+        final Server running = this.server;
+        if (running == null) {
+            throw new IllegalStateException("gRPC server is not running");
+        }
+        return running.getPort();
+    }
+}
@@ -0,0 +1,59 @@
+package com.price.manager.driving.grpc.mappers;
+
+import java.time.LocalDateTime;
+
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.domain.Price;
+import com.price.manager.driving.grpc.proto.PriceLookupRequest;
+import com.price.manager.driving.grpc.proto.PriceMessage;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Conversión entre los mensajes protobuf de {@code price_lookup.proto} y el dominio.
+ *
+ * <p>Las fechas del dominio se interpretan en UTC, igual que en la API REST, y se envían como
+ * milisegundos desde epoch. El importe se envía como {@link java.math.BigDecimal#unscaledValue()}
+ * más {@link java.math.BigDecimal#scale()}, sin pasar por texto ni {@code double}.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class GrpcPriceMapper {
+
+    /**
+     * Fecha de aplicación de una búsqueda.
+     *
+     * @param request búsqueda recibida
+     * @return fecha local (UTC)
+     */
+    public LocalDateTime toApplicationDate(PriceLookupRequest request) {
+        return EpochMillis.toLocalDateTime(request.getApplicationDate());
+    }
+
+    /**
+     * Convierte un precio de dominio en su mensaje protobuf.
+     *
+     * @param price precio a convertir. No puede ser {@code null}.
+     * @return mensaje equivalente
+     * @throws ArithmeticException si el importe sin escala no cabe en un {@code long}
+     */
+    public PriceMessage toMessage(Price price) {
+        final PriceMessage.Builder message = PriceMessage.newBuilder()
+                .setBrandId(price.getBrandId())
+                .setProductId(price.getProductId())
+                .setPriceList(price.getPriceList())
+                .setStartDate(EpochMillis.of(price.getStartDate()))
+                .setEndDate(EpochMillis.of(price.getEndDate()))
+                .setPriceUnscaled(price.getPrice().unscaledValue().longValueExact())
+                .setPriceScale(price.getPrice().scale());
+        if (price.getPriority() != null) {
+            message.setPriority(price.getPriority());
+        }
+        if (price.getCurr() != null) {
+            message.setCurrency(price.getCurr());
+        }
+        return message.build();
+    }
+}
@@ -0,0 +1,249 @@
+package com.price.manager.driving.grpc.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.application.decorators.BulkheadFullException;
+import com.price.manager.application.decorators.MicroBatchTimeoutException;
+import com.price.manager.application.index.EpochMillis;
+import com.price.manager.application.ports.driving.PriceServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.driving.grpc.mappers.GrpcPriceMapper;
+import com.price.manager.driving.grpc.proto.PriceLookupReply;
+import com.price.manager.driving.grpc.proto.PriceLookupRequest;
+import com.price.manager.driving.grpc.proto.PriceLookupServiceGrpc;
+import com.price.manager.driving.grpc.proto.PriceMessage;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests unitarios del adaptador gRPC sobre un servidor en proceso, sin red ni base de datos.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price gRPC Service Adapter - Unit Tests")
+class PriceGrpcServiceAdapterTest {
+
+    private static final LocalDateTime QUERY_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceServicePort priceServicePort;
+
+    private Server server;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final String name = InProcessServerBuilder.generateName();
+        this.server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new PriceGrpcServiceAdapter(this.priceServicePort, new GrpcPriceMapper()))
+                .build()
+                .start();
+        this.channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.channel.shutdownNow();
+        this.server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should encode dates as epoch millis and the amount as unscaled value plus scale")
+    void shouldEncodeFoundPrice() {
+        // Given
+        when(this.priceServicePort.findByBrandProductBetweenDate(1L, 35455L, QUERY_DATE)).thenReturn(createPrice());
+
+        // When
+        final PriceMessage message = PriceLookupServiceGrpc.newBlockingStub(this.channel).findPrice(request(35455L));
+
+        // Then
+        assertEquals(2L, message.getPriceList());
+        assertEquals(1, message.getPriority());
+        assertEquals(EpochMillis.of(LocalDateTime.of(2020, 6, 14, 15, 0)), message.getStartDate());
+        assertEquals(EpochMillis.of(LocalDateTime.of(2020, 6, 14, 18, 30)), message.getEndDate());
+        assertEquals(new BigDecimal("25.45"), BigDecimal.valueOf(message.getPriceUnscaled(), message.getPriceScale()));
+        assertEquals("EUR", message.getCurrency());
+    }
+
+    @Test
+    @DisplayName("Should answer NOT_FOUND when the service finds no price")
+    void shouldAnswerNotFound() {
+        // Given
+        final var stub = PriceLookupServiceGrpc.newBlockingStub(this.channel);
+
+        // When
+        final StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> stub.findPrice(request(35455L)));
+
+        // Then
+        assertEquals(Status.Code.NOT_FOUND, error.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should answer INVALID_ARGUMENT without calling the service when the product is missing")
+    void shouldRejectMissingProduct() {
+        // Given
+        final var stub = PriceLookupServiceGrpc.newBlockingStub(this.channel);
+
+        // When
+        final StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> stub.findPrice(request(0L)));
+
+        // Then
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+        verifyNoInteractions(this.priceServicePort);
+    }
+
+    @Test
+    @DisplayName("Should answer INVALID_ARGUMENT without calling the service when the application date is missing")
+    void shouldRejectMissingApplicationDate() {
+        // Given - proto3 envía 0 cuando el campo no se informa
+        final var stub = PriceLookupServiceGrpc.newBlockingStub(this.channel);
+        final PriceLookupRequest request = request(35455L).toBuilder().clearApplicationDate().build();
+
+        // When
+        final StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> stub.findPrice(request));
+
+        // Then
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+        verifyNoInteractions(this.priceServicePort);
+    }
+
+    @Test
+    @DisplayName("Should answer INTERNAL when the price cannot be encoded in the message")
+    void shouldAnswerInternalWhenMappingFails() {
+        // Given - importe sin escala que no cabe en un int64
+        final Price price = createPrice();
+        price.setPrice(new BigDecimal("92233720368547758.08"));
+        when(this.priceServicePort.findByBrandProductBetweenDate(1L, 35455L, QUERY_DATE)).thenReturn(price);
+        final var stub = PriceLookupServiceGrpc.newBlockingStub(this.channel);
+
+        // When
+        final StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> stub.findPrice(request(35455L)));
+
+        // Then
+        assertEquals(Status.Code.INTERNAL, error.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should answer RESOURCE_EXHAUSTED when the repository bulkhead is full")
+    void shouldMapBulkheadFull() {
+        // Given
+        when(this.priceServicePort.findByBrandProductBetweenDate(any(), any(), any()))
+                .thenThrow(new BulkheadFullException("full"));
+        final var stub = PriceLookupServiceGrpc.newBlockingStub(this.channel);
+
+        // When
+        final StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> stub.findPrice(request(35455L)));
+
+        // Then
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, error.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should answer UNAVAILABLE when a micro-batch does not resolve in time")
+    void shouldMapMicroBatchTimeout() {
+        // Given
+        when(this.priceServicePort.findByBrandProductBetweenDate(any(), any(), any()))
+                .thenThrow(new MicroBatchTimeoutException("No price lookup batch result within PT10S"));
+        final var stub = PriceLookupServiceGrpc.newBlockingStub(this.channel);
+
+        // When
+        final StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> stub.findPrice(request(35455L)));
+
+        // Then
+        assertEquals(Status.Code.UNAVAILABLE, error.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should stream one reply per request in order, leaving price unset when not found")
+    void shouldStreamRepliesInOrder() throws Exception {
+        // Given
+        when(this.priceServicePort.findByBrandProductBetweenDate(1L, 35455L, QUERY_DATE)).thenReturn(createPrice());
+        when(this.priceServicePort.findByBrandProductBetweenDate(1L, 99999L, QUERY_DATE)).thenReturn(null);
+        final List<PriceLookupReply> replies = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> completed = new CompletableFuture<>();
+
+        // When
+        final StreamObserver<PriceLookupRequest> requests = PriceLookupServiceGrpc.newStub(this.channel)
+                .findPrices(new StreamObserver<>() {
+                    @Override
+                    public void onNext(PriceLookupReply reply) {
+                        replies.add(reply);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        completed.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.complete(null);
+                    }
+                });
+        requests.onNext(request(35455L));
+        requests.onNext(request(99999L));
+        requests.onNext(request(35455L));
+        requests.onCompleted();
+        completed.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(3, replies.size());
+        assertTrue(replies.get(0).hasPrice());
+        assertEquals(99999L, replies.get(1).getRequest().getProductId());
+        assertFalse(replies.get(1).hasPrice());
+        assertEquals(2L, replies.get(2).getPrice().getPriceList());
+    }
+
+    private static PriceLookupRequest request(long productId) {
+        return PriceLookupRequest.newBuilder()
+                .setBrandId(1L)
+                .setProductId(productId)
+                .setApplicationDate(EpochMillis.of(QUERY_DATE))
+                .build();
+    }
+
+    private static Price createPrice() {
+        return Price.builder()
+                .brandId(1L)
+                .productId(35455L)
+                .priceList(2L)
+                .priority(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .price(new BigDecimal("25.45"))
+                .curr("EUR")
+                .build();
+    }
+}
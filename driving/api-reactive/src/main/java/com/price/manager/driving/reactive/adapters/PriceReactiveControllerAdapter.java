@@ -0,0 +1,108 @@
+package com.price.manager.driving.reactive.adapters;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import com.price.manager.application.ports.driving.PriceReactiveServicePort;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driving.reactive.api.PriceControllerApi;
+import com.price.manager.driving.reactive.error.PriceNotFoundException;
+import com.price.manager.driving.reactive.mappers.ReactivePriceMapper;
+import com.price.manager.driving.reactive.models.BulkPriceRequest;
+import com.price.manager.driving.reactive.models.BulkPriceResponse;
+import com.price.manager.driving.reactive.models.BulkPriceResult;
+import com.price.manager.driving.reactive.models.PriceQuery;
+import com.price.manager.driving.reactive.models.PriceResponse;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adaptador WebFlux de la API de precios.
+ *
+ * <p>Implementa el mismo contrato {@code openapi.yaml} que {@code PriceControllerAdapter},
+ * generado con tipos reactivos, sobre {@link PriceReactiveServicePort}. Ninguna petición
+ * retiene un hilo mientras espera a la base de datos, así que unos pocos hilos del event
+ * loop de Netty atienden cualquier número de peticiones concurrentes.</p>
+ *
+ * <p><strong>Endpoints Expuestos:</strong></p>
+ * <ul>
+ *   <li><strong>GET</strong> {@code /v1/price/findByBrandProductBetweenDate}</li>
+ *   <li><strong>POST</strong> {@code /v1/price/bulk}</li>
+ * </ul>
+ *
+ * <h3>Activación:</h3>
+ * <p>Solo en aplicaciones reactivas (perfil {@code reactive} del módulo boot); en la pila
+ * servlet responde {@code PriceControllerAdapter}.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see PriceControllerApi
+ * @see PriceReactiveServicePort
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class PriceReactiveControllerAdapter implements PriceControllerApi {
+
+    private final PriceReactiveServicePort priceReactiveServicePort;
+
+    private final ReactivePriceMapper mapper;
+
+    /**
+     * Busca el precio aplicable para una marca y producto en una fecha.
+     *
+     * @param brandId   identificador de la marca
+     * @param productId identificador del producto
+     * @param dateQuery fecha de consulta (ISO 8601 con zona)
+     * @param exchange  petición en curso
+     * @return 200 con el precio, o error {@link PriceNotFoundException} (404) si no hay ninguno
+     */
+    @Override
+    public Mono<ResponseEntity<PriceResponse>> findByBrandProductBetweenDate(Long brandId, Long productId,
+                                                                             OffsetDateTime dateQuery,
+                                                                             ServerWebExchange exchange) {
+        return this.priceReactiveServicePort
+                .findByBrandProductBetweenDate(brandId, productId, dateQuery.toLocalDateTime())
+                .map(price -> ResponseEntity.ok(this.mapper.toResponseDto(price)))
+                .switchIfEmpty(Mono.error(() -> new PriceNotFoundException("No price found for the given parameters")));
+    }
+
+    /**
+     * Busca el precio aplicable de varios productos, con las búsquedas en paralelo.
+     *
+     * <p>Los resultados siguen el orden de la petición; los elementos sin precio se marcan con
+     * {@code found=false}.</p>
+     *
+     * @param bulkPriceRequest búsquedas a resolver (entre 1 y 500)
+     * @param exchange         petición en curso
+     * @return 200 con un {@link BulkPriceResult} por búsqueda
+     */
+    @Override
+    public Mono<ResponseEntity<BulkPriceResponse>> findBulkPrices(Mono<BulkPriceRequest> bulkPriceRequest,
+                                                                  ServerWebExchange exchange) {
+        return bulkPriceRequest.flatMap(request -> {
+            final List<PriceQuery> queries = request.getItems();
+            final List<PriceSearchCriteria> criteria = queries.stream()
+                    .map(query -> PriceSearchCriteria.of(query.getBrandId(), query.getProductId(),
+                            query.getDateQuery().toLocalDateTime()))
+                    .toList();
+            return this.priceReactiveServicePort.findBestPrices(criteria)
+                    .index()
+                    .map(indexed -> {
+                        final PriceQuery query = queries.get(indexed.getT1().intValue());
+                        final var price = indexed.getT2();
+                        return new BulkPriceResult(query.getBrandId(), query.getProductId(), query.getDateQuery(),
+                                price.isPresent())
+                                .price(price.map(this.mapper::toResponseDto).orElse(null));
+                    })
+                    .collectList()
+                    .map(items -> ResponseEntity.ok(new BulkPriceResponse(items)));
+        });
+    }
+}
@@ -0,0 +1,15 @@
+package com.price.manager.driving.reactive.error;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Búsqueda sin precio aplicable. No captura la pila: es un resultado de negocio esperado.
+ */
+@ResponseStatus(value = HttpStatus.NOT_FOUND)
+public class PriceNotFoundException extends RuntimeException {
+
+    public PriceNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
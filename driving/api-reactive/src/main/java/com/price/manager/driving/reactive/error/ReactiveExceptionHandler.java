@@ -0,0 +1,55 @@
+package com.price.manager.driving.reactive.error;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import com.price.manager.driving.reactive.models.Error;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Traduce las excepciones de los controladores WebFlux al mismo {@link Error} que
+ * {@code CustomExceptionHandler} devuelve en la pila servlet.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(PriceNotFoundException.class)
+    protected ResponseEntity<Error> handleNotFound(PriceNotFoundException ex) {
+        return this.error(HttpStatus.NOT_FOUND, "PRICE_NOT_FOUND", ex.getMessage());
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    protected ResponseEntity<Error> handleBind(WebExchangeBindException ex) {
+        return this.error(HttpStatus.BAD_REQUEST, "INVALID_PARAMETER", "Request body must be valid: "
+                + ex.getBindingResult().getFieldErrors().stream()
+                .map(fieldError -> fieldError.getField() + " " + fieldError.getDefaultMessage())
+                .toList());
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    protected ResponseEntity<Error> handleInput(ServerWebInputException ex) {
+        return this.error(HttpStatus.BAD_REQUEST, "INVALID_PARAMETER", ex.getReason());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Error> handleAllExceptions(Exception ex) {
+        return this.error(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR",
+                "An unexpected error occurred: " + ex.getMessage());
+    }
+
+    private ResponseEntity<Error> error(HttpStatus status, String code, String message) {
+        final Error error = new Error();
+        error.setCode(code);
+        error.setMessage(message);
+        error.setTimestamp(OffsetDateTime.now().withNano(0).withOffsetSameInstant(ZoneOffset.UTC));
+        return new ResponseEntity<>(error, status);
+    }
+}
@@ -0,0 +1,134 @@
+package com.price.manager.driving.reactive.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import com.price.manager.application.ports.driving.PriceReactiveServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.driving.reactive.error.PriceNotFoundException;
+import com.price.manager.driving.reactive.mappers.ReactivePriceMapper;
+import com.price.manager.driving.reactive.models.BulkPriceRequest;
+import com.price.manager.driving.reactive.models.PriceQuery;
+import com.price.manager.driving.reactive.models.PriceResponse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Tests unitarios del adaptador WebFlux sin servidor ni base de datos.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Reactive Controller Adapter - Unit Tests")
+class PriceReactiveControllerAdapterTest {
+
+    private static final OffsetDateTime DATE_QUERY = OffsetDateTime.of(2020, 6, 14, 16, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private PriceReactiveServicePort priceReactiveServicePort;
+
+    @Mock
+    private ReactivePriceMapper mapper;
+
+    @InjectMocks
+    private PriceReactiveControllerAdapter adapter;
+
+    private final ServerWebExchange exchange = mock(ServerWebExchange.class);
+
+    @Test
+    @DisplayName("Should emit 200 with the mapped price when the service finds one")
+    void shouldEmitOkWithMappedPrice() {
+        // Given
+        final Price price = createPrice(2L);
+        final PriceResponse response = new PriceResponse().id(2L);
+        when(this.priceReactiveServicePort.findByBrandProductBetweenDate(1L, 35455L, DATE_QUERY.toLocalDateTime()))
+                .thenReturn(Mono.just(price));
+        when(this.mapper.toResponseDto(price)).thenReturn(response);
+
+        // When / Then
+        StepVerifier.create(this.adapter.findByBrandProductBetweenDate(1L, 35455L, DATE_QUERY, this.exchange))
+                .assertNext(entity -> {
+                    assertEquals(HttpStatus.OK, entity.getStatusCode());
+                    assertSame(response, entity.getBody());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should signal PriceNotFoundException when the service completes empty")
+    void shouldSignalNotFoundWhenServiceCompletesEmpty() {
+        // Given
+        when(this.priceReactiveServicePort.findByBrandProductBetweenDate(1L, 99999L, DATE_QUERY.toLocalDateTime()))
+                .thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(this.adapter.findByBrandProductBetweenDate(1L, 99999L, DATE_QUERY, this.exchange))
+                .expectError(PriceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should keep the request order in bulk results and mark missing items as not found")
+    void shouldKeepRequestOrderInBulkResults() {
+        // Given
+        final Price price = createPrice(2L);
+        final PriceResponse response = new PriceResponse().id(2L);
+        final List<PriceSearchCriteria> criteria = List.of(
+                PriceSearchCriteria.of(1L, 35455L, DATE_QUERY.toLocalDateTime()),
+                PriceSearchCriteria.of(1L, 99999L, DATE_QUERY.toLocalDateTime()));
+        when(this.priceReactiveServicePort.findBestPrices(criteria))
+                .thenReturn(Flux.just(Optional.of(price), Optional.empty()));
+        when(this.mapper.toResponseDto(price)).thenReturn(response);
+        final BulkPriceRequest request = new BulkPriceRequest(List.of(
+                new PriceQuery(1L, 35455L, DATE_QUERY), new PriceQuery(1L, 99999L, DATE_QUERY)));
+
+        // When / Then
+        StepVerifier.create(this.adapter.findBulkPrices(Mono.just(request), this.exchange))
+                .assertNext(entity -> {
+                    final var items = entity.getBody().getItems();
+                    assertEquals(2, items.size());
+                    assertTrue(items.get(0).getFound());
+                    assertSame(response, items.get(0).getPrice());
+                    assertEquals(99999L, items.get(1).getProductId());
+                    assertFalse(items.get(1).getFound());
+                    assertNull(items.get(1).getPrice());
+                })
+                .verifyComplete();
+        verify(this.priceReactiveServicePort).findBestPrices(criteria);
+    }
+
+    private static Price createPrice(Long priceList) {
+        return Price.builder()
+                .brandId(1L)
+                .productId(35455L)
+                .priceList(priceList)
+                .price(new BigDecimal("25.45"))
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .priority(1)
+                .curr("EUR")
+                .build();
+    }
+}
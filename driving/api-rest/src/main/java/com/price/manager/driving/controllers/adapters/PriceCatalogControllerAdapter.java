@@ -0,0 +1,123 @@
+package com.price.manager.driving.controllers.adapters;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+
+import com.price.manager.application.ports.driving.PriceCatalogServicePort;
+import com.price.manager.driving.controllers.mappers.PriceMapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Adaptador REST que exporta el precio efectivo de todos los productos de una marca en NDJSON.
+ *
+ * <p>La respuesta se escribe directamente en el flujo de salida con un
+ * {@link StreamingResponseBody}: cada precio ganador se serializa como una línea JSON
+ * ({@code PriceResponse}) en cuanto se resuelve, sin construir la lista completa. La memoria
+ * usada no depende del número de productos de la marca.</p>
+ *
+ * <p>El cuerpo se escribe en una petición asíncrona, así que su duración está limitada por
+ * {@code spring.mvc.async.request-timeout}; el módulo boot lo fija con
+ * {@code price-manager.catalog.stream-timeout} para que el contenedor no corte la exportación
+ * con su valor por defecto (30 s en Tomcat).</p>
+ *
+ * <p><strong>Endpoints Expuestos:</strong></p>
+ * <ul>
+ *   <li><strong>GET</strong> {@code /v1/price/catalog/{brandId}?dateQuery=...}
+ *       ({@code application/x-ndjson})</li>
+ * </ul>
+ *
+ * <p>El endpoint no se genera desde {@code openapi.yaml}: el generador solo sabe devolver
+ * cuerpos completos ({@code ResponseEntity<T>}) y este endpoint necesita escribir en el flujo
+ * de salida mientras recorre el cursor.</p>
+ *
+ * <p><strong>Ejemplo de Petición:</strong></p>
+ * <pre>
+ * GET /v1/price/catalog/1?dateQuery=2020-06-14T16:00:00Z
+ *
+ * Response:
+ * {"id":2,"brandId":1,"price":25.45,"startDate":"2020-06-14T15:00:00Z","endDate":"2020-06-14T18:30:00Z"}
+ * {"id":7,"brandId":1,"price":12.00,"startDate":"2020-06-01T00:00:00Z","endDate":"2020-12-31T23:59:59Z"}
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see PriceCatalogServicePort
+ * @see PriceMapper
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PriceCatalogControllerAdapter {
+
+    /**
+     * Tipo de contenido de la respuesta: una línea JSON por precio.
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final PriceCatalogServicePort priceCatalogServicePort;
+
+    private final PriceMapper mapper;
+
+    /**
+     * Escritor sin vaciado tras cada valor: el generador vacía su búfer cuando se llena.
+     */
+    private final ObjectWriter writer;
+
+    /**
+     * Crea el adaptador.
+     *
+     * @param priceCatalogServicePort puerto de entrada del catálogo
+     * @param mapper                  mapper de dominio a DTO
+     * @param objectMapper            configuración JSON de la aplicación
+     */
+    public PriceCatalogControllerAdapter(PriceCatalogServicePort priceCatalogServicePort, PriceMapper mapper,
+                                         ObjectMapper objectMapper) {
+        this.priceCatalogServicePort = priceCatalogServicePort;
+        this.mapper = mapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Exporta el precio efectivo de cada producto de la marca en la fecha indicada.
+     *
+     * @param brandId   identificador de la marca
+     * @param dateQuery fecha de vigencia en formato ISO 8601 (ej: 2020-06-14T16:00:00Z)
+     * @return 200 OK con una línea JSON por producto; cuerpo vacío si la marca no tiene precios vigentes
+     */
+    @GetMapping(value = "/v1/price/catalog/{brandId}", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCatalog(
+            @PathVariable("brandId") Long brandId,
+            @RequestParam("dateQuery") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime dateQuery) {
+
+        final StreamingResponseBody body = output -> {
+            try (JsonGenerator generator = this.writer.createGenerator(output)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                this.priceCatalogServicePort.streamEffectivePrices(brandId, dateQuery.toLocalDateTime(), price -> {
+                    try {
+                        this.writer.writeValue(generator, this.mapper.toResponseDto(price));
+                        generator.writeRaw('\n');
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body);
+    }
+}
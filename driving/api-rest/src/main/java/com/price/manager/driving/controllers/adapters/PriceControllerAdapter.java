@@ -1,15 +1,28 @@
 package com.price.manager.driving.controllers.adapters;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import com.price.manager.application.diagnostics.RequestStageRecorder;
+import com.price.manager.application.diagnostics.RequestStageRecorder.Stage;
 import com.price.manager.application.ports.driving.PriceServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.domain.quote.PriceQuote;
 import com.price.manager.driving.controllers.api.PriceControllerApi;
-import com.price.manager.driving.controllers.error.PriceNotFoundException;
+import com.price.manager.driving.controllers.cache.PriceHttpCachePolicy;
+import com.price.manager.driving.controllers.error.ErrorResponses;
 import com.price.manager.driving.controllers.mappers.PriceMapper;
+import com.price.manager.driving.controllers.models.BulkPriceRequest;
+import com.price.manager.driving.controllers.models.BulkPriceResponse;
+import com.price.manager.driving.controllers.models.BulkPriceResult;
+import com.price.manager.driving.controllers.models.PriceQuery;
 import com.price.manager.driving.controllers.models.PriceResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -36,6 +49,7 @@ import org.springframework.web.bind.annotation.RestController;
  * <p><strong>Endpoints Expuestos:</strong></p>
  * <ul>
  *   <li><strong>GET</strong> {@code /v1/price/findByBrandProductBetweenDate}</li>
+ *   <li><strong>POST</strong> {@code /v1/price/bulk}</li>
  * </ul>
  *
  * <p><strong>Ejemplo de Petición:</strong></p>
@@ -62,6 +76,7 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class PriceControllerAdapter implements PriceControllerApi {
 
@@ -80,6 +95,11 @@ public class PriceControllerAdapter implements PriceControllerApi {
      */
     private final PriceMapper mapper;
 
+    /**
+     * ETag y Cache-Control de la búsqueda, si {@code price-manager.http-cache.enabled}.
+     */
+    private final PriceHttpCachePolicy httpCachePolicy;
+
     /**
      * Busca el precio aplicable para una marca y producto en una fecha específica.
      *
@@ -101,6 +121,19 @@ public class PriceControllerAdapter implements PriceControllerApi {
      *   <li>{@code LocalDateTime} → {@code OffsetDateTime} en UTC para la respuesta</li>
      * </ul>
      *
+     * <p><strong>Caché HTTP:</strong> con {@link PriceHttpCachePolicy} activa, la respuesta
+     * lleva {@code ETag} y {@code Cache-Control: max-age} hasta el siguiente límite del
+     * producto. Si el {@code If-None-Match} de la petición coincide, Spring MVC responde
+     * 304 sin cuerpo; con la caché de resultados activa, además, sin consultar el
+     * repositorio.</p>
+     *
+     * <p><strong>Sin precio:</strong> el 404 se devuelve como valor, sin lanzar excepción, con
+     * la respuesta preconstruida de {@link ErrorResponses#priceNotFound()}.</p>
+     *
+     * <p><strong>Peticiones lentas:</strong> marca en {@link RequestStageRecorder} la entrada y
+     * la salida del controlador y mide la llamada al servicio y el mapeo al DTO; si la grabación
+     * está desactivada cada marca es una lectura de un campo estático.</p>
+     *
      * <p><strong>Casos de Uso Cubiertos:</strong></p>
      * <ul>
      *   <li><strong>Precio encontrado (200):</strong> Retorna precio aplicable</li>
@@ -118,11 +151,11 @@ public class PriceControllerAdapter implements PriceControllerApi {
      * @return {@link ResponseEntity} con:
      *         <ul>
      *           <li><strong>200 OK:</strong> {@link PriceResponse} con datos del precio</li>
+     *           <li><strong>304 NOT_MODIFIED:</strong> el ETag de {@code If-None-Match} sigue vigente</li>
      *           <li><strong>404 NOT_FOUND:</strong> No se encontró precio aplicable</li>
      *           <li><strong>400 BAD_REQUEST:</strong> Parámetros inválidos</li>
      *         </ul>
      *
-     * @throws PriceNotFoundException   si no se encuentra precio aplicable para los criterios
      * @throws IllegalArgumentException si los parámetros de entrada son inválidos
      *
      * @see #priceServicePort
@@ -135,19 +168,95 @@ public class PriceControllerAdapter implements PriceControllerApi {
     @Override
     public ResponseEntity<PriceResponse> findByBrandProductBetweenDate(Long brandId, Long productId,
                                                                        OffsetDateTime dateQuery) {
+        RequestStageRecorder.enterHandler();
+        try {
+            if (this.httpCachePolicy.isEnabled()) {
+                return this.findCacheable(brandId, productId, dateQuery);
+            }
+            return this.findCurrent(brandId, productId, dateQuery);
+        } finally {
+            RequestStageRecorder.exitHandler();
+        }
+    }
 
+    private ResponseEntity<PriceResponse> findCurrent(Long brandId, Long productId, OffsetDateTime dateQuery) {
+        long started = RequestStageRecorder.start();
         final var price = this.priceServicePort.findByBrandProductBetweenDate(
                 brandId,
                 productId,
                 dateQuery.toLocalDateTime()
         );
+        RequestStageRecorder.stop(Stage.SERVICE, started);
+        if (price == null) {
+            return ErrorResponses.priceNotFound();
+        }
 
+        started = RequestStageRecorder.start();
         final var response = this.mapper.toResponseDto(price);
+        RequestStageRecorder.stop(Stage.DTO_MAPPING, started);
 
         if (response == null) {
-            throw new PriceNotFoundException("No price found for the given parameters");
+            return ErrorResponses.priceNotFound();
         }
 
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    private ResponseEntity<PriceResponse> findCacheable(Long brandId, Long productId, OffsetDateTime dateQuery) {
+        long started = RequestStageRecorder.start();
+        final PriceQuote quote = this.priceServicePort.findQuote(brandId, productId, dateQuery.toLocalDateTime());
+        RequestStageRecorder.stop(Stage.SERVICE, started);
+        if (quote == null) {
+            return ErrorResponses.priceNotFound();
+        }
+        started = RequestStageRecorder.start();
+        final PriceResponse response = this.mapper.toResponseDto(quote.price());
+        RequestStageRecorder.stop(Stage.DTO_MAPPING, started);
+        // Spring MVC compara el ETag con If-None-Match y responde 304 sin serializar el cuerpo
+        return ResponseEntity.ok()
+                .eTag(this.httpCachePolicy.etag(quote.price()))
+                .cacheControl(this.httpCachePolicy.cacheControl(quote))
+                .body(response);
+    }
+
+    /**
+     * Busca el precio aplicable de varios productos en una sola petición.
+     *
+     * <p>Cada elemento se resuelve con las mismas reglas que
+     * {@link #findByBrandProductBetweenDate(Long, Long, OffsetDateTime)}, pero la búsqueda
+     * completa se delega en un único acceso al repositorio. Los resultados siguen el orden
+     * de la petición; los elementos sin precio aplicable se marcan con {@code found=false}
+     * en lugar de responder 404.</p>
+     *
+     * @param bulkPriceRequest búsquedas a resolver (entre 1 y 500)
+     * @return {@link ResponseEntity} 200 OK con un {@link BulkPriceResult} por búsqueda
+     *
+     * @see PriceServicePort#findBestPrices(List)
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public ResponseEntity<BulkPriceResponse> findBulkPrices(BulkPriceRequest bulkPriceRequest) {
+        final List<PriceQuery> queries = bulkPriceRequest.getItems();
+        final List<PriceSearchCriteria> criteria = queries.stream()
+                .map(query -> PriceSearchCriteria.of(query.getBrandId(), query.getProductId(),
+                        query.getDateQuery().toLocalDateTime()))
+                .toList();
+
+        final List<Price> prices = this.priceServicePort.findBestPrices(criteria);
+
+        final List<BulkPriceResult> items = new ArrayList<>(queries.size());
+        int found = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            final PriceQuery query = queries.get(i);
+            final Price price = prices.get(i);
+            if (price != null) {
+                found++;
+            }
+            items.add(new BulkPriceResult(query.getBrandId(), query.getProductId(), query.getDateQuery(), price != null)
+                    .price(this.mapper.toResponseDto(price)));
+        }
+        log.debug("Resolved bulk price request: {} items, {} found", items.size(), found);
+        return new ResponseEntity<>(new BulkPriceResponse(items), HttpStatus.OK);
+    }
 }
@@ -0,0 +1,114 @@
+package com.price.manager.driving.controllers.adapters;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.price.manager.application.ports.driving.PriceIngestServicePort;
+import com.price.manager.domain.Price;
+import com.price.manager.domain.ingest.PriceIngestResult;
+import com.price.manager.driving.controllers.mappers.PriceRowParser;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Adaptador REST para la carga masiva de precios en CSV o NDJSON.
+ *
+ * <p>El cuerpo se lee línea a línea desde el flujo de entrada y cada línea se convierte en
+ * un {@link Price} con {@link PriceRowParser} conforme el caso de uso la consume, así que la
+ * petición nunca se carga entera en memoria. Las líneas en blanco se ignoran y, en CSV, la
+ * cabecera {@value PriceRowParser#CSV_HEADER} es opcional.</p>
+ *
+ * <p><strong>Endpoints Expuestos:</strong></p>
+ * <ul>
+ *   <li><strong>POST</strong> {@code /v1/price/ingest} ({@code text/csv})</li>
+ *   <li><strong>POST</strong> {@code /v1/price/ingest} ({@code application/x-ndjson})</li>
+ * </ul>
+ *
+ * <p>Como el catálogo en NDJSON, el endpoint no se genera desde {@code openapi.yaml}: el
+ * generador lee el cuerpo completo antes de invocar al controlador.</p>
+ *
+ * <p><strong>Ejemplo de Petición:</strong></p>
+ * <pre>
+ * POST /v1/price/ingest
+ * Content-Type: text/csv
+ *
+ * brandId,productId,startDate,endDate,priority,price,curr
+ * 1,35455,2020-07-01T00:00:00,2020-07-31T23:59:59,2,29.95,EUR
+ *
+ * Response:
+ * {"accepted":1,"rejected":0,"chunks":1,"rejectedRows":[]}
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ *
+ * @see PriceIngestServicePort
+ * @see PriceRowParser
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class PriceIngestControllerAdapter {
+
+    /**
+     * Tipo de contenido CSV.
+     */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final PriceIngestServicePort priceIngestServicePort;
+
+    private final PriceRowParser parser;
+
+    /**
+     * Carga precios en CSV.
+     *
+     * @param body cuerpo de la petición
+     * @return 200 OK con el resumen de la carga
+     * @throws IOException si falla la lectura del cuerpo
+     */
+    @PostMapping(value = "/v1/price/ingest", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<PriceIngestResult> ingestCsv(InputStream body) throws IOException {
+        try (BufferedReader reader = reader(body)) {
+            final String first = reader.readLine();
+            if (first == null) {
+                return this.ingest(Stream.empty(), this.parser::fromCsv);
+            }
+            final Stream<String> lines = this.parser.isCsvHeader(first)
+                    ? reader.lines()
+                    : Stream.concat(Stream.of(first), reader.lines());
+            return this.ingest(lines, this.parser::fromCsv);
+        }
+    }
+
+    /**
+     * Carga precios en NDJSON, un objeto JSON por línea.
+     *
+     * @param body cuerpo de la petición
+     * @return 200 OK con el resumen de la carga
+     * @throws IOException si falla la lectura del cuerpo
+     */
+    @PostMapping(value = "/v1/price/ingest", consumes = PriceCatalogControllerAdapter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PriceIngestResult> ingestNdjson(InputStream body) throws IOException {
+        try (BufferedReader reader = reader(body)) {
+            return this.ingest(reader.lines(), this.parser::fromJson);
+        }
+    }
+
+    private ResponseEntity<PriceIngestResult> ingest(Stream<String> lines, Function<String, Price> rowParser) {
+        return ResponseEntity.ok(this.priceIngestServicePort.ingest(
+                lines.filter(line -> !line.isBlank()).map(rowParser)));
+    }
+
+    private static BufferedReader reader(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package com.price.manager.driving.controllers.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.quote.PriceQuote;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cabeceras de caché HTTP de la búsqueda de precio.
+ *
+ * <p><strong>ETag:</strong> {@code priceList} del ganador seguido de una huella de la fila
+ * (marca, producto, vigencia, prioridad, importe y moneda). La tabla no tiene columna de
+ * versión, así que la huella hace ese papel: si una carga masiva modifica la fila, el ETag
+ * cambia. Es estable entre instancias, de modo que un CDN puede revalidar contra cualquiera.</p>
+ *
+ * <p><strong>Cache-Control:</strong> {@code public, max-age} con el tiempo que queda hasta el
+ * siguiente límite del producto ({@link PriceQuote#validUntil()}), acotado por
+ * {@code max-age}. Si el límite ya pasó (consulta histórica) la respuesta no caduca por
+ * tiempo y se usa directamente {@code max-age}, que acota lo que tarda en verse una carga
+ * masiva.</p>
+ *
+ * <h3>Configuración:</h3>
+ * <pre>
+ * price-manager:
+ *   http-cache:
+ *     enabled: true
+ *     max-age: 5m
+ * </pre>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.price.manager.driving.controllers.adapters.PriceControllerAdapter
+ */
+@Component
+public class PriceHttpCachePolicy {
+
+    private final boolean enabled;
+
+    private final long maxAgeSeconds;
+
+    private final Clock clock;
+
+    /**
+     * Crea la política con el reloj del sistema en UTC, la zona de las fechas de precio.
+     *
+     * @param enabled si la búsqueda devuelve cabeceras de caché
+     * @param maxAge  tiempo máximo de caché de una respuesta
+     */
+    @Autowired
+    public PriceHttpCachePolicy(@Value("${price-manager.http-cache.enabled:false}") boolean enabled,
+                                @Value("${price-manager.http-cache.max-age:5m}") Duration maxAge) {
+        this(enabled, maxAge, Clock.systemUTC());
+    }
+
+    /**
+     * Crea la política.
+     *
+     * @param enabled si la búsqueda devuelve cabeceras de caché
+     * @param maxAge  tiempo máximo de caché de una respuesta; no puede ser negativo
+     * @param clock   reloj con el que se mide el tiempo hasta el siguiente límite
+     * @throws IllegalArgumentException si {@code maxAge} es negativo
+     */
+    public PriceHttpCachePolicy(boolean enabled, Duration maxAge, Clock clock) {
+        if (maxAge.isNegative()) {
+            throw new IllegalArgumentException("HTTP cache max-age must not be negative: " + maxAge);
+        }
+        this.enabled = enabled;
+        this.maxAgeSeconds = maxAge.getSeconds();
+        this.clock = clock;
+    }
+
+    /**
+     * Indica si la búsqueda debe devolver ETag y Cache-Control.
+     *
+     * @return {@code true} si {@code price-manager.http-cache.enabled}
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * ETag fuerte del precio, sin comillas.
+     *
+     * <p>El importe entra en la huella por su valor y no por su escala ({@code 35.5} y {@code 35.50}
+     * dan el mismo ETag), porque la respuesta JSON no depende de cómo lo devuelva el repositorio.</p>
+     *
+     * @param price precio ganador
+     * @return {@code <priceList>-<huella>}
+     */
+    public String etag(Price price) {
+        final String amount = price.getPrice() == null ? null : price.getPrice().stripTrailingZeros().toPlainString();
+        final int fingerprint = Objects.hash(price.getBrandId(), price.getProductId(), price.getStartDate(),
+                price.getEndDate(), price.getPriority(), amount, price.getCurr());
+        return price.getPriceList() + "-" + Integer.toHexString(fingerprint);
+    }
+
+    /**
+     * Cache-Control de la respuesta.
+     *
+     * @param quote precio y siguiente límite
+     * @return {@code public, max-age=<segundos>}
+     */
+    public CacheControl cacheControl(PriceQuote quote) {
+        final long remainingSeconds = Duration.between(LocalDateTime.now(this.clock), quote.validUntil()).getSeconds();
+        final long maxAge = remainingSeconds < 0 ? this.maxAgeSeconds : Math.min(remainingSeconds, this.maxAgeSeconds);
+        return CacheControl.maxAge(maxAge, TimeUnit.SECONDS).cachePublic();
+    }
+}
@@ -3,10 +3,16 @@ package com.price.manager.driving.controllers.error;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 
+import com.price.manager.application.decorators.BulkheadFullException;
+import com.price.manager.application.decorators.MicroBatchTimeoutException;
 import com.price.manager.driving.controllers.models.Error;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
@@ -14,6 +20,7 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(PriceNotFoundException.class)
@@ -26,6 +33,22 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    // Respuesta preconstruida: bajo saturación no se crea ni serializa un Error por petición
+    @ExceptionHandler(BulkheadFullException.class)
+    protected ResponseEntity<Object> handleBulkheadFull(BulkheadFullException ex, WebRequest request) {
+        return ErrorResponses.serviceBusy();
+    }
+
+    @ExceptionHandler(MicroBatchTimeoutException.class)
+    protected ResponseEntity<Error> handleMicroBatchTimeout(MicroBatchTimeoutException ex, WebRequest request) {
+        final Error error = new Error();
+        error.setCode("LOOKUP_TIMEOUT");
+        error.setMessage(ex.getMessage());
+        error.setTimestamp(this.nowToUtcOffsetDateTime());
+
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(NumberFormatException.class)
     protected ResponseEntity<Error> handleNumberFormat(NumberFormatException ex, WebRequest request) {
         final Error error = new Error();
@@ -46,6 +69,19 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers,
+                                                                  HttpStatusCode status, WebRequest request) {
+        final Error error = new Error();
+        error.setCode("INVALID_PARAMETER");
+        error.setMessage("Request body must be valid: " + ex.getBindingResult().getFieldErrors().stream()
+                .map(fieldError -> fieldError.getField() + " " + fieldError.getDefaultMessage())
+                .toList());
+        error.setTimestamp(this.nowToUtcOffsetDateTime());
+
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Error> handleAllExceptions(Exception ex, WebRequest request) {
         final Error error = new Error();
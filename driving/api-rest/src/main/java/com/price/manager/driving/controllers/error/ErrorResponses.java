@@ -0,0 +1,109 @@
+package com.price.manager.driving.controllers.error;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Respuestas de error frecuentes, construidas y serializadas una sola vez.
+ *
+ * <p>Un 404 por producto desconocido o un 503 por bulkhead lleno no crean excepción, ni
+ * {@code Error}, ni pasan por Jackson: se devuelve siempre la misma {@link ResponseEntity}
+ * (de solo lectura) con el JSON ya en bytes. El cuerpo es un {@link Resource} que entrega una
+ * copia de lectura de esos bytes en cada escritura, así que ninguna petición puede alterarlos.
+ * Los cuerpos siguen el esquema {@code Error} de {@code openapi.yaml} sin {@code timestamp},
+ * que es opcional.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CustomExceptionHandler
+ */
+public final class ErrorResponses {
+
+    /**
+     * Mensaje de la respuesta 404 de la búsqueda de precio.
+     */
+    public static final String PRICE_NOT_FOUND_MESSAGE = "No price found for the given parameters";
+
+    /**
+     * Mensaje de la respuesta 503 cuando el bulkhead del repositorio está lleno.
+     */
+    public static final String SERVICE_BUSY_MESSAGE = "Price repository is saturated, retry later";
+
+    private static final ResponseEntity<Object> PRICE_NOT_FOUND =
+            json(HttpStatus.NOT_FOUND, "PRICE_NOT_FOUND", PRICE_NOT_FOUND_MESSAGE);
+
+    private static final ResponseEntity<Object> SERVICE_BUSY =
+            json(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_BUSY", SERVICE_BUSY_MESSAGE);
+
+    private ErrorResponses() {
+    }
+
+    /**
+     * 404 {@code PRICE_NOT_FOUND}, con el tipo de la interfaz generada del controlador.
+     *
+     * <p>{@code PriceControllerApi} declara {@code ResponseEntity<PriceResponse>} para todas
+     * las respuestas, pero el cuerpo es el {@link Resource} del JSON de error: solo se puede
+     * devolver a Spring MVC, que elige el conversor por la clase real del cuerpo, nunca leer
+     * con {@code getBody()} como {@code T}.</p>
+     *
+     * @param <T> tipo de cuerpo declarado por el controlador
+     * @return respuesta compartida
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ResponseEntity<T> priceNotFound() {
+        return (ResponseEntity<T>) (ResponseEntity<?>) PRICE_NOT_FOUND;
+    }
+
+    /**
+     * 503 {@code SERVICE_BUSY}.
+     *
+     * @return respuesta compartida
+     */
+    public static ResponseEntity<Object> serviceBusy() {
+        return SERVICE_BUSY;
+    }
+
+    private static ResponseEntity<Object> json(HttpStatus status, String code, String message) {
+        // Código y mensaje son constantes sin caracteres que escapar en JSON
+        final JsonBody body = new JsonBody(("{\"code\":\"" + code + "\",\"message\":\"" + message + "\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.contentLength())
+                .body(body);
+    }
+
+    /**
+     * JSON ya serializado; no expone el array, solo flujos de lectura sobre él.
+     */
+    private static final class JsonBody extends AbstractResource {
+
+        private final byte[] bytes;
+
+        private JsonBody(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(this.bytes);
+        }
+
+        @Override
+        public long contentLength() {
+            return this.bytes.length;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Pre-serialized error body";
+        }
+    }
+}
@@ -3,10 +3,17 @@ package com.price.manager.driving.controllers.error;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * Búsqueda sin precio aplicable.
+ *
+ * <p>{@code PriceControllerAdapter} ya no la lanza (responde con
+ * {@link ErrorResponses#priceNotFound()}); se mantiene para otros llamadores y no captura la
+ * pila, que no aporta nada en un resultado de negocio esperado.</p>
+ */
 @ResponseStatus(value = HttpStatus.NOT_FOUND)
 public class PriceNotFoundException extends RuntimeException {
 
     public PriceNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,154 @@
+package com.price.manager.driving.controllers.mappers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import com.price.manager.domain.Price;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Convierte las filas de una carga masiva (CSV o NDJSON) en precios de dominio.
+ *
+ * <p>Columnas/campos: {@code brandId, productId, startDate, endDate, priority, price, curr}.
+ * Las fechas van en ISO 8601, con o sin zona ({@code 2020-06-14T15:00:00} o
+ * {@code 2020-06-14T15:00:00Z}); la zona se descarta igual que en {@code dateQuery}.</p>
+ *
+ * <p>El parser es tolerante: un valor que no se puede leer queda a {@code null} y una fila
+ * mal formada produce un precio vacío. En ambos casos {@link Price#isConsistent()} devuelve
+ * {@code false} y el caso de uso rechaza la fila sin detener la carga.</p>
+ *
+ * <p>Los valores que no caben en sus columnas de PRICES también quedan a {@code null}:
+ * {@code BRAND_ID} y {@code PRODUCT_ID} son {@code INT} y {@code CURR} es {@code VARCHAR(3)}.
+ * Así se rechazan con el resto de filas inválidas en lugar de fallar dentro del bloque, después
+ * de haber confirmado los anteriores.</p>
+ *
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceRowParser {
+
+    /**
+     * Cabecera CSV esperada (opcional en la carga).
+     */
+    public static final String CSV_HEADER = "brandId,productId,startDate,endDate,priority,price,curr";
+
+    private static final int CSV_COLUMNS = 7;
+
+    /**
+     * Longitud de la columna {@code CURR}.
+     */
+    private static final int CURR_LENGTH = 3;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Indica si la línea es la cabecera CSV.
+     *
+     * @param line primera línea de la carga
+     * @return {@code true} si empieza por el nombre de la primera columna
+     */
+    public boolean isCsvHeader(String line) {
+        return line.strip().regionMatches(true, 0, "brandId", 0, "brandId".length());
+    }
+
+    /**
+     * Convierte una línea CSV.
+     *
+     * @param line línea con las siete columnas separadas por comas
+     * @return precio, posiblemente incompleto
+     */
+    public Price fromCsv(String line) {
+        final String[] columns = line.split(",", -1);
+        if (columns.length != CSV_COLUMNS) {
+            return Price.builder().build();
+        }
+        return Price.builder()
+                .brandId(parseId(columns[0]))
+                .productId(parseId(columns[1]))
+                .startDate(parseDate(columns[2]))
+                .endDate(parseDate(columns[3]))
+                .priority(parseInteger(columns[4]))
+                .price(parseDecimal(columns[5]))
+                .curr(parseCurrency(columns[6]))
+                .build();
+    }
+
+    /**
+     * Convierte una línea NDJSON.
+     *
+     * @param line objeto JSON con los siete campos
+     * @return precio, posiblemente incompleto
+     */
+    public Price fromJson(String line) {
+        final JsonNode node;
+        try {
+            node = this.objectMapper.readTree(line);
+        } catch (final JsonProcessingException ex) {
+            return Price.builder().build();
+        }
+        if (node == null || !node.isObject()) {
+            return Price.builder().build();
+        }
+        return Price.builder()
+                .brandId(parseId(text(node, "brandId")))
+                .productId(parseId(text(node, "productId")))
+                .startDate(parseDate(text(node, "startDate")))
+                .endDate(parseDate(text(node, "endDate")))
+                .priority(parseInteger(text(node, "priority")))
+                .price(parseDecimal(text(node, "price")))
+                .curr(parseCurrency(text(node, "curr")))
+                .build();
+    }
+
+    private static String text(JsonNode node, String field) {
+        final JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static Long parseId(String value) {
+        try {
+            final Long id = value == null ? null : Long.valueOf(value.strip());
+            return id == null || id > Integer.MAX_VALUE ? null : id;
+        } catch (final NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static String parseCurrency(String value) {
+        final String currency = value == null ? null : value.strip();
+        return currency == null || currency.length() > CURR_LENGTH ? null : currency;
+    }
+
+    private static Integer parseInteger(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value.strip());
+        } catch (final NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        try {
+            return value == null ? null : new BigDecimal(value.strip());
+        } catch (final NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        try {
+            return value == null ? null : LocalDateTime.parse(value.strip(), DateTimeFormatter.ISO_DATE_TIME);
+        } catch (final DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.price.manager.driving.controllers.adapters;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.verify;
@@ -14,12 +18,20 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import com.price.manager.application.ports.driving.PriceServicePort;
 import com.price.manager.domain.Price;
-import com.price.manager.driving.controllers.error.PriceNotFoundException;
+import com.price.manager.domain.criteria.PriceSearchCriteria;
+import com.price.manager.domain.quote.PriceQuote;
+import com.price.manager.driving.controllers.cache.PriceHttpCachePolicy;
+import com.price.manager.driving.controllers.error.ErrorResponses;
 import com.price.manager.driving.controllers.mappers.PriceMapper;
+import com.price.manager.driving.controllers.models.BulkPriceRequest;
+import com.price.manager.driving.controllers.models.PriceQuery;
 import com.price.manager.driving.controllers.models.PriceResponse;
 import com.price.manager.driving.controllers.utils.PriceMocks;
 
@@ -33,6 +45,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 
 /**
@@ -49,6 +62,9 @@ class PriceControllerAdapterTest {
     @Mock
     private PriceMapper priceMapper;
 
+    @Mock
+    private PriceHttpCachePolicy httpCachePolicy;
+
     @InjectMocks
     private PriceControllerAdapter priceControllerAdapter;
 
@@ -166,8 +182,8 @@ class PriceControllerAdapterTest {
     }
 
     @Test
-    @DisplayName("Should throw PriceNotFoundException when service returns null")
-    void shouldThrowPriceNotFoundExceptionWhenServiceReturnsNull() {
+    @DisplayName("Should return the pre-built 404 without mapping when service returns null")
+    void shouldReturnNotFoundResponseWhenServiceReturnsNull() {
         // Given
         final var brandId = 1L;
         final var productId = 35455L;
@@ -175,24 +191,22 @@ class PriceControllerAdapterTest {
 
         when(this.priceServicePort.findByBrandProductBetweenDate(brandId, productId, dateQuery.toLocalDateTime()))
                 .thenReturn(null);
-        when(this.priceMapper.toResponseDto(null))
-                .thenReturn(null);
 
-        // When & Then
-        final var exception = assertThrows(PriceNotFoundException.class, () ->
-                        this.priceControllerAdapter.findByBrandProductBetweenDate(brandId, productId, dateQuery),
-                "Should throw PriceNotFoundException when service returns null");
+        // When
+        final var response = this.priceControllerAdapter.findByBrandProductBetweenDate(brandId, productId,
+                dateQuery);
 
-        assertEquals("No price found for the given parameters", exception.getMessage(),
-                "Exception message should be specific");
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode(), "Should return NOT_FOUND status");
+        assertSame(ErrorResponses.priceNotFound(), response, "Should reuse the pre-built 404 response");
 
         verify(this.priceServicePort).findByBrandProductBetweenDate(brandId, productId, dateQuery.toLocalDateTime());
-        verify(this.priceMapper).toResponseDto(null);
+        verifyNoInteractions(this.priceMapper);
     }
 
     @Test
-    @DisplayName("Should throw PriceNotFoundException when mapper returns null")
-    void shouldThrowPriceNotFoundExceptionWhenMapperReturnsNull() {
+    @DisplayName("Should return the pre-built 404 when mapper returns null")
+    void shouldReturnNotFoundResponseWhenMapperReturnsNull() {
         // Given
         final var brandId = 1L;
         final var productId = 35455L;
@@ -203,13 +217,13 @@ class PriceControllerAdapterTest {
         when(this.priceMapper.toResponseDto(this.testDomainPrice))
                 .thenReturn(null); // Mapper falla y retorna null
 
-        // When & Then
-        final var exception = assertThrows(PriceNotFoundException.class, () ->
-                        this.priceControllerAdapter.findByBrandProductBetweenDate(brandId, productId, dateQuery),
-                "Should throw PriceNotFoundException when mapper returns null");
+        // When
+        final var response = this.priceControllerAdapter.findByBrandProductBetweenDate(brandId, productId,
+                dateQuery);
 
-        assertEquals("No price found for the given parameters", exception.getMessage(),
-                "Exception message should be consistent");
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode(), "Should return NOT_FOUND status");
+        assertSame(ErrorResponses.priceNotFound(), response, "Should reuse the pre-built 404 response");
 
         verify(this.priceServicePort).findByBrandProductBetweenDate(brandId, productId, dateQuery.toLocalDateTime());
         verify(this.priceMapper).toResponseDto(this.testDomainPrice);
@@ -251,12 +265,13 @@ class PriceControllerAdapterTest {
 
         when(this.priceServicePort.findByBrandProductBetweenDate(brandId, productId, expectedLocalDateTime))
                 .thenReturn(null);
-        when(this.priceMapper.toResponseDto(null))
-                .thenReturn(null);
 
-        // When & Then
-        assertThrows(PriceNotFoundException.class, () ->
-                this.priceControllerAdapter.findByBrandProductBetweenDate(brandId, productId, offsetDateTime));
+        // When
+        final var response = this.priceControllerAdapter.findByBrandProductBetweenDate(brandId, productId,
+                offsetDateTime);
+
+        // Then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
 
         // Verify that exact LocalDateTime conversion happened
         verify(this.priceServicePort).findByBrandProductBetweenDate(brandId, productId, expectedLocalDateTime);
@@ -298,12 +313,11 @@ class PriceControllerAdapterTest {
 
         when(this.priceServicePort.findByBrandProductBetweenDate(anyLong(), anyLong(), any(LocalDateTime.class)))
                 .thenReturn(null);
-        when(this.priceMapper.toResponseDto(null))
-                .thenReturn(null);
 
         // When
-        assertThrows(PriceNotFoundException.class, () ->
-                this.priceControllerAdapter.findByBrandProductBetweenDate(brandId, productId, dateQuery));
+        final var response = this.priceControllerAdapter.findByBrandProductBetweenDate(brandId, productId,
+                dateQuery);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
 
         // Then - Verify exact parameters were passed
         verify(this.priceServicePort).findByBrandProductBetweenDate(
@@ -336,4 +350,76 @@ class PriceControllerAdapterTest {
         verify(this.priceServicePort).findByBrandProductBetweenDate(brandId, productId, dateQuery.toLocalDateTime());
         verifyNoInteractions(this.priceMapper);
     }
+
+    @Test
+    @DisplayName("Should resolve bulk lookups in request order with not-found markers")
+    void shouldResolveBulkLookupsInRequestOrderWithNotFoundMarkers() {
+        // Given
+        final var dateQuery = OffsetDateTime.of(2020, 6, 14, 10, 0, 0, 0, ZoneOffset.UTC);
+        final var request = new BulkPriceRequest(List.of(
+                new PriceQuery(1L, 35455L, dateQuery),
+                new PriceQuery(1L, 99999L, dateQuery)));
+        final var criteria = List.of(
+                PriceSearchCriteria.of(1L, 35455L, dateQuery.toLocalDateTime()),
+                PriceSearchCriteria.of(1L, 99999L, dateQuery.toLocalDateTime()));
+
+        when(this.priceServicePort.findBestPrices(criteria)).thenReturn(Arrays.asList(this.testDomainPrice, null));
+        when(this.priceMapper.toResponseDto(this.testDomainPrice)).thenReturn(this.testResponse);
+
+        // When
+        final var response = this.priceControllerAdapter.findBulkPrices(request);
+
+        // Then - un único acceso al servicio y un resultado por elemento
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        final var items = response.getBody().getItems();
+        assertEquals(2, items.size());
+        assertTrue(items.get(0).getFound());
+        assertEquals(this.testResponse, items.get(0).getPrice());
+        assertEquals(35455L, items.get(0).getProductId());
+        assertFalse(items.get(1).getFound());
+        assertNull(items.get(1).getPrice());
+        assertEquals(99999L, items.get(1).getProductId());
+        assertEquals(dateQuery, items.get(1).getDateQuery());
+        verify(this.priceServicePort).findBestPrices(criteria);
+        verifyNoMoreInteractions(this.priceServicePort);
+    }
+
+    @Test
+    @DisplayName("Should add ETag and Cache-Control from the quote when HTTP caching is enabled")
+    void shouldAddCachingHeadersWhenEnabled() {
+        // Given
+        final var dateQuery = OffsetDateTime.of(2020, 6, 14, 16, 0, 0, 0, ZoneOffset.UTC);
+        final var quote = new PriceQuote(this.testDomainPrice, LocalDateTime.of(2020, 6, 14, 18, 30));
+        when(this.httpCachePolicy.isEnabled()).thenReturn(true);
+        when(this.priceServicePort.findQuote(1L, 35455L, dateQuery.toLocalDateTime())).thenReturn(quote);
+        when(this.httpCachePolicy.etag(this.testDomainPrice)).thenReturn("2-abc");
+        when(this.httpCachePolicy.cacheControl(quote)).thenReturn(CacheControl.maxAge(60, TimeUnit.SECONDS));
+        when(this.priceMapper.toResponseDto(this.testDomainPrice)).thenReturn(this.testResponse);
+
+        // When
+        final var response = this.priceControllerAdapter.findByBrandProductBetweenDate(1L, 35455L, dateQuery);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"2-abc\"", response.getHeaders().getETag());
+        assertEquals("max-age=60", response.getHeaders().getCacheControl());
+        assertEquals(this.testResponse, response.getBody());
+        verifyNoMoreInteractions(this.priceServicePort);
+    }
+
+    @Test
+    @DisplayName("Should return the pre-built 404 when HTTP caching is enabled and there is no quote")
+    void shouldReturnNotFoundWhenCacheableLookupFindsNothing() {
+        // Given
+        final var dateQuery = OffsetDateTime.of(2020, 6, 14, 16, 0, 0, 0, ZoneOffset.UTC);
+        when(this.httpCachePolicy.isEnabled()).thenReturn(true);
+
+        // When
+        final var response = this.priceControllerAdapter.findByBrandProductBetweenDate(1L, 35455L, dateQuery);
+
+        // Then
+        assertSame(ErrorResponses.priceNotFound(), response);
+        assertNull(response.getHeaders().getETag(), "A 404 should not carry an ETag");
+        verifyNoInteractions(this.priceMapper);
+    }
 }
@@ -0,0 +1,107 @@
+package com.price.manager.driving.controllers.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.price.manager.domain.Price;
+import com.price.manager.domain.quote.PriceQuote;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests unitarios de las cabeceras de caché HTTP de la búsqueda de precio.
+ */
+@DisplayName("Price HTTP Cache Policy - Unit Tests")
+class PriceHttpCachePolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private final PriceHttpCachePolicy policy = new PriceHttpCachePolicy(true, Duration.ofMinutes(5),
+            Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("ETag should start with the price list and change when the row changes")
+    void etagShouldIdentifyPriceListAndRowContent() {
+        // Given
+        final Price price = createPrice(new BigDecimal("25.45"));
+
+        // When
+        final String etag = this.policy.etag(price);
+
+        // Then
+        assertTrue(etag.startsWith("2-"));
+        assertEquals(etag, this.policy.etag(createPrice(new BigDecimal("25.45"))));
+        assertNotEquals(etag, this.policy.etag(createPrice(new BigDecimal("24.99"))));
+    }
+
+    @Test
+    @DisplayName("ETag should not depend on the scale of the amount")
+    void etagShouldIgnoreAmountScale() {
+        // When & Then - H2 (DOUBLE) y los adaptadores en memoria pueden devolver escalas distintas
+        assertEquals(this.policy.etag(createPrice(new BigDecimal("35.5"))),
+                this.policy.etag(createPrice(new BigDecimal("35.50"))));
+        assertEquals(this.policy.etag(createPrice(new BigDecimal("30"))),
+                this.policy.etag(createPrice(new BigDecimal("3E+1"))));
+    }
+
+    @Test
+    @DisplayName("max-age should be the time left until the next boundary when it is below the ceiling")
+    void maxAgeShouldFollowNextBoundary() {
+        // Given
+        final PriceQuote quote = new PriceQuote(createPrice(BigDecimal.TEN), NOW.plusSeconds(90));
+
+        // When / Then
+        assertEquals("max-age=90, public", this.policy.cacheControl(quote).getHeaderValue());
+    }
+
+    @Test
+    @DisplayName("max-age should be capped by the configured ceiling")
+    void maxAgeShouldBeCapped() {
+        // Given
+        final PriceQuote quote = new PriceQuote(createPrice(BigDecimal.TEN), NOW.plusDays(1));
+
+        // When / Then
+        assertEquals("max-age=300, public", this.policy.cacheControl(quote).getHeaderValue());
+    }
+
+    @Test
+    @DisplayName("Historical quotes should use the ceiling, as time no longer changes them")
+    void historicalQuoteShouldUseCeiling() {
+        // Given
+        final PriceQuote quote = new PriceQuote(createPrice(BigDecimal.TEN), NOW.minusDays(1));
+
+        // When / Then
+        assertEquals("max-age=300, public", this.policy.cacheControl(quote).getHeaderValue());
+    }
+
+    @Test
+    @DisplayName("Should reject a negative ceiling")
+    void shouldRejectNegativeCeiling() {
+        final Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+        final Duration negative = Duration.ofSeconds(-1);
+        assertThrows(IllegalArgumentException.class, () -> new PriceHttpCachePolicy(true, negative, clock));
+    }
+
+    private static Price createPrice(BigDecimal amount) {
+        return Price.builder()
+                .brandId(1L)
+                .productId(35455L)
+                .priceList(2L)
+                .priority(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .price(amount)
+                .curr("EUR")
+                .build();
+    }
+}
@@ -2,10 +2,13 @@ package com.price.manager.driving.controllers.error;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.ZoneOffset;
 
+import com.price.manager.application.decorators.BulkheadFullException;
+import com.price.manager.application.decorators.MicroBatchTimeoutException;
 import com.price.manager.driving.controllers.models.Error;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
@@ -53,6 +60,34 @@ class CustomExceptionHandlerTest {
         assertEquals(ZoneOffset.UTC, response.getBody().getTimestamp().getOffset());
     }
 
+    @Test
+    void handleBulkheadFullShouldReturnPreBuiltServiceUnavailableResponse() {
+        // Given
+        final BulkheadFullException exception = new BulkheadFullException("Price repository is saturated");
+
+        // When
+        final ResponseEntity<Object> response = this.exceptionHandler.handleBulkheadFull(exception, this.webRequest);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertSame(ErrorResponses.serviceBusy(), response);
+    }
+
+    @Test
+    void handleMicroBatchTimeoutShouldReturnServiceUnavailableWithItsOwnCode() {
+        // Given
+        final MicroBatchTimeoutException exception = new MicroBatchTimeoutException("No price lookup batch result within PT10S");
+
+        // When
+        final ResponseEntity<Error> response = this.exceptionHandler.handleMicroBatchTimeout(exception, this.webRequest);
+
+        // Then - no se confunde con la saturación del bulkhead
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("LOOKUP_TIMEOUT", response.getBody().getCode());
+        assertEquals(exception.getMessage(), response.getBody().getMessage());
+    }
+
     @Test
     void handleNumberFormatShouldReturnBadRequestErrorResponse() {
         // Given
@@ -97,6 +132,27 @@ class CustomExceptionHandlerTest {
         assertEquals(ZoneOffset.UTC, response.getBody().getTimestamp().getOffset());
     }
 
+    @Test
+    void handleMethodArgumentNotValidShouldReturnBadRequestErrorResponse() {
+        // Given
+        final BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "bulkPriceRequest");
+        bindingResult.addError(new FieldError("bulkPriceRequest", "items",
+                "size must be between 1 and 500"));
+        final MethodArgumentNotValidException exception = new MethodArgumentNotValidException(this.methodParameter, bindingResult);
+
+        // When
+        final ResponseEntity<Object> response = this.exceptionHandler.handleMethodArgumentNotValid(
+                exception, new HttpHeaders(), HttpStatus.BAD_REQUEST, this.webRequest);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        final Error error = (Error) response.getBody();
+        assertNotNull(error);
+        assertEquals("INVALID_PARAMETER", error.getCode());
+        assertEquals("Request body must be valid: [items size must be between 1 and 500]", error.getMessage());
+        assertEquals(ZoneOffset.UTC, error.getTimestamp().getOffset());
+    }
+
     @Test
     void handleAllExceptionsShouldReturnInternalServerErrorResponse() {
         // Given
@@ -0,0 +1,88 @@
+package com.price.manager.driving.controllers.error;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.InputStream;
+
+import com.price.manager.driving.controllers.models.Error;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+@DisplayName("Error Responses - Unit Tests")
+class ErrorResponsesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Price not found should be a shared 404 whose body matches the Error schema")
+    void priceNotFoundShouldBeSharedAndMatchErrorSchema() throws Exception {
+        // When
+        final ResponseEntity<Object> response = ErrorResponses.priceNotFound();
+
+        // Then
+        assertSame(response, ErrorResponses.priceNotFound());
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        final Error error = this.read(response);
+        assertEquals("PRICE_NOT_FOUND", error.getCode());
+        assertEquals(ErrorResponses.PRICE_NOT_FOUND_MESSAGE, error.getMessage());
+        assertNull(error.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("Service busy should be a shared 503 whose body matches the Error schema")
+    void serviceBusyShouldBeSharedAndMatchErrorSchema() throws Exception {
+        // When
+        final ResponseEntity<Object> response = ErrorResponses.serviceBusy();
+
+        // Then
+        assertSame(response, ErrorResponses.serviceBusy());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        final Error error = this.read(response);
+        assertEquals("SERVICE_BUSY", error.getCode());
+        assertEquals(ErrorResponses.SERVICE_BUSY_MESSAGE, error.getMessage());
+    }
+
+    @Test
+    @DisplayName("Shared bodies should hand out a fresh stream on every write")
+    void sharedBodiesShouldHandOutFreshStreams() throws Exception {
+        // Given
+        final Resource body = (Resource) ErrorResponses.serviceBusy().getBody();
+
+        // When - una escritura consume su flujo
+        try (InputStream first = body.getInputStream()) {
+            first.readAllBytes();
+        }
+
+        // Then - la siguiente recibe el cuerpo completo
+        assertEquals(ErrorResponses.SERVICE_BUSY_MESSAGE, this.read(ErrorResponses.serviceBusy()).getMessage());
+    }
+
+    @Test
+    @DisplayName("Stackless exceptions should keep the message but capture no stack trace")
+    void stacklessExceptionsShouldCaptureNoStackTrace() {
+        // When
+        final PriceNotFoundException exception = new PriceNotFoundException("not found");
+
+        // Then
+        assertEquals("not found", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    private Error read(ResponseEntity<?> response) throws Exception {
+        final Resource body = assertInstanceOf(Resource.class, response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals(body.contentLength(), response.getHeaders().getContentLength());
+        try (InputStream json = body.getInputStream()) {
+            return this.objectMapper.readValue(json, Error.class);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.price.manager.driving.controllers.mappers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.price.manager.domain.Price;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("Price Row Parser - Tests")
+class PriceRowParserTest {
+
+    private static final Price EXPECTED = Price.builder()
+            .brandId(1L)
+            .productId(35455L)
+            .startDate(LocalDateTime.of(2020, 7, 1, 0, 0))
+            .endDate(LocalDateTime.of(2020, 7, 31, 23, 59, 59))
+            .priority(2)
+            .price(new BigDecimal("29.95"))
+            .curr("EUR")
+            .build();
+
+    private final PriceRowParser parser = new PriceRowParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("Should parse a CSV row with local and zoned dates")
+    void shouldParseCsvRow() {
+        assertEquals(EXPECTED, this.parser.fromCsv("1,35455,2020-07-01T00:00:00,2020-07-31T23:59:59Z,2,29.95,EUR"));
+    }
+
+    @Test
+    @DisplayName("Should parse an NDJSON row with numbers or strings")
+    void shouldParseNdjsonRow() {
+        assertEquals(EXPECTED, this.parser.fromJson("""
+                {"brandId":1,"productId":"35455","startDate":"2020-07-01T00:00:00","endDate":"2020-07-31T23:59:59",\
+                "priority":2,"price":29.95,"curr":"EUR"}"""));
+    }
+
+    @Test
+    @DisplayName("Should recognise the CSV header")
+    void shouldRecogniseCsvHeader() {
+        assertTrue(this.parser.isCsvHeader(PriceRowParser.CSV_HEADER));
+        assertFalse(this.parser.isCsvHeader("1,35455,2020-07-01T00:00:00,2020-07-31T23:59:59,2,29.95,EUR"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1,35455,2020-07-01T00:00:00", "1,35455,not-a-date,2020-07-31T23:59:59,2,29.95,EUR",
+        "x,35455,2020-07-01T00:00:00,2020-07-31T23:59:59,2,29.95,EUR"})
+    @DisplayName("Should turn malformed CSV rows into inconsistent prices")
+    void shouldTurnMalformedCsvRowsIntoInconsistentPrices(String line) {
+        assertFalse(this.parser.fromCsv(line).isConsistent());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{not json", "[1,2,3]", "{\"brandId\":1}"})
+    @DisplayName("Should turn malformed NDJSON rows into inconsistent prices")
+    void shouldTurnMalformedNdjsonRowsIntoInconsistentPrices(String line) {
+        final Price price = this.parser.fromJson(line);
+        assertFalse(price.isConsistent());
+        assertNull(price.getProductId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1,35455,2020-07-01T00:00:00,2020-07-31T23:59:59,2,29.95,EURO",
+        "2147483648,35455,2020-07-01T00:00:00,2020-07-31T23:59:59,2,29.95,EUR",
+        "1,2147483648,2020-07-01T00:00:00,2020-07-31T23:59:59,2,29.95,EUR"})
+    @DisplayName("Should turn CSV values that do not fit their PRICES columns into inconsistent prices")
+    void shouldTurnOversizedCsvValuesIntoInconsistentPrices(String line) {
+        assertFalse(this.parser.fromCsv(line).isConsistent());
+    }
+
+    @Test
+    @DisplayName("Should accept the largest INT id and reject NDJSON values that do not fit their columns")
+    void shouldCheckNdjsonValuesAgainstColumnLimits() {
+        // Given
+        final String row = """
+                {"brandId":%s,"productId":2147483647,"startDate":"2020-07-01T00:00:00","endDate":"2020-07-31T23:59:59",\
+                "priority":2,"price":29.95,"curr":"%s"}""";
+
+        // When & Then
+        assertTrue(this.parser.fromJson(row.formatted("1", " EUR ")).isConsistent());
+        assertEquals("EUR", this.parser.fromJson(row.formatted("1", " EUR ")).getCurr());
+        assertNull(this.parser.fromJson(row.formatted("1", "EURO")).getCurr());
+        assertNull(this.parser.fromJson(row.formatted("2147483648", "EUR")).getBrandId());
+    }
+}